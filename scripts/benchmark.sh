@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# Compare the request handling stacks on the same build:
+#   platform  servlet stack, Tomcat platform threads (default setup)
+#   virtual   servlet stack on virtual threads
+#   reactive  WebFlux/WebClient/R2DBC (reactive profile)
+#
+# Needs a Java 21 JDK on the PATH (for the virtual mode) and the database from docker-compose
+# (docker compose up -d postgres). The mock clients wait EXTERNAL_MOCK_LATENCY per call so requests
+# wait on "downstream" I/O. Rate limiting and admission control are switched off: they would shed
+# the load being measured.
+#
+# Usage: scripts/benchmark.sh [concurrency] [duration] [mock latency]
+# MODES selects the runs (default "platform virtual reactive").
+# Extra service arguments go in EXTRA_ARGS, e.g. EXTRA_ARGS=--spring.datasource.hikari.maximum-pool-size=40
+set -euo pipefail
+
+CONCURRENCY=${1:-1000}
+DURATION=${2:-PT60S}
+LATENCY=${3:-PT0.05S}
+PORT=${PORT:-8080}
+MODES=${MODES:-platform virtual reactive}
+
+cd "$(dirname "$0")/.."
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+run() {
+    local label=$1 mode_args
+    case "$label" in
+        platform) mode_args="--spring.threads.virtual.enabled=false" ;;
+        virtual) mode_args="--spring.threads.virtual.enabled=true" ;;
+        reactive) mode_args="--spring.profiles.active=reactive" ;;
+        *) echo "Unknown mode: $label"; exit 1 ;;
+    esac
+
+    java -Xmx1g -jar "$JAR" \
+        --server.port="$PORT" \
+        $mode_args \
+        --external.mock.latency="$LATENCY" \
+        --order.rate-limit.enabled=false \
+        --order.admission.enabled=false \
+        --spring.jpa.show-sql=false \
+        --logging.level.com.sotatek.order=WARN \
+        --logging.level.org.hibernate.SQL=WARN \
+        ${EXTRA_ARGS:-} > "build/benchmark-$label.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "$label: service did not start, see build/benchmark-$label.log"; exit 1; }
+        sleep 1
+    done
+
+    ./gradlew -q benchmark \
+        -Pbenchmark.url="http://localhost:$PORT" \
+        -Pbenchmark.concurrency="$CONCURRENCY" \
+        -Pbenchmark.duration="$DURATION" \
+        -Pbenchmark.label="$label"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+for mode in $MODES; do
+    run "$mode"
+done
@@ -0,0 +1,244 @@
+package com.sotatek.order.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load driver for a running order service
+ *
+ * {@code concurrency} clients each send a request, wait for the response and send the next one,
+ * mixing order reads and order creations. Latencies are only recorded after the warmup. At the end
+ * the driver prints throughput and latency percentiles, then the server side thread and memory
+ * gauges read from {@code /actuator/metrics}, so a platform-thread run and a virtual-thread run of
+ * the same build can be compared line by line.
+ *
+ * Settings (system properties): benchmark.url, benchmark.concurrency, benchmark.duration,
+ * benchmark.warmup, benchmark.read-ratio, benchmark.label
+ */
+public final class OrderLoadBenchmark {
+
+    private static final Pattern VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final long[] RESERVED_MEMBER_IDS = {5555L, 7777L, 8888L, 9999L};
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final double readRatio;
+    private final String label;
+    private final HttpClient client;
+    private final AtomicLong lastOrderId = new AtomicLong();
+
+    private OrderLoadBenchmark() {
+        this.baseUrl = System.getProperty("benchmark.url", "http://localhost:8080");
+        this.concurrency = Integer.getInteger("benchmark.concurrency", 1000);
+        this.duration = Duration.parse(System.getProperty("benchmark.duration", "PT60S"));
+        this.warmup = Duration.parse(System.getProperty("benchmark.warmup", "PT15S"));
+        this.readRatio = Double.parseDouble(System.getProperty("benchmark.read-ratio", "0.8"));
+        this.label = System.getProperty("benchmark.label", "run");
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "benchmark-http");
+                            thread.setDaemon(true);
+                            return thread;
+                        }))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new OrderLoadBenchmark().run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("%s: %d clients, %s warmup, %s measured, %.0f%% reads against %s%n",
+                label, concurrency, warmup, duration, readRatio * 100, baseUrl);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<Stats>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> drive(measureFrom, measureUntil)));
+        }
+
+        Stats total = new Stats();
+        for (Future<Stats> future : futures) {
+            total.merge(future.get());
+        }
+        clients.shutdown();
+
+        report(total);
+    }
+
+    private Stats drive(long measureFrom, long measureUntil) {
+        Stats stats = new Stats();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            long orderId = lastOrderId.get();
+            boolean read = orderId > 0 && random.nextDouble() < readRatio;
+            HttpRequest request = read ? getOrder(random.nextLong(1, orderId + 1)) : createOrder(random);
+
+            int status;
+            String body = null;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                body = response.body();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            long finished = System.nanoTime();
+            if (!read && status == 201 && body != null) {
+                Matcher matcher = ORDER_ID.matcher(body);
+                if (matcher.find()) {
+                    lastOrderId.accumulateAndGet(Long.parseLong(matcher.group(1)), Math::max);
+                }
+            }
+            if (now >= measureFrom) {
+                stats.record(status, (finished - now) / 1_000);
+            }
+        }
+        return stats;
+    }
+
+    private HttpRequest getOrder(long orderId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/" + orderId))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest createOrder(ThreadLocalRandom random) {
+        long memberId;
+        do {
+            memberId = random.nextLong(1, 100_000);
+        } while (Arrays.binarySearch(RESERVED_MEMBER_IDS, memberId) >= 0);
+
+        String body = "{\"memberId\":" + memberId
+                + ",\"paymentMethod\":\"CREDIT_CARD\""
+                + ",\"items\":[{\"productId\":" + random.nextLong(2001, 2004) + ",\"quantity\":1}]}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void report(Stats stats) {
+        long[] latencies = stats.sortedLatencies();
+        double seconds = duration.toNanos() / 1e9;
+
+        System.out.printf("%s: requests=%d throughput=%.1f/s ok=%d rejected(429/503)=%d failed=%d%n",
+                label, latencies.length, latencies.length / seconds, stats.ok, stats.rejected, stats.failed);
+        System.out.printf("%s: latency ms p50=%.1f p90=%.1f p99=%.1f max=%.1f%n", label,
+                percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), percentile(latencies, 1.0));
+        System.out.printf("%s: server threads live=%s peak=%s, memory heap=%s MB nonheap=%s MB%n", label,
+                whole(metric("jvm.threads.live", null)), whole(metric("jvm.threads.peak", null)),
+                megabytes(metric("jvm.memory.used", "area:heap")),
+                megabytes(metric("jvm.memory.used", "area:nonheap")));
+    }
+
+    private static double percentile(long[] sortedMicros, double quantile) {
+        if (sortedMicros.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedMicros.length) - 1;
+        return sortedMicros[Math.max(0, index)] / 1_000.0;
+    }
+
+    private String metric(String name, String tag) {
+        String uri = baseUrl + "/actuator/metrics/" + name + (tag != null ? "?tag=" + tag : "");
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(uri)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = VALUE.matcher(response.body());
+            return response.statusCode() == 200 && matcher.find() ? matcher.group(1) : "n/a";
+        } catch (IOException e) {
+            return "n/a";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "n/a";
+        }
+    }
+
+    private static String whole(String value) {
+        return "n/a".equals(value) ? value : String.format("%.0f", Double.parseDouble(value));
+    }
+
+    private static String megabytes(String bytes) {
+        if ("n/a".equals(bytes)) {
+            return bytes;
+        }
+        return String.format("%.1f", Double.parseDouble(bytes) / (1024 * 1024));
+    }
+
+    /**
+     * Per-client counters, merged once the run is over so clients never contend on them
+     */
+    private static final class Stats {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long ok;
+        private long rejected;
+        private long failed;
+
+        void record(int status, long micros) {
+            if (status >= 200 && status < 300) {
+                ok++;
+            } else if (status == 429 || status == 503) {
+                rejected++;
+            } else {
+                failed++;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = micros;
+        }
+
+        void merge(Stats other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, size + other.size);
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            ok += other.ok;
+            rejected += other.rejected;
+            failed += other.failed;
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
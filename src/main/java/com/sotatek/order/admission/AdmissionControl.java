@@ -0,0 +1,153 @@
+package com.sotatek.order.admission;
+
+import com.sotatek.order.exception.ServiceOverloadedException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a request is worth starting now
+ *
+ * Each request class has a fixed number of in-flight permits. A request that finds none waits in
+ * the semaphore queue, for a time controlled by {@link QueueDelayController}: the full interval
+ * while the queue keeps draining, only the target delay once a standing queue has formed. Requests
+ * are also shed up front while more threads than {@code order.admission.max-pending-connections}
+ * wait for a database connection, since they would only queue again inside the pool.
+ * Shed requests get 503 with Retry-After.
+ */
+@Component
+@Slf4j
+public class AdmissionControl {
+
+    private final DataSource dataSource;
+    private final Duration retryAfter;
+    private final int maxPendingConnections;
+    private final Map<RequestClass, Lane> lanes = new EnumMap<>(RequestClass.class);
+    private final Counter poolRejections;
+
+    private volatile HikariPoolMXBean pool;
+
+    public AdmissionControl(DataSource dataSource,
+                            MeterRegistry meterRegistry,
+                            @Value("${order.admission.retry-after:PT1S}") Duration retryAfter,
+                            @Value("${order.admission.max-pending-connections:10}") int maxPendingConnections,
+                            @Value("${order.admission.read.max-concurrent:200}") int maxConcurrentReads,
+                            @Value("${order.admission.read.queue-target:PT0.005S}") Duration readTarget,
+                            @Value("${order.admission.read.queue-interval:PT0.1S}") Duration readInterval,
+                            @Value("${order.admission.write.max-concurrent:50}") int maxConcurrentWrites,
+                            @Value("${order.admission.write.queue-target:PT0.005S}") Duration writeTarget,
+                            @Value("${order.admission.write.queue-interval:PT0.1S}") Duration writeInterval) {
+        this.dataSource = dataSource;
+        this.retryAfter = retryAfter;
+        this.maxPendingConnections = maxPendingConnections;
+        lanes.put(RequestClass.READ, new Lane(RequestClass.READ, maxConcurrentReads, readTarget, readInterval, meterRegistry));
+        lanes.put(RequestClass.WRITE, new Lane(RequestClass.WRITE, maxConcurrentWrites, writeTarget, writeInterval, meterRegistry));
+        this.poolRejections = Counter.builder("orders.admission.rejected")
+                .tag("class", "ANY")
+                .tag("reason", "connection_pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admit a request or throw
+     * Every successful call must be paired with {@link #release(RequestClass)}.
+     *
+     * @throws ServiceOverloadedException if the request is shed
+     */
+    public void admit(RequestClass requestClass) {
+        int pending = pendingConnections();
+        if (pending > maxPendingConnections) {
+            poolRejections.increment();
+            throw new ServiceOverloadedException(
+                    "Database connection pool saturated: " + pending + " threads waiting", retryAfter);
+        }
+
+        Lane lane = lanes.get(requestClass);
+        if (!lane.acquire()) {
+            throw new ServiceOverloadedException(
+                    "Too many " + requestClass.name().toLowerCase() + " requests in flight", retryAfter);
+        }
+    }
+
+    public void release(RequestClass requestClass) {
+        lanes.get(requestClass).permits.release();
+    }
+
+    private int pendingConnections() {
+        HikariPoolMXBean current = pool;
+        if (current == null) {
+            try {
+                if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                    return 0;
+                }
+                // Null until the pool has started
+                current = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            } catch (SQLException e) {
+                return 0;
+            }
+            if (current == null) {
+                return 0;
+            }
+            pool = current;
+        }
+        return current.getThreadsAwaitingConnection();
+    }
+
+    private static final class Lane {
+
+        private final int maxConcurrent;
+        private final Semaphore permits;
+        private final QueueDelayController delayController;
+        private final Counter rejections;
+
+        private Lane(RequestClass requestClass, int maxConcurrent, Duration target, Duration interval,
+                     MeterRegistry meterRegistry) {
+            this.maxConcurrent = maxConcurrent;
+            this.permits = new Semaphore(maxConcurrent, true);
+            this.delayController = new QueueDelayController(target.toNanos(), interval.toNanos(), System.nanoTime());
+            this.rejections = Counter.builder("orders.admission.rejected")
+                    .tag("class", requestClass.name())
+                    .tag("reason", "queue_delay")
+                    .register(meterRegistry);
+            Gauge.builder("orders.admission.in_flight", this, lane -> lane.maxConcurrent - lane.permits.availablePermits())
+                    .tag("class", requestClass.name())
+                    .register(meterRegistry);
+        }
+
+        private boolean acquire() {
+            long start = System.nanoTime();
+            if (permits.tryAcquire()) {
+                delayController.record(0, start);
+                return true;
+            }
+
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(delayController.queueTimeoutNanos(start), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+
+            long now = System.nanoTime();
+            delayController.record(now - start, now);
+            if (!acquired) {
+                rejections.increment();
+            }
+            return acquired;
+        }
+    }
+}
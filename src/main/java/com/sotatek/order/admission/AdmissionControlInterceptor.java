@@ -0,0 +1,46 @@
+package com.sotatek.order.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Runs every order API request through {@link AdmissionControl}
+ * The permit is held until the response is complete, or until the handler went async.
+ */
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ADMITTED_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".ADMITTED";
+
+    private final AdmissionControl admissionControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestClass requestClass = RequestClass.of(request.getMethod());
+        admissionControl.admit(requestClass);
+        request.setAttribute(ADMITTED_ATTRIBUTE, requestClass);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        Object requestClass = request.getAttribute(ADMITTED_ATTRIBUTE);
+        if (requestClass != null) {
+            request.removeAttribute(ADMITTED_ATTRIBUTE);
+            admissionControl.release((RequestClass) requestClass);
+        }
+    }
+}
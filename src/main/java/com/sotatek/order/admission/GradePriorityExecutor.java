@@ -0,0 +1,179 @@
+package com.sotatek.order.admission;
+
+import com.sotatek.order.exception.ServiceOverloadedException;
+import com.sotatek.order.service.external.dto.MemberGrade;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded worker pool that runs tasks of higher member grades first
+ *
+ * Tasks are ordered by {@code enqueue time - head start of the grade}: a PLATINUM task queued now
+ * runs before a BRONZE task queued up to the difference of their head starts earlier, but never
+ * before an older one. Lower grades therefore wait at most that difference longer than a VIP task
+ * arriving at the same time, they cannot starve.
+ *
+ * At most {@code capacity} tasks wait; beyond that, and for tasks still queued after the caller's
+ * wait timeout, {@link ServiceOverloadedException} is thrown. A task that has started always runs
+ * to completion and the caller waits for it, so an order is never created behind the client's back.
+ */
+@Slf4j
+public class GradePriorityExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final int capacity;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+    private final Map<MemberGrade, Long> headStartNanos;
+    private final Map<MemberGrade, AtomicInteger> queued = new EnumMap<>(MemberGrade.class);
+    private final Map<MemberGrade, Timer> waitTimers = new EnumMap<>(MemberGrade.class);
+    private final AtomicInteger totalQueued = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public GradePriorityExecutor(int workers, int capacity, Duration maxWait, Duration retryAfter,
+                                 Map<MemberGrade, Duration> headStarts, MeterRegistry meterRegistry) {
+        this(workers, capacity, maxWait, retryAfter, headStarts, meterRegistry, null);
+    }
+
+    /**
+     * @param threadFactory factory for the worker threads, e.g. a virtual one; null for daemon platform threads
+     */
+    public GradePriorityExecutor(int workers, int capacity, Duration maxWait, Duration retryAfter,
+                                 Map<MemberGrade, Duration> headStarts, MeterRegistry meterRegistry,
+                                 ThreadFactory threadFactory) {
+        this.capacity = capacity;
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        this.headStartNanos = new EnumMap<>(MemberGrade.class);
+        for (MemberGrade grade : MemberGrade.values()) {
+            headStartNanos.put(grade, headStarts.getOrDefault(grade, Duration.ZERO).toNanos());
+
+            AtomicInteger depth = new AtomicInteger();
+            queued.put(grade, depth);
+            Gauge.builder("orders.priority.queue_depth", depth, AtomicInteger::get)
+                    .tag("grade", grade.name())
+                    .register(meterRegistry);
+            waitTimers.put(grade, Timer.builder("orders.priority.wait")
+                    .tag("grade", grade.name())
+                    .register(meterRegistry));
+        }
+
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), threadFactory != null ? threadFactory : runnable -> {
+                    Thread thread = new Thread(runnable, "order-priority-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Idle workers must take tasks from the queue, never be handed one directly
+        executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * Run a task on the pool in grade order and wait for its result
+     *
+     * @throws ServiceOverloadedException if the queue is full or the task did not start in time
+     */
+    public <T> T execute(MemberGrade grade, Callable<T> callable) {
+        MemberGrade effectiveGrade = grade != null ? grade : MemberGrade.BRONZE;
+
+        if (totalQueued.incrementAndGet() > capacity) {
+            totalQueued.decrementAndGet();
+            throw new ServiceOverloadedException("Order queue is full", retryAfter);
+        }
+        queued.get(effectiveGrade).incrementAndGet();
+
+        PrioritizedTask<T> task = new PrioritizedTask<>(callable, effectiveGrade);
+        executor.execute(task);
+
+        try {
+            return task.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (task.cancel(false)) {
+                throw new ServiceOverloadedException("Order was not started within " + maxWait, retryAfter);
+            }
+            return awaitStarted(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(false);
+            throw new ServiceOverloadedException("Interrupted while waiting for the order queue", retryAfter);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T awaitStarted(PrioritizedTask<T> task) {
+        while (true) {
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                // The order is being created, the caller must learn the outcome
+                log.debug("Ignoring interrupt while an order task runs");
+            } catch (ExecutionException e) {
+                throw rethrow(e);
+            } catch (CancellationException e) {
+                throw new ServiceOverloadedException("Order was not started within " + maxWait, retryAfter);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private final class PrioritizedTask<T> extends FutureTask<T> implements Comparable<PrioritizedTask<?>> {
+
+        private final MemberGrade grade;
+        private final long enqueuedAt = System.nanoTime();
+        private final long deadline;
+        private final long order = sequence.incrementAndGet();
+
+        private PrioritizedTask(Callable<T> callable, MemberGrade grade) {
+            super(callable);
+            this.grade = grade;
+            this.deadline = enqueuedAt - headStartNanos.get(grade);
+        }
+
+        @Override
+        public void run() {
+            totalQueued.decrementAndGet();
+            queued.get(grade).decrementAndGet();
+            if (!isCancelled()) {
+                waitTimers.get(grade).record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            }
+            super.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            int byDeadline = Long.compare(deadline - other.deadline, 0);
+            return byDeadline != 0 ? byDeadline : Long.compare(order, other.order);
+        }
+    }
+}
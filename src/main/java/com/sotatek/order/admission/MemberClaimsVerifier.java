@@ -0,0 +1,165 @@
+package com.sotatek.order.admission;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sotatek.order.exception.InvalidOrderRequestException;
+import com.sotatek.order.service.external.dto.MemberDto;
+import com.sotatek.order.service.external.dto.MemberGrade;
+import com.sotatek.order.service.external.dto.MemberStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Verifies member claims signed by the API gateway, so order creation can skip the Member Service lookup
+ *
+ * Claims are a compact JWT in the {@value #HEADER} header, signed with HS256 and the secret shared
+ * with the gateway ({@code order.member-claims.secret}): {@code sub} (member ID), {@code name},
+ * {@code status}, {@code grade} and {@code exp} (epoch seconds). The key is initialised once and
+ * cloned per verification. Claims that are malformed, badly signed or expired are ignored and the
+ * caller falls back to Member Service; claims for another member than the request's are rejected.
+ */
+@Component
+@ConditionalOnProperty(name = "order.member-claims.enabled", havingValue = "true")
+@Slf4j
+public class MemberClaimsVerifier {
+
+    public static final String HEADER = "X-Member-Claims";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Decoder BASE64URL = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final long clockSkewSeconds;
+    private final Mac prototype;
+    private final Counter trusted;
+    private final Counter rejected;
+
+    public MemberClaimsVerifier(ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${order.member-claims.secret}") String secret,
+                                @Value("${order.member-claims.clock-skew:PT30S}") Duration clockSkew) {
+        this(objectMapper, meterRegistry, secret, clockSkew, Clock.systemUTC());
+    }
+
+    MemberClaimsVerifier(ObjectMapper objectMapper, MeterRegistry meterRegistry, String secret,
+                         Duration clockSkew, Clock clock) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException("order.member-claims.secret must be at least 32 characters");
+        }
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HS256 is not available", e);
+        }
+        this.trusted = Counter.builder("orders.member_claims")
+                .tag("outcome", "trusted")
+                .description("Member claims used instead of a Member Service lookup")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("orders.member_claims")
+                .tag("outcome", "rejected")
+                .description("Member claims ignored as malformed, badly signed or expired")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param token    the header value, may be null
+     * @param memberId the member the order is created for
+     * @return the member described by valid claims, empty if there are none or they cannot be trusted
+     * @throws InvalidOrderRequestException if valid claims belong to another member
+     */
+    public Optional<MemberDto> verify(String token, Long memberId) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        MemberDto member = parse(token.trim());
+        if (member == null) {
+            rejected.increment();
+            return Optional.empty();
+        }
+
+        if (!member.getId().equals(memberId)) {
+            log.warn("Member claims do not match the order: claims={}, memberId={}", member.getId(), memberId);
+            throw new InvalidOrderRequestException("memberId does not match the member claims");
+        }
+
+        trusted.increment();
+        return Optional.of(member);
+    }
+
+    private MemberDto parse(String token) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot || lastDot == token.length() - 1) {
+            log.warn("Member claims rejected: not a compact JWT");
+            return null;
+        }
+
+        try {
+            JsonNode header = objectMapper.readTree(BASE64URL.decode(token.substring(0, firstDot)));
+            if (!"HS256".equals(header.path("alg").asText())) {
+                log.warn("Member claims rejected: unsupported alg={}", header.path("alg").asText());
+                return null;
+            }
+
+            byte[] expected = sign(token.substring(0, lastDot));
+            if (!MessageDigest.isEqual(expected, BASE64URL.decode(token.substring(lastDot + 1)))) {
+                log.warn("Member claims rejected: bad signature");
+                return null;
+            }
+
+            JsonNode claims = objectMapper.readTree(BASE64URL.decode(token.substring(firstDot + 1, lastDot)));
+            if (!claims.path("exp").canConvertToLong()
+                    || claims.path("exp").asLong() + clockSkewSeconds < clock.instant().getEpochSecond()) {
+                log.warn("Member claims rejected: missing or past exp");
+                return null;
+            }
+
+            if (!claims.hasNonNull("sub") || !claims.hasNonNull("name") || !claims.hasNonNull("status")) {
+                log.warn("Member claims rejected: sub, name or status missing");
+                return null;
+            }
+
+            return MemberDto.builder()
+                    .id(Long.valueOf(claims.path("sub").asText()))
+                    .name(claims.path("name").asText())
+                    .status(MemberStatus.valueOf(claims.path("status").asText()))
+                    .grade(claims.hasNonNull("grade") ? MemberGrade.valueOf(claims.path("grade").asText()) : null)
+                    .build();
+        } catch (IOException | IllegalArgumentException e) {
+            // Bad base64, JSON, member ID or enum value
+            log.warn("Member claims rejected: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HS256 Mac cannot be cloned", e);
+        }
+        return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,78 @@
+package com.sotatek.order.admission;
+
+import com.sotatek.order.exception.RateLimitExceededException;
+import com.sotatek.order.service.external.dto.MemberGrade;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-member rate limit of order creation, in memory on each instance
+ *
+ * Limits come from {@code order.rate-limit.grades.<grade>.per-minute} and {@code .burst}; members
+ * without a grade get the BRONZE limit. The hot path is a hash, a few array reads and one CAS
+ * (see {@link TokenBucketTable}).
+ */
+@Component
+public class MemberRateLimiter {
+
+    private static final int DEFAULT_PER_MINUTE = 30;
+    private static final int DEFAULT_BURST = 10;
+
+    private final boolean enabled;
+    private final TokenBucketTable buckets;
+    private final Map<MemberGrade, Limit> limits = new EnumMap<>(MemberGrade.class);
+    private final long startNanos = System.nanoTime();
+
+    public MemberRateLimiter(Environment environment,
+                             @Value("${order.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${order.rate-limit.stripes:16}") int stripes,
+                             @Value("${order.rate-limit.slots-per-stripe:4096}") int slotsPerStripe) {
+        this.enabled = enabled;
+        this.buckets = new TokenBucketTable(stripes, slotsPerStripe);
+        for (MemberGrade grade : MemberGrade.values()) {
+            String prefix = "order.rate-limit.grades." + grade.name().toLowerCase() + ".";
+            int perMinute = environment.getProperty(prefix + "per-minute", Integer.class, DEFAULT_PER_MINUTE);
+            int burst = environment.getProperty(prefix + "burst", Integer.class, DEFAULT_BURST);
+            limits.put(grade, new Limit(perMinute, Math.max(1, 60_000L / Math.max(1, perMinute)), Math.max(1, burst)));
+        }
+    }
+
+    /**
+     * Take one order creation from the member's allowance
+     *
+     * @throws RateLimitExceededException if the member is over its limit
+     */
+    public void acquire(Long memberId, MemberGrade grade) {
+        if (!enabled) {
+            return;
+        }
+
+        Limit limit = limits.get(grade != null ? grade : MemberGrade.BRONZE);
+        long waitMillis = buckets.tryAcquire(memberId, limit.emissionMillis, limit.burst, nowMillis());
+        if (waitMillis > 0) {
+            throw new RateLimitExceededException("Order rate limit exceeded for member: memberId=" + memberId,
+                    limit.perMinute, Duration.ofMillis(waitMillis));
+        }
+    }
+
+    private long nowMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000 + 1;
+    }
+
+    private static final class Limit {
+        private final int perMinute;
+        private final long emissionMillis;
+        private final long burst;
+
+        private Limit(int perMinute, long emissionMillis, long burst) {
+            this.perMinute = perMinute;
+            this.emissionMillis = emissionMillis;
+            this.burst = burst;
+        }
+    }
+}
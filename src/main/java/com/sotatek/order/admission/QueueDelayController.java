@@ -0,0 +1,78 @@
+package com.sotatek.order.admission;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CoDel-style controller of how long a request may wait for admission
+ *
+ * Tracks the smallest queueing delay seen during each interval. If even the smallest delay of the
+ * last interval exceeded the target, the queue never drained: it is a standing queue, and waiting
+ * longer only adds latency. The allowed wait then drops from the interval to the target until an
+ * interval sees a delay below the target again.
+ *
+ * Guarded by a {@link ReentrantLock}, not {@code synchronized}, so virtual request threads that
+ * contend here unmount instead of pinning their carrier thread.
+ */
+final class QueueDelayController {
+
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long intervalEnd;
+    private long minDelayNanos = Long.MAX_VALUE;
+    private boolean overloaded;
+
+    QueueDelayController(long targetNanos, long intervalNanos, long now) {
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.intervalEnd = now + intervalNanos;
+    }
+
+    /**
+     * @return how long a request arriving now may wait for a permit
+     */
+    long queueTimeoutNanos(long now) {
+        lock.lock();
+        try {
+            roll(now);
+            return overloaded ? targetNanos : intervalNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record how long a request waited, admitted or not
+     */
+    void record(long delayNanos, long now) {
+        lock.lock();
+        try {
+            roll(now);
+            minDelayNanos = Math.min(minDelayNanos, delayNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isOverloaded(long now) {
+        lock.lock();
+        try {
+            roll(now);
+            return overloaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll(long now) {
+        if (now - intervalEnd < 0) {
+            return;
+        }
+        // No arrival for a whole interval after the window means the queue drained
+        boolean idle = now - intervalEnd >= intervalNanos;
+        overloaded = !idle && minDelayNanos != Long.MAX_VALUE && minDelayNanos > targetNanos;
+        minDelayNanos = Long.MAX_VALUE;
+        intervalEnd = now + intervalNanos;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sotatek.order.admission;
+
+/**
+ * Admission class of a request, each class has its own limits
+ */
+public enum RequestClass {
+
+    /**
+     * GET and HEAD requests
+     */
+    READ,
+
+    /**
+     * Requests that create or change orders
+     */
+    WRITE;
+
+    public static RequestClass of(String httpMethod) {
+        return "GET".equals(httpMethod) || "HEAD".equals(httpMethod) ? READ : WRITE;
+    }
+}
@@ -0,0 +1,120 @@
+package com.sotatek.order.admission;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free table of token buckets keyed by a long
+ *
+ * Each bucket is kept as a GCRA theoretical arrival time (TAT) packed with a 24-bit key
+ * fingerprint into one long, so a bucket is read and updated with a single CAS. Keys hash into one
+ * of several stripes and are probed linearly over a few slots. A bucket whose TAT has passed is
+ * full, i.e. indistinguishable from a new one, so its slot can be taken over by another key:
+ * idle entries are evicted for free and memory never grows. When every probed slot is in active
+ * use the request is let through rather than blocked.
+ *
+ * Two keys with the same fingerprint in the same probe window share a bucket; that rare collision
+ * can only make limiting stricter. Two threads inserting the same new key at once may each create
+ * a bucket, the unused one simply expires.
+ */
+final class TokenBucketTable {
+
+    private static final int TAT_BITS = 40;
+    private static final long TAT_MASK = (1L << TAT_BITS) - 1;
+    private static final int PROBES = 8;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final int slotMask;
+
+    /**
+     * @param stripes number of stripes, rounded up to a power of two (at most 256)
+     * @param slotsPerStripe buckets per stripe, rounded up to a power of two
+     */
+    TokenBucketTable(int stripes, int slotsPerStripe) {
+        int stripeCount = powerOfTwo(Math.min(stripes, 256));
+        int slotCount = powerOfTwo(Math.max(slotsPerStripe, PROBES));
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new AtomicLongArray(slotCount);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.slotMask = slotCount - 1;
+    }
+
+    /**
+     * Take one token from the bucket of a key
+     *
+     * @param key the bucket key
+     * @param emissionMillis milliseconds per token (1 / rate)
+     * @param burst bucket capacity in tokens
+     * @param nowMillis current time in milliseconds, monotonic and at least 1
+     * @return 0 if a token was taken, otherwise milliseconds until one is available
+     */
+    long tryAcquire(long key, long emissionMillis, long burst, long nowMillis) {
+        long hash = mix(key);
+        AtomicLongArray stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        long fingerprint = hash >>> TAT_BITS;
+        if (fingerprint == 0) {
+            fingerprint = 1;
+        }
+        int base = (int) hash & slotMask;
+        long tolerance = emissionMillis * burst;
+
+        while (true) {
+            int reusable = -1;
+            long reusableValue = 0;
+            boolean contended = false;
+
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (base + i) & slotMask;
+                long value = stripe.get(slot);
+
+                if (value != 0 && value >>> TAT_BITS == fingerprint) {
+                    long newTat = Math.max(value & TAT_MASK, nowMillis) + emissionMillis;
+                    if (newTat - nowMillis > tolerance) {
+                        return newTat - nowMillis - tolerance;
+                    }
+                    if (stripe.compareAndSet(slot, value, pack(fingerprint, newTat))) {
+                        return 0;
+                    }
+                    contended = true;
+                    break;
+                }
+
+                if (reusable < 0 && (value == 0 || (value & TAT_MASK) <= nowMillis)) {
+                    reusable = slot;
+                    reusableValue = value;
+                }
+            }
+
+            if (contended) {
+                continue;
+            }
+            if (reusable < 0) {
+                return 0;
+            }
+            if (stripe.compareAndSet(reusable, reusableValue, pack(fingerprint, nowMillis + emissionMillis))) {
+                return 0;
+            }
+        }
+    }
+
+    private static long pack(long fingerprint, long tat) {
+        return fingerprint << TAT_BITS | tat & TAT_MASK;
+    }
+
+    private static long mix(long key) {
+        // MurmurHash3 finalizer, spreads sequential member IDs over stripes and slots
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb53a8eb9f2dbL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.sotatek.order.catalog;
+
+import com.sotatek.order.service.external.ProductServiceClient;
+import com.sotatek.order.service.external.adapter.MockProductServiceClient;
+import com.sotatek.order.service.external.adapter.RestProductServiceClient;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStockDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ProductServiceClient answering from the data warmed by {@link ProductPrefetcher}, Product Service otherwise
+ *
+ * With the catalog replica enabled as well, {@link ReplicatedProductServiceClient} stays in front
+ * and uses this client for what the replica does not hold.
+ */
+@Component
+@Primary
+@ConditionalOnExpression("${order.prefetch.enabled:false} and !${order.catalog.enabled:false}")
+public class PrefetchingProductServiceClient implements ProductServiceClient {
+
+    private final ProductPrefetcher prefetcher;
+    private final ProductServiceClient remote;
+
+    @Autowired
+    public PrefetchingProductServiceClient(ProductPrefetcher prefetcher,
+                                           ObjectProvider<RestProductServiceClient> restClient,
+                                           ObjectProvider<MockProductServiceClient> mockClient) {
+        this(prefetcher, restClient.getIfAvailable(mockClient::getObject));
+    }
+
+    PrefetchingProductServiceClient(ProductPrefetcher prefetcher, ProductServiceClient remote) {
+        this.prefetcher = prefetcher;
+        this.remote = remote;
+    }
+
+    @Override
+    public ProductDto getProduct(Long productId) {
+        ProductDto product = prefetcher.product(productId);
+        return product != null ? product : remote.getProduct(productId);
+    }
+
+    @Override
+    public ProductStockDto getProductStock(Long productId) {
+        ProductStockDto stock = prefetcher.stock(productId);
+        return stock != null ? stock : remote.getProductStock(productId);
+    }
+
+    @Override
+    public Map<Long, ProductDto> getProducts(Collection<Long> productIds) {
+        return lookup(productIds, prefetcher::product, remote::getProducts);
+    }
+
+    @Override
+    public Map<Long, ProductStockDto> getProductStocks(Collection<Long> productIds) {
+        return lookup(productIds, prefetcher::stock, remote::getProductStocks);
+    }
+
+    private static <T> Map<Long, T> lookup(Collection<Long> productIds, Function<Long, T> prefetched,
+                                           Function<List<Long>, Map<Long, T>> fetch) {
+        Map<Long, T> found = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long productId : productIds) {
+            T value = prefetched.apply(productId);
+            if (value != null) {
+                found.put(productId, value);
+            } else {
+                missingIds.add(productId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            found.putAll(fetch.apply(missingIds));
+        }
+        return found;
+    }
+}
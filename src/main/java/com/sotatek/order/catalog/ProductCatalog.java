@@ -0,0 +1,149 @@
+package com.sotatek.order.catalog;
+
+import com.sotatek.order.service.external.ProductCatalogSource;
+import com.sotatek.order.service.external.dto.ProductCatalogPage;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.util.LongKeyedMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process replica of the Product Service catalog, keyed by product ID
+ *
+ * The first sync loads a full snapshot; every later sync applies the changes after the stored
+ * cursor, up to {@code order.catalog.max-pages} pages of {@code page-size}. Changes are applied to a
+ * copy of the map which is then published, so lookups never lock and always see a consistent
+ * catalog. A replica not synced successfully for {@code max-staleness} answers no lookup, callers
+ * then go to Product Service as if the product was unknown.
+ */
+@Component
+@ConditionalOnProperty(name = "order.catalog.enabled", havingValue = "true")
+@Slf4j
+public class ProductCatalog {
+
+    private final ProductCatalogSource source;
+    private final int pageSize;
+    private final int maxPages;
+    private final long maxStalenessNanos;
+
+    private volatile LongKeyedMap<ProductDto> products;
+    private volatile long syncedAtNanos;
+    // Only touched by sync(), which is synchronized
+    private String cursor;
+
+    public ProductCatalog(ProductCatalogSource source,
+                          MeterRegistry meterRegistry,
+                          @Value("${order.catalog.page-size:1000}") int pageSize,
+                          @Value("${order.catalog.max-pages:100}") int maxPages,
+                          @Value("${order.catalog.max-staleness:PT5M}") Duration maxStaleness) {
+        this.source = source;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+
+        Gauge.builder("orders.catalog.size", this, catalog -> {
+                    LongKeyedMap<ProductDto> current = catalog.products;
+                    return current == null ? 0 : current.size();
+                })
+                .description("Products in the local catalog replica")
+                .register(meterRegistry);
+        Gauge.builder("orders.catalog.staleness", this, catalog -> catalog.products == null
+                        ? Double.NaN
+                        : (System.nanoTime() - catalog.syncedAtNanos) / 1e9)
+                .description("Time since the catalog replica was last synced")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the replicated product, or null if unknown, not loaded yet or too stale to be trusted
+     */
+    public ProductDto find(long productId) {
+        LongKeyedMap<ProductDto> current = products;
+        if (current == null || System.nanoTime() - syncedAtNanos > maxStalenessNanos) {
+            return null;
+        }
+        return current.get(productId);
+    }
+
+    public boolean isLoaded() {
+        return products != null;
+    }
+
+    /**
+     * Load the snapshot on first call, then apply the changes since the previous sync
+     *
+     * @throws com.sotatek.order.exception.ExternalServiceException if Product Service cannot be reached,
+     *         nothing is applied then
+     */
+    public synchronized void sync() {
+        if (products == null) {
+            loadSnapshot();
+        } else {
+            applyChanges();
+        }
+    }
+
+    private void loadSnapshot() {
+        ProductCatalogPage snapshot = source.snapshot();
+        List<ProductDto> page = snapshot.getProducts() == null ? List.of() : snapshot.getProducts();
+
+        LongKeyedMap<ProductDto> loaded = new LongKeyedMap<>(page.size());
+        for (ProductDto product : page) {
+            loaded.put(product.getId(), product);
+        }
+        publish(loaded, snapshot.getCursor());
+        log.info("Product catalog loaded: products={}, cursor={}", loaded.size(), cursor);
+    }
+
+    private void applyChanges() {
+        LongKeyedMap<ProductDto> updated = null;
+        String next = cursor;
+        int changes = 0;
+        for (int pages = 0; pages < maxPages; pages++) {
+            ProductCatalogPage page = source.changesSince(next, pageSize);
+            next = page.getCursor();
+
+            if (page.getProducts() != null && !page.getProducts().isEmpty()
+                    || page.getRemovedIds() != null && !page.getRemovedIds().isEmpty()) {
+                if (updated == null) {
+                    updated = products.copy();
+                }
+                if (page.getProducts() != null) {
+                    for (ProductDto product : page.getProducts()) {
+                        updated.put(product.getId(), product);
+                        changes++;
+                    }
+                }
+                if (page.getRemovedIds() != null) {
+                    for (Long productId : page.getRemovedIds()) {
+                        updated.remove(productId);
+                        changes++;
+                    }
+                }
+            }
+
+            if (!page.isHasMore()) {
+                break;
+            }
+        }
+
+        publish(updated != null ? updated : products, next);
+        if (changes > 0) {
+            log.info("Product catalog synced: changes={}, products={}, cursor={}", changes, products.size(), cursor);
+        }
+    }
+
+    private void publish(LongKeyedMap<ProductDto> map, String newCursor) {
+        syncedAtNanos = System.nanoTime();
+        cursor = newCursor;
+        products = map;
+    }
+}
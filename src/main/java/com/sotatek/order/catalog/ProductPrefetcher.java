@@ -0,0 +1,260 @@
+package com.sotatek.order.catalog;
+
+import com.sotatek.order.repository.OrderItemRepository;
+import com.sotatek.order.service.external.ProductServiceClient;
+import com.sotatek.order.service.external.adapter.MockProductServiceClient;
+import com.sotatek.order.service.external.adapter.RestProductServiceClient;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStockDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Warms product and stock data for the products a member is likely to order next
+ *
+ * The prediction is the products of the member's orders in the last {@code order.prefetch.lookback},
+ * most recently ordered first, at most {@code max-products}. They are fetched in two batch calls
+ * on a small bounded pool; when its queue is full the prefetch is dropped, never the caller delayed.
+ * A member is predicted again only after {@code prediction-ttl}. Prefetched entries answer lookups
+ * for {@code product-ttl} and {@code stock-ttl}, then they are fetched again as usual. Products
+ * already in the catalog replica are not prefetched.
+ */
+@Component
+@ConditionalOnProperty(name = "order.prefetch.enabled", havingValue = "true")
+@Slf4j
+public class ProductPrefetcher {
+
+    private final OrderItemRepository orderItemRepository;
+    private final ProductServiceClient remote;
+    private final ProductCatalog catalog;
+    private final Executor executor;
+    private final int maxProducts;
+    private final Duration lookback;
+    private final long predictionTtlNanos;
+    private final long productTtlNanos;
+    private final long stockTtlNanos;
+    private final int maxEntries;
+
+    private final ConcurrentMap<Long, Long> predictedAt = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Prefetched<ProductDto>> products = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Prefetched<ProductStockDto>> stocks = new ConcurrentHashMap<>();
+
+    private final Counter scheduled;
+    private final Counter skipped;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Counter productHits;
+    private final Counter productMisses;
+    private final Counter stockHits;
+    private final Counter stockMisses;
+
+    @Autowired
+    public ProductPrefetcher(OrderItemRepository orderItemRepository,
+                             ObjectProvider<RestProductServiceClient> restClient,
+                             ObjectProvider<MockProductServiceClient> mockClient,
+                             ObjectProvider<ProductCatalog> catalog,
+                             MeterRegistry meterRegistry,
+                             @Value("${order.prefetch.workers:2}") int workers,
+                             @Value("${order.prefetch.queue-capacity:1000}") int queueCapacity,
+                             @Value("${order.prefetch.max-products:20}") int maxProducts,
+                             @Value("${order.prefetch.lookback:P90D}") Duration lookback,
+                             @Value("${order.prefetch.prediction-ttl:PT10M}") Duration predictionTtl,
+                             @Value("${order.prefetch.product-ttl:PT5M}") Duration productTtl,
+                             @Value("${order.prefetch.stock-ttl:PT15S}") Duration stockTtl,
+                             @Value("${order.prefetch.max-entries:10000}") int maxEntries) {
+        this(orderItemRepository, restClient.getIfAvailable(mockClient::getObject), catalog.getIfAvailable(),
+                newExecutor(workers, queueCapacity), meterRegistry, maxProducts, lookback, predictionTtl,
+                productTtl, stockTtl, maxEntries);
+    }
+
+    ProductPrefetcher(OrderItemRepository orderItemRepository, ProductServiceClient remote, ProductCatalog catalog,
+                      Executor executor, MeterRegistry meterRegistry, int maxProducts, Duration lookback,
+                      Duration predictionTtl, Duration productTtl, Duration stockTtl, int maxEntries) {
+        this.orderItemRepository = orderItemRepository;
+        this.remote = remote;
+        this.catalog = catalog;
+        this.executor = executor;
+        this.maxProducts = maxProducts;
+        this.lookback = lookback;
+        this.predictionTtlNanos = predictionTtl.toNanos();
+        this.productTtlNanos = productTtl.toNanos();
+        this.stockTtlNanos = stockTtl.toNanos();
+        this.maxEntries = maxEntries;
+
+        this.scheduled = prefetchCounter(meterRegistry, "scheduled", "Member prefetches queued");
+        this.skipped = prefetchCounter(meterRegistry, "skipped", "Member prefetches skipped, member predicted recently");
+        this.dropped = prefetchCounter(meterRegistry, "dropped", "Member prefetches dropped, prefetch queue full");
+        this.failed = prefetchCounter(meterRegistry, "failed", "Member prefetches failed");
+        this.productHits = lookupCounter(meterRegistry, "product", "hit");
+        this.productMisses = lookupCounter(meterRegistry, "product", "miss");
+        this.stockHits = lookupCounter(meterRegistry, "stock", "hit");
+        this.stockMisses = lookupCounter(meterRegistry, "stock", "miss");
+        Gauge.builder("orders.prefetch.entries", this, prefetcher -> prefetcher.products.size() + prefetcher.stocks.size())
+                .description("Prefetched products and stocks held")
+                .register(meterRegistry);
+    }
+
+    private static ThreadPoolTaskExecutor newExecutor(int workers, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-prefetch-");
+        executor.initialize();
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Queue a prefetch of the member's predicted products, unless the member was predicted recently
+     * Returns at once.
+     */
+    public void prefetch(Long memberId) {
+        long now = System.nanoTime();
+        Long previous = predictedAt.get(memberId);
+        if (previous != null && now - previous < predictionTtlNanos) {
+            skipped.increment();
+            return;
+        }
+        // Only one caller claims the member, concurrent triggers are skipped
+        boolean claimed = previous == null
+                ? predictedAt.putIfAbsent(memberId, now) == null
+                : predictedAt.replace(memberId, previous, now);
+        if (!claimed) {
+            skipped.increment();
+            return;
+        }
+
+        if (predictedAt.size() > maxEntries) {
+            predictedAt.values().removeIf(at -> now - at > predictionTtlNanos);
+        }
+
+        try {
+            executor.execute(() -> warm(memberId));
+            scheduled.increment();
+        } catch (RejectedExecutionException e) {
+            predictedAt.remove(memberId, now);
+            dropped.increment();
+        }
+    }
+
+    /**
+     * @return the prefetched product, or null if not prefetched or expired
+     */
+    public ProductDto product(Long productId) {
+        ProductDto product = fresh(products, productId, productTtlNanos);
+        (product != null ? productHits : productMisses).increment();
+        return product;
+    }
+
+    /**
+     * @return the prefetched stock, or null if not prefetched or expired
+     */
+    public ProductStockDto stock(Long productId) {
+        ProductStockDto stock = fresh(stocks, productId, stockTtlNanos);
+        (stock != null ? stockHits : stockMisses).increment();
+        return stock;
+    }
+
+    private void warm(Long memberId) {
+        try {
+            List<Long> productIds = orderItemRepository.findRecentProductIdsByMemberId(
+                    memberId, LocalDateTime.now().minus(lookback), PageRequest.of(0, maxProducts));
+            if (productIds.isEmpty()) {
+                return;
+            }
+
+            List<Long> missingProducts = productIds.stream()
+                    .filter(id -> fresh(products, id, productTtlNanos) == null)
+                    .filter(id -> catalog == null || catalog.find(id) == null)
+                    .toList();
+            if (!missingProducts.isEmpty()) {
+                remote.getProducts(missingProducts).forEach((id, product) -> store(products, id, product));
+            }
+
+            List<Long> missingStocks = productIds.stream()
+                    .filter(id -> fresh(stocks, id, stockTtlNanos) == null)
+                    .toList();
+            if (!missingStocks.isEmpty()) {
+                remote.getProductStocks(missingStocks).forEach((id, stock) -> store(stocks, id, stock));
+            }
+
+            log.debug("Prefetched member products: memberId={}, predicted={}, products={}, stocks={}",
+                    memberId, productIds.size(), missingProducts.size(), missingStocks.size());
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Prefetch failed: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    private <T> T fresh(Map<Long, Prefetched<T>> entries, Long productId, long ttlNanos) {
+        Prefetched<T> entry = entries.get(productId);
+        if (entry == null || System.nanoTime() - entry.loadedAtNanos > ttlNanos) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    private <T> void store(Map<Long, Prefetched<T>> entries, Long productId, T value) {
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            long ttlNanos = entries == products ? productTtlNanos : stockTtlNanos;
+            entries.values().removeIf(entry -> now - entry.loadedAtNanos > ttlNanos);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(productId, new Prefetched<>(value, System.nanoTime()));
+    }
+
+    private static Counter prefetchCounter(MeterRegistry meterRegistry, String outcome, String description) {
+        return Counter.builder("orders.prefetch.requests")
+                .tag("outcome", outcome)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String kind, String result) {
+        return Counter.builder("orders.prefetch.lookups")
+                .tag("kind", kind)
+                .tag("result", result)
+                .description("Product and stock lookups answered by prefetched data (hit) or sent to Product Service")
+                .register(meterRegistry);
+    }
+
+    private static final class Prefetched<T> {
+
+        private final T value;
+        private final long loadedAtNanos;
+
+        private Prefetched(T value, long loadedAtNanos) {
+            this.value = value;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sotatek.order.catalog;
+
+import com.sotatek.order.service.external.ProductServiceClient;
+import com.sotatek.order.service.external.adapter.MockProductServiceClient;
+import com.sotatek.order.service.external.adapter.RestProductServiceClient;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStockDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProductServiceClient answering product lookups from the local {@link ProductCatalog}
+ *
+ * Only products missing from the replica are fetched from Product Service. Stock changes with
+ * every order and is always read from Product Service, or from prefetched data when
+ * {@code order.prefetch.enabled}.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "order.catalog.enabled", havingValue = "true")
+public class ReplicatedProductServiceClient implements ProductServiceClient {
+
+    private final ProductCatalog catalog;
+    private final ProductServiceClient remote;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ReplicatedProductServiceClient(ProductCatalog catalog,
+                                          ObjectProvider<RestProductServiceClient> restClient,
+                                          ObjectProvider<MockProductServiceClient> mockClient,
+                                          ObjectProvider<ProductPrefetcher> prefetcher,
+                                          MeterRegistry meterRegistry) {
+        this(catalog, remote(restClient.getIfAvailable(mockClient::getObject), prefetcher.getIfAvailable()),
+                meterRegistry);
+    }
+
+    ReplicatedProductServiceClient(ProductCatalog catalog, ProductServiceClient remote, MeterRegistry meterRegistry) {
+        this.catalog = catalog;
+        this.remote = remote;
+        this.hits = Counter.builder("orders.catalog.lookups")
+                .tag("result", "hit")
+                .description("Product lookups answered by the catalog replica")
+                .register(meterRegistry);
+        this.misses = Counter.builder("orders.catalog.lookups")
+                .tag("result", "miss")
+                .description("Product lookups sent to Product Service")
+                .register(meterRegistry);
+    }
+
+    // With order.prefetch.enabled, products missing from the replica may have been prefetched
+    private static ProductServiceClient remote(ProductServiceClient productService, ProductPrefetcher prefetcher) {
+        return prefetcher != null ? new PrefetchingProductServiceClient(prefetcher, productService) : productService;
+    }
+
+    @Override
+    public ProductDto getProduct(Long productId) {
+        ProductDto product = catalog.find(productId);
+        if (product != null) {
+            hits.increment();
+            return product;
+        }
+        misses.increment();
+        return remote.getProduct(productId);
+    }
+
+    @Override
+    public ProductStockDto getProductStock(Long productId) {
+        return remote.getProductStock(productId);
+    }
+
+    @Override
+    public Map<Long, ProductDto> getProducts(Collection<Long> productIds) {
+        Map<Long, ProductDto> products = new LinkedHashMap<>();
+        List<Long> unknownIds = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductDto product = catalog.find(productId);
+            if (product != null) {
+                products.put(productId, product);
+            } else {
+                unknownIds.add(productId);
+            }
+        }
+
+        hits.increment(products.size());
+        if (!unknownIds.isEmpty()) {
+            misses.increment(unknownIds.size());
+            products.putAll(remote.getProducts(unknownIds));
+        }
+        return products;
+    }
+
+    @Override
+    public Map<Long, ProductStockDto> getProductStocks(Collection<Long> productIds) {
+        return remote.getProductStocks(productIds);
+    }
+}
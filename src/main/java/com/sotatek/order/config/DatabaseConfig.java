@@ -0,0 +1,24 @@
+package com.sotatek.order.config;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Configuration
+public class DatabaseConfig {
+
+    /**
+     * Database behind the primary DataSource, for the few statements that need vendor specific SQL
+     * (PostgreSQL in production, H2 in tests)
+     */
+    @Bean
+    public DatabaseDriver databaseDriver(DataSource dataSource) throws MetaDataAccessException {
+        String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        return DatabaseDriver.fromProductName(productName);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sotatek.order.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (see {@code com.sotatek.order.scheduler})
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
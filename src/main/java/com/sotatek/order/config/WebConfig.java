@@ -0,0 +1,39 @@
+package com.sotatek.order.config;
+
+import com.sotatek.order.admission.AdmissionControl;
+import com.sotatek.order.admission.AdmissionControlInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<AdmissionControl> admissionControl;
+    private final boolean admissionEnabled;
+
+    public WebConfig(ObjectProvider<AdmissionControl> admissionControl,
+                     @Value("${order.admission.enabled:true}") boolean admissionEnabled) {
+        this.admissionControl = admissionControl;
+        this.admissionEnabled = admissionEnabled;
+    }
+
+    /**
+     * Admission control for the order API
+     * Long-lived streams (change feed, export, long-poll) are excluded: they hold a connection for
+     * minutes on purpose and would starve the read lane.
+     * Not registered in web slice tests, where AdmissionControl is not part of the context.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        AdmissionControl control = admissionControl.getIfAvailable();
+        if (!admissionEnabled || control == null) {
+            return;
+        }
+        registry.addInterceptor(new AdmissionControlInterceptor(control))
+                .addPathPatterns("/api/orders", "/api/orders/**")
+                .excludePathPatterns("/api/orders/events", "/api/orders/export", "/api/orders/*/await");
+    }
+}
@@ -0,0 +1,54 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.response.LargeOrderResponse;
+import com.sotatek.order.service.LargeOrderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * REST controller for orders with very many items
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class LargeOrderController {
+
+    private final LargeOrderService largeOrderService;
+
+    @PostMapping(value = "/large", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create a large order",
+               description = "Same body as POST /api/orders without the 100 item limit. The body is streamed: " +
+                       "memberId and paymentMethod must precede items. Items are not returned.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Order created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data or business rule violation"),
+            @ApiResponse(responseCode = "404", description = "Member or product not found"),
+            @ApiResponse(responseCode = "422", description = "Payment processing failed"),
+            @ApiResponse(responseCode = "503", description = "External service unavailable")
+    })
+    public ResponseEntity<LargeOrderResponse> createLargeOrder(InputStream body) {
+        log.info("Received large order request");
+
+        LargeOrderResponse response = largeOrderService.createOrder(body);
+
+        log.info("Large order created successfully: orderId={}, items={}", response.getId(), response.getItemCount());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
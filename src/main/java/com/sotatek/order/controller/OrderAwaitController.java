@@ -0,0 +1,51 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.service.OrderAwaitService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * REST controller for long-polling order status transitions
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderAwaitController {
+
+    private final OrderAwaitService orderAwaitService;
+
+    @GetMapping("/{id}/await")
+    @Operation(summary = "Await order status",
+               description = "Long-poll until the order reaches the status (or a terminal one). " +
+                       "Returns the current order when the timeout expires; check its status.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status reached or timeout expired"),
+            @ApiResponse(responseCode = "400", description = "Invalid status or timeout"),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    public DeferredResult<OrderResponse> awaitStatus(
+            @Parameter(description = "Order ID") @PathVariable Long id,
+            @Parameter(description = "Awaited status") @RequestParam OrderStatus status,
+            @Parameter(description = "Maximum wait, e.g. 10s") @RequestParam(defaultValue = "10s") String timeout) {
+        log.debug("Received await request: id={}, status={}, timeout={}", id, status, timeout);
+
+        return orderAwaitService.await(id, status, timeout);
+    }
+}
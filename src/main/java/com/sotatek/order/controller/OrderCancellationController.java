@@ -0,0 +1,47 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.request.BulkCancelRequest;
+import com.sotatek.order.controller.response.BulkCancelResponse;
+import com.sotatek.order.service.OrderCancellationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for cancelling many orders at once
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderCancellationController {
+
+    private final OrderCancellationService orderCancellationService;
+
+    @PostMapping("/cancel")
+    @Operation(summary = "Cancel orders in bulk",
+               description = "Cancels the CONFIRMED orders among up to " + BulkCancelRequest.MAX_ORDERS +
+                       " IDs, or matching a filter (memberId, createdFrom, createdTo). " +
+                       "Reports an outcome per order; repeat a filter request while hasMore is true.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancellation done, see the per-order results"),
+            @ApiResponse(responseCode = "400", description = "Neither or both of ids and filter, or an empty filter")
+    })
+    public BulkCancelResponse cancelOrders(@Valid @RequestBody BulkCancelRequest request) {
+        log.info("Received bulk cancel request: ids={}, filter={}",
+                request.getIds() == null ? null : request.getIds().size(), request.getFilter());
+
+        return orderCancellationService.cancelOrders(request);
+    }
+}
@@ -1,11 +1,20 @@
 package com.sotatek.order.controller;
 
+import com.sotatek.order.admission.MemberClaimsVerifier;
+import com.sotatek.order.catalog.ProductPrefetcher;
 import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderFieldSelection;
+import com.sotatek.order.controller.request.OrderLookupRequest;
 import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.OrderLookupResponse;
 import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.controller.response.OrderStatusResponse;
 import com.sotatek.order.controller.response.PageResponse;
 import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.quote.OrderQuote;
+import com.sotatek.order.quote.OrderQuoteSigner;
 import com.sotatek.order.service.OrderService;
+import com.sotatek.order.service.external.dto.MemberDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +23,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -21,10 +32,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * REST controller for order management
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 @Slf4j
@@ -32,6 +47,9 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final ObjectProvider<MemberClaimsVerifier> memberClaimsVerifier;
+    private final ObjectProvider<OrderQuoteSigner> orderQuoteSigner;
+    private final ObjectProvider<ProductPrefetcher> productPrefetcher;
 
     @PostMapping
     @Operation(summary = "Create a new order", description = "Creates a new order with validation and payment processing")
@@ -43,10 +61,29 @@ public class OrderController {
             @ApiResponse(responseCode = "503", description = "External service unavailable")
     })
     public ResponseEntity<OrderResponse> createOrder(
-            @Valid @RequestBody CreateOrderRequest request) {
+            @Valid @RequestBody CreateOrderRequest request,
+            @Parameter(description = "Member claims signed by the gateway (JWT, HS256), skips the Member Service lookup")
+            @RequestHeader(value = MemberClaimsVerifier.HEADER, required = false) String memberClaims,
+            @Parameter(description = "Token from POST /api/orders/quote, skips the member, product and stock lookups")
+            @RequestHeader(value = OrderQuoteSigner.HEADER, required = false) String quoteToken) {
         log.info("Received create order request: memberId={}", request.getMemberId());
 
-        OrderResponse response = orderService.createOrder(request);
+        // Only when order.quote.enabled, an invalid or expired quote falls back to full validation
+        Optional<OrderQuote> quote = Optional.ofNullable(orderQuoteSigner.getIfAvailable())
+                .flatMap(signer -> signer.verify(quoteToken, request));
+        if (quote.isPresent()) {
+            OrderResponse response = orderService.createOrder(request, quote.get());
+            log.info("Order created from quote: orderId={}", response.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+
+        // Only when order.member-claims.enabled, otherwise the header is ignored
+        Optional<MemberDto> trustedMember = Optional.ofNullable(memberClaimsVerifier.getIfAvailable())
+                .flatMap(verifier -> verifier.verify(memberClaims, request.getMemberId()));
+
+        OrderResponse response = trustedMember
+                .map(member -> orderService.createOrder(request, member))
+                .orElseGet(() -> orderService.createOrder(request));
 
         log.info("Order created successfully: orderId={}", response.getId());
 
@@ -57,24 +94,76 @@ public class OrderController {
     @Operation(summary = "Get order by ID", description = "Retrieves a specific order by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Order retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field in fields parameter"),
             @ApiResponse(responseCode = "404", description = "Order not found")
     })
-    public ResponseEntity<OrderResponse> getOrder(
+    public ResponseEntity<?> getOrder(
             @Parameter(description = "Order ID", required = true)
-            @PathVariable Long id) {
-        log.info("Received get order request: orderId={}", id);
+            @PathVariable Long id,
+            @Parameter(description = "Comma separated fields to return (e.g., id,status,totalAmount,items.productId)")
+            @RequestParam(required = false) String fields) {
+        log.info("Received get order request: orderId={}, fields={}", id, fields);
+
+        if (fields != null) {
+            return ResponseEntity.ok(orderService.getOrderById(id, OrderFieldSelection.parse(fields)));
+        }
 
         OrderResponse response = orderService.getOrderById(id);
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get orders by IDs",
+               description = "Retrieves up to " + OrderLookupRequest.MAX_IDS + " orders in the requested order; unknown IDs are reported in missingIds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+    })
+    public ResponseEntity<OrderLookupResponse<OrderResponse>> getOrdersByIds(
+            @Parameter(description = "Comma separated order IDs", required = true)
+            @RequestParam List<Long> ids) {
+        log.info("Received multi-get orders request: count={}", ids.size());
+
+        return ResponseEntity.ok(orderService.getOrdersByIds(ids));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up orders by IDs",
+               description = "Same as GET /api/orders?ids=..., for ID lists too long for a query string")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+    })
+    public ResponseEntity<OrderLookupResponse<OrderResponse>> lookupOrders(
+            @Valid @RequestBody OrderLookupRequest request) {
+        log.info("Received order lookup request: count={}", request.getIds().size());
+
+        return ResponseEntity.ok(orderService.getOrdersByIds(request.getIds()));
+    }
+
+    @GetMapping("/statuses")
+    @Operation(summary = "Get order statuses by IDs",
+               description = "Retrieves only id, status and updatedAt of up to " + OrderLookupRequest.MAX_IDS + " orders")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statuses retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+    })
+    public ResponseEntity<OrderLookupResponse<OrderStatusResponse>> getOrderStatuses(
+            @Parameter(description = "Comma separated order IDs", required = true)
+            @RequestParam List<Long> ids) {
+        log.info("Received order statuses request: count={}", ids.size());
+
+        return ResponseEntity.ok(orderService.getOrderStatusesByIds(ids));
+    }
+
     @GetMapping
     @Operation(summary = "List orders", description = "Retrieves a paginated list of orders with optional filtering")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field in fields parameter")
     })
-    public ResponseEntity<PageResponse<OrderResponse>> listOrders(
+    public ResponseEntity<PageResponse<?>> listOrders(
             @Parameter(description = "Filter by member ID")
             @RequestParam(required = false) Long memberId,
             @Parameter(description = "Filter by order status")
@@ -84,9 +173,11 @@ public class OrderController {
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field and direction (e.g., createdAt,desc)")
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        log.info("Received list orders request: memberId={}, status={}, page={}, size={}",
-                memberId, status, page, size);
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Comma separated fields to return (e.g., id,status,totalAmount,items.productId)")
+            @RequestParam(required = false) String fields) {
+        log.info("Received list orders request: memberId={}, status={}, page={}, size={}, fields={}",
+                memberId, status, page, size, fields);
 
         // Parse sort parameter
         String[] sortParams = sort.split(",");
@@ -97,6 +188,15 @@ public class OrderController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortField));
 
+        // A member browsing their orders is likely to reorder, warm their products meanwhile
+        if (memberId != null) {
+            productPrefetcher.ifAvailable(prefetcher -> prefetcher.prefetch(memberId));
+        }
+
+        if (fields != null) {
+            return ResponseEntity.ok(orderService.listOrders(memberId, status, pageable, OrderFieldSelection.parse(fields)));
+        }
+
         PageResponse<OrderResponse> response = orderService.listOrders(memberId, status, pageable);
 
         return ResponseEntity.ok(response);
@@ -0,0 +1,46 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.service.OrderEventStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for the order change feed
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderEventController {
+
+    private final OrderEventStreamService orderEventStreamService;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream order events",
+               description = "Server-Sent Events of order status changes (event name = new status). " +
+                       "Reconnect with Last-Event-ID to resume without gaps.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    public SseEmitter streamEvents(
+            @Parameter(description = "Resume after this event ID; omit to receive only new events")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        log.info("Received order event subscription: lastEventId={}", lastEventId);
+
+        return orderEventStreamService.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.service.OrderExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for streaming order exports
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    @GetMapping("/export")
+    @Operation(summary = "Export orders",
+               description = "Streams every matching order as NDJSON or CSV without pagination")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "Filter by member ID")
+            @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Filter by order status")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Output format (NDJSON or CSV)")
+            @RequestParam(defaultValue = "NDJSON") OrderFileFormat format) {
+        log.info("Received export orders request: memberId={}, status={}, format={}", memberId, status, format);
+
+        StreamingResponseBody body = output -> orderExportService.exportOrders(memberId, status, format, output);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders." + format.getExtension())
+                .body(body);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.response.OrderHistoryResponse;
+import com.sotatek.order.service.OrderHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the order status audit trail
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderHistoryController {
+
+    private final OrderHistoryService orderHistoryService;
+
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Get order status history",
+               description = "Committed status changes of the order, oldest first. " +
+                       "Changes are recorded asynchronously and may appear shortly after the change.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    public OrderHistoryResponse getHistory(@Parameter(description = "Order ID") @PathVariable Long id) {
+        log.debug("Received order history request: orderId={}", id);
+
+        return orderHistoryService.getHistory(id);
+    }
+}
@@ -0,0 +1,67 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.controller.response.OrderImportResponse;
+import com.sotatek.order.service.OrderImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Admin REST controller for bulk loading historical orders
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/admin/orders/import")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin", description = "Administrative order APIs")
+public class OrderImportController {
+
+    private final OrderImportService orderImportService;
+
+    @PostMapping
+    @Operation(summary = "Import orders",
+               description = "Bulk loads an NDJSON or CSV request body, one order item per line. " +
+                       "Re-send the same body with the same jobId to resume a failed import.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import completed"),
+            @ApiResponse(responseCode = "400", description = "Source line could not be parsed")
+    })
+    public ResponseEntity<OrderImportResponse> importOrders(
+            @Parameter(description = "Source format (NDJSON or CSV)", required = true)
+            @RequestParam OrderFileFormat format,
+            @Parameter(description = "Job ID used to track and resume the import (generated if omitted)")
+            @RequestParam(required = false) String jobId,
+            HttpServletRequest request) throws IOException {
+        String resolvedJobId = jobId != null ? jobId : UUID.randomUUID().toString();
+        log.info("Received import orders request: jobId={}, format={}", resolvedJobId, format);
+
+        OrderImportResponse response = orderImportService.importOrders(resolvedJobId, format, request.getInputStream());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get import job", description = "Returns the progress of an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    public ResponseEntity<OrderImportResponse> getImportJob(
+            @Parameter(description = "Import job ID", required = true)
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(orderImportService.getImportJob(jobId));
+    }
+}
@@ -0,0 +1,49 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.catalog.ProductPrefetcher;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for warming the product data of a member about to order
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "order.prefetch.enabled", havingValue = "true")
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderPrefetchController {
+
+    private final ProductPrefetcher productPrefetcher;
+
+    @PostMapping("/prefetch")
+    @Operation(summary = "Prefetch a member's products",
+               description = "Hint sent when a member starts a session: product and stock data of the products " +
+                       "in the member's recent orders are fetched in the background for the coming order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Prefetch queued, or skipped if done recently")
+    })
+    public ResponseEntity<Void> prefetch(
+            @Parameter(description = "Member ID", required = true)
+            @RequestParam Long memberId) {
+        log.debug("Received prefetch request: memberId={}", memberId);
+
+        productPrefetcher.prefetch(memberId);
+
+        return ResponseEntity.accepted().build();
+    }
+}
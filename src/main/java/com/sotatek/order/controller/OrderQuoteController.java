@@ -0,0 +1,50 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.response.OrderQuoteResponse;
+import com.sotatek.order.service.OrderQuoteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for pricing an order before checkout
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "order.quote.enabled", havingValue = "true")
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderQuoteController {
+
+    private final OrderQuoteService orderQuoteService;
+
+    @PostMapping("/quote")
+    @Operation(summary = "Quote an order",
+               description = "Validates the member, products and stock and prices the items without creating an order. " +
+                       "Send the returned token in the X-Order-Quote header of POST /api/orders, with the same " +
+                       "member and items, to create the order without validating them again.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order priced"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data or business rule violation"),
+            @ApiResponse(responseCode = "404", description = "Member or product not found"),
+            @ApiResponse(responseCode = "503", description = "External service unavailable")
+    })
+    public OrderQuoteResponse quoteOrder(@Valid @RequestBody CreateOrderRequest request) {
+        log.info("Received quote request: memberId={}, items={}", request.getMemberId(), request.getItems().size());
+
+        return orderQuoteService.quoteOrder(request);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.response.OrderStatsResponse;
+import com.sotatek.order.controller.response.TopProductsResponse;
+import com.sotatek.order.domain.RollupGranularity;
+import com.sotatek.order.service.OrderAnalyticsService;
+import com.sotatek.order.service.OrderStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST controller for order analytics
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Order Analytics", description = "Order statistics served from rollups and snapshots, never from live tables")
+public class OrderStatsController {
+
+    private final OrderStatsService orderStatsService;
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get order statistics",
+               description = "Order count and revenue per time bucket, status and payment method")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or too many buckets")
+    })
+    public ResponseEntity<OrderStatsResponse> getStats(
+            @Parameter(description = "Inclusive start (ISO date-time)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive end (ISO date-time)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Bucket size (MINUTE, HOUR, DAY)")
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity) {
+        log.info("Received order stats request: from={}, to={}, granularity={}", from, to, granularity);
+
+        return ResponseEntity.ok(orderStatsService.getStats(from, to, granularity));
+    }
+
+    @GetMapping("/analytics/top-products")
+    @Operation(summary = "Get top products by revenue",
+               description = "Products with the highest revenue from confirmed orders, computed from the " +
+                       "periodic columnar snapshot")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Top products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or limit"),
+            @ApiResponse(responseCode = "503", description = "Snapshot not built yet")
+    })
+    public ResponseEntity<TopProductsResponse> getTopProducts(
+            @Parameter(description = "Inclusive start (ISO date-time)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive end (ISO date-time)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Number of products")
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("Received top products request: from={}, to={}, limit={}", from, to, limit);
+
+        return ResponseEntity.ok(orderAnalyticsService.getTopProducts(from, to, limit));
+    }
+}
@@ -0,0 +1,89 @@
+package com.sotatek.order.controller;
+
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderLookupRequest;
+import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.OrderLookupResponse;
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.controller.response.PageResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.service.ReactiveOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux equivalent of {@link OrderController}, active with the reactive profile
+ * Same paths, parameters and response bodies; sparse fieldsets ({@code fields}) are not supported.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService orderService;
+
+    @PostMapping
+    public Mono<ResponseEntity<OrderResponse>> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+        log.info("Received create order request: memberId={}", request.getMemberId());
+
+        return orderService.createOrder(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<OrderResponse> getOrder(@PathVariable Long id) {
+        log.info("Received get order request: orderId={}", id);
+
+        return orderService.getOrderById(id);
+    }
+
+    @GetMapping(params = "ids")
+    public Mono<OrderLookupResponse<OrderResponse>> getOrdersByIds(@RequestParam List<Long> ids) {
+        log.info("Received multi-get orders request: count={}", ids.size());
+
+        return orderService.getOrdersByIds(ids);
+    }
+
+    @PostMapping("/lookup")
+    public Mono<OrderLookupResponse<OrderResponse>> lookupOrders(@Valid @RequestBody OrderLookupRequest request) {
+        log.info("Received order lookup request: count={}", request.getIds().size());
+
+        return orderService.getOrdersByIds(request.getIds());
+    }
+
+    @GetMapping
+    public Mono<PageResponse<OrderResponse>> listOrders(
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+        log.info("Received list orders request: memberId={}, status={}, page={}, size={}", memberId, status, page, size);
+
+        String[] sortParams = sort.split(",");
+        Sort.Direction sortDirection = sortParams.length > 1 && sortParams[1].equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        return orderService.listOrders(memberId, status, PageRequest.of(page, size, Sort.by(sortDirection, sortParams[0])));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<OrderResponse> updateOrder(@PathVariable Long id, @Valid @RequestBody UpdateOrderRequest request) {
+        log.info("Received update order request: orderId={}", id);
+
+        return orderService.updateOrder(id, request);
+    }
+}
@@ -0,0 +1,58 @@
+package com.sotatek.order.controller.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request DTO for cancelling many CONFIRMED orders at once
+ * Exactly one of {@code ids} or {@code filter} must be given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCancelRequest {
+
+    /**
+     * Most orders cancelled by one request, a filter matching more reports {@code hasMore}
+     */
+    public static final int MAX_ORDERS = 10_000;
+
+    @Size(min = 1, max = MAX_ORDERS, message = "Between 1 and " + MAX_ORDERS + " order IDs can be cancelled at once")
+    private List<@NotNull Long> ids;
+
+    @Valid
+    private Filter filter;
+
+    /**
+     * Selects CONFIRMED orders, at least one criterion is required
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Filter {
+
+        @Positive(message = "Member ID must be positive")
+        private Long memberId;
+
+        /**
+         * Inclusive lower bound of created_at
+         */
+        private LocalDateTime createdFrom;
+
+        /**
+         * Exclusive upper bound of created_at
+         */
+        private LocalDateTime createdTo;
+    }
+}
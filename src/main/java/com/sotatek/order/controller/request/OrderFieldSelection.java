@@ -0,0 +1,113 @@
+package com.sotatek.order.controller.request;
+
+import com.sotatek.order.exception.InvalidFieldSelectionException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested through the {@code fields} query parameter,
+ * e.g. {@code fields=id,status,totalAmount,items.productId}
+ *
+ * {@code items} selects every item field, {@code items.<field>} selects a single one.
+ * Fields are always rendered in the same order as {@link com.sotatek.order.controller.response.OrderResponse}.
+ */
+public final class OrderFieldSelection {
+
+    public static final String ITEMS = "items";
+
+    private static final String ITEM_PREFIX = ITEMS + ".";
+
+    private static final List<String> ORDER_FIELDS = List.of(
+            "id", "memberId", "memberName", "status", ITEMS, "totalAmount",
+            "paymentMethod", "paymentId", "transactionId", "createdAt", "updatedAt", "version");
+
+    private static final List<String> ITEM_FIELDS = List.of(
+            "id", "productId", "productName", "unitPrice", "quantity", "subtotal");
+
+    private final Set<String> orderFields;
+    private final Set<String> itemFields;
+
+    private OrderFieldSelection(Set<String> orderFields, Set<String> itemFields) {
+        this.orderFields = Collections.unmodifiableSet(orderFields);
+        this.itemFields = Collections.unmodifiableSet(itemFields);
+    }
+
+    /**
+     * Parse a comma separated field list
+     *
+     * @param fields the raw {@code fields} parameter
+     * @return the parsed selection
+     * @throws InvalidFieldSelectionException if the list is empty or contains an unknown field
+     */
+    public static OrderFieldSelection parse(String fields) {
+        Set<String> requestedOrderFields = new LinkedHashSet<>();
+        Set<String> requestedItemFields = new LinkedHashSet<>();
+
+        for (String raw : fields.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+
+            if (field.equals(ITEMS)) {
+                requestedOrderFields.add(ITEMS);
+                requestedItemFields.addAll(ITEM_FIELDS);
+            } else if (field.startsWith(ITEM_PREFIX)) {
+                String itemField = field.substring(ITEM_PREFIX.length());
+                if (!ITEM_FIELDS.contains(itemField)) {
+                    throw new InvalidFieldSelectionException(field);
+                }
+                requestedOrderFields.add(ITEMS);
+                requestedItemFields.add(itemField);
+            } else if (ORDER_FIELDS.contains(field)) {
+                requestedOrderFields.add(field);
+            } else {
+                throw new InvalidFieldSelectionException(field);
+            }
+        }
+
+        if (requestedOrderFields.isEmpty()) {
+            throw new InvalidFieldSelectionException(fields);
+        }
+
+        return new OrderFieldSelection(
+                inCanonicalOrder(ORDER_FIELDS, requestedOrderFields),
+                inCanonicalOrder(ITEM_FIELDS, requestedItemFields));
+    }
+
+    /**
+     * @return selected order fields in response order
+     */
+    public Set<String> getOrderFields() {
+        return orderFields;
+    }
+
+    /**
+     * @return selected item fields in response order, empty if items are not selected
+     */
+    public Set<String> getItemFields() {
+        return itemFields;
+    }
+
+    /**
+     * Check whether the order items association has to be loaded
+     *
+     * @return true if any item field is selected
+     */
+    public boolean includesItems() {
+        return orderFields.contains(ITEMS);
+    }
+
+    private static Set<String> inCanonicalOrder(List<String> canonical, Set<String> requested) {
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String field : canonical) {
+            if (requested.contains(field)) {
+                ordered.add(field);
+            }
+        }
+        return ordered;
+    }
+}
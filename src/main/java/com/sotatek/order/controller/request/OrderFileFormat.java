@@ -0,0 +1,34 @@
+package com.sotatek.order.controller.request;
+
+import org.springframework.http.MediaType;
+
+/**
+ * File formats supported for bulk order transfer
+ */
+public enum OrderFileFormat {
+    /**
+     * Newline delimited JSON, one object per line
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+
+    /**
+     * Comma separated values with a header line
+     */
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    OrderFileFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sotatek.order.controller.request;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One line of a bulk order import file
+ * Each line is one order item; order level fields are repeated for every item of the order.
+ * CSV files carry the same fields as header names.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderImportLine {
+
+    private Long orderId;
+    private Long memberId;
+    private String memberName;
+    private OrderStatus status;
+    private PaymentMethod paymentMethod;
+    private Long paymentId;
+    private String transactionId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long productId;
+    private String productName;
+    private BigDecimal unitPrice;
+    private Integer quantity;
+}
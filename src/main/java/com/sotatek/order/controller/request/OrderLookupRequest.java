@@ -0,0 +1,27 @@
+package com.sotatek.order.controller.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for fetching many orders by ID at once
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderLookupRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one order ID is required")
+    @Size(max = MAX_IDS, message = "Cannot look up more than " + MAX_IDS + " orders at once")
+    private List<@NotNull Long> ids;
+}
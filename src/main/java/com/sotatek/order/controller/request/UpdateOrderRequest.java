@@ -31,4 +31,9 @@ public class UpdateOrderRequest {
      * Order status - can be used to cancel order (CONFIRMED → CANCELLED)
      */
     private OrderStatus status;
+
+    /**
+     * Optional version last read by the client, the update is refused with 409 if the order changed since
+     */
+    private Long version;
 }
@@ -0,0 +1,50 @@
+package com.sotatek.order.controller.response;
+
+import com.sotatek.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk cancellation, one result per requested or matched order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCancelResponse {
+
+    private int cancelled;
+
+    /**
+     * True if the filter matched more orders than one request cancels, repeat the request for the rest
+     */
+    private boolean hasMore;
+
+    private List<Result> results;
+
+    public enum Outcome {
+        CANCELLED,
+        NOT_FOUND,
+        /**
+         * The order is not CONFIRMED, see {@link Result#getStatus()}
+         */
+        NOT_CANCELLABLE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private Long id;
+        private Outcome outcome;
+        /**
+         * Status after the request, null if the order does not exist
+         */
+        private OrderStatus status;
+    }
+}
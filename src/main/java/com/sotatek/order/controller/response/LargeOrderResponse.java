@@ -0,0 +1,33 @@
+package com.sotatek.order.controller.response;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for an order created in large-order mode
+ * Items are not echoed back, fetch them with GET /api/orders/{id} if needed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LargeOrderResponse {
+
+    private Long id;
+    private Long memberId;
+    private String memberName;
+    private OrderStatus status;
+    private int itemCount;
+    private BigDecimal totalAmount;
+    private PaymentMethod paymentMethod;
+    private Long paymentId;
+    private String transactionId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package com.sotatek.order.controller.response;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for an entry of the order change feed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderEventResponse {
+
+    /**
+     * Event cursor, also sent as the SSE event ID
+     */
+    private Long id;
+    private Long orderId;
+    private Long memberId;
+    /**
+     * Null for newly created orders
+     */
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private PaymentMethod paymentMethod;
+    private BigDecimal totalAmount;
+    private LocalDateTime occurredAt;
+}
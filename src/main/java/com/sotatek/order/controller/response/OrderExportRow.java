@@ -0,0 +1,36 @@
+package com.sotatek.order.controller.response;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat order row written by the export endpoint
+ * Items are not part of the export so rows can be streamed without touching order_items
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderExportRow {
+
+    public static final String CSV_HEADER =
+            "id,memberId,memberName,status,totalAmount,paymentMethod,paymentId,transactionId,createdAt,updatedAt";
+
+    private Long id;
+    private Long memberId;
+    private String memberName;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private PaymentMethod paymentMethod;
+    private Long paymentId;
+    private String transactionId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
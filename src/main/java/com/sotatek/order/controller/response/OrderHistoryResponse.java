@@ -0,0 +1,36 @@
+package com.sotatek.order.controller.response;
+
+import com.sotatek.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for the status history of an order, oldest change first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderHistoryResponse {
+
+    private Long orderId;
+    private List<Entry> history;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Entry {
+        /**
+         * Null for newly created orders
+         */
+        private OrderStatus previousStatus;
+        private OrderStatus status;
+        private LocalDateTime changedAt;
+    }
+}
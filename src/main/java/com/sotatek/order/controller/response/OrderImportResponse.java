@@ -0,0 +1,34 @@
+package com.sotatek.order.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sotatek.order.domain.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for bulk import jobs
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderImportResponse {
+
+    private String jobId;
+    private ImportJobStatus status;
+    private long linesLoaded;
+    private long ordersMerged;
+    private long itemsMerged;
+    /**
+     * Staging throughput in source rows per second, measured over the current run
+     */
+    private Long rowsPerSecond;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
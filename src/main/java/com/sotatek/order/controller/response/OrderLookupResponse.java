@@ -0,0 +1,24 @@
+package com.sotatek.order.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a multi-get of orders
+ * Orders are returned in the requested order, duplicates once; unknown IDs are listed in missingIds
+ *
+ * @param <T> the type of the returned orders
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderLookupResponse<T> {
+
+    private List<T> orders;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,26 @@
+package com.sotatek.order.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for a quote, the priced items and the token to send back in the X-Order-Quote header
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderQuoteResponse {
+
+    private String token;
+    private Instant expiresAt;
+    private Long memberId;
+    private List<OrderItemResponse> items;
+    private BigDecimal totalAmount;
+}
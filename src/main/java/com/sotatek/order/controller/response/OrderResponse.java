@@ -31,4 +31,5 @@ public class OrderResponse {
     private String transactionId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
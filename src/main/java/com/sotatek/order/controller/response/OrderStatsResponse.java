@@ -0,0 +1,47 @@
+package com.sotatek.order.controller.response;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.domain.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for order rollup statistics
+ * Cancellations are reported as buckets with status CANCELLED.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatsResponse {
+
+    private RollupGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+        private LocalDateTime bucketStart;
+        /**
+         * Status the orders reached within the bucket
+         */
+        private OrderStatus status;
+        /**
+         * Null for orders without payment method
+         */
+        private PaymentMethod paymentMethod;
+        private long orderCount;
+        private BigDecimal revenue;
+    }
+}
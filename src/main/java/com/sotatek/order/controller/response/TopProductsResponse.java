@@ -0,0 +1,39 @@
+package com.sotatek.order.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for top products by revenue, computed from the analytics snapshot
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TopProductsResponse {
+
+    /**
+     * Orders committed after this time are not included
+     */
+    private LocalDateTime snapshotAt;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<ProductSales> products;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ProductSales {
+        private Long productId;
+        private String productName;
+        private long quantity;
+        private BigDecimal revenue;
+    }
+}
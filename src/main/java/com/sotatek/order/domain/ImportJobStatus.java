@@ -0,0 +1,26 @@
+package com.sotatek.order.domain;
+
+/**
+ * Lifecycle of a bulk order import job
+ */
+public enum ImportJobStatus {
+    /**
+     * Source lines are being copied into the staging table
+     */
+    LOADING,
+
+    /**
+     * Staged rows are being merged into orders and order_items
+     */
+    MERGING,
+
+    /**
+     * All rows merged, staging rows removed
+     */
+    COMPLETED,
+
+    /**
+     * Import stopped with an error, can be resumed with the same job ID
+     */
+    FAILED
+}
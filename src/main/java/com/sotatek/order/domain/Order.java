@@ -63,6 +63,13 @@ public class Order {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock, also incremented by the plain SQL status transitions
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * JPA lifecycle callback - executed before persisting the entity
      */
@@ -143,11 +150,7 @@ public class Order {
             return true; // No change
         }
 
-        return switch (status) {
-            case PENDING -> newStatus == OrderStatus.CONFIRMED;
-            case CONFIRMED -> newStatus == OrderStatus.CANCELLED;
-            case CANCELLED -> false; // Terminal state
-        };
+        return status.canTransitionTo(newStatus);
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.sotatek.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress record of a bulk order import, used to resume after a failure
+ */
+@Entity
+@Table(name = "order_import_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderImportJob {
+
+    @Id
+    @Column(length = 100)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    /**
+     * Number of non-blank data lines already committed to the staging table
+     */
+    @Column(name = "lines_loaded", nullable = false)
+    private long linesLoaded;
+
+    @Column(name = "orders_merged", nullable = false)
+    private long ordersMerged;
+
+    @Column(name = "items_merged", nullable = false)
+    private long itemsMerged;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,41 @@
+package com.sotatek.order.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * R2DBC mapping of the order_items table, used by the reactive profile
+ */
+@Table("order_items")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderItemRow {
+
+    @Id
+    private Long id;
+
+    @Column("order_id")
+    private Long orderId;
+
+    @Column("product_id")
+    private Long productId;
+
+    @Column("product_name")
+    private String productName;
+
+    @Column("unit_price")
+    private BigDecimal unitPrice;
+
+    private Integer quantity;
+
+    private BigDecimal subtotal;
+}
@@ -0,0 +1,31 @@
+package com.sotatek.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Creation time of an order by ID, read-only (order_keys, written by the database)
+ *
+ * Queries by order ID also match created_at against this entity, so PostgreSQL prunes a partitioned
+ * orders table to the single partition holding the order instead of probing all of them.
+ */
+@Entity
+@Table(name = "order_keys")
+@Immutable
+@Data
+@NoArgsConstructor
+public class OrderKey {
+
+    @Id
+    private Long id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
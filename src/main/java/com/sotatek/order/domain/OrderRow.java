@@ -0,0 +1,60 @@
+package com.sotatek.order.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the orders table, used by the reactive profile
+ *
+ * Same columns as {@link Order}, without the items association: items are loaded and saved
+ * separately as {@link OrderItemRow}. Timestamps are set by the caller, there are no lifecycle callbacks.
+ */
+@Table("orders")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderRow {
+
+    @Id
+    private Long id;
+
+    @Column("member_id")
+    private Long memberId;
+
+    @Column("member_name")
+    private String memberName;
+
+    private OrderStatus status;
+
+    @Column("total_amount")
+    private BigDecimal totalAmount;
+
+    @Column("payment_method")
+    private PaymentMethod paymentMethod;
+
+    @Column("payment_id")
+    private Long paymentId;
+
+    @Column("transaction_id")
+    private String transactionId;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    // Null until inserted, which also tells R2DBC the row is new
+    @Version
+    private Long version;
+}
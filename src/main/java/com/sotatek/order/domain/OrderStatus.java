@@ -1,10 +1,14 @@
 package com.sotatek.order.domain;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Order status enum representing the lifecycle of an order.
  *
  * State transitions:
  * PENDING → CONFIRMED
+ * PENDING → EXPIRED (payment never completed, see PendingOrderReconciler)
  * CONFIRMED → CANCELLED (user cancellation)
  */
 public enum OrderStatus {
@@ -21,5 +25,47 @@ public enum OrderStatus {
     /**
      * Order cancelled by user
      */
-    CANCELLED
+    CANCELLED,
+
+    /**
+     * Payment failed or never completed, resolved by the reconciliation job
+     */
+    EXPIRED;
+
+    /**
+     * @return true if no further transition can happen from this status
+     */
+    public boolean isTerminal() {
+        return this == CANCELLED || this == EXPIRED;
+    }
+
+    /**
+     * Check if the state machine allows moving from this status to the next one
+     *
+     * @param next the status to transition to
+     * @return true if the transition is valid, false otherwise (including next == this)
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case PENDING -> next == CONFIRMED || next == EXPIRED;
+            case CONFIRMED -> next == CANCELLED;
+            case CANCELLED, EXPIRED -> false; // Terminal states
+        };
+    }
+
+    /**
+     * Statuses an order may be in to transition to the target, the guard of a conditional UPDATE
+     *
+     * @param target the status to transition to
+     * @return the source statuses, empty if the target cannot be reached
+     */
+    public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
@@ -0,0 +1,31 @@
+package com.sotatek.order.domain;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket size of the order rollups
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES, 1),
+    HOUR(ChronoUnit.HOURS, 60),
+    DAY(ChronoUnit.DAYS, 1440);
+
+    private final ChronoUnit unit;
+    private final long minutes;
+
+    RollupGranularity(ChronoUnit unit, long minutes) {
+        this.unit = unit;
+        this.minutes = minutes;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * @return bucket length in minutes
+     */
+    public long getMinutes() {
+        return minutes;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sotatek.order.event;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published inside the order transaction whenever an order reaches a new status
+ * (confirmed on creation, cancelled on update). {@code previousStatus} is null for new orders.
+ */
+@Value
+@Builder
+public class OrderStatusChangedEvent {
+    Long orderId;
+    Long memberId;
+    OrderStatus previousStatus;
+    OrderStatus status;
+    PaymentMethod paymentMethod;
+    BigDecimal totalAmount;
+    LocalDateTime occurredAt;
+}
@@ -3,6 +3,8 @@ package com.sotatek.order.exception;
 import com.sotatek.order.controller.response.ErrorResponse;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -10,8 +12,11 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ServerWebInputException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
@@ -25,7 +30,8 @@ public class GlobalExceptionHandler {
             OrderNotFoundException.class,
             MemberNotFoundException.class,
             ProductNotFoundException.class,
-            PaymentNotFoundException.class
+            PaymentNotFoundException.class,
+            ImportJobNotFoundException.class
     })
     public ResponseEntity<ErrorResponse> handleNotFound(OrderException ex) {
         log.warn("Not found: {}", ex.getMessage());
@@ -36,13 +42,36 @@ public class GlobalExceptionHandler {
             MemberValidationException.class,
             ProductValidationException.class,
             InsufficientStockException.class,
-            InvalidOrderStatusException.class
+            InvalidOrderStatusException.class,
+            InvalidFieldSelectionException.class,
+            InvalidImportDataException.class,
+            InvalidStatsQueryException.class,
+            InvalidAwaitRequestException.class,
+            InvalidLookupRequestException.class,
+            InvalidOrderRequestException.class
     })
     public ResponseEntity<ErrorResponse> handleBadRequest(OrderException ex) {
         log.warn("Bad request: {}", ex.getMessage());
         return buildResponse(ex, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(OrderVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(OrderVersionConflictException ex) {
+        log.warn("Version conflict: {}", ex.getMessage());
+        return buildResponse(ex, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * A JPA or R2DBC save lost the race on Order.version
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic locking failure: {}", ex.getMessage());
+        OrderVersionConflictException mapped = new OrderVersionConflictException(
+                "Order was modified concurrently, reload it and retry", ex);
+        return buildResponse(mapped, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(PaymentFailedException.class)
     public ResponseEntity<ErrorResponse> handlePaymentFailed(PaymentFailedException ex) {
         log.warn("Payment failed: {}", ex.getMessage());
@@ -55,6 +84,30 @@ public class GlobalExceptionHandler {
         return buildResponse(ex, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
+    @ExceptionHandler(SnapshotUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSnapshotUnavailable(SnapshotUnavailableException ex) {
+        log.warn("Snapshot unavailable: {}", ex.getMessage());
+        return buildResponse(ex, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex) {
+        log.warn("Request shed: {}", ex.getMessage());
+        return withRetryAfter(buildResponse(ex, HttpStatus.SERVICE_UNAVAILABLE), ex.getRetryAfter());
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+        log.warn("Rate limited: {}", ex.getMessage());
+        ResponseEntity<ErrorResponse> response = withRetryAfter(
+                buildResponse(ex, HttpStatus.TOO_MANY_REQUESTS), ex.getRetryAfter());
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header("X-RateLimit-Limit", String.valueOf(ex.getLimitPerMinute()))
+                .header("X-RateLimit-Remaining", "0")
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(ResourceAccessException.class)
     public ResponseEntity<ErrorResponse> handleResourceAccess(ResourceAccessException ex) {
         log.error("External service unavailable: {}", ex.getMessage(), ex);
@@ -88,6 +141,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Reactive profile: bean validation of a WebFlux request body
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(WebExchangeBindException ex) {
+        List<ErrorResponse.FieldError> errors = ex.getFieldErrors()
+                .stream()
+                .map(this::mapFieldError)
+                .collect(Collectors.toList());
+
+        ErrorResponse response = ErrorResponse.builder()
+                .code("VALIDATION_ERROR")
+                .message("Validation failed")
+                .timestamp(LocalDateTime.now(ZoneOffset.UTC))
+                .errors(errors)
+                .build();
+
+        log.warn("Validation failed: {}", errors.size());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Reactive profile: unreadable body or unconvertible parameter
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(ServerWebInputException ex) {
+        ErrorResponse response = ErrorResponse.builder()
+                .code("INVALID_REQUEST")
+                .message(ex.getReason() != null ? ex.getReason() : "Invalid request")
+                .timestamp(LocalDateTime.now(ZoneOffset.UTC))
+                .build();
+
+        log.warn("Invalid request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleInvalidRequest(HttpMessageNotReadableException ex) {
         ErrorResponse response = ErrorResponse.builder()
@@ -122,6 +211,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    private ResponseEntity<ErrorResponse> withRetryAfter(ResponseEntity<ErrorResponse> response, Duration retryAfter) {
+        // Retry-After is whole seconds, round up so clients never come back too early
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(response.getBody());
+    }
+
     private ErrorResponse.FieldError mapFieldError(FieldError error) {
         return ErrorResponse.FieldError.builder()
                 .field(error.getField())
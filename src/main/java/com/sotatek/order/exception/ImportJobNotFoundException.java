@@ -0,0 +1,8 @@
+package com.sotatek.order.exception;
+
+public class ImportJobNotFoundException extends OrderException {
+
+    public ImportJobNotFoundException(String jobId) {
+        super("IMPORT_JOB_NOT_FOUND", "Import job not found: id=" + jobId);
+    }
+}
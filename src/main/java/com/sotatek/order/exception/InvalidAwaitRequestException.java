@@ -0,0 +1,8 @@
+package com.sotatek.order.exception;
+
+public class InvalidAwaitRequestException extends OrderException {
+
+    public InvalidAwaitRequestException(String message) {
+        super("INVALID_AWAIT_REQUEST", message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sotatek.order.exception;
+
+public class InvalidFieldSelectionException extends OrderException {
+
+    public InvalidFieldSelectionException(String field) {
+        super("INVALID_FIELD_SELECTION", "Unknown or empty field selection: " + field);
+    }
+}
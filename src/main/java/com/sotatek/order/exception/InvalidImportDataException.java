@@ -0,0 +1,12 @@
+package com.sotatek.order.exception;
+
+public class InvalidImportDataException extends OrderException {
+
+    public InvalidImportDataException(String message) {
+        super("INVALID_IMPORT_DATA", message);
+    }
+
+    public InvalidImportDataException(String message, Throwable cause) {
+        super("INVALID_IMPORT_DATA", message, cause);
+    }
+}
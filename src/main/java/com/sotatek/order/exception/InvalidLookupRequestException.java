@@ -0,0 +1,8 @@
+package com.sotatek.order.exception;
+
+public class InvalidLookupRequestException extends OrderException {
+
+    public InvalidLookupRequestException(String message) {
+        super("INVALID_LOOKUP_REQUEST", message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sotatek.order.exception;
+
+public class InvalidOrderRequestException extends OrderException {
+
+    public InvalidOrderRequestException(String message) {
+        super("INVALID_ORDER_REQUEST", message);
+    }
+
+    public InvalidOrderRequestException(String message, Throwable cause) {
+        super("INVALID_ORDER_REQUEST", message, cause);
+    }
+}
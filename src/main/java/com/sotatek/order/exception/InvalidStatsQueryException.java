@@ -0,0 +1,8 @@
+package com.sotatek.order.exception;
+
+public class InvalidStatsQueryException extends OrderException {
+
+    public InvalidStatsQueryException(String message) {
+        super("INVALID_STATS_QUERY", message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sotatek.order.exception;
+
+public class OrderVersionConflictException extends OrderException {
+
+    public OrderVersionConflictException(Long orderId, Long expectedVersion, Long currentVersion) {
+        super("ORDER_VERSION_CONFLICT", "Order was modified concurrently: id=" + orderId
+                + ", expectedVersion=" + expectedVersion + ", currentVersion=" + currentVersion);
+    }
+
+    public OrderVersionConflictException(String message, Throwable cause) {
+        super("ORDER_VERSION_CONFLICT", message, cause);
+    }
+}
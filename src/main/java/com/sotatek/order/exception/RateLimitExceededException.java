@@ -0,0 +1,23 @@
+package com.sotatek.order.exception;
+
+import java.time.Duration;
+
+public class RateLimitExceededException extends OrderException {
+
+    private final int limitPerMinute;
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, int limitPerMinute, Duration retryAfter) {
+        super("RATE_LIMIT_EXCEEDED", message);
+        this.limitPerMinute = limitPerMinute;
+        this.retryAfter = retryAfter;
+    }
+
+    public int getLimitPerMinute() {
+        return limitPerMinute;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sotatek.order.exception;
+
+import java.time.Duration;
+
+public class ServiceOverloadedException extends OrderException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super("SERVICE_OVERLOADED", message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,8 @@
+package com.sotatek.order.exception;
+
+public class SnapshotUnavailableException extends OrderException {
+
+    public SnapshotUnavailableException() {
+        super("SNAPSHOT_UNAVAILABLE", "Analytics snapshot is not available yet, retry later");
+    }
+}
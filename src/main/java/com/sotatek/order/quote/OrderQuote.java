@@ -0,0 +1,43 @@
+package com.sotatek.order.quote;
+
+import com.sotatek.order.service.external.dto.MemberGrade;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Priced order items of a member, validated once and carried in a signed quote token
+ * Everything order creation would otherwise fetch from Member and Product Service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderQuote {
+
+    // Random per quote, recorded when the quote is redeemed
+    private String id;
+    private Long memberId;
+    private String memberName;
+    private MemberGrade memberGrade;
+    private List<Item> items;
+    private BigDecimal totalAmount;
+    private Instant expiresAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        private Long productId;
+        private String productName;
+        private BigDecimal unitPrice;
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,194 @@
+package com.sotatek.order.quote;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderItemRequest;
+import com.sotatek.order.exception.InvalidOrderRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and verifies quote tokens, so checkout can skip the member, product and stock lookups
+ *
+ * A token is the base64url JSON of an {@link OrderQuote} and its base64url HMAC-SHA256, signed with
+ * {@code order.quote.secret} and valid for {@code order.quote.ttl}. Tokens that are malformed, badly
+ * signed or expired are ignored and the order is validated as usual; a valid token for another
+ * member or other items than the request's is rejected. Every quote gets a random ID, which order
+ * creation records in order_quote_redemptions, so a token creates at most one order.
+ */
+@Component
+@ConditionalOnProperty(name = "order.quote.enabled", havingValue = "true")
+@Slf4j
+public class OrderQuoteSigner {
+
+    public static final String HEADER = "X-Order-Quote";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Mac prototype;
+    private final Counter issued;
+    private final Counter redeemed;
+    private final Counter rejected;
+
+    public OrderQuoteSigner(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${order.quote.secret}") String secret,
+                            @Value("${order.quote.ttl:PT2M}") Duration ttl) {
+        this(objectMapper, meterRegistry, secret, ttl, Clock.systemUTC());
+    }
+
+    OrderQuoteSigner(ObjectMapper objectMapper, MeterRegistry meterRegistry, String secret,
+                     Duration ttl, Clock clock) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException("order.quote.secret must be at least 32 characters");
+        }
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.clock = clock;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+        this.issued = Counter.builder("orders.quotes")
+                .tag("outcome", "issued")
+                .description("Quote tokens issued")
+                .register(meterRegistry);
+        this.redeemed = Counter.builder("orders.quotes")
+                .tag("outcome", "redeemed")
+                .description("Orders created from a quote token without product lookups")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("orders.quotes")
+                .tag("outcome", "rejected")
+                .description("Quote tokens ignored as malformed, badly signed or expired")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Set the ID and expiry of the quote and sign it
+     *
+     * @return the quote token
+     */
+    public String sign(OrderQuote quote) {
+        quote.setId(UUID.randomUUID().toString());
+        quote.setExpiresAt(clock.instant().plus(ttl));
+
+        String payload;
+        try {
+            payload = BASE64URL_ENCODER.encodeToString(objectMapper.writeValueAsBytes(quote));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Quote cannot be serialized", e);
+        }
+        issued.increment();
+        return payload + "." + BASE64URL_ENCODER.encodeToString(mac(payload));
+    }
+
+    /**
+     * @param token   the header value, may be null
+     * @param request the order being created
+     * @return the quote of a valid token, empty if there is none or it cannot be trusted
+     * @throws InvalidOrderRequestException if a valid quote is for another member or other items
+     */
+    public Optional<OrderQuote> verify(String token, CreateOrderRequest request) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        OrderQuote quote = parse(token.trim());
+        if (quote == null) {
+            rejected.increment();
+            return Optional.empty();
+        }
+
+        if (!matches(quote, request)) {
+            log.warn("Quote does not match the order: quoteMemberId={}, memberId={}",
+                    quote.getMemberId(), request.getMemberId());
+            throw new InvalidOrderRequestException("Order does not match the quote");
+        }
+
+        redeemed.increment();
+        return Optional.of(quote);
+    }
+
+    private OrderQuote parse(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.') || dot == token.length() - 1) {
+            log.warn("Quote rejected: malformed token");
+            return null;
+        }
+
+        try {
+            String payload = token.substring(0, dot);
+            if (!MessageDigest.isEqual(mac(payload), BASE64URL_DECODER.decode(token.substring(dot + 1)))) {
+                log.warn("Quote rejected: bad signature");
+                return null;
+            }
+
+            OrderQuote quote = objectMapper.readValue(BASE64URL_DECODER.decode(payload), OrderQuote.class);
+            Instant expiresAt = quote.getExpiresAt();
+            if (expiresAt == null || !clock.instant().isBefore(expiresAt)) {
+                log.warn("Quote rejected: expired at {}", expiresAt);
+                return null;
+            }
+            if (quote.getId() == null) {
+                log.warn("Quote rejected: no quote ID");
+                return null;
+            }
+            return quote;
+        } catch (IOException | IllegalArgumentException e) {
+            // Bad base64 or JSON
+            log.warn("Quote rejected: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean matches(OrderQuote quote, CreateOrderRequest request) {
+        List<OrderQuote.Item> quoted = quote.getItems();
+        List<OrderItemRequest> requested = request.getItems();
+        if (!quote.getMemberId().equals(request.getMemberId()) || quoted.size() != requested.size()) {
+            return false;
+        }
+        for (int i = 0; i < quoted.size(); i++) {
+            if (!quoted.get(i).getProductId().equals(requested.get(i).getProductId())
+                    || !quoted.get(i).getQuantity().equals(requested.get(i).getQuantity())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] mac(String payload) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 Mac cannot be cloned", e);
+        }
+        return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+}
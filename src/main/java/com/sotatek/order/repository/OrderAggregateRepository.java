@@ -0,0 +1,221 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.OrderItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Incrementally maintained per-product and per-member order counters
+ * (product_sales, member_order_stats)
+ *
+ * Counters are updated in the caller's transaction. Each update adds a delta to one of
+ * {@code order.aggregates.stripes} rows of the key picked at random, so concurrent orders for the
+ * same hot product rarely wait on the same row lock. Readers sum the stripes of one key
+ * (see {@link OrderItemRepository#getTotalQuantityByProductId(Long)}), {@link #compactProductSales(int)}
+ * and {@link #compactMemberStats(int)} fold them back into stripe 0.
+ */
+@Repository
+public class OrderAggregateRepository {
+
+    private static final String PG_PRODUCT_UPSERT = """
+            INSERT INTO product_sales (product_id, stripe, order_item_count, total_quantity, cancelled_quantity)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (product_id, stripe) DO UPDATE SET
+                order_item_count = product_sales.order_item_count + EXCLUDED.order_item_count,
+                total_quantity = product_sales.total_quantity + EXCLUDED.total_quantity,
+                cancelled_quantity = product_sales.cancelled_quantity + EXCLUDED.cancelled_quantity
+            """;
+
+    private static final String MERGE_PRODUCT_UPSERT = """
+            MERGE INTO product_sales t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS SMALLINT), CAST(? AS BIGINT), CAST(? AS BIGINT),
+                           CAST(? AS BIGINT)))
+                AS s (product_id, stripe, order_item_count, total_quantity, cancelled_quantity)
+            ON t.product_id = s.product_id AND t.stripe = s.stripe
+            WHEN MATCHED THEN UPDATE SET
+                order_item_count = t.order_item_count + s.order_item_count,
+                total_quantity = t.total_quantity + s.total_quantity,
+                cancelled_quantity = t.cancelled_quantity + s.cancelled_quantity
+            WHEN NOT MATCHED THEN INSERT (product_id, stripe, order_item_count, total_quantity, cancelled_quantity)
+                VALUES (s.product_id, s.stripe, s.order_item_count, s.total_quantity, s.cancelled_quantity)
+            """;
+
+    private static final String PG_MEMBER_UPSERT = """
+            INSERT INTO member_order_stats (member_id, stripe, order_count, cancelled_count)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (member_id, stripe) DO UPDATE SET
+                order_count = member_order_stats.order_count + EXCLUDED.order_count,
+                cancelled_count = member_order_stats.cancelled_count + EXCLUDED.cancelled_count
+            """;
+
+    private static final String MERGE_MEMBER_UPSERT = """
+            MERGE INTO member_order_stats t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS SMALLINT), CAST(? AS BIGINT), CAST(? AS BIGINT)))
+                AS s (member_id, stripe, order_count, cancelled_count)
+            ON t.member_id = s.member_id AND t.stripe = s.stripe
+            WHEN MATCHED THEN UPDATE SET
+                order_count = t.order_count + s.order_count,
+                cancelled_count = t.cancelled_count + s.cancelled_count
+            WHEN NOT MATCHED THEN INSERT (member_id, stripe, order_count, cancelled_count)
+                VALUES (s.member_id, s.stripe, s.order_count, s.cancelled_count)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String productUpsertSql;
+    private final String memberUpsertSql;
+    private final int stripes;
+
+    public OrderAggregateRepository(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver,
+                                    @Value("${order.aggregates.stripes:8}") int stripes) {
+        this.jdbcTemplate = jdbcTemplate;
+        boolean postgres = databaseDriver == DatabaseDriver.POSTGRESQL;
+        this.productUpsertSql = postgres ? PG_PRODUCT_UPSERT : MERGE_PRODUCT_UPSERT;
+        this.memberUpsertSql = postgres ? PG_MEMBER_UPSERT : MERGE_MEMBER_UPSERT;
+        this.stripes = Math.max(1, stripes);
+    }
+
+    /**
+     * Count a newly created order and its items
+     */
+    public void recordOrder(Long memberId, Collection<OrderItem> items) {
+        int stripe = nextStripe();
+        jdbcTemplate.update(memberUpsertSql, memberId, stripe, 1L, 0L);
+        upsertProducts(stripe, items, false);
+    }
+
+    /**
+     * Count a newly created order from per-product totals, for orders too large to hold their items
+     *
+     * @param productTotals {item count, total quantity} keyed by product ID
+     */
+    public void recordOrderTotals(Long memberId, Map<Long, long[]> productTotals) {
+        int stripe = nextStripe();
+        jdbcTemplate.update(memberUpsertSql, memberId, stripe, 1L, 0L);
+        upsertProductTotals(stripe, new TreeMap<>(productTotals), false);
+    }
+
+    /**
+     * Count the cancellation of an order previously passed to {@link #recordOrder}
+     */
+    public void recordCancellation(Long memberId, Collection<OrderItem> items) {
+        int stripe = nextStripe();
+        jdbcTemplate.update(memberUpsertSql, memberId, stripe, 0L, 1L);
+        upsertProducts(stripe, items, true);
+    }
+
+    /**
+     * Count the cancellation of many orders at once, for cancellations that never load the items
+     *
+     * @param ordersByMember number of cancelled orders keyed by member ID
+     * @param productTotals {item count, total quantity} of the cancelled items keyed by product ID
+     */
+    public void recordCancellationTotals(Map<Long, Long> ordersByMember, Map<Long, long[]> productTotals) {
+        int stripe = nextStripe();
+        List<Object[]> upserts = new ArrayList<>(ordersByMember.size());
+        new TreeMap<>(ordersByMember).forEach((memberId, count) -> upserts.add(new Object[]{memberId, stripe, 0L, count}));
+        jdbcTemplate.batchUpdate(memberUpsertSql, upserts);
+        upsertProductTotals(stripe, new TreeMap<>(productTotals), true);
+    }
+
+    /**
+     * Fold up to {@code limit} non-zero stripe rows of product_sales into stripe 0
+     * Rows are locked while read so no delta added concurrently can be lost.
+     *
+     * @return number of stripe rows folded
+     */
+    public int compactProductSales(int limit) {
+        List<long[]> rows = jdbcTemplate.query("""
+                        SELECT product_id, stripe, order_item_count, total_quantity, cancelled_quantity
+                        FROM product_sales WHERE stripe <> 0
+                        ORDER BY product_id, stripe
+                        FETCH FIRST ? ROWS ONLY FOR UPDATE
+                        """,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)},
+                limit);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, long[]> sums = new TreeMap<>();
+        for (long[] row : rows) {
+            long[] sum = sums.computeIfAbsent(row[0], key -> new long[3]);
+            sum[0] += row[2];
+            sum[1] += row[3];
+            sum[2] += row[4];
+        }
+
+        List<Object[]> upserts = new ArrayList<>(sums.size());
+        sums.forEach((productId, sum) -> upserts.add(new Object[]{productId, 0, sum[0], sum[1], sum[2]}));
+        jdbcTemplate.batchUpdate(productUpsertSql, upserts);
+
+        jdbcTemplate.batchUpdate("DELETE FROM product_sales WHERE product_id = ? AND stripe = ?",
+                rows.stream().map(row -> new Object[]{row[0], row[1]}).toList());
+        return rows.size();
+    }
+
+    /**
+     * Fold up to {@code limit} non-zero stripe rows of member_order_stats into stripe 0
+     *
+     * @return number of stripe rows folded
+     */
+    public int compactMemberStats(int limit) {
+        List<long[]> rows = jdbcTemplate.query("""
+                        SELECT member_id, stripe, order_count, cancelled_count
+                        FROM member_order_stats WHERE stripe <> 0
+                        ORDER BY member_id, stripe
+                        FETCH FIRST ? ROWS ONLY FOR UPDATE
+                        """,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)},
+                limit);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, long[]> sums = new TreeMap<>();
+        for (long[] row : rows) {
+            long[] sum = sums.computeIfAbsent(row[0], key -> new long[2]);
+            sum[0] += row[2];
+            sum[1] += row[3];
+        }
+
+        List<Object[]> upserts = new ArrayList<>(sums.size());
+        sums.forEach((memberId, sum) -> upserts.add(new Object[]{memberId, 0, sum[0], sum[1]}));
+        jdbcTemplate.batchUpdate(memberUpsertSql, upserts);
+
+        jdbcTemplate.batchUpdate("DELETE FROM member_order_stats WHERE member_id = ? AND stripe = ?",
+                rows.stream().map(row -> new Object[]{row[0], row[1]}).toList());
+        return rows.size();
+    }
+
+    private void upsertProducts(int stripe, Collection<OrderItem> items, boolean cancelled) {
+        // Combine lines of the same product and lock rows in product order to avoid deadlocks
+        Map<Long, long[]> byProduct = new TreeMap<>();
+        for (OrderItem item : items) {
+            long[] sum = byProduct.computeIfAbsent(item.getProductId(), key -> new long[2]);
+            sum[0]++;
+            sum[1] += item.getQuantity();
+        }
+        upsertProductTotals(stripe, byProduct, cancelled);
+    }
+
+    private void upsertProductTotals(int stripe, Map<Long, long[]> byProduct, boolean cancelled) {
+        List<Object[]> upserts = new ArrayList<>(byProduct.size());
+        byProduct.forEach((productId, sum) -> upserts.add(cancelled
+                ? new Object[]{productId, stripe, 0L, 0L, sum[1]}
+                : new Object[]{productId, stripe, sum[0], sum[1], 0L}));
+        jdbcTemplate.batchUpdate(productUpsertSql, upserts);
+    }
+
+    private int nextStripe() {
+        return stripes == 1 ? 0 : ThreadLocalRandom.current().nextInt(stripes);
+    }
+}
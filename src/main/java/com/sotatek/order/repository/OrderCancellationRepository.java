@@ -0,0 +1,131 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based cancellation of CONFIRMED orders (POST /api/orders/cancel)
+ * Orders and items are changed and summed with plain SQL, no entity is loaded.
+ */
+@Repository
+public class OrderCancellationRepository {
+
+    // PostgreSQL returns the updated rows directly, H2 through a data change delta table
+    private static final String PG_CANCEL_SQL = """
+            UPDATE orders SET status = 'CANCELLED', version = version + 1, updated_at = ?
+            WHERE id IN (%s) AND status = 'CONFIRMED'
+            RETURNING id, member_id, payment_method, total_amount
+            """;
+
+    private static final String FINAL_TABLE_CANCEL_SQL = """
+            SELECT id, member_id, payment_method, total_amount FROM FINAL TABLE (
+                UPDATE orders SET status = 'CANCELLED', version = version + 1, updated_at = ?
+                WHERE id IN (%s) AND status = 'CONFIRMED')
+            """;
+
+    private static final String SUM_ITEMS_SQL = """
+            SELECT product_id, COUNT(*), SUM(quantity)
+            FROM order_items
+            WHERE order_id IN (%s)
+            GROUP BY product_id
+            """;
+
+    private static final RowMapper<CancelledOrder> ROW_MAPPER = (rs, rowNum) -> {
+        String paymentMethod = rs.getString("payment_method");
+        return new CancelledOrder(
+                rs.getLong("id"),
+                rs.getLong("member_id"),
+                paymentMethod == null ? null : PaymentMethod.valueOf(paymentMethod),
+                rs.getBigDecimal("total_amount"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String cancelSql;
+
+    public OrderCancellationRepository(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cancelSql = databaseDriver == DatabaseDriver.POSTGRESQL ? PG_CANCEL_SQL : FINAL_TABLE_CANCEL_SQL;
+    }
+
+    /**
+     * Cancel the CONFIRMED orders among the IDs with one UPDATE, in the caller's transaction
+     *
+     * @return the orders cancelled, orders in any other status or unknown are left out
+     */
+    public List<CancelledOrder> cancelConfirmed(Collection<Long> ids, LocalDateTime now) {
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(now));
+        args.addAll(ids);
+        return jdbcTemplate.query(cancelSql.formatted(placeholders(ids.size())), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * Next page of CONFIRMED orders matching the filter, in ID order
+     * Null criteria are left out of the query.
+     *
+     * @param afterId the last ID of the previous page, 0 for the first page
+     */
+    public List<Long> findConfirmedIds(Long memberId, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                       long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT id FROM orders WHERE status = 'CONFIRMED' AND id > ?");
+        List<Object> args = new ArrayList<>(5);
+        args.add(afterId);
+        if (memberId != null) {
+            sql.append(" AND member_id = ?");
+            args.add(memberId);
+        }
+        if (createdFrom != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(createdFrom));
+        }
+        if (createdTo != null) {
+            sql.append(" AND created_at < ?");
+            args.add(Timestamp.valueOf(createdTo));
+        }
+        sql.append(" ORDER BY id FETCH FIRST ? ROWS ONLY");
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    /**
+     * @return {item count, total quantity} of the orders' items keyed by product ID
+     */
+    public Map<Long, long[]> sumItemsByProduct(Collection<Long> orderIds) {
+        Map<Long, long[]> totals = new HashMap<>();
+        jdbcTemplate.query(SUM_ITEMS_SQL.formatted(placeholders(orderIds.size())),
+                rs -> {
+                    totals.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+                },
+                orderIds.toArray());
+        return totals;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Columns of a cancelled order needed to publish its status change
+     */
+    @Value
+    public static class CancelledOrder {
+        Long id;
+        Long memberId;
+        PaymentMethod paymentMethod;
+        BigDecimal totalAmount;
+    }
+}
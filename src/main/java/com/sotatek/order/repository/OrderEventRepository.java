@@ -0,0 +1,109 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.controller.response.OrderEventResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Data access for the order_events append log
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderEventRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO order_events (order_id, member_id, previous_status, status, payment_method,
+                                      total_amount, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIND_AFTER_SQL = """
+            SELECT id, order_id, member_id, previous_status, status, payment_method, total_amount, occurred_at
+            FROM order_events
+            WHERE id > ?
+            ORDER BY id
+            FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final String FIND_BY_IDS_SQL = """
+            SELECT id, order_id, member_id, previous_status, status, payment_method, total_amount, occurred_at
+            FROM order_events
+            WHERE id IN (%s)
+            ORDER BY id
+            """;
+
+    private static final RowMapper<OrderEventResponse> ROW_MAPPER = (rs, rowNum) -> {
+        String previousStatus = rs.getString("previous_status");
+        String paymentMethod = rs.getString("payment_method");
+        return OrderEventResponse.builder()
+                .id(rs.getLong("id"))
+                .orderId(rs.getLong("order_id"))
+                .memberId(rs.getLong("member_id"))
+                .previousStatus(previousStatus == null ? null : OrderStatus.valueOf(previousStatus))
+                .status(OrderStatus.valueOf(rs.getString("status")))
+                .paymentMethod(paymentMethod == null ? null : PaymentMethod.valueOf(paymentMethod))
+                .totalAmount(rs.getBigDecimal("total_amount"))
+                .occurredAt(rs.getTimestamp("occurred_at").toLocalDateTime())
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Append an event in the caller's transaction
+     */
+    public void append(OrderStatusChangedEvent event) {
+        jdbcTemplate.update(INSERT_SQL,
+                event.getOrderId(),
+                event.getMemberId(),
+                event.getPreviousStatus() == null ? null : event.getPreviousStatus().name(),
+                event.getStatus().name(),
+                event.getPaymentMethod() == null ? null : event.getPaymentMethod().name(),
+                event.getTotalAmount(),
+                Timestamp.valueOf(event.getOccurredAt()));
+    }
+
+    /**
+     * @return up to {@code limit} committed events with an ID greater than {@code afterId}, in ID order
+     */
+    public List<OrderEventResponse> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * @return the committed events among {@code ids}, in ID order
+     */
+    public List<OrderEventResponse> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = FIND_BY_IDS_SQL.formatted(String.join(", ", Collections.nCopies(ids.size(), "?")));
+        return jdbcTemplate.query(sql, ROW_MAPPER, ids.toArray());
+    }
+
+    /**
+     * @return ID of the newest committed event, 0 if the log is empty
+     */
+    public long findLatestId() {
+        Long id = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM order_events", Long.class);
+        return id == null ? 0 : id;
+    }
+
+    /**
+     * @return number of deleted events
+     */
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM order_events WHERE occurred_at < ?", Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,12 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.OrderImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for OrderImportJob entity
+ */
+@Repository
+public interface OrderImportJobRepository extends JpaRepository<OrderImportJob, String> {
+}
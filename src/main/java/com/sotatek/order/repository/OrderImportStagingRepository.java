@@ -0,0 +1,187 @@
+package com.sotatek.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+
+/**
+ * Data access for the bulk import staging table (PostgreSQL only)
+ * Rows are bulk-loaded with COPY and merged into orders/order_items with set-based statements
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderImportStagingRepository {
+
+    /**
+     * Column order of the CSV rows passed to {@link #copyIn(String)}
+     */
+    public static final String STAGING_COLUMNS = "job_id, line_no, order_id, member_id, member_name, status, " +
+            "payment_method, payment_id, transaction_id, created_at, updated_at, " +
+            "product_id, product_name, unit_price, quantity";
+
+    private static final String COPY_SQL =
+            "COPY order_import_staging (" + STAGING_COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Insert orders first seen in the id range, then the items of exactly those orders.
+     * Orders that already exist are skipped, which makes a re-run after failure idempotent.
+     * The product_sales / member_order_stats counters and order_rollups are bumped for the inserted rows
+     * in the same statement; only CONFIRMED and CANCELLED orders are counted, as the live writers do.
+     * Like the V6 backfill, an order is rolled up as CONFIRMED at its creation time and, once cancelled,
+     * again as CANCELLED at its last update.
+     */
+    private static final String MERGE_SQL = """
+            WITH staged AS (
+                SELECT DISTINCT ON (order_id) order_id, member_id, member_name, status, payment_method,
+                       payment_id, transaction_id, created_at, updated_at
+                FROM order_import_staging
+                WHERE job_id = ? AND order_id BETWEEN ? AND ?
+                ORDER BY order_id, line_no
+            ), totals AS (
+                SELECT order_id, SUM(unit_price * quantity) AS total_amount
+                FROM order_import_staging
+                WHERE job_id = ? AND order_id BETWEEN ? AND ?
+                GROUP BY order_id
+            ), inserted AS (
+                INSERT INTO orders (id, member_id, member_name, status, total_amount, payment_method,
+                                    payment_id, transaction_id, created_at, updated_at)
+                SELECT s.order_id, s.member_id, s.member_name, s.status, t.total_amount, s.payment_method,
+                       s.payment_id, s.transaction_id, COALESCE(s.created_at, now()),
+                       COALESCE(s.updated_at, s.created_at, now())
+                FROM staged s
+                JOIN totals t ON t.order_id = s.order_id
+                WHERE NOT EXISTS (SELECT 1 FROM order_keys k WHERE k.id = s.order_id)
+                RETURNING id, member_id, status, payment_method, total_amount, created_at, updated_at
+            ), inserted_items AS (
+                INSERT INTO order_items (order_id, product_id, product_name, unit_price, quantity, subtotal)
+                SELECT st.order_id, st.product_id, st.product_name, st.unit_price, st.quantity,
+                       st.unit_price * st.quantity
+                FROM order_import_staging st
+                JOIN inserted i ON i.id = st.order_id
+                WHERE st.job_id = ?
+                ORDER BY st.order_id, st.line_no
+                RETURNING order_id, product_id, quantity
+            ), product_totals AS (
+                INSERT INTO product_sales (product_id, stripe, order_item_count, total_quantity, cancelled_quantity)
+                SELECT ii.product_id, 0, count(*), sum(ii.quantity),
+                       sum(CASE WHEN i.status = 'CANCELLED' THEN ii.quantity ELSE 0 END)
+                FROM inserted_items ii
+                JOIN inserted i ON i.id = ii.order_id
+                WHERE i.status IN ('CONFIRMED', 'CANCELLED')
+                GROUP BY ii.product_id
+                ON CONFLICT (product_id, stripe) DO UPDATE SET
+                    order_item_count = product_sales.order_item_count + EXCLUDED.order_item_count,
+                    total_quantity = product_sales.total_quantity + EXCLUDED.total_quantity,
+                    cancelled_quantity = product_sales.cancelled_quantity + EXCLUDED.cancelled_quantity
+            ), member_totals AS (
+                INSERT INTO member_order_stats (member_id, stripe, order_count, cancelled_count)
+                SELECT member_id, 0, count(*), count(*) FILTER (WHERE status = 'CANCELLED')
+                FROM inserted
+                WHERE status IN ('CONFIRMED', 'CANCELLED')
+                GROUP BY member_id
+                ON CONFLICT (member_id, stripe) DO UPDATE SET
+                    order_count = member_order_stats.order_count + EXCLUDED.order_count,
+                    cancelled_count = member_order_stats.cancelled_count + EXCLUDED.cancelled_count
+            ), rollup_events AS (
+                SELECT created_at AS occurred_at, 'CONFIRMED' AS status,
+                       COALESCE(payment_method, 'NONE') AS payment_method, total_amount
+                FROM inserted
+                WHERE status IN ('CONFIRMED', 'CANCELLED')
+                UNION ALL
+                SELECT COALESCE(updated_at, created_at), status, COALESCE(payment_method, 'NONE'), total_amount
+                FROM inserted
+                WHERE status = 'CANCELLED'
+            ), rollups AS (
+                INSERT INTO order_rollups (granularity, bucket_start, status, payment_method, order_count, revenue)
+                SELECT g.granularity, date_trunc(g.unit, e.occurred_at), e.status, e.payment_method,
+                       count(*), sum(e.total_amount)
+                FROM rollup_events e
+                CROSS JOIN (VALUES ('MINUTE', 'minute'), ('HOUR', 'hour'), ('DAY', 'day')) AS g (granularity, unit)
+                GROUP BY g.granularity, date_trunc(g.unit, e.occurred_at), e.status, e.payment_method
+                ON CONFLICT (granularity, bucket_start, status, payment_method) DO UPDATE SET
+                    order_count = order_rollups.order_count + EXCLUDED.order_count,
+                    revenue = order_rollups.revenue + EXCLUDED.revenue
+            )
+            SELECT (SELECT count(*) FROM inserted) AS orders_merged,
+                   (SELECT count(*) FROM inserted_items) AS items_merged
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Stream CSV rows into the staging table with COPY on the current transaction's connection
+     *
+     * @param csvRows rows in {@link #STAGING_COLUMNS} order, one per line
+     * @return number of rows copied
+     */
+    public long copyIn(String csvRows) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(csvRows));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    /**
+     * @param jobId the import job ID
+     * @return smallest and largest staged order ID, or null if nothing is staged
+     */
+    public long[] findOrderIdRange(String jobId) {
+        return jdbcTemplate.query(
+                "SELECT MIN(order_id), MAX(order_id) FROM order_import_staging WHERE job_id = ?",
+                rs -> {
+                    rs.next();
+                    long min = rs.getLong(1);
+                    return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+                },
+                jobId);
+    }
+
+    /**
+     * @param jobId the import job ID
+     * @return number of staged rows of the job
+     */
+    public long countStaged(String jobId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_import_staging WHERE job_id = ?", Long.class, jobId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Merge staged orders with IDs in [fromOrderId, toOrderId] into the live tables
+     *
+     * @return number of merged orders and items
+     */
+    public long[] mergeRange(String jobId, long fromOrderId, long toOrderId) {
+        return jdbcTemplate.queryForObject(MERGE_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("orders_merged"), rs.getLong("items_merged")},
+                jobId, fromOrderId, toOrderId, jobId, fromOrderId, toOrderId, jobId);
+    }
+
+    /**
+     * Move orders_id_seq past the IDs about to be imported, before they are merged, so orders created
+     * meanwhile never draw one of them. The sequence only moves forward.
+     */
+    public void reserveOrderIds(long maxOrderId) {
+        jdbcTemplate.queryForList("SELECT setval('orders_id_seq', ?) FROM orders_id_seq WHERE last_value < ?",
+                Long.class, maxOrderId, maxOrderId);
+    }
+
+    /**
+     * @param jobId the import job ID
+     * @return number of deleted staging rows
+     */
+    public int deleteStaged(String jobId) {
+        return jdbcTemplate.update("DELETE FROM order_import_staging WHERE job_id = ?", jobId);
+    }
+}
@@ -0,0 +1,105 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.Order;
+import com.sotatek.order.domain.OrderItem;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-write insert of a complete order for payment-first creation ({@code order.creation.payment-first})
+ *
+ * The ID is taken from orders_id_seq before the order exists, so it can be sent to Payment Service
+ * first. The order row is then inserted once in its final status, and its items with one JDBC batch.
+ */
+@Repository
+public class OrderInsertRepository {
+
+    private static final String PG_NEXT_ID_SQL = "SELECT nextval('orders_id_seq')";
+
+    private static final String NEXT_ID_SQL = "SELECT NEXT VALUE FOR orders_id_seq";
+
+    private static final String INSERT_ORDER_SQL = """
+            INSERT INTO orders (id, member_id, member_name, status, total_amount, payment_method,
+                                payment_id, transaction_id, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String INSERT_ITEM_SQL = """
+            INSERT INTO order_items (order_id, product_id, product_name, unit_price, quantity, subtotal)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextIdSql;
+
+    public OrderInsertRepository(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextIdSql = databaseDriver == DatabaseDriver.POSTGRESQL ? PG_NEXT_ID_SQL : NEXT_ID_SQL;
+    }
+
+    /**
+     * Allocate an order ID, never handed out twice even if the order is not inserted in the end
+     */
+    public long nextId() {
+        return jdbcTemplate.queryForObject(nextIdSql, Long.class);
+    }
+
+    /**
+     * Insert the order, with the ID from {@link #nextId()}, and its items
+     * Timestamps and version are set on the order, generated IDs on the items.
+     */
+    public void insert(Order order, LocalDateTime now) {
+        order.setCreatedAt(now);
+        order.setUpdatedAt(now);
+        order.setVersion(0L);
+        jdbcTemplate.update(INSERT_ORDER_SQL,
+                order.getId(),
+                order.getMemberId(),
+                order.getMemberName(),
+                order.getStatus().name(),
+                order.getTotalAmount(),
+                order.getPaymentMethod() == null ? null : order.getPaymentMethod().name(),
+                order.getPaymentId(),
+                order.getTransactionId(),
+                Timestamp.valueOf(now),
+                Timestamp.valueOf(now));
+
+        List<OrderItem> items = order.getItems();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_ITEM_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OrderItem item = items.get(i);
+                        ps.setLong(1, order.getId());
+                        ps.setLong(2, item.getProductId());
+                        ps.setString(3, item.getProductName());
+                        ps.setBigDecimal(4, item.getUnitPrice());
+                        ps.setInt(5, item.getQuantity());
+                        ps.setBigDecimal(6, item.getSubtotal());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < generated.size() && i < items.size(); i++) {
+            items.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.sotatek.order.repository;
 
 import com.sotatek.order.domain.OrderItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,6 +27,15 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      */
     List<OrderItem> findByOrderId(Long orderId);
 
+    /**
+     * Find all order items for a set of orders in a single query
+     * Used to load items for a whole page of orders without N+1 lazy loads
+     *
+     * @param orderIds the order IDs
+     * @return list of order items
+     */
+    List<OrderItem> findByOrderIdIn(Collection<Long> orderIds);
+
     /**
      * Find all order items by product ID
      * Useful for analyzing which orders contain a specific product
@@ -33,6 +45,21 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      */
     List<OrderItem> findByProductId(Long productId);
 
+    /**
+     * Find the products a member ordered since a date, most recently ordered first
+     * Used to predict what the member is about to order again
+     *
+     * @param memberId the member ID
+     * @param since    only orders created at or after this time
+     * @param pageable the number of products to return
+     * @return distinct product IDs
+     */
+    @Query("SELECT i.productId FROM OrderItem i WHERE i.order.memberId = :memberId AND i.order.createdAt >= :since " +
+           "GROUP BY i.productId ORDER BY MAX(i.order.createdAt) DESC")
+    List<Long> findRecentProductIdsByMemberId(@Param("memberId") Long memberId,
+                                              @Param("since") LocalDateTime since,
+                                              Pageable pageable);
+
     /**
      * Count order items by order ID
      *
@@ -50,18 +77,23 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     /**
      * Check if any order items exist for a specific product
+     * Reads the product_sales aggregate instead of scanning order_items
      *
      * @param productId the product ID
      * @return true if items exist, false otherwise
      */
-    boolean existsByProductId(Long productId);
+    @Query(value = "SELECT COALESCE(SUM(order_item_count), 0) > 0 FROM product_sales WHERE product_id = :productId",
+            nativeQuery = true)
+    boolean existsByProductId(@Param("productId") Long productId);
 
     /**
      * Get total quantity ordered for a specific product
+     * Reads the product_sales aggregate instead of scanning order_items
      *
      * @param productId the product ID
      * @return total quantity across all orders
      */
-    @Query("SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi WHERE oi.productId = :productId")
+    @Query(value = "SELECT COALESCE(SUM(total_quantity), 0) FROM product_sales WHERE product_id = :productId",
+            nativeQuery = true)
     Long getTotalQuantityByProductId(@Param("productId") Long productId);
 }
@@ -0,0 +1,84 @@
+package com.sotatek.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintenance of the monthly orders partitions (PostgreSQL only)
+ * Thin wrapper around the functions created by the V4 partitioning migration.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderPartitionRepository {
+
+    /**
+     * Prefix of monthly partition names, followed by {@code yyyy_MM}
+     */
+    public static final String PARTITION_PREFIX = "orders_p";
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'orders' AND c.relname LIKE 'orders\\_p%'
+            ORDER BY c.relname
+            """;
+
+    private static final String HAS_BRIN_SQL =
+            "SELECT EXISTS (SELECT 1 FROM pg_indexes WHERE tablename = ? AND indexname = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Serialize maintenance across instances for the current transaction
+     *
+     * @return true if this instance holds the lock, false if another one is running maintenance
+     */
+    public boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('orders_partition_maintenance'))", Boolean.class));
+    }
+
+    /**
+     * Create the partition for the month containing the given date if it does not exist
+     *
+     * @return the partition name
+     */
+    public String createPartition(LocalDate month) {
+        return jdbcTemplate.queryForObject("SELECT create_orders_partition(?)", String.class, month);
+    }
+
+    /**
+     * @return names of the attached monthly partitions, oldest first
+     */
+    public List<String> findPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+    }
+
+    public boolean hasBrinIndex(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                HAS_BRIN_SQL, Boolean.class, partition, partition + "_created_at_brin"));
+    }
+
+    /**
+     * Replace the created_at btree of a partition with a BRIN index
+     */
+    public void convertToBrin(String partition) {
+        jdbcTemplate.queryForObject("SELECT brin_orders_partition(?)", Object.class, partition);
+    }
+
+    /**
+     * Detach a partition into the order_archive schema and move its order items along
+     *
+     * @return number of order items moved
+     */
+    public long archivePartition(String partition) {
+        Long moved = jdbcTemplate.queryForObject("SELECT archive_orders_partition(?)", Long.class, partition);
+        return moved == null ? 0 : moved;
+    }
+}
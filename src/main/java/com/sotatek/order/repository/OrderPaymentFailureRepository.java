@@ -0,0 +1,38 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Failure log of payment-first creation: one row per failed payment instead of a PENDING order
+ */
+@Repository
+public class OrderPaymentFailureRepository {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO order_payment_failures (order_id, member_id, payment_method, amount, reason, failed_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderPaymentFailureRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void record(Order order, String reason, LocalDateTime failedAt) {
+        jdbcTemplate.update(INSERT_SQL,
+                order.getId(),
+                order.getMemberId(),
+                order.getPaymentMethod() == null ? null : order.getPaymentMethod().name(),
+                order.getTotalAmount(),
+                reason == null || reason.length() <= MAX_REASON_LENGTH ? reason : reason.substring(0, MAX_REASON_LENGTH),
+                Timestamp.valueOf(failedAt));
+    }
+}
@@ -0,0 +1,49 @@
+package com.sotatek.order.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Used quote tokens, keyed by quote ID, so a quote creates at most one order
+ */
+@Repository
+public class OrderQuoteRedemptionRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO order_quote_redemptions (quote_id, expires_at, redeemed_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM order_quote_redemptions WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderQuoteRedemptionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record the quote as used, in the caller's transaction
+     *
+     * @return false if the quote was used already
+     */
+    public boolean redeem(String quoteId, Instant expiresAt, Instant now) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, quoteId, Timestamp.from(expiresAt), Timestamp.from(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Forget quotes expired before {@code cutoff}, their tokens are rejected as expired anyway
+     */
+    public int deleteExpired(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(cutoff));
+    }
+}
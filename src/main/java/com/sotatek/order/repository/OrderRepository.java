@@ -2,31 +2,73 @@ package com.sotatek.order.repository;
 
 import com.sotatek.order.domain.Order;
 import com.sotatek.order.domain.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Order entity
  * Provides CRUD operations and custom queries
+ *
+ * Lookups by ID also match created_at through {@link com.sotatek.order.domain.OrderKey}, so a
+ * partitioned orders table is only probed in the partition holding each order.
  */
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    /**
+     * Find an order by ID, pruned to its partition
+     *
+     * @param id the order ID
+     * @return Optional containing the order, or empty if not found
+     */
+    @Override
+    @Query("SELECT o FROM Order o WHERE o.id = :id " +
+            "AND o.createdAt = (SELECT k.createdAt FROM OrderKey k WHERE k.id = :id)")
+    Optional<Order> findById(@Param("id") Long id);
+
     /**
      * Find an order by ID with its items fetched eagerly to avoid N+1 problem
      *
      * @param id the order ID
      * @return Optional containing the order with items, or empty if not found
      */
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id = :id")
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id = :id " +
+            "AND o.createdAt = (SELECT k.createdAt FROM OrderKey k WHERE k.id = :id)")
     Optional<Order> findByIdWithItems(@Param("id") Long id);
 
+    /**
+     * Find a set of orders by ID, each pruned to its partition
+     *
+     * @param ids the order IDs
+     * @return the orders that exist, items are not fetched
+     */
+    @Query("SELECT o FROM Order o JOIN OrderKey k ON k.id = o.id AND k.createdAt = o.createdAt WHERE k.id IN :ids")
+    List<Order> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the status columns of a set of orders in a single query
+     * Only id, status and updated_at are selected and created_at is joined on, so the covering
+     * idx_orders_id_status index answers it with an index-only scan
+     *
+     * @param ids the order IDs
+     * @return status views of the orders that exist, in no particular order
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.updatedAt AS updatedAt FROM Order o " +
+            "JOIN OrderKey k ON k.id = o.id AND k.createdAt = o.createdAt WHERE k.id IN :ids")
+    List<OrderStatusView> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Find all orders by member ID with pagination
      *
@@ -57,11 +99,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
      * Count orders by member ID
+     * Reads the member_order_stats aggregate instead of scanning orders
      *
      * @param memberId the member ID
      * @return count of orders
      */
-    long countByMemberId(Long memberId);
+    @Query(value = "SELECT COALESCE(SUM(order_count), 0) FROM member_order_stats WHERE member_id = :memberId",
+            nativeQuery = true)
+    long countByMemberId(@Param("memberId") Long memberId);
 
     /**
      * Count orders by status
@@ -70,4 +115,21 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return count of orders
      */
     long countByStatus(OrderStatus status);
+
+    /**
+     * Stream orders matching the optional filters in ID order
+     * Backed by a forward-only cursor with a tuned fetch size, so rows are pulled from the database
+     * as the stream is consumed. Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param memberId optional member ID filter
+     * @param status optional order status filter
+     * @return stream of orders, items are not fetched
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o WHERE (:memberId IS NULL OR o.memberId = :memberId) " +
+            "AND (:status IS NULL OR o.status = :status) ORDER BY o.id")
+    Stream<Order> streamForExport(@Param("memberId") Long memberId, @Param("status") OrderStatus status);
 }
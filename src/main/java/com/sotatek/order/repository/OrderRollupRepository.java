@@ -0,0 +1,91 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.controller.response.OrderStatsResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.domain.RollupGranularity;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data access for the order_rollups table
+ */
+@Repository
+public class OrderRollupRepository {
+
+    /**
+     * Stored in payment_method for orders without one
+     */
+    public static final String NO_PAYMENT_METHOD = "NONE";
+
+    private static final String PG_UPSERT = """
+            INSERT INTO order_rollups (granularity, bucket_start, status, payment_method, order_count, revenue)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (granularity, bucket_start, status, payment_method) DO UPDATE SET
+                order_count = order_rollups.order_count + EXCLUDED.order_count,
+                revenue = order_rollups.revenue + EXCLUDED.revenue
+            """;
+
+    private static final String MERGE_UPSERT = """
+            MERGE INTO order_rollups t
+            USING (VALUES (CAST(? AS VARCHAR(10)), CAST(? AS TIMESTAMP), CAST(? AS VARCHAR(50)),
+                           CAST(? AS VARCHAR(50)), CAST(? AS BIGINT), CAST(? AS NUMERIC(19, 2))))
+                AS s (granularity, bucket_start, status, payment_method, order_count, revenue)
+            ON t.granularity = s.granularity AND t.bucket_start = s.bucket_start
+                AND t.status = s.status AND t.payment_method = s.payment_method
+            WHEN MATCHED THEN UPDATE SET
+                order_count = t.order_count + s.order_count,
+                revenue = t.revenue + s.revenue
+            WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, status, payment_method, order_count, revenue)
+                VALUES (s.granularity, s.bucket_start, s.status, s.payment_method, s.order_count, s.revenue)
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT bucket_start, status, payment_method, order_count, revenue
+            FROM order_rollups
+            WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?
+            ORDER BY bucket_start, status, payment_method
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public OrderRollupRepository(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = databaseDriver == DatabaseDriver.POSTGRESQL ? PG_UPSERT : MERGE_UPSERT;
+    }
+
+    /**
+     * Add counts and revenue to existing buckets, creating missing ones
+     *
+     * @param rows granularity, bucket start, status, payment method, order count, revenue
+     */
+    public void addAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(upsertSql, rows);
+    }
+
+    /**
+     * @return buckets starting in [from, to), oldest first
+     */
+    public List<OrderStatsResponse.Bucket> findBuckets(RollupGranularity granularity,
+                                                       LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> {
+                    String paymentMethod = rs.getString("payment_method");
+                    return OrderStatsResponse.Bucket.builder()
+                            .bucketStart(rs.getTimestamp("bucket_start").toLocalDateTime())
+                            .status(OrderStatus.valueOf(rs.getString("status")))
+                            .paymentMethod(NO_PAYMENT_METHOD.equals(paymentMethod)
+                                    ? null : PaymentMethod.valueOf(paymentMethod))
+                            .orderCount(rs.getLong("order_count"))
+                            .revenue(rs.getBigDecimal("revenue"))
+                            .build();
+                },
+                granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+}
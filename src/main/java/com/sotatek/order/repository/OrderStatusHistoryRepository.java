@@ -0,0 +1,70 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.controller.response.OrderHistoryResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Data access for the order_status_history audit trail
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusHistoryRepository {
+
+    /**
+     * Bind parameters per row, a statement may bind at most 32767 (PostgreSQL protocol limit)
+     */
+    public static final int COLUMNS = 4;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_status_history (order_id, previous_status, status, changed_at) VALUES ";
+
+    private static final String FIND_BY_ORDER_SQL = """
+            SELECT previous_status, status, changed_at
+            FROM order_status_history
+            WHERE order_id = ?
+            ORDER BY changed_at, id
+            """;
+
+    private static final RowMapper<OrderHistoryResponse.Entry> ROW_MAPPER = (rs, rowNum) -> {
+        String previousStatus = rs.getString("previous_status");
+        return OrderHistoryResponse.Entry.builder()
+                .previousStatus(previousStatus == null ? null : OrderStatus.valueOf(previousStatus))
+                .status(OrderStatus.valueOf(rs.getString("status")))
+                .changedAt(rs.getTimestamp("changed_at").toLocalDateTime())
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the status changes with one multi-row INSERT, in its own auto-committed statement
+     */
+    public void insertAll(List<OrderStatusChangedEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL.length() + events.size() * 16).append(INSERT_SQL);
+        Object[] args = new Object[events.size() * COLUMNS];
+        int i = 0;
+        for (OrderStatusChangedEvent event : events) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args[i++] = event.getOrderId();
+            args[i++] = event.getPreviousStatus() == null ? null : event.getPreviousStatus().name();
+            args[i++] = event.getStatus().name();
+            args[i++] = Timestamp.valueOf(event.getOccurredAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * @return status changes of the order, oldest first
+     */
+    public List<OrderHistoryResponse.Entry> findByOrderId(Long orderId) {
+        return jdbcTemplate.query(FIND_BY_ORDER_SQL, ROW_MAPPER, orderId);
+    }
+}
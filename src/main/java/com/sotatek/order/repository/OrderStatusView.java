@@ -0,0 +1,17 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the status columns of an order
+ */
+public interface OrderStatusView {
+
+    Long getId();
+
+    OrderStatus getStatus();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,119 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.Order;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Status transitions of a single order as one conditional UPDATE, without loading the entity
+ *
+ * The WHERE clause carries the allowed source statuses ({@link OrderStatus#sourcesOf}) and optionally
+ * the version the caller last read, so the check and the write are atomic. The updated row is
+ * returned by the same statement. Rows are matched on created_at from order_keys as well, so only
+ * the partition holding the order is touched.
+ */
+@Repository
+public class OrderTransitionRepository {
+
+    private static final String COLUMNS = """
+            id, member_id, member_name, status, total_amount, payment_method, payment_id, transaction_id,
+            created_at, updated_at, version""";
+
+    private static final String UPDATE_SQL = """
+            UPDATE orders SET status = ?, version = version + 1, updated_at = ?
+            WHERE id = ? AND created_at = (SELECT created_at FROM order_keys WHERE id = ?) AND status IN (%s)""";
+
+    // PostgreSQL returns the updated row directly, H2 through a data change delta table
+    private static final String PG_TRANSITION_SQL = UPDATE_SQL + "%s RETURNING " + COLUMNS;
+
+    private static final String FINAL_TABLE_TRANSITION_SQL = "SELECT " + COLUMNS + " FROM FINAL TABLE ("
+            + UPDATE_SQL + "%s)";
+
+    private static final String STATE_SQL = """
+            SELECT status, version FROM orders
+            WHERE id = ? AND created_at = (SELECT created_at FROM order_keys WHERE id = ?)""";
+
+    private static final RowMapper<Order> ROW_MAPPER = (rs, rowNum) -> {
+        String paymentMethod = rs.getString("payment_method");
+        long paymentId = rs.getLong("payment_id");
+        boolean unpaid = rs.wasNull();
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return Order.builder()
+                .id(rs.getLong("id"))
+                .memberId(rs.getLong("member_id"))
+                .memberName(rs.getString("member_name"))
+                .status(OrderStatus.valueOf(rs.getString("status")))
+                .totalAmount(rs.getBigDecimal("total_amount"))
+                .paymentMethod(paymentMethod == null ? null : PaymentMethod.valueOf(paymentMethod))
+                .paymentId(unpaid ? null : paymentId)
+                .transactionId(rs.getString("transaction_id"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime())
+                .version(rs.getLong("version"))
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String transitionSql;
+
+    public OrderTransitionRepository(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transitionSql = databaseDriver == DatabaseDriver.POSTGRESQL ? PG_TRANSITION_SQL : FINAL_TABLE_TRANSITION_SQL;
+    }
+
+    /**
+     * Move the order to {@code target} if it is in one of the {@code sources} statuses, and at
+     * {@code expectedVersion} when given, in the caller's transaction
+     *
+     * @return the updated row, detached and without items, or empty if no row matched
+     */
+    public Optional<Order> transition(Long id, Set<OrderStatus> sources, OrderStatus target,
+                                      Long expectedVersion, LocalDateTime now) {
+        if (sources.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Object> args = new ArrayList<>(sources.size() + 5);
+        args.add(target.name());
+        args.add(Timestamp.valueOf(now));
+        args.add(id);
+        args.add(id);
+        sources.forEach(source -> args.add(source.name()));
+        String versionGuard = "";
+        if (expectedVersion != null) {
+            versionGuard = " AND version = ?";
+            args.add(expectedVersion);
+        }
+
+        String sql = transitionSql.formatted(String.join(", ", Collections.nCopies(sources.size(), "?")), versionGuard);
+        return jdbcTemplate.query(sql, ROW_MAPPER, args.toArray()).stream().findFirst();
+    }
+
+    /**
+     * Current status and version, read to explain a transition that matched no row
+     */
+    public Optional<OrderState> findState(Long id) {
+        return jdbcTemplate.query(STATE_SQL,
+                (rs, rowNum) -> new OrderState(OrderStatus.valueOf(rs.getString("status")), rs.getLong("version")),
+                id, id).stream().findFirst();
+    }
+
+    @Value
+    public static class OrderState {
+        OrderStatus status;
+        Long version;
+    }
+}
@@ -0,0 +1,213 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access to PENDING orders for the payment reconciliation job
+ * (see {@link com.sotatek.order.scheduler.PendingOrderReconciler})
+ *
+ * All queries are driven by the idx_orders_pending_updated_at index, partial on PostgreSQL.
+ * Updates match on id and created_at so PostgreSQL prunes them to a single orders partition.
+ * A page is claimed by leasing it (orders.reconciliation_lease_until) in a short transaction, so no
+ * lock is held while Payment Service is called. Confirm and expire only apply to orders still PENDING.
+ * Orders without a payment ID are not claimed for a lookup: Payment Service cannot be asked about
+ * them, and a timed out payment may still have charged the member. They are left for manual review
+ * and only expired once the review window has passed.
+ */
+@Repository
+public class PendingOrderRepository {
+
+    private static final String CLAIM_SQL = """
+            SELECT id, member_id, payment_method, total_amount, payment_id, created_at, updated_at
+            FROM orders
+            WHERE status = 'PENDING' AND updated_at < ? AND payment_id IS NOT NULL
+              AND (updated_at > ? OR (updated_at = ? AND id > ?))
+              AND (reconciliation_lease_until IS NULL OR reconciliation_lease_until < ?)
+            ORDER BY updated_at, id
+            FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final String LEASE_SQL = """
+            UPDATE orders SET reconciliation_lease_until = ?
+            WHERE id = ? AND created_at = ? AND status = 'PENDING'
+            """;
+
+    private static final String CONFIRM_SQL = """
+            UPDATE orders SET status = 'CONFIRMED', transaction_id = ?, version = version + 1, updated_at = ?,
+                reconciliation_lease_until = NULL
+            WHERE id = ? AND created_at = ? AND status = 'PENDING'
+            """;
+
+    private static final String EXPIRE_SQL = """
+            UPDATE orders SET status = 'EXPIRED', version = version + 1, updated_at = ?,
+                reconciliation_lease_until = NULL
+            WHERE id = ? AND created_at = ? AND status = 'PENDING'
+            """;
+
+    private static final String BACKLOG_SQL = """
+            SELECT COUNT(*), MIN(updated_at) FROM orders
+            WHERE status = 'PENDING' AND updated_at < ? AND payment_id IS NOT NULL
+            """;
+
+    private static final String UNPAID_CLAIM_SQL = """
+            SELECT id, member_id, payment_method, total_amount, payment_id, created_at, updated_at
+            FROM orders
+            WHERE status = 'PENDING' AND updated_at < ? AND payment_id IS NULL
+            ORDER BY updated_at, id
+            FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final String UNPAID_SQL =
+            "SELECT COUNT(*) FROM orders WHERE status = 'PENDING' AND updated_at < ? AND payment_id IS NULL";
+
+    private static final Timestamp BEGINNING = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    private static final RowMapper<PendingOrder> ROW_MAPPER = (rs, rowNum) -> {
+        String paymentMethod = rs.getString("payment_method");
+        long paymentId = rs.getLong("payment_id");
+        boolean unpaid = rs.wasNull();
+        return new PendingOrder(
+                rs.getLong("id"),
+                rs.getLong("member_id"),
+                paymentMethod == null ? null : PaymentMethod.valueOf(paymentMethod),
+                rs.getBigDecimal("total_amount"),
+                unpaid ? null : paymentId,
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String claimSql;
+    private final String unpaidClaimSql;
+
+    public PendingOrderRepository(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Instances running the job concurrently each get their own rows instead of queueing on the locks
+        String lock = databaseDriver == DatabaseDriver.POSTGRESQL ? "FOR UPDATE SKIP LOCKED" : "FOR UPDATE";
+        this.claimSql = CLAIM_SQL + lock;
+        this.unpaidClaimSql = UNPAID_CLAIM_SQL + lock;
+    }
+
+    /**
+     * Lease the next page of PENDING orders last updated before {@code staleBefore}, oldest first
+     * Orders leased by another run until after {@code now}, or locked by another claim, are skipped.
+     * Must run in a transaction, which should commit right away: the lease, not the row locks,
+     * keeps other instances off the page while its payments are looked up.
+     *
+     * @param after the last order of the previous page, or null for the first page
+     * @return up to {@code limit} orders following {@code after} in (updated_at, id) order
+     */
+    public List<PendingOrder> claimStale(LocalDateTime staleBefore, PendingOrder after, int limit,
+                                         LocalDateTime now, LocalDateTime leaseUntil) {
+        Timestamp afterUpdatedAt = after == null ? BEGINNING : Timestamp.valueOf(after.getUpdatedAt());
+        long afterId = after == null ? 0L : after.getId();
+        List<PendingOrder> orders = jdbcTemplate.query(claimSql, ROW_MAPPER, Timestamp.valueOf(staleBefore),
+                afterUpdatedAt, afterUpdatedAt, afterId, Timestamp.valueOf(now), limit);
+        if (!orders.isEmpty()) {
+            List<Object[]> args = new ArrayList<>(orders.size());
+            for (PendingOrder order : orders) {
+                args.add(new Object[]{Timestamp.valueOf(leaseUntil), order.getId(), Timestamp.valueOf(order.getCreatedAt())});
+            }
+            jdbcTemplate.batchUpdate(LEASE_SQL, args);
+        }
+        return orders;
+    }
+
+    /**
+     * Lock the oldest PENDING orders without payment ID last updated before {@code reviewBefore}
+     * Must run in the transaction that expires them.
+     */
+    public List<PendingOrder> claimUnpaid(LocalDateTime reviewBefore, int limit) {
+        return jdbcTemplate.query(unpaidClaimSql, ROW_MAPPER, Timestamp.valueOf(reviewBefore), limit);
+    }
+
+    /**
+     * Confirm paid orders in one JDBC batch
+     *
+     * @param transactionIds payment transaction ID keyed by order
+     * @return the orders confirmed, without the ones no longer PENDING
+     */
+    public List<PendingOrder> confirm(Map<PendingOrder, String> transactionIds, LocalDateTime now) {
+        List<PendingOrder> orders = new ArrayList<>(transactionIds.keySet());
+        List<Object[]> args = new ArrayList<>(orders.size());
+        for (PendingOrder order : orders) {
+            args.add(new Object[]{transactionIds.get(order), Timestamp.valueOf(now),
+                    order.getId(), Timestamp.valueOf(order.getCreatedAt())});
+        }
+        return updated(orders, jdbcTemplate.batchUpdate(CONFIRM_SQL, args));
+    }
+
+    /**
+     * Expire orders whose payment will not complete in one JDBC batch
+     *
+     * @return the orders expired, without the ones no longer PENDING
+     */
+    public List<PendingOrder> expire(List<PendingOrder> orders, LocalDateTime now) {
+        List<Object[]> args = new ArrayList<>(orders.size());
+        for (PendingOrder order : orders) {
+            args.add(new Object[]{Timestamp.valueOf(now), order.getId(), Timestamp.valueOf(order.getCreatedAt())});
+        }
+        return updated(orders, jdbcTemplate.batchUpdate(EXPIRE_SQL, args));
+    }
+
+    /**
+     * @return count and oldest updated_at of the PENDING orders with a payment ID last updated before {@code staleBefore}
+     */
+    public Backlog backlog(LocalDateTime staleBefore) {
+        return jdbcTemplate.queryForObject(BACKLOG_SQL, (rs, rowNum) -> {
+            Timestamp oldest = rs.getTimestamp(2);
+            return new Backlog(rs.getLong(1), oldest == null ? null : oldest.toLocalDateTime());
+        }, Timestamp.valueOf(staleBefore));
+    }
+
+    /**
+     * @return count of the PENDING orders last updated before {@code staleBefore} that have no payment ID
+     */
+    public long countUnpaid(LocalDateTime staleBefore) {
+        Long count = jdbcTemplate.queryForObject(UNPAID_SQL, Long.class, Timestamp.valueOf(staleBefore));
+        return count == null ? 0 : count;
+    }
+
+    private static List<PendingOrder> updated(List<PendingOrder> orders, int[] counts) {
+        List<PendingOrder> updated = new ArrayList<>(orders.size());
+        for (int i = 0; i < counts.length; i++) {
+            // SUCCESS_NO_INFO (-2) means the driver does not report the count, the row was still updated
+            if (counts[i] != 0) {
+                updated.add(orders.get(i));
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Columns of a PENDING order needed to resolve it and publish its new status
+     */
+    @Value
+    public static class PendingOrder {
+        Long id;
+        Long memberId;
+        PaymentMethod paymentMethod;
+        BigDecimal totalAmount;
+        Long paymentId;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+    }
+
+    @Value
+    public static class Backlog {
+        long size;
+        LocalDateTime oldestUpdatedAt;
+    }
+}
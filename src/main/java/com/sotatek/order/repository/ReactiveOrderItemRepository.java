@@ -0,0 +1,17 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.OrderItemRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * R2DBC repository for order items, used by the reactive profile
+ */
+public interface ReactiveOrderItemRepository extends R2dbcRepository<OrderItemRow, Long> {
+
+    Flux<OrderItemRow> findByOrderId(Long orderId);
+
+    Flux<OrderItemRow> findByOrderIdIn(Collection<Long> orderIds);
+}
@@ -0,0 +1,47 @@
+package com.sotatek.order.repository;
+
+import com.sotatek.order.domain.OrderRow;
+import com.sotatek.order.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * R2DBC repository for orders, used by the reactive profile
+ * Pages are fetched as content plus a separate count, like Spring Data JPA does.
+ * Status transitions are one conditional UPDATE, as in {@link OrderTransitionRepository}.
+ */
+public interface ReactiveOrderRepository extends R2dbcRepository<OrderRow, Long> {
+
+    Flux<OrderRow> findAllBy(Pageable pageable);
+
+    Flux<OrderRow> findByMemberId(Long memberId, Pageable pageable);
+
+    Flux<OrderRow> findByStatus(OrderStatus status, Pageable pageable);
+
+    Flux<OrderRow> findByMemberIdAndStatus(Long memberId, OrderStatus status, Pageable pageable);
+
+    Mono<Long> countByMemberId(Long memberId);
+
+    Mono<Long> countByStatus(OrderStatus status);
+
+    Mono<Long> countByMemberIdAndStatus(Long memberId, OrderStatus status);
+
+    /**
+     * Move the order to {@code target} if it is in one of the {@code sources} statuses, and at
+     * {@code version} when given
+     *
+     * @return the updated row, or empty if no row matched
+     */
+    @Query("""
+            UPDATE orders SET status = :target, version = version + 1, updated_at = :now
+            WHERE id = :id AND created_at = (SELECT created_at FROM order_keys WHERE id = :id)
+              AND status IN (:sources) AND version = COALESCE(:version, version)
+            RETURNING *""")
+    Mono<OrderRow> transition(Long id, Collection<String> sources, String target, Long version, LocalDateTime now);
+}
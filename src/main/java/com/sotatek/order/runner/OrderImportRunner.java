@@ -0,0 +1,82 @@
+package com.sotatek.order.runner;
+
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.controller.response.OrderImportResponse;
+import com.sotatek.order.service.OrderImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line entry point for bulk order imports
+ *
+ * Usage:
+ * java -jar app.jar --spring.main.web-application-type=none --order.import.file=/data/orders.csv
+ *
+ * The format is taken from {@code order.import.format} or derived from the file extension,
+ * the job ID defaults to the file name so re-running the same command resumes a failed import.
+ */
+@Component
+@ConditionalOnProperty(name = "order.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderImportRunner implements ApplicationRunner {
+
+    private final OrderImportService orderImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${order.import.file}")
+    private String file;
+
+    @Value("${order.import.format:}")
+    private String format;
+
+    @Value("${order.import.job-id:}")
+    private String jobId;
+
+    @Value("${order.import.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        String resolvedJobId = jobId.isBlank() ? path.getFileName().toString() : jobId;
+        OrderFileFormat resolvedFormat = resolveFormat(path);
+
+        log.info("Starting order import: file={}, format={}, jobId={}", path, resolvedFormat, resolvedJobId);
+
+        int exitCode;
+        try (InputStream input = Files.newInputStream(path)) {
+            OrderImportResponse result = orderImportService.importOrders(resolvedJobId, resolvedFormat, input);
+            log.info("Order import finished: {}", result);
+            exitCode = 0;
+        } catch (Exception e) {
+            log.error("Order import failed, re-run the same command to resume: jobId={}", resolvedJobId, e);
+            exitCode = 1;
+        }
+
+        if (exitOnCompletion) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+
+    private OrderFileFormat resolveFormat(Path path) {
+        if (!format.isBlank()) {
+            return OrderFileFormat.valueOf(format.toUpperCase());
+        }
+
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? OrderFileFormat.NDJSON : OrderFileFormat.CSV;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.repository.OrderAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Periodically folds the striped delta rows of product_sales and member_order_stats into stripe 0,
+ * so reads stay at one row per key for everything but the most recent activity
+ */
+@Component
+@ConditionalOnProperty(name = "order.aggregates.compaction.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OrderAggregateCompactionJob {
+
+    private final OrderAggregateRepository aggregateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.aggregates.compaction.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${order.aggregates.compaction.interval:PT1M}")
+    public void compact() {
+        int products = compactAll(() -> aggregateRepository.compactProductSales(batchSize));
+        int members = compactAll(() -> aggregateRepository.compactMemberStats(batchSize));
+
+        if (products > 0 || members > 0) {
+            log.debug("Compacted aggregate stripes: productSales={}, memberOrderStats={}", products, members);
+        }
+    }
+
+    /**
+     * Run one batch per transaction to keep row locks short, until nothing is left
+     */
+    private int compactAll(IntSupplier batch) {
+        int total = 0;
+        int compacted;
+        do {
+            Integer result = transactionTemplate.execute(status -> batch.getAsInt());
+            compacted = result == null ? 0 : result;
+            total += compacted;
+        } while (compacted == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.repository.OrderPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Keeps the monthly orders partitions in shape:
+ * - creates partitions ahead of time so inserts never land in the default partition
+ * - swaps the created_at btree for BRIN once a partition is cold
+ * - detaches partitions past the retention period into the order_archive schema
+ *
+ * Runs on startup and then daily. Only one instance does the work thanks to an advisory lock.
+ */
+@Component
+@ConditionalOnProperty(name = "order.partitioning.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderPartitionMaintenanceJob {
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final OrderPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${order.partitioning.brin-after-months:3}")
+    private int brinAfterMonths;
+
+    @Value("${order.partitioning.retention-months:24}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${order.partitioning.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!partitionRepository.tryMaintenanceLock()) {
+                log.debug("Partition maintenance already running on another instance");
+                return;
+            }
+            maintain(YearMonth.now(ZoneOffset.UTC));
+        });
+    }
+
+    void maintain(YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitionRepository.createPartition(current.plusMonths(i).atDay(1));
+        }
+
+        YearMonth brinBefore = current.minusMonths(brinAfterMonths);
+        YearMonth archiveBefore = current.minusMonths(retentionMonths);
+
+        for (String partition : partitionRepository.findPartitions()) {
+            YearMonth month = monthOf(partition);
+            if (month == null) {
+                continue;
+            }
+
+            if (month.isBefore(archiveBefore)) {
+                long items = partitionRepository.archivePartition(partition);
+                log.info("Archived orders partition {} with {} order items", partition, items);
+            } else if (month.isBefore(brinBefore) && !partitionRepository.hasBrinIndex(partition)) {
+                partitionRepository.convertToBrin(partition);
+                log.info("Converted created_at index of {} to BRIN", partition);
+            }
+        }
+    }
+
+    private static YearMonth monthOf(String partition) {
+        try {
+            return YearMonth.parse(partition.substring(OrderPartitionRepository.PARTITION_PREFIX.length()),
+                    PARTITION_MONTH);
+        } catch (RuntimeException e) {
+            log.warn("Skipping partition with unexpected name: {}", partition);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.domain.RollupGranularity;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.repository.OrderRollupRepository;
+import com.sotatek.order.util.LongKeyedSums;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Incremental order rollups
+ *
+ * Committed status changes are accumulated in memory per minute bucket, status and payment method,
+ * keyed by a packed primitive long. Every flush interval the pending minute buckets are expanded to
+ * hour and day buckets and added to order_rollups, so each instance writes a few rows per interval
+ * instead of touching the rollup table on every order. A failed flush is retried with the next one.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderRollupRecorder {
+
+    private static final int EXPECTED_KEYS = 1024;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final PaymentMethod[] PAYMENT_METHODS = PaymentMethod.values();
+
+    private final OrderRollupRepository rollupRepository;
+
+    // A lock rather than a monitor so virtual request threads never pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private LongKeyedSums pending = new LongKeyedSums(EXPECTED_KEYS);
+
+    @TransactionalEventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        long minute = event.getOccurredAt().toEpochSecond(ZoneOffset.UTC) / 60;
+        long key = pack(minute, event.getStatus(), event.getPaymentMethod());
+        long cents = event.getTotalAmount().movePointRight(2).longValueExact();
+
+        lock.lock();
+        try {
+            pending.add(key, 1, cents);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.rollups.flush-interval:PT10S}")
+    @PreDestroy
+    public void flush() {
+        LongKeyedSums minutes;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            minutes = pending;
+            pending = new LongKeyedSums(EXPECTED_KEYS);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            rollupRepository.addAll(toRows(minutes));
+            log.debug("Flushed {} minute rollup buckets", minutes.size());
+        } catch (RuntimeException e) {
+            log.warn("Rollup flush failed, keeping {} buckets for the next attempt", minutes.size(), e);
+            lock.lock();
+            try {
+                pending.addAll(minutes);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static List<Object[]> toRows(LongKeyedSums minutes) {
+        LongKeyedSums hours = new LongKeyedSums(minutes.size());
+        LongKeyedSums days = new LongKeyedSums(minutes.size());
+        minutes.forEach((key, count, cents) -> {
+            hours.add(truncate(key, RollupGranularity.HOUR), count, cents);
+            days.add(truncate(key, RollupGranularity.DAY), count, cents);
+        });
+
+        List<Object[]> rows = new ArrayList<>(minutes.size() + hours.size() + days.size());
+        addRows(rows, RollupGranularity.MINUTE, minutes);
+        addRows(rows, RollupGranularity.HOUR, hours);
+        addRows(rows, RollupGranularity.DAY, days);
+        return rows;
+    }
+
+    private static void addRows(List<Object[]> rows, RollupGranularity granularity, LongKeyedSums sums) {
+        sums.forEach((key, count, cents) -> {
+            long minute = key >>> 16;
+            int status = (int) (key >>> 8) & 0xFF;
+            int paymentMethod = (int) key & 0xFF;
+
+            rows.add(new Object[]{
+                    granularity.name(),
+                    Timestamp.valueOf(LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC)),
+                    STATUSES[status].name(),
+                    paymentMethod == 0 ? OrderRollupRepository.NO_PAYMENT_METHOD : PAYMENT_METHODS[paymentMethod - 1].name(),
+                    count,
+                    BigDecimal.valueOf(cents, 2)
+            });
+        });
+    }
+
+    /**
+     * Layout: epoch minute (48 bits) | status ordinal (8 bits) | payment method ordinal + 1, 0 if none (8 bits)
+     */
+    static long pack(long minute, OrderStatus status, PaymentMethod paymentMethod) {
+        int method = paymentMethod == null ? 0 : paymentMethod.ordinal() + 1;
+        return (minute << 16) | ((long) status.ordinal() << 8) | method;
+    }
+
+    private static long truncate(long key, RollupGranularity granularity) {
+        long minute = key >>> 16;
+        long bucket = minute - Math.floorMod(minute, granularity.getMinutes());
+        return (bucket << 16) | (key & 0xFFFF);
+    }
+}
@@ -0,0 +1,50 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.snapshot.OrderSnapshotStore;
+import com.sotatek.order.snapshot.OrderSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes the columnar analytics snapshot from its high-water mark on a schedule, rebuilds it in
+ * full on a slower one and once on startup if none is on disk
+ */
+@Component
+@ConditionalOnProperty(name = "order.snapshot.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSnapshotJob {
+
+    private final OrderSnapshotWriter snapshotWriter;
+    private final OrderSnapshotStore snapshotStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (snapshotStore.current().isEmpty()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${order.snapshot.cron:0 0 * * * *}")
+    public void refresh() {
+        try {
+            snapshotWriter.refresh();
+        } catch (Exception e) {
+            log.error("Order snapshot refresh failed, keeping the previous snapshot", e);
+        }
+    }
+
+    @Scheduled(cron = "${order.snapshot.full-cron:0 30 4 * * SUN}")
+    public void rebuild() {
+        try {
+            snapshotWriter.rebuild();
+        } catch (Exception e) {
+            log.error("Order snapshot rebuild failed, keeping the previous snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.domain.OrderItem;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.PaymentNotFoundException;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.OrderItemRepository;
+import com.sotatek.order.repository.PendingOrderRepository;
+import com.sotatek.order.repository.PendingOrderRepository.Backlog;
+import com.sotatek.order.repository.PendingOrderRepository.PendingOrder;
+import com.sotatek.order.service.external.PaymentServiceClient;
+import com.sotatek.order.service.external.dto.PaymentDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves orders left PENDING by a failed, timed out or not yet settled payment
+ *
+ * Each run pages through the PENDING orders untouched for {@code stale-after}, oldest first. A page
+ * is claimed by leasing it for {@code lease} in its own short transaction, so the job runs on every
+ * node without coordination and no lock or connection is held during the lookups. Payments of a page
+ * are looked up concurrently, outside any transaction, at most {@code parallelism} at a time. The page
+ * is then settled in a second transaction with one batch update per outcome, each applied only to
+ * orders still PENDING:
+ * - payment COMPLETED: CONFIRMED, counted in the aggregates like a regular order
+ * - payment FAILED, REFUNDED or unknown: EXPIRED
+ * - payment still PENDING or lookup failed: left PENDING, checked again once the lease runs out
+ * Orders without a payment ID (payment creation timed out or failed without an answer) are not
+ * looked up. Payment Service cannot be asked by order and the member may have been charged, so they
+ * stay PENDING for manual review, counted by the {@code orders.reconciliation.review} gauge, and are
+ * expired once untouched for {@code review-window}. Declined payments expire their order right away
+ * at creation and never get here.
+ */
+@Component
+@ConditionalOnProperty(name = "order.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PendingOrderReconciler {
+
+    private final PendingOrderRepository pendingOrderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderAggregateRepository orderAggregateRepository;
+    private final PaymentServiceClient paymentServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor lookupExecutor = new ThreadPoolTaskExecutor();
+
+    private final Counter confirmedCounter;
+    private final Counter expiredCounter;
+    private final Counter pendingCounter;
+    private final Counter failedCounter;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong reviewSize = new AtomicLong();
+
+    @Value("${order.reconciliation.stale-after:PT15M}")
+    private Duration staleAfter;
+
+    @Value("${order.reconciliation.batch-size:100}")
+    private int batchSize;
+
+    @Value("${order.reconciliation.max-batches:50}")
+    private int maxBatches;
+
+    @Value("${order.reconciliation.lease:PT5M}")
+    private Duration lease;
+
+    @Value("${order.reconciliation.review-window:P3D}")
+    private Duration reviewWindow;
+
+    public PendingOrderReconciler(PendingOrderRepository pendingOrderRepository,
+                                  OrderItemRepository orderItemRepository,
+                                  OrderAggregateRepository orderAggregateRepository,
+                                  PaymentServiceClient paymentServiceClient,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${order.reconciliation.parallelism:8}") int parallelism) {
+        this.pendingOrderRepository = pendingOrderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderAggregateRepository = orderAggregateRepository;
+        this.paymentServiceClient = paymentServiceClient;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+
+        lookupExecutor.setCorePoolSize(parallelism);
+        lookupExecutor.setMaxPoolSize(parallelism);
+        lookupExecutor.setThreadNamePrefix("order-reconcile-");
+        lookupExecutor.initialize();
+
+        this.confirmedCounter = outcomeCounter("confirmed", meterRegistry);
+        this.expiredCounter = outcomeCounter("expired", meterRegistry);
+        this.pendingCounter = outcomeCounter("pending", meterRegistry);
+        this.failedCounter = outcomeCounter("failed", meterRegistry);
+        Gauge.builder("orders.reconciliation.backlog", backlogSize, AtomicLong::get)
+                .description("Stale PENDING orders waiting for reconciliation")
+                .register(meterRegistry);
+        Gauge.builder("orders.reconciliation.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest stale PENDING order")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("orders.reconciliation.review", reviewSize, AtomicLong::get)
+                .description("Stale PENDING orders without payment ID, left for manual review")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${order.reconciliation.interval:PT30S}")
+    public void reconcile() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+
+        PendingOrder after = null;
+        int claimed = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            PendingOrder previous = after;
+            List<PendingOrder> orders = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                return pendingOrderRepository.claimStale(staleBefore, previous, batchSize, now, now.plus(lease));
+            });
+            if (orders == null || orders.isEmpty()) {
+                break;
+            }
+            reconcileBatch(orders);
+            claimed += orders.size();
+            after = orders.get(orders.size() - 1);
+            if (orders.size() < batchSize) {
+                break;
+            }
+        }
+
+        expireUnreviewed();
+        refreshBacklog(staleBefore);
+        if (claimed > 0) {
+            log.info("Reconciled pending orders: claimed={}, backlog={}, lagSeconds={}, review={}",
+                    claimed, backlogSize.get(), lagSeconds.get(), reviewSize.get());
+        }
+    }
+
+    /**
+     * Look up the payments of a claimed page, then settle it in one transaction
+     * Must not run in a transaction: the lookups are remote calls.
+     */
+    void reconcileBatch(List<PendingOrder> orders) {
+        Map<PendingOrder, CompletableFuture<PaymentDto>> lookups = new LinkedHashMap<>();
+        for (PendingOrder order : orders) {
+            lookups.put(order, CompletableFuture.supplyAsync(() -> lookupPayment(order), lookupExecutor));
+        }
+
+        Map<PendingOrder, String> confirmed = new LinkedHashMap<>();
+        List<PendingOrder> expired = new ArrayList<>();
+        for (PendingOrder order : orders) {
+            PaymentDto payment;
+            try {
+                payment = lookups.get(order).join();
+            } catch (CompletionException e) {
+                log.warn("Payment lookup failed, retrying after the lease: orderId={}, paymentId={}: {}",
+                        order.getId(), order.getPaymentId(), e.getCause().getMessage());
+                failedCounter.increment();
+                continue;
+            }
+
+            if (payment == null) {
+                expired.add(order);
+                continue;
+            }
+            switch (payment.getStatus()) {
+                case COMPLETED -> confirmed.put(order, payment.getTransactionId());
+                case FAILED, REFUNDED -> expired.add(order);
+                case PENDING -> pendingCounter.increment();
+            }
+        }
+
+        if (!confirmed.isEmpty() || !expired.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> settle(confirmed, expired));
+        }
+    }
+
+    /**
+     * Expire the orders without payment ID nobody resolved within the review window, a page per transaction
+     */
+    void expireUnreviewed() {
+        LocalDateTime reviewBefore = LocalDateTime.now().minus(reviewWindow);
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer expired = transactionTemplate.execute(status -> {
+                List<PendingOrder> orders = pendingOrderRepository.claimUnpaid(reviewBefore, batchSize);
+                if (orders.isEmpty()) {
+                    return 0;
+                }
+                settle(Map.of(), orders);
+                orders.forEach(order -> log.warn("Expired unpaid order after the review window: orderId={}, memberId={}",
+                        order.getId(), order.getMemberId()));
+                return orders.size();
+            });
+            if (expired == null || expired < batchSize) {
+                break;
+            }
+        }
+    }
+
+    private PaymentDto lookupPayment(PendingOrder order) {
+        try {
+            return paymentServiceClient.getPayment(order.getPaymentId());
+        } catch (PaymentNotFoundException e) {
+            log.warn("Payment of pending order not found: orderId={}, paymentId={}", order.getId(), order.getPaymentId());
+            return null;
+        }
+    }
+
+    private void settle(Map<PendingOrder, String> confirmed, List<PendingOrder> expired) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Orders changed since the claim, e.g. cancelled by the member, are left alone
+        List<PendingOrder> confirmedOrders = confirmed.isEmpty() ? List.of() : pendingOrderRepository.confirm(confirmed, now);
+        if (!confirmedOrders.isEmpty()) {
+            // Counters were skipped when the order was created PENDING
+            List<Long> orderIds = confirmedOrders.stream().map(PendingOrder::getId).collect(Collectors.toList());
+            Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findByOrderIdIn(orderIds).stream()
+                    .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+            for (PendingOrder order : confirmedOrders) {
+                orderAggregateRepository.recordOrder(order.getMemberId(),
+                        itemsByOrderId.getOrDefault(order.getId(), List.of()));
+                publishStatusChange(order, OrderStatus.CONFIRMED, now);
+            }
+            confirmedCounter.increment(confirmedOrders.size());
+        }
+
+        List<PendingOrder> expiredOrders = expired.isEmpty() ? List.of() : pendingOrderRepository.expire(expired, now);
+        for (PendingOrder order : expiredOrders) {
+            publishStatusChange(order, OrderStatus.EXPIRED, now);
+        }
+        expiredCounter.increment(expiredOrders.size());
+    }
+
+    private void publishStatusChange(PendingOrder order, OrderStatus status, LocalDateTime now) {
+        eventPublisher.publishEvent(OrderStatusChangedEvent.builder()
+                .orderId(order.getId())
+                .memberId(order.getMemberId())
+                .previousStatus(OrderStatus.PENDING)
+                .status(status)
+                .paymentMethod(order.getPaymentMethod())
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(now)
+                .build());
+    }
+
+    private void refreshBacklog(LocalDateTime staleBefore) {
+        try {
+            Backlog backlog = pendingOrderRepository.backlog(staleBefore);
+            backlogSize.set(backlog.getSize());
+            lagSeconds.set(backlog.getOldestUpdatedAt() == null
+                    ? 0
+                    : Duration.between(backlog.getOldestUpdatedAt(), LocalDateTime.now()).toSeconds());
+            reviewSize.set(pendingOrderRepository.countUnpaid(staleBefore));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the pending order backlog", e);
+        }
+    }
+
+    private static Counter outcomeCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("orders.reconciliation.processed")
+                .description("Stale PENDING orders handled by the reconciliation job")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.catalog.ProductCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the product catalog replica current: the first run, at startup, loads the snapshot,
+ * every later run polls the changes since the last one
+ */
+@Component
+@ConditionalOnProperty(name = "order.catalog.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalogSyncJob {
+
+    private final ProductCatalog productCatalog;
+
+    @Scheduled(fixedDelayString = "${order.catalog.poll-interval:PT10S}")
+    public void sync() {
+        try {
+            productCatalog.sync();
+        } catch (Exception e) {
+            log.error("Product catalog sync failed, lookups use the previous replica or Product Service", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.response.LargeOrderResponse;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for creating orders with very many items
+ */
+public interface LargeOrderService {
+
+    /**
+     * Create an order from a {@link com.sotatek.order.controller.request.CreateOrderRequest} JSON body
+     * without materializing it: items are parsed, validated and written in chunks, so memory stays
+     * bounded by the chunk size and the number of distinct products, not by the number of items.
+     * {@code memberId} and {@code paymentMethod} must appear before {@code items}.
+     *
+     * @param body the JSON request body
+     * @return summary of the created order
+     * @throws com.sotatek.order.exception.InvalidOrderRequestException if the body is malformed or invalid
+     */
+    LargeOrderResponse createOrder(InputStream body);
+}
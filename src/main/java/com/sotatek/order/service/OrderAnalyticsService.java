@@ -0,0 +1,23 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.response.TopProductsResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for analytical order queries served from the columnar snapshot
+ */
+public interface OrderAnalyticsService {
+
+    /**
+     * Get the products with the highest revenue from confirmed orders created in [from, to)
+     * Never queries the database.
+     *
+     * @param from inclusive start
+     * @param to exclusive end
+     * @param limit number of products
+     * @return products by descending revenue
+     * @throws com.sotatek.order.exception.SnapshotUnavailableException if no snapshot was built yet
+     */
+    TopProductsResponse getTopProducts(LocalDateTime from, LocalDateTime to, int limit);
+}
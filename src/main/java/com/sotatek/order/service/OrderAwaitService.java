@@ -0,0 +1,29 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.domain.OrderStatus;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Service interface for long-polling order status transitions
+ */
+public interface OrderAwaitService {
+
+    /**
+     * Wait, without holding a request thread, until the order reaches the status or a terminal one
+     *
+     * @param orderId the order ID
+     * @param status the awaited status
+     * @param timeout maximum wait, e.g. {@code 10s} or {@code PT10S}
+     * @return result completed with the order once the status is reached, or with its current state
+     *         when the timeout expires
+     * @throws com.sotatek.order.exception.OrderNotFoundException if the order does not exist
+     * @throws com.sotatek.order.exception.InvalidAwaitRequestException if the timeout is invalid
+     */
+    DeferredResult<OrderResponse> await(Long orderId, OrderStatus status, String timeout);
+
+    /**
+     * Wake waiters of an order after a committed status change, from this or another instance
+     */
+    void notifyStatusChanged(Long orderId, OrderStatus status);
+}
@@ -0,0 +1,20 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.request.BulkCancelRequest;
+import com.sotatek.order.controller.response.BulkCancelResponse;
+
+/**
+ * Service interface for cancelling many orders at once
+ */
+public interface OrderCancellationService {
+
+    /**
+     * Cancel the CONFIRMED orders among the requested IDs, or matching the filter
+     * Orders are cancelled in chunks, each in its own transaction, without loading them.
+     *
+     * @param request order IDs or a filter
+     * @return per-order outcomes, in request order for IDs and in ID order for a filter
+     * @throws com.sotatek.order.exception.InvalidOrderRequestException if the request selects no orders
+     */
+    BulkCancelResponse cancelOrders(BulkCancelRequest request);
+}
@@ -0,0 +1,17 @@
+package com.sotatek.order.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface for the order change feed
+ */
+public interface OrderEventStreamService {
+
+    /**
+     * Subscribe to order events
+     *
+     * @param lastEventId resume after this event ID, null to receive only new events
+     * @return emitter receiving every later event in ID order
+     */
+    SseEmitter subscribe(Long lastEventId);
+}
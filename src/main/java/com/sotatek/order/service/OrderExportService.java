@@ -0,0 +1,26 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.domain.OrderStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for streaming order exports
+ */
+public interface OrderExportService {
+
+    /**
+     * Write every order matching the filters to the output stream
+     * Memory use does not depend on the number of exported orders
+     *
+     * @param memberId optional member ID filter
+     * @param status optional order status filter
+     * @param format the output format
+     * @param output the target stream, left open
+     * @return number of exported orders
+     * @throws IOException if writing to the output fails
+     */
+    long exportOrders(Long memberId, OrderStatus status, OrderFileFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.response.OrderHistoryResponse;
+
+/**
+ * Service interface for the order status audit trail
+ */
+public interface OrderHistoryService {
+
+    /**
+     * Get the status changes of an order, oldest first
+     * Changes are recorded asynchronously, the latest one may be missing for a short while.
+     *
+     * @param orderId the order ID
+     * @return the recorded status changes
+     * @throws com.sotatek.order.exception.OrderNotFoundException if the order does not exist
+     */
+    OrderHistoryResponse getHistory(Long orderId);
+}
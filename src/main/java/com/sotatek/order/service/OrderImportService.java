@@ -0,0 +1,36 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.controller.response.OrderImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk loading historical orders
+ */
+public interface OrderImportService {
+
+    /**
+     * Import orders from an NDJSON or CSV source
+     * Re-running a failed job with the same ID and source skips lines that were already loaded
+     * and orders that were already merged.
+     *
+     * @param jobId identifier used to track progress and resume
+     * @param format the source format
+     * @param input the source, one order item per line
+     * @return the final job state
+     * @throws IOException if reading the source fails
+     * @throws com.sotatek.order.exception.InvalidImportDataException if a line cannot be parsed
+     */
+    OrderImportResponse importOrders(String jobId, OrderFileFormat format, InputStream input) throws IOException;
+
+    /**
+     * Get the progress of an import job
+     *
+     * @param jobId the job ID
+     * @return the job state
+     * @throws com.sotatek.order.exception.ImportJobNotFoundException if the job does not exist
+     */
+    OrderImportResponse getImportJob(String jobId);
+}
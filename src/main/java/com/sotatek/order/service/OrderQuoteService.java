@@ -0,0 +1,19 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.response.OrderQuoteResponse;
+
+/**
+ * Service interface for pricing an order ahead of checkout
+ */
+public interface OrderQuoteService {
+
+    /**
+     * Validate the member, products and stock as order creation does, and price the items
+     * Nothing is saved and no stock is reserved.
+     *
+     * @param request the order the member is about to place
+     * @return the priced items and a signed quote token, short-lived
+     */
+    OrderQuoteResponse quoteOrder(CreateOrderRequest request);
+}
@@ -1,12 +1,20 @@
 package com.sotatek.order.service;
 
 import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderFieldSelection;
 import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.OrderLookupResponse;
 import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.controller.response.OrderStatusResponse;
 import com.sotatek.order.controller.response.PageResponse;
 import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.quote.OrderQuote;
+import com.sotatek.order.service.external.dto.MemberDto;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Service interface for order business logic
  */
@@ -14,12 +22,34 @@ public interface OrderService {
 
     /**
      * Create a new order
+     * The order is CONFIRMED once paid. It stays PENDING when the payment is still pending or fails
+     * (then {@link com.sotatek.order.exception.PaymentFailedException} is thrown) until reconciled.
      *
      * @param request the order creation request
      * @return the created order response
      */
     OrderResponse createOrder(CreateOrderRequest request);
 
+    /**
+     * Create a new order for a member already fetched from Member Service or taken from verified claims
+     * Used when the member is needed before the order is processed, e.g. to schedule it by grade
+     *
+     * @param request the order creation request
+     * @param member the member of the request
+     * @return the created order response
+     */
+    OrderResponse createOrder(CreateOrderRequest request, MemberDto member);
+
+    /**
+     * Create a new order priced by a verified quote
+     * Member, product and stock validation were done when the quote was issued and are not repeated
+     *
+     * @param request the order creation request, matching the quote
+     * @param quote the verified quote
+     * @return the created order response
+     */
+    OrderResponse createOrder(CreateOrderRequest request, OrderQuote quote);
+
     /**
      * Get an order by ID
      *
@@ -28,6 +58,36 @@ public interface OrderService {
      */
     OrderResponse getOrderById(Long id);
 
+    /**
+     * Get an order by ID rendering only the selected fields
+     * Items are not loaded unless an item field is selected
+     *
+     * @param id the order ID
+     * @param fields the sparse fieldset
+     * @return the selected fields keyed by name
+     */
+    Map<String, Object> getOrderById(Long id, OrderFieldSelection fields);
+
+    /**
+     * Get many orders by ID
+     * Orders and their items are loaded with one query each, whatever the number of IDs
+     *
+     * @param ids the order IDs, at most {@link com.sotatek.order.controller.request.OrderLookupRequest#MAX_IDS}
+     * @return the orders in the requested order, and the IDs that do not exist
+     * @throws com.sotatek.order.exception.InvalidLookupRequestException if ids is empty or too long
+     */
+    OrderLookupResponse<OrderResponse> getOrdersByIds(List<Long> ids);
+
+    /**
+     * Get the status of many orders by ID
+     * Reads only id, status and updated_at through a covering index, items are never loaded
+     *
+     * @param ids the order IDs, at most {@link com.sotatek.order.controller.request.OrderLookupRequest#MAX_IDS}
+     * @return the statuses in the requested order, and the IDs that do not exist
+     * @throws com.sotatek.order.exception.InvalidLookupRequestException if ids is empty or too long
+     */
+    OrderLookupResponse<OrderStatusResponse> getOrderStatusesByIds(List<Long> ids);
+
     /**
      * List orders with optional filtering and pagination
      *
@@ -38,10 +98,24 @@ public interface OrderService {
      */
     PageResponse<OrderResponse> listOrders(Long memberId, OrderStatus status, Pageable pageable);
 
+    /**
+     * List orders rendering only the selected fields
+     * Items of the page are loaded with a single query, and only if an item field is selected
+     *
+     * @param memberId optional member ID filter
+     * @param status optional order status filter
+     * @param pageable pagination information
+     * @param fields the sparse fieldset
+     * @return paginated list of orders with the selected fields
+     */
+    PageResponse<Map<String, Object>> listOrders(Long memberId, OrderStatus status, Pageable pageable,
+                                                 OrderFieldSelection fields);
+
     /**
      * Update an existing order
      * - Can update items and payment method for PENDING orders (before payment)
      * - Can change status from CONFIRMED to CANCELLED (user cancellation)
+     * - Refused with a version conflict if request.version is set and the order has changed since
      *
      * @param id the order ID
      * @param request the order update request
@@ -0,0 +1,23 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.response.OrderStatsResponse;
+import com.sotatek.order.domain.RollupGranularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for order analytics served from the rollup table
+ */
+public interface OrderStatsService {
+
+    /**
+     * Get order counts and revenue per bucket, status and payment method
+     * Never queries the orders table. Reflects committed orders up to the rollup flush interval.
+     *
+     * @param from inclusive start, truncated to the granularity
+     * @param to exclusive end
+     * @param granularity bucket size
+     * @return non-empty buckets in [from, to), oldest first
+     */
+    OrderStatsResponse getStats(LocalDateTime from, LocalDateTime to, RollupGranularity granularity);
+}
@@ -0,0 +1,159 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.request.BulkCancelRequest;
+import com.sotatek.order.controller.request.OrderLookupRequest;
+import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.exception.InsufficientStockException;
+import com.sotatek.order.exception.InvalidLookupRequestException;
+import com.sotatek.order.exception.InvalidOrderRequestException;
+import com.sotatek.order.exception.InvalidOrderStatusException;
+import com.sotatek.order.exception.MemberValidationException;
+import com.sotatek.order.exception.ProductValidationException;
+import com.sotatek.order.service.external.dto.MemberDto;
+import com.sotatek.order.service.external.dto.MemberStatus;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Business rules for creating and updating orders
+ *
+ * Shared by the servlet, large-order and reactive order services so every entry point accepts and
+ * rejects exactly the same requests. The checks are pure: callers fetch members, products and
+ * stock however suits their stack and pass the results in.
+ */
+@Slf4j
+public final class OrderValidator {
+
+    private OrderValidator() {
+    }
+
+    /**
+     * @throws MemberValidationException if the member is not active
+     */
+    public static void requireActiveMember(Long memberId, MemberDto member) {
+        if (member.getStatus() != MemberStatus.ACTIVE) {
+            log.error("Member is not active: memberId={}, status={}", memberId, member.getStatus());
+            throw new MemberValidationException("Member is not active: status=" + member.getStatus());
+        }
+    }
+
+    /**
+     * @throws ProductValidationException if the product cannot be ordered
+     */
+    public static void requireAvailable(ProductDto product) {
+        if (product.getStatus() != ProductStatus.AVAILABLE) {
+            log.error("Product is not available: productId={}, status={}", product.getId(), product.getStatus());
+            throw new ProductValidationException("Product is not available: productId=" + product.getId() +
+                    ", status=" + product.getStatus());
+        }
+    }
+
+    /**
+     * @param requested quantity requested so far for the product, across all items of the order
+     * @throws InsufficientStockException if less than {@code requested} is available
+     */
+    public static void requireStock(Long productId, long requested, int available) {
+        if (available < requested) {
+            log.error("Insufficient stock: productId={}, requested={}, available={}", productId, requested, available);
+            throw new InsufficientStockException("Insufficient stock for product: productId=" + productId +
+                    ", requested=" + requested + ", available=" + available);
+        }
+    }
+
+    /**
+     * Only a CONFIRMED order may be changed, and only to CANCELLED
+     *
+     * @throws InvalidOrderStatusException if the update is not allowed
+     */
+    public static void validateUpdate(OrderStatus currentStatus, UpdateOrderRequest request) {
+        validateUpdateRequest(request);
+        requireTransition(currentStatus, request.getStatus());
+    }
+
+    /**
+     * The checks of {@link #validateUpdate} that do not depend on the stored order
+     *
+     * @throws InvalidOrderStatusException if the request asks for anything but a cancellation
+     */
+    public static void validateUpdateRequest(UpdateOrderRequest request) {
+        if (request.getItems() != null && !request.getItems().isEmpty()) {
+            log.error("Order update rejected: items update is not allowed");
+            throw new InvalidOrderStatusException("Only status update is allowed. Items cannot be updated.");
+        }
+
+        if (request.getPaymentMethod() != null) {
+            log.error("Order update rejected: payment method update is not allowed");
+            throw new InvalidOrderStatusException("Only status update is allowed. Payment method cannot be updated.");
+        }
+
+        if (request.getStatus() == null) {
+            log.error("Order update rejected: status is required");
+            throw new InvalidOrderStatusException("Status is required for order update.");
+        }
+
+        if (request.getStatus() != OrderStatus.CANCELLED) {
+            log.error("Order update rejected: only CANCELLED status is supported, requested={}", request.getStatus());
+            throw new InvalidOrderStatusException("Only status change to CANCELLED is supported.");
+        }
+    }
+
+    /**
+     * @throws InvalidOrderStatusException if the state machine does not allow the transition
+     */
+    public static void requireTransition(OrderStatus currentStatus, OrderStatus target) {
+        if (!currentStatus.canTransitionTo(target)) {
+            log.error("Order update rejected: transition not allowed, status={}, requested={}", currentStatus, target);
+            throw new InvalidOrderStatusException("Order status cannot change from " + currentStatus + " to " + target + ".");
+        }
+    }
+
+    /**
+     * A bulk cancellation names either orders or a filter, and a filter never matches all orders
+     *
+     * @throws InvalidOrderRequestException if the request selects no orders or all of them
+     */
+    public static void validateBulkCancel(BulkCancelRequest request) {
+        if ((request.getIds() == null) == (request.getFilter() == null)) {
+            throw new InvalidOrderRequestException("Exactly one of ids or filter is required");
+        }
+
+        BulkCancelRequest.Filter filter = request.getFilter();
+        if (filter == null) {
+            return;
+        }
+        if (filter.getMemberId() == null && filter.getCreatedFrom() == null && filter.getCreatedTo() == null) {
+            throw new InvalidOrderRequestException("Filter needs at least one of memberId, createdFrom, createdTo");
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new InvalidOrderRequestException("createdFrom must be before createdTo");
+        }
+    }
+
+    /**
+     * Deduplicate the requested IDs of a multi-get keeping their first occurrence order
+     *
+     * @throws InvalidLookupRequestException if there are no IDs, a null ID or too many IDs
+     */
+    public static Set<Long> requireLookupIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidLookupRequestException("At least one order ID is required");
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.contains(null)) {
+            throw new InvalidLookupRequestException("Order IDs must not be null");
+        }
+        if (requestedIds.size() > OrderLookupRequest.MAX_IDS) {
+            throw new InvalidLookupRequestException(
+                    "Cannot look up more than " + OrderLookupRequest.MAX_IDS + " orders at once");
+        }
+        return requestedIds;
+    }
+}
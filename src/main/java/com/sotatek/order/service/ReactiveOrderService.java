@@ -0,0 +1,62 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.OrderLookupResponse;
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.controller.response.PageResponse;
+import com.sotatek.order.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link OrderService}, used by the reactive profile
+ * Applies the same {@link OrderValidator} rules and reports failures with the same exceptions.
+ */
+public interface ReactiveOrderService {
+
+    /**
+     * Create a new order
+     *
+     * @param request the order creation request
+     * @return the created order
+     */
+    Mono<OrderResponse> createOrder(CreateOrderRequest request);
+
+    /**
+     * Get order by ID
+     *
+     * @param id the order ID
+     * @return the order, or an error with {@link com.sotatek.order.exception.OrderNotFoundException}
+     */
+    Mono<OrderResponse> getOrderById(Long id);
+
+    /**
+     * Get orders by IDs, in the requested order, reporting unknown IDs as missing
+     *
+     * @param ids the order IDs, at most {@link com.sotatek.order.controller.request.OrderLookupRequest#MAX_IDS}
+     * @return found orders and missing IDs
+     */
+    Mono<OrderLookupResponse<OrderResponse>> getOrdersByIds(List<Long> ids);
+
+    /**
+     * List orders with optional filtering
+     *
+     * @param memberId optional member ID filter
+     * @param status optional status filter
+     * @param pageable pagination parameters
+     * @return paginated list of orders
+     */
+    Mono<PageResponse<OrderResponse>> listOrders(Long memberId, OrderStatus status, Pageable pageable);
+
+    /**
+     * Update an existing order, only cancellation of a CONFIRMED order is allowed
+     *
+     * @param id the order ID
+     * @param request the update request
+     * @return the updated order
+     */
+    Mono<OrderResponse> updateOrder(Long id, UpdateOrderRequest request);
+}
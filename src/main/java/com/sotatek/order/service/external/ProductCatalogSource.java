@@ -0,0 +1,26 @@
+package com.sotatek.order.service.external;
+
+import com.sotatek.order.service.external.dto.ProductCatalogPage;
+
+/**
+ * Adapter interface for the catalog feed of Product Service, replicated by
+ * {@link com.sotatek.order.catalog.ProductCatalog}
+ */
+public interface ProductCatalogSource {
+
+    /**
+     * Get every product with the cursor of the catalog at that point
+     *
+     * @throws com.sotatek.order.exception.ExternalServiceException if service unavailable
+     */
+    ProductCatalogPage snapshot();
+
+    /**
+     * Get products changed or removed after the cursor, oldest change first
+     *
+     * @param cursor the cursor of the snapshot or of the previous page
+     * @param limit the maximum number of changes in the page
+     * @throws com.sotatek.order.exception.ExternalServiceException if service unavailable
+     */
+    ProductCatalogPage changesSince(String cursor, int limit);
+}
@@ -3,6 +3,9 @@ package com.sotatek.order.service.external;
 import com.sotatek.order.service.external.dto.ProductDto;
 import com.sotatek.order.service.external.dto.ProductStockDto;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Adapter interface for Product Service
  * Allows easy swapping between mock and real implementations
@@ -28,4 +31,24 @@ public interface ProductServiceClient {
      * @throws com.sotatek.order.exception.ExternalServiceException if service unavailable
      */
     ProductStockDto getProductStock(Long productId);
+
+    /**
+     * Get many products from Product Service in one call
+     *
+     * @param productIds the product IDs
+     * @return the product DTOs keyed by product ID
+     * @throws com.sotatek.order.exception.ProductNotFoundException if any product is not found
+     * @throws com.sotatek.order.exception.ExternalServiceException if service unavailable
+     */
+    Map<Long, ProductDto> getProducts(Collection<Long> productIds);
+
+    /**
+     * Get stock information of many products from Product Service in one call
+     *
+     * @param productIds the product IDs
+     * @return the product stock DTOs keyed by product ID
+     * @throws com.sotatek.order.exception.ProductNotFoundException if any product is not found
+     * @throws com.sotatek.order.exception.ExternalServiceException if service unavailable
+     */
+    Map<Long, ProductStockDto> getProductStocks(Collection<Long> productIds);
 }
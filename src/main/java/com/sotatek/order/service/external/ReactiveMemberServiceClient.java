@@ -0,0 +1,20 @@
+package com.sotatek.order.service.external;
+
+import com.sotatek.order.service.external.dto.MemberDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking adapter interface for Member Service, used by the reactive profile
+ */
+public interface ReactiveMemberServiceClient {
+
+    /**
+     * Get member by ID from Member Service
+     *
+     * @param memberId the member ID
+     * @return the member DTO, or an error with
+     * {@link com.sotatek.order.exception.MemberNotFoundException} if the member does not exist and
+     * {@link com.sotatek.order.exception.ExternalServiceException} if the service is unavailable
+     */
+    Mono<MemberDto> getMember(Long memberId);
+}
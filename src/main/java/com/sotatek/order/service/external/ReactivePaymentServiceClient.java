@@ -0,0 +1,31 @@
+package com.sotatek.order.service.external;
+
+import com.sotatek.order.service.external.dto.PaymentDto;
+import com.sotatek.order.service.external.dto.PaymentRequestDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking adapter interface for Payment Service, used by the reactive profile
+ */
+public interface ReactivePaymentServiceClient {
+
+    /**
+     * Create a payment in Payment Service
+     *
+     * @param request the payment request
+     * @return the payment DTO, or an error with
+     * {@link com.sotatek.order.exception.PaymentFailedException} if the payment is rejected and
+     * {@link com.sotatek.order.exception.ExternalServiceException} if the service is unavailable
+     */
+    Mono<PaymentDto> createPayment(PaymentRequestDto request);
+
+    /**
+     * Get payment by ID from Payment Service
+     *
+     * @param paymentId the payment ID
+     * @return the payment DTO, or an error with
+     * {@link com.sotatek.order.exception.PaymentNotFoundException} if the payment does not exist and
+     * {@link com.sotatek.order.exception.ExternalServiceException} if the service is unavailable
+     */
+    Mono<PaymentDto> getPayment(Long paymentId);
+}
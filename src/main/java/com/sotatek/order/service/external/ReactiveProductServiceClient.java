@@ -0,0 +1,29 @@
+package com.sotatek.order.service.external;
+
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStockDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking adapter interface for Product Service, used by the reactive profile
+ */
+public interface ReactiveProductServiceClient {
+
+    /**
+     * Get product by ID from Product Service
+     *
+     * @param productId the product ID
+     * @return the product DTO, or an error with
+     * {@link com.sotatek.order.exception.ProductNotFoundException} if the product does not exist and
+     * {@link com.sotatek.order.exception.ExternalServiceException} if the service is unavailable
+     */
+    Mono<ProductDto> getProduct(Long productId);
+
+    /**
+     * Get product stock from Product Service
+     *
+     * @param productId the product ID
+     * @return the stock DTO, with the same errors as {@link #getProduct(Long)}
+     */
+    Mono<ProductStockDto> getProductStock(Long productId);
+}
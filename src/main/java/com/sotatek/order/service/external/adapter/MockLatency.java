@@ -0,0 +1,40 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.exception.ExternalServiceException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Simulated round trip of the mock clients ({@code external.mock.latency}), so load tests see
+ * request threads blocked on downstream I/O the way they are with the real services
+ */
+final class MockLatency {
+
+    private MockLatency() {
+    }
+
+    static void pause(Duration latency) {
+        if (latency == null || latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while calling mock service");
+        }
+    }
+
+    /**
+     * Non-blocking variant for the reactive mocks: the response is produced after a timer, no thread sleeps
+     */
+    static <T> Mono<T> delayed(Duration latency, Callable<T> response) {
+        Mono<T> result = Mono.fromCallable(response);
+        if (latency == null || latency.isZero()) {
+            return result;
+        }
+        return Mono.delay(latency).then(result);
+    }
+}
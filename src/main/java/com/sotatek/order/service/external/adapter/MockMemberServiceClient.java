@@ -9,11 +9,14 @@ import com.sotatek.order.exception.MemberNotFoundException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.ResourceAccessException;
 
+import java.time.Duration;
+
 /**
  * Mock implementation of Member Service Client
  * Returns hardcoded member data for testing and development
@@ -25,11 +28,15 @@ import org.springframework.web.client.ResourceAccessException;
 @Slf4j
 public class MockMemberServiceClient implements MemberServiceClient {
 
+    @Value("${external.mock.latency:PT0S}")
+    private Duration latency;
+
     @Override
     @CircuitBreaker(name = "memberService")
     @Retry(name = "memberService")
     public MemberDto getMember(Long memberId) {
         log.info("[MOCK] Getting member: memberId={}", memberId);
+        MockLatency.pause(latency);
 
         if (memberId == 7777L) {
             log.warn("[MOCK] Member service unavailable: memberId={}", memberId);
@@ -9,10 +9,12 @@ import com.sotatek.order.exception.PaymentNotFoundException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.UUID;
@@ -29,6 +31,9 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public class MockPaymentServiceClient implements PaymentServiceClient {
 
+    @Value("${external.mock.latency:PT0S}")
+    private Duration latency;
+
     private final AtomicLong paymentIdGenerator = new AtomicLong(5000L);
 
     @Override
@@ -37,6 +42,7 @@ public class MockPaymentServiceClient implements PaymentServiceClient {
     public PaymentDto createPayment(PaymentRequestDto request) {
         log.info("[MOCK] Creating payment: orderId={}, amount={}, method={}",
                 request.getOrderId(), request.getAmount(), request.getPaymentMethod());
+        MockLatency.pause(latency);
 
         // Simulate payment failure for orderId 6666
         if (request.getOrderId() == 6666L) {
@@ -66,6 +72,7 @@ public class MockPaymentServiceClient implements PaymentServiceClient {
     @Retry(name = "paymentService")
     public PaymentDto getPayment(Long paymentId) {
         log.info("[MOCK] Getting payment: paymentId={}", paymentId);
+        MockLatency.pause(latency);
 
         if (paymentId == 9999L) {
             log.warn("[MOCK] Payment not found: paymentId={}", paymentId);
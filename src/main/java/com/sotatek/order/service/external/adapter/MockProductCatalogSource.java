@@ -0,0 +1,55 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.service.external.ProductCatalogSource;
+import com.sotatek.order.service.external.dto.ProductCatalogPage;
+import com.sotatek.order.service.external.dto.ProductDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mock implementation of the Product Service catalog feed
+ * The snapshot holds the mock products 1 to {@code external.mock.catalog-size}, the same data
+ * MockProductServiceClient returns, and the catalog never changes afterwards.
+ */
+@Component
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class MockProductCatalogSource implements ProductCatalogSource {
+
+    private static final String CURSOR = "0";
+
+    @Value("${external.mock.catalog-size:10000}")
+    private int catalogSize;
+
+    @Override
+    public ProductCatalogPage snapshot() {
+        log.info("[MOCK] Getting catalog snapshot: size={}", catalogSize);
+
+        List<ProductDto> products = new ArrayList<>(catalogSize);
+        for (long productId = 1; productId <= catalogSize; productId++) {
+            ProductDto product = MockProductServiceClient.mockProduct(productId);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return ProductCatalogPage.builder()
+                .cursor(CURSOR)
+                .products(products)
+                .removedIds(List.of())
+                .build();
+    }
+
+    @Override
+    public ProductCatalogPage changesSince(String cursor, int limit) {
+        return ProductCatalogPage.builder()
+                .cursor(cursor)
+                .products(List.of())
+                .removedIds(List.of())
+                .build();
+    }
+}
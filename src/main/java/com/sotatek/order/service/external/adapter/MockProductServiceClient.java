@@ -8,37 +8,58 @@ import com.sotatek.order.exception.ProductNotFoundException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Mock implementation of Product Service Client
  * Returns hardcoded product data for testing and development
- * Use @Primary to make this the default implementation
+ * Not @Primary: the replicated catalog (order.catalog.enabled) takes that role in front of it
  */
 @Component
 @ConditionalOnProperty(name = "external.mock.enabled", havingValue = "true", matchIfMissing = true)
-@Primary
 @Slf4j
 public class MockProductServiceClient implements ProductServiceClient {
 
+    @Value("${external.mock.latency:PT0S}")
+    private Duration latency;
+
     @Override
     @CircuitBreaker(name = "productService")
     @Retry(name = "productService")
     public ProductDto getProduct(Long productId) {
         log.info("[MOCK] Getting product: productId={}", productId);
+        MockLatency.pause(latency);
 
-        // Simulate some products not found or unavailable
-        if (productId == 9999L) {
+        ProductDto product = mockProduct(productId);
+        if (product == null) {
             log.warn("[MOCK] Product not found: productId={}", productId);
             throw new ProductNotFoundException(productId);
         }
 
+        log.info("[MOCK] Returning mock product: productId={}, status={}", productId, product.getStatus());
+        return product;
+    }
+
+    /**
+     * The mock product data, shared with the mock catalog feed
+     *
+     * @return the product, or null for the product simulated as not found
+     */
+    static ProductDto mockProduct(Long productId) {
+        // Simulate some products not found or unavailable
+        if (productId == 9999L) {
+            return null;
+        }
+
         if (productId == 8888L) {
-            log.warn("[MOCK] Product is OUT_OF_STOCK: productId={}", productId);
             return ProductDto.builder()
                     .id(productId)
                     .name("Out of Stock Product")
@@ -47,8 +68,7 @@ public class MockProductServiceClient implements ProductServiceClient {
                     .build();
         }
 
-        // Return mock available product for all other IDs
-        log.info("[MOCK] Returning mock product: productId={}, status=AVAILABLE", productId);
+        // Mock available product for all other IDs
         return ProductDto.builder()
                 .id(productId)
                 .name("Mock Product " + productId)
@@ -62,6 +82,7 @@ public class MockProductServiceClient implements ProductServiceClient {
     @Retry(name = "productService")
     public ProductStockDto getProductStock(Long productId) {
         log.info("[MOCK] Getting product stock: productId={}", productId);
+        MockLatency.pause(latency);
 
         // Simulate product 7777 having insufficient stock
         if (productId == 7777L) {
@@ -83,4 +104,30 @@ public class MockProductServiceClient implements ProductServiceClient {
                 .availableQuantity(1000)
                 .build();
     }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Map<Long, ProductDto> getProducts(Collection<Long> productIds) {
+        log.info("[MOCK] Getting products: count={}", productIds.size());
+
+        Map<Long, ProductDto> products = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            products.put(productId, getProduct(productId));
+        }
+        return products;
+    }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Map<Long, ProductStockDto> getProductStocks(Collection<Long> productIds) {
+        log.info("[MOCK] Getting product stocks: count={}", productIds.size());
+
+        Map<Long, ProductStockDto> stocks = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            stocks.put(productId, getProductStock(productId));
+        }
+        return stocks;
+    }
 }
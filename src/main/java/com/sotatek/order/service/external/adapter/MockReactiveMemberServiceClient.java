@@ -0,0 +1,36 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.service.external.ReactiveMemberServiceClient;
+import com.sotatek.order.service.external.dto.MemberDto;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive mock of Member Service
+ * Serves the same canned members as {@link MockMemberServiceClient}
+ */
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "true", matchIfMissing = true)
+public class MockReactiveMemberServiceClient implements ReactiveMemberServiceClient {
+
+    // Not the Spring bean: its simulated latency would block, it is applied here with a timer instead
+    private final MockMemberServiceClient members = new MockMemberServiceClient();
+
+    @Value("${external.mock.latency:PT0S}")
+    private Duration latency;
+
+    @Override
+    @CircuitBreaker(name = "memberService")
+    @Retry(name = "memberService")
+    public Mono<MemberDto> getMember(Long memberId) {
+        return MockLatency.delayed(latency, () -> members.getMember(memberId));
+    }
+}
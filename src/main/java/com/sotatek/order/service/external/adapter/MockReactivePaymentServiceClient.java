@@ -0,0 +1,43 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.service.external.ReactivePaymentServiceClient;
+import com.sotatek.order.service.external.dto.PaymentDto;
+import com.sotatek.order.service.external.dto.PaymentRequestDto;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive mock of Payment Service
+ * Behaves like {@link MockPaymentServiceClient}
+ */
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "true", matchIfMissing = true)
+public class MockReactivePaymentServiceClient implements ReactivePaymentServiceClient {
+
+    private final MockPaymentServiceClient payments = new MockPaymentServiceClient();
+
+    @Value("${external.mock.latency:PT0S}")
+    private Duration latency;
+
+    @Override
+    @CircuitBreaker(name = "paymentService")
+    @Retry(name = "paymentService")
+    public Mono<PaymentDto> createPayment(PaymentRequestDto request) {
+        return MockLatency.delayed(latency, () -> payments.createPayment(request));
+    }
+
+    @Override
+    @CircuitBreaker(name = "paymentService")
+    @Retry(name = "paymentService")
+    public Mono<PaymentDto> getPayment(Long paymentId) {
+        return MockLatency.delayed(latency, () -> payments.getPayment(paymentId));
+    }
+}
@@ -0,0 +1,43 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.service.external.ReactiveProductServiceClient;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStockDto;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive mock of Product Service
+ * Serves the same canned products and stock as {@link MockProductServiceClient}
+ */
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "true", matchIfMissing = true)
+public class MockReactiveProductServiceClient implements ReactiveProductServiceClient {
+
+    private final MockProductServiceClient products = new MockProductServiceClient();
+
+    @Value("${external.mock.latency:PT0S}")
+    private Duration latency;
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Mono<ProductDto> getProduct(Long productId) {
+        return MockLatency.delayed(latency, () -> products.getProduct(productId));
+    }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Mono<ProductStockDto> getProductStock(Long productId) {
+        return MockLatency.delayed(latency, () -> products.getProductStock(productId));
+    }
+}
@@ -0,0 +1,59 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.exception.ExternalServiceException;
+import com.sotatek.order.service.external.ProductCatalogSource;
+import com.sotatek.order.service.external.dto.ProductCatalogPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Catalog feed of Product Service over HTTP
+ * No retry or circuit breaker: a failed poll is simply repeated on the next sync.
+ */
+@Component
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "false")
+@Slf4j
+@RequiredArgsConstructor
+public class RestProductCatalogSource implements ProductCatalogSource {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${external.product-service.url}")
+    private String baseUrl;
+
+    @Override
+    public ProductCatalogPage snapshot() {
+        return get(baseUrl + "/api/products/catalog");
+    }
+
+    @Override
+    public ProductCatalogPage changesSince(String cursor, int limit) {
+        return get(baseUrl + "/api/products/catalog/changes?cursor="
+                + URLEncoder.encode(cursor, StandardCharsets.UTF_8) + "&limit=" + limit);
+    }
+
+    private ProductCatalogPage get(String url) {
+        try {
+            ProductCatalogPage page = restTemplate.getForObject(url, ProductCatalogPage.class);
+            if (page == null || page.getCursor() == null) {
+                throw new ExternalServiceException("Product catalog response is empty: url=" + url);
+            }
+            return page;
+        } catch (RestClientResponseException ex) {
+            log.error("Product catalog error: status={}, body={}", ex.getRawStatusCode(), ex.getResponseBodyAsString());
+            throw new ExternalServiceException("Product catalog error: status=" + ex.getRawStatusCode(), ex);
+        } catch (RestClientException ex) {
+            log.error("Product catalog call failed: {}", ex.getMessage());
+            throw new ExternalServiceException("Product catalog call failed: " + ex.getMessage(), ex);
+        }
+    }
+}
@@ -7,30 +7,70 @@ import com.sotatek.order.exception.ExternalServiceException;
 import com.sotatek.order.exception.ProductNotFoundException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Product Service over REST
+ *
+ * The API only offers lookups by single product ID, so batch lookups fan out over them on a shared
+ * pool of {@code external.product-service.batch-concurrency} threads, which bounds the calls in
+ * flight across all callers.
+ */
 @Component
 @ConditionalOnProperty(name = "external.mock.enabled", havingValue = "false")
 @Slf4j
-@RequiredArgsConstructor
 public class RestProductServiceClient implements ProductServiceClient {
 
     private final RestTemplate restTemplate;
+    private final ThreadPoolTaskExecutor batchExecutor = new ThreadPoolTaskExecutor();
 
     @Value("${external.product-service.url}")
     private String baseUrl;
 
+    public RestProductServiceClient(RestTemplate restTemplate,
+                                    @Value("${external.product-service.batch-concurrency:8}") int batchConcurrency) {
+        this.restTemplate = restTemplate;
+        batchExecutor.setCorePoolSize(batchConcurrency);
+        batchExecutor.setMaxPoolSize(batchConcurrency);
+        batchExecutor.setThreadNamePrefix("product-batch-");
+        batchExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
+    }
+
     @Override
     @CircuitBreaker(name = "productService")
     @Retry(name = "productService")
     public ProductDto getProduct(Long productId) {
+        return fetchProduct(productId);
+    }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public ProductStockDto getProductStock(Long productId) {
+        return fetchProductStock(productId);
+    }
+
+    private ProductDto fetchProduct(Long productId) {
         String url = baseUrl + "/api/products/" + productId;
 
         try {
@@ -51,10 +91,7 @@ public class RestProductServiceClient implements ProductServiceClient {
         }
     }
 
-    @Override
-    @CircuitBreaker(name = "productService")
-    @Retry(name = "productService")
-    public ProductStockDto getProductStock(Long productId) {
+    private ProductStockDto fetchProductStock(Long productId) {
         String url = baseUrl + "/api/products/" + productId + "/stock";
 
         try {
@@ -74,4 +111,41 @@ public class RestProductServiceClient implements ProductServiceClient {
             throw new ExternalServiceException("Product stock call failed: " + ex.getMessage(), ex);
         }
     }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Map<Long, ProductDto> getProducts(Collection<Long> productIds) {
+        return fanOut(productIds, this::fetchProduct);
+    }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Map<Long, ProductStockDto> getProductStocks(Collection<Long> productIds) {
+        return fanOut(productIds, this::fetchProductStock);
+    }
+
+    /**
+     * Look up every ID with the single-ID call, concurrently on the batch pool
+     * The first failure, in ID order, is rethrown as is.
+     */
+    private <T> Map<Long, T> fanOut(Collection<Long> productIds, Function<Long, T> lookup) {
+        Map<Long, CompletableFuture<T>> lookups = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            lookups.computeIfAbsent(productId, id -> CompletableFuture.supplyAsync(() -> lookup.apply(id), batchExecutor));
+        }
+
+        Map<Long, T> found = new LinkedHashMap<>();
+        try {
+            lookups.forEach((productId, result) -> found.put(productId, result.join()));
+        } catch (CompletionException e) {
+            lookups.values().forEach(result -> result.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return found;
+    }
 }
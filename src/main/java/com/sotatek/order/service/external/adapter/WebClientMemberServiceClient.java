@@ -0,0 +1,54 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.exception.ExternalServiceException;
+import com.sotatek.order.exception.MemberNotFoundException;
+import com.sotatek.order.service.external.ReactiveMemberServiceClient;
+import com.sotatek.order.service.external.dto.MemberDto;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "false")
+@Slf4j
+public class WebClientMemberServiceClient implements ReactiveMemberServiceClient {
+
+    private final WebClient webClient;
+
+    public WebClientMemberServiceClient(WebClient.Builder builder,
+                                        @Value("${external.member-service.url}") String baseUrl) {
+        this.webClient = builder.baseUrl(baseUrl).build();
+    }
+
+    @Override
+    @CircuitBreaker(name = "memberService")
+    @Retry(name = "memberService")
+    public Mono<MemberDto> getMember(Long memberId) {
+        return webClient.get()
+                .uri("/api/members/{id}", memberId)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(),
+                        response -> Mono.error(new MemberNotFoundException(memberId)))
+                .bodyToMono(MemberDto.class)
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException(
+                        "Member service returned empty response: memberId=" + memberId)))
+                .onErrorMap(WebClientResponseException.class, ex -> {
+                    log.error("Member service error: status={}, body={}", ex.getStatusCode().value(), ex.getResponseBodyAsString());
+                    return new ExternalServiceException("Member service error: status=" + ex.getStatusCode().value(), ex);
+                })
+                .onErrorMap(WebClientRequestException.class, ex -> {
+                    log.error("Member service call failed: {}", ex.getMessage());
+                    return new ExternalServiceException("Member service call failed: " + ex.getMessage(), ex);
+                });
+    }
+}
@@ -0,0 +1,79 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.exception.ExternalServiceException;
+import com.sotatek.order.exception.PaymentFailedException;
+import com.sotatek.order.exception.PaymentNotFoundException;
+import com.sotatek.order.service.external.ReactivePaymentServiceClient;
+import com.sotatek.order.service.external.dto.PaymentDto;
+import com.sotatek.order.service.external.dto.PaymentRequestDto;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "false")
+@Slf4j
+public class WebClientPaymentServiceClient implements ReactivePaymentServiceClient {
+
+    private final WebClient webClient;
+
+    public WebClientPaymentServiceClient(WebClient.Builder builder,
+                                         @Value("${external.payment-service.url}") String baseUrl) {
+        this.webClient = builder.baseUrl(baseUrl).build();
+    }
+
+    @Override
+    @CircuitBreaker(name = "paymentService")
+    @Retry(name = "paymentService")
+    public Mono<PaymentDto> createPayment(PaymentRequestDto request) {
+        return webClient.post()
+                .uri("/api/payments")
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.BAD_REQUEST.value()
+                                || status.value() == HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        response -> Mono.error(new PaymentFailedException(
+                                "Payment request rejected: status=" + response.statusCode().value())))
+                .bodyToMono(PaymentDto.class)
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException(
+                        "Payment service returned empty response: orderId=" + request.getOrderId())))
+                .onErrorMap(WebClientResponseException.class, this::serviceError)
+                .onErrorMap(WebClientRequestException.class, this::callFailed);
+    }
+
+    @Override
+    @CircuitBreaker(name = "paymentService")
+    @Retry(name = "paymentService")
+    public Mono<PaymentDto> getPayment(Long paymentId) {
+        return webClient.get()
+                .uri("/api/payments/{id}", paymentId)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(),
+                        response -> Mono.error(new PaymentNotFoundException(paymentId)))
+                .bodyToMono(PaymentDto.class)
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException(
+                        "Payment service returned empty response: paymentId=" + paymentId)))
+                .onErrorMap(WebClientResponseException.class, this::serviceError)
+                .onErrorMap(WebClientRequestException.class, this::callFailed);
+    }
+
+    private ExternalServiceException serviceError(WebClientResponseException ex) {
+        log.error("Payment service error: status={}, body={}", ex.getStatusCode().value(), ex.getResponseBodyAsString());
+        return new ExternalServiceException("Payment service error: status=" + ex.getStatusCode().value(), ex);
+    }
+
+    private ExternalServiceException callFailed(WebClientRequestException ex) {
+        log.error("Payment service call failed: {}", ex.getMessage());
+        return new ExternalServiceException("Payment service call failed: " + ex.getMessage(), ex);
+    }
+}
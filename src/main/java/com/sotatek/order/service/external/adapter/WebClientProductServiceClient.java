@@ -0,0 +1,66 @@
+package com.sotatek.order.service.external.adapter;
+
+import com.sotatek.order.exception.ExternalServiceException;
+import com.sotatek.order.exception.ProductNotFoundException;
+import com.sotatek.order.service.external.ReactiveProductServiceClient;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStockDto;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "external.mock.enabled", havingValue = "false")
+@Slf4j
+public class WebClientProductServiceClient implements ReactiveProductServiceClient {
+
+    private final WebClient webClient;
+
+    public WebClientProductServiceClient(WebClient.Builder builder,
+                                         @Value("${external.product-service.url}") String baseUrl) {
+        this.webClient = builder.baseUrl(baseUrl).build();
+    }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Mono<ProductDto> getProduct(Long productId) {
+        return get("/api/products/{id}", productId, ProductDto.class, "Product service");
+    }
+
+    @Override
+    @CircuitBreaker(name = "productService")
+    @Retry(name = "productService")
+    public Mono<ProductStockDto> getProductStock(Long productId) {
+        return get("/api/products/{id}/stock", productId, ProductStockDto.class, "Product stock");
+    }
+
+    private <T> Mono<T> get(String uri, Long productId, Class<T> type, String source) {
+        return webClient.get()
+                .uri(uri, productId)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(),
+                        response -> Mono.error(new ProductNotFoundException(productId)))
+                .bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException(
+                        source + " returned empty response: productId=" + productId)))
+                .onErrorMap(WebClientResponseException.class, ex -> {
+                    log.error("{} error: status={}, body={}", source, ex.getStatusCode().value(), ex.getResponseBodyAsString());
+                    return new ExternalServiceException(source + " error: status=" + ex.getStatusCode().value(), ex);
+                })
+                .onErrorMap(WebClientRequestException.class, ex -> {
+                    log.error("{} call failed: {}", source, ex.getMessage());
+                    return new ExternalServiceException(source + " call failed: " + ex.getMessage(), ex);
+                });
+    }
+}
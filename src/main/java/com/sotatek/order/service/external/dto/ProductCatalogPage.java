@@ -0,0 +1,25 @@
+package com.sotatek.order.service.external.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a catalog snapshot or a page of catalog changes from Product Service
+ * A snapshot holds every product; a page of changes holds the products changed after the requested
+ * cursor and the IDs of removed products. {@code cursor} is where the next page of changes starts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductCatalogPage {
+
+    private String cursor;
+    private List<ProductDto> products;
+    private List<Long> removedIds;
+    private boolean hasMore;
+}
@@ -0,0 +1,380 @@
+package com.sotatek.order.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sotatek.order.admission.MemberRateLimiter;
+import com.sotatek.order.controller.request.OrderItemRequest;
+import com.sotatek.order.controller.response.LargeOrderResponse;
+import com.sotatek.order.domain.Order;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.InvalidOrderRequestException;
+import com.sotatek.order.exception.PaymentFailedException;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.service.LargeOrderService;
+import com.sotatek.order.service.OrderValidator;
+import com.sotatek.order.service.external.MemberServiceClient;
+import com.sotatek.order.service.external.PaymentServiceClient;
+import com.sotatek.order.service.external.ProductServiceClient;
+import com.sotatek.order.service.external.dto.*;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of LargeOrderService
+ *
+ * The body is read token by token. Once memberId and paymentMethod are known the member is
+ * validated and rate limited, then items are collected into chunks of {@code order.large-orders.chunk-size}.
+ * Each chunk resolves its not yet seen products and stocks with one batched call each, checks the
+ * cumulative quantity per product against the stock, and is priced into staged order_items rows;
+ * the total is summed in cents. None of this holds a transaction: the order, its items (one JDBC
+ * batch per chunk) and the payment are written in a short one once the body has been read.
+ * Items never enter the persistence context. Payment, aggregates and the status event then follow
+ * the regular create flow, including a pending payment leaving the order PENDING for the
+ * reconciliation job and a declined one expiring it.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LargeOrderServiceImpl implements LargeOrderService {
+
+    private static final String INSERT_ITEM_SQL = """
+            INSERT INTO order_items (order_id, product_id, product_name, unit_price, quantity, subtotal)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    // Largest value of an orders.total_amount / order_items.subtotal numeric(10, 2), in cents
+    private static final long MAX_AMOUNT_CENTS = 9_999_999_999L;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderRepository orderRepository;
+    private final OrderAggregateRepository orderAggregateRepository;
+    private final MemberRateLimiter memberRateLimiter;
+    private final MemberServiceClient memberServiceClient;
+    private final ProductServiceClient productServiceClient;
+    private final PaymentServiceClient paymentServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${order.large-orders.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.large-orders.max-items:100000}")
+    private int maxItems;
+
+    @Override
+    public LargeOrderResponse createOrder(InputStream body) {
+        ItemStager items;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            items = stage(parser);
+        } catch (JsonProcessingException e) {
+            throw new InvalidOrderRequestException("Malformed order request: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // A failed payment is rethrown once the EXPIRED or PENDING order it leaves has committed
+        PaymentOutcome outcome = transactionTemplate.execute(status -> insertAndPay(items));
+        if (outcome.failure != null) {
+            throw outcome.failure;
+        }
+        Order order = outcome.order;
+
+        return LargeOrderResponse.builder()
+                .id(order.getId())
+                .memberId(order.getMemberId())
+                .memberName(order.getMemberName())
+                .status(order.getStatus())
+                .itemCount(items.itemCount)
+                .totalAmount(order.getTotalAmount())
+                .paymentMethod(order.getPaymentMethod())
+                .paymentId(order.getPaymentId())
+                .transactionId(order.getTransactionId())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Read, validate and price the whole body without touching the database
+     */
+    private ItemStager stage(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new InvalidOrderRequestException("Order request must be a JSON object");
+        }
+
+        Long memberId = null;
+        PaymentMethod paymentMethod = null;
+        ItemStager items = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "memberId" -> memberId = objectMapper.readValue(parser, Long.class);
+                case "paymentMethod" -> paymentMethod = objectMapper.readValue(parser, PaymentMethod.class);
+                case "items" -> {
+                    if (items != null) {
+                        throw new InvalidOrderRequestException("items must appear only once");
+                    }
+                    if (memberId == null || memberId <= 0 || paymentMethod == null) {
+                        throw new InvalidOrderRequestException(
+                                "A positive memberId and a paymentMethod must precede items");
+                    }
+                    if (parser.currentToken() != JsonToken.START_ARRAY) {
+                        throw new InvalidOrderRequestException("items must be an array");
+                    }
+
+                    items = new ItemStager(memberId, admitMember(memberId), paymentMethod);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(objectMapper.readValue(parser, OrderItemRequest.class));
+                    }
+                    if (parser.currentToken() != JsonToken.END_ARRAY) {
+                        throw new InvalidOrderRequestException("items must only contain objects");
+                    }
+                    items.flush();
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (items == null || items.itemCount == 0) {
+            throw new InvalidOrderRequestException("Order must contain at least one item");
+        }
+        return items;
+    }
+
+    private MemberDto admitMember(Long memberId) {
+        MemberDto member = memberServiceClient.getMember(memberId);
+
+        OrderValidator.requireActiveMember(memberId, member);
+
+        memberRateLimiter.acquire(memberId, member.getGrade());
+
+        return member;
+    }
+
+    /**
+     * Insert the PENDING order and its staged items, then pay, in the caller's transaction
+     */
+    private PaymentOutcome insertAndPay(ItemStager items) {
+        Order order = orderRepository.saveAndFlush(Order.builder()
+                .memberId(items.memberId)
+                .memberName(items.member.getName())
+                .status(OrderStatus.PENDING)
+                .paymentMethod(items.paymentMethod)
+                .totalAmount(BigDecimal.valueOf(items.totalCents, 2))
+                .build());
+
+        for (List<Object[]> rows : items.chunks) {
+            for (Object[] row : rows) {
+                row[0] = order.getId();
+            }
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, rows);
+        }
+        log.info("Large order saved with PENDING status: orderId={}, items={}, totalAmount={}",
+                order.getId(), items.itemCount, order.getTotalAmount());
+
+        try {
+            order = processPayment(order);
+        } catch (PaymentFailedException e) {
+            return new PaymentOutcome(order, e);
+        }
+
+        if (order.getStatus() == OrderStatus.PENDING) {
+            // Not settled yet, counted and published once the reconciliation job confirms it
+            log.info("Payment pending, large order stays PENDING: orderId={}, paymentId={}",
+                    order.getId(), order.getPaymentId());
+        } else {
+            orderAggregateRepository.recordOrderTotals(order.getMemberId(), items.productTotals);
+            publishStatusChange(order, null);
+
+            log.info("Large order created successfully: orderId={}, status={}", order.getId(), order.getStatus());
+        }
+        return new PaymentOutcome(order, null);
+    }
+
+    private Order processPayment(Order order) {
+        try {
+            PaymentDto payment = paymentServiceClient.createPayment(PaymentRequestDto.builder()
+                    .orderId(order.getId())
+                    .amount(order.getTotalAmount())
+                    .paymentMethod(order.getPaymentMethod())
+                    .build());
+
+            order.setPaymentId(payment.getId());
+            if (payment.getStatus() == PaymentStatus.COMPLETED) {
+                order.setTransactionId(payment.getTransactionId());
+                order.setStatus(OrderStatus.CONFIRMED);
+            } else if (payment.getStatus() != PaymentStatus.PENDING) {
+                // FAILED or REFUNDED: the payment will never settle, handled as a decline
+                throw new PaymentFailedException("Payment " + payment.getStatus() + ": paymentId=" + payment.getId());
+            }
+
+            return orderRepository.save(order);
+        } catch (PaymentFailedException e) {
+            log.error("Payment declined for orderId={}: {}", order.getId(), e.getMessage());
+            // Declined by Payment Service, the order will not be paid
+            order.setStatus(OrderStatus.EXPIRED);
+            orderRepository.save(order);
+            publishStatusChange(order, OrderStatus.PENDING);
+            throw e;
+        } catch (Exception e) {
+            log.error("Payment failed for orderId={}: {}", order.getId(), e.getMessage());
+            // Outcome unknown, the member may have been charged: the order stays PENDING for review
+            throw new PaymentFailedException("Payment processing failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void publishStatusChange(Order order, OrderStatus previousStatus) {
+        eventPublisher.publishEvent(OrderStatusChangedEvent.builder()
+                .orderId(order.getId())
+                .memberId(order.getMemberId())
+                .previousStatus(previousStatus)
+                .status(order.getStatus())
+                .paymentMethod(order.getPaymentMethod())
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Order and payment outcome of {@link #insertAndPay(ItemStager)}, failure is set when the payment failed
+     */
+    private static final class PaymentOutcome {
+
+        private final Order order;
+        private final PaymentFailedException failure;
+
+        private PaymentOutcome(Order order, PaymentFailedException failure) {
+            this.order = order;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Validates and prices items chunk by chunk into order_items rows, inserted later
+     * Holds the staged rows (bounded by max-items) plus one entry per distinct product
+     */
+    private final class ItemStager {
+
+        private final Long memberId;
+        private final MemberDto member;
+        private final PaymentMethod paymentMethod;
+        private final List<OrderItemRequest> chunk = new ArrayList<>(chunkSize);
+        // One JDBC batch per chunk, the order_id of each row is set at insert time
+        private final List<List<Object[]>> chunks = new ArrayList<>();
+        private final Map<Long, ProductDto> products = new HashMap<>();
+        private final Map<Long, Integer> availableStock = new HashMap<>();
+        // {item count, total quantity} per product, also feeds product_sales
+        private final Map<Long, long[]> productTotals = new HashMap<>();
+        private int itemCount;
+        private long totalCents;
+
+        private ItemStager(Long memberId, MemberDto member, PaymentMethod paymentMethod) {
+            this.memberId = memberId;
+            this.member = member;
+            this.paymentMethod = paymentMethod;
+        }
+
+        void add(OrderItemRequest item) {
+            if (itemCount + chunk.size() >= maxItems) {
+                throw new InvalidOrderRequestException("Order cannot contain more than " + maxItems + " items");
+            }
+
+            Set<ConstraintViolation<OrderItemRequest>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<OrderItemRequest> violation = violations.iterator().next();
+                throw new InvalidOrderRequestException("items[" + (itemCount + chunk.size()) + "]."
+                        + violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+
+            chunk.add(item);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            resolveProducts();
+
+            List<Object[]> rows = new ArrayList<>(chunk.size());
+            for (OrderItemRequest item : chunk) {
+                Long productId = item.getProductId();
+                int quantity = item.getQuantity();
+
+                long[] totals = productTotals.computeIfAbsent(productId, key -> new long[2]);
+                totals[0]++;
+                totals[1] += quantity;
+
+                OrderValidator.requireStock(productId, totals[1], availableStock.get(productId));
+
+                ProductDto product = products.get(productId);
+                BigDecimal unitPrice = product.getPrice().setScale(2, RoundingMode.HALF_UP);
+                BigDecimal subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+                long subtotalCents = subtotal.unscaledValue().longValueExact();
+                if (subtotalCents > MAX_AMOUNT_CENTS || subtotalCents > MAX_AMOUNT_CENTS - totalCents) {
+                    throw new InvalidOrderRequestException("Order total cannot exceed "
+                            + BigDecimal.valueOf(MAX_AMOUNT_CENTS, 2));
+                }
+                totalCents += subtotalCents;
+
+                rows.add(new Object[]{null, productId, product.getName(), unitPrice, quantity, subtotal});
+            }
+
+            chunks.add(rows);
+            itemCount += chunk.size();
+            chunk.clear();
+        }
+
+        private void resolveProducts() {
+            Set<Long> unseen = new LinkedHashSet<>();
+            for (OrderItemRequest item : chunk) {
+                if (!products.containsKey(item.getProductId())) {
+                    unseen.add(item.getProductId());
+                }
+            }
+            if (unseen.isEmpty()) {
+                return;
+            }
+
+            log.debug("Resolving products: memberId={}, count={}", memberId, unseen.size());
+            Map<Long, ProductDto> resolved = productServiceClient.getProducts(unseen);
+            resolved.values().forEach(OrderValidator::requireAvailable);
+            products.putAll(resolved);
+
+            productServiceClient.getProductStocks(unseen)
+                    .forEach((productId, stock) -> availableStock.put(productId, stock.getAvailableQuantity()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.controller.response.TopProductsResponse;
+import com.sotatek.order.exception.InvalidStatsQueryException;
+import com.sotatek.order.exception.SnapshotUnavailableException;
+import com.sotatek.order.service.OrderAnalyticsService;
+import com.sotatek.order.snapshot.OrderSnapshot;
+import com.sotatek.order.snapshot.OrderSnapshotQuery;
+import com.sotatek.order.snapshot.OrderSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of OrderAnalyticsService
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderAnalyticsServiceImpl implements OrderAnalyticsService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final OrderSnapshotStore snapshotStore;
+    private final OrderSnapshotQuery snapshotQuery;
+
+    @Override
+    public TopProductsResponse getTopProducts(LocalDateTime from, LocalDateTime to, int limit) {
+        if (!from.isBefore(to)) {
+            throw new InvalidStatsQueryException("'from' must be before 'to'");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidStatsQueryException("'limit' must be between 1 and " + MAX_LIMIT);
+        }
+
+        OrderSnapshot snapshot = snapshotStore.current().orElseThrow(SnapshotUnavailableException::new);
+        log.debug("Top products from snapshot {}: from={}, to={}, limit={}", snapshot.getCreatedAt(), from, to, limit);
+
+        List<TopProductsResponse.ProductSales> products = snapshotQuery.topProductsByRevenue(snapshot, from, to, limit)
+                .stream()
+                .map(total -> TopProductsResponse.ProductSales.builder()
+                        .productId(total.getProductId())
+                        .productName(total.getProductName())
+                        .quantity(total.getQuantity())
+                        .revenue(BigDecimal.valueOf(total.getRevenueCents(), 2))
+                        .build())
+                .toList();
+
+        return TopProductsResponse.builder()
+                .snapshotAt(snapshot.getCreatedAt())
+                .from(from)
+                .to(to)
+                .products(products)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.InvalidAwaitRequestException;
+import com.sotatek.order.service.OrderAwaitService;
+import com.sotatek.order.service.OrderService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of OrderAwaitService
+ *
+ * Waiters are parked as DeferredResults in a map keyed by order ID. A waiter is registered before
+ * the current status is read, so a transition committed in between is never missed. Committed
+ * transitions of this instance wake waiters directly; other instances forward theirs through
+ * PostgreSQL NOTIFY (see {@link PostgresOrderStatusNotifier}). The order is reloaded on a small
+ * dedicated pool, keeping the committing request thread free.
+ */
+@Service
+@Slf4j
+public class OrderAwaitServiceImpl implements OrderAwaitService {
+
+    private final OrderService orderService;
+    private final ConcurrentMap<Long, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @Value("${order.await.max-timeout:PT30S}")
+    private Duration maxTimeout;
+
+    public OrderAwaitServiceImpl(OrderService orderService,
+                                 @Value("${order.await.wakeup-threads:2}") int wakeupThreads) {
+        this.orderService = orderService;
+        executor.setCorePoolSize(wakeupThreads);
+        executor.setMaxPoolSize(wakeupThreads);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("order-await-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public DeferredResult<OrderResponse> await(Long orderId, OrderStatus status, String timeout) {
+        Duration wait = parseTimeout(timeout);
+
+        DeferredResult<OrderResponse> result = new DeferredResult<>(wait.toMillis());
+        Waiter waiter = new Waiter(orderId, status, result);
+        waiters.computeIfAbsent(orderId, id -> ConcurrentHashMap.newKeySet()).add(waiter);
+        result.onCompletion(() -> unregister(waiter));
+        result.onTimeout(() -> complete(waiter));
+
+        OrderResponse current;
+        try {
+            current = orderService.getOrderById(orderId);
+        } catch (RuntimeException e) {
+            unregister(waiter);
+            throw e;
+        }
+
+        if (isReached(current.getStatus(), status)) {
+            result.setResult(current);
+        }
+        return result;
+    }
+
+    @Override
+    public void notifyStatusChanged(Long orderId, OrderStatus status) {
+        Set<Waiter> orderWaiters = waiters.get(orderId);
+        if (orderWaiters == null) {
+            return;
+        }
+
+        for (Waiter waiter : orderWaiters) {
+            if (isReached(status, waiter.status)) {
+                try {
+                    executor.execute(() -> complete(waiter));
+                } catch (TaskRejectedException e) {
+                    complete(waiter);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        notifyStatusChanged(event.getOrderId(), event.getStatus());
+    }
+
+    private void complete(Waiter waiter) {
+        try {
+            waiter.result.setResult(orderService.getOrderById(waiter.orderId));
+        } catch (RuntimeException e) {
+            waiter.result.setErrorResult(e);
+        }
+    }
+
+    private void unregister(Waiter waiter) {
+        waiters.computeIfPresent(waiter.orderId, (id, set) -> {
+            set.remove(waiter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private Duration parseTimeout(String timeout) {
+        Duration wait;
+        try {
+            wait = DurationStyle.detectAndParse(timeout);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAwaitRequestException("Invalid timeout: " + timeout);
+        }
+        if (wait.isNegative() || wait.isZero() || wait.compareTo(maxTimeout) > 0) {
+            throw new InvalidAwaitRequestException("Timeout must be positive and at most " + maxTimeout);
+        }
+        return wait;
+    }
+
+    private static boolean isReached(OrderStatus actual, OrderStatus awaited) {
+        return actual == awaited || actual.isTerminal();
+    }
+
+    private static final class Waiter {
+        private final Long orderId;
+        private final OrderStatus status;
+        private final DeferredResult<OrderResponse> result;
+
+        private Waiter(Long orderId, OrderStatus status, DeferredResult<OrderResponse> result) {
+            this.orderId = orderId;
+            this.status = status;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.controller.request.BulkCancelRequest;
+import com.sotatek.order.controller.response.BulkCancelResponse;
+import com.sotatek.order.controller.response.BulkCancelResponse.Outcome;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.OrderCancellationRepository;
+import com.sotatek.order.repository.OrderCancellationRepository.CancelledOrder;
+import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.repository.OrderStatusView;
+import com.sotatek.order.service.OrderCancellationService;
+import com.sotatek.order.service.OrderValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of OrderCancellationService
+ *
+ * Each chunk of {@code order.bulk-cancel.chunk-size} orders is cancelled in its own transaction by one
+ * UPDATE returning the cancelled rows. Aggregates are adjusted from a grouped sum of the cancelled
+ * items and a status change is published per order, as for a single cancellation.
+ */
+@Service
+@Slf4j
+public class OrderCancellationServiceImpl implements OrderCancellationService {
+
+    private final OrderCancellationRepository cancellationRepository;
+    private final OrderRepository orderRepository;
+    private final OrderAggregateRepository orderAggregateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OrderCancellationServiceImpl(OrderCancellationRepository cancellationRepository,
+                                        OrderRepository orderRepository,
+                                        OrderAggregateRepository orderAggregateRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${order.bulk-cancel.chunk-size:500}") int chunkSize) {
+        this.cancellationRepository = cancellationRepository;
+        this.orderRepository = orderRepository;
+        this.orderAggregateRepository = orderAggregateRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkCancelResponse cancelOrders(BulkCancelRequest request) {
+        OrderValidator.validateBulkCancel(request);
+
+        BulkCancelResponse response = request.getIds() != null
+                ? cancelByIds(new ArrayList<>(new LinkedHashSet<>(request.getIds())))
+                : cancelByFilter(request.getFilter());
+
+        log.info("Bulk cancellation done: cancelled={}, results={}, hasMore={}",
+                response.getCancelled(), response.getResults().size(), response.isHasMore());
+        return response;
+    }
+
+    private BulkCancelResponse cancelByIds(List<Long> ids) {
+        log.info("Cancelling orders by id: count={}", ids.size());
+
+        Map<Long, BulkCancelResponse.Result> results = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (CancelledOrder order : cancel(chunk)) {
+                    results.put(order.getId(), result(order.getId(), Outcome.CANCELLED, OrderStatus.CANCELLED));
+                }
+
+                // Explain the rest from the status columns only
+                List<Long> remaining = chunk.stream().filter(id -> !results.containsKey(id)).toList();
+                if (!remaining.isEmpty()) {
+                    for (OrderStatusView view : orderRepository.findStatusesByIdIn(remaining)) {
+                        results.put(view.getId(), result(view.getId(), Outcome.NOT_CANCELLABLE, view.getStatus()));
+                    }
+                }
+            });
+        }
+
+        List<BulkCancelResponse.Result> ordered = ids.stream()
+                .map(id -> results.getOrDefault(id, result(id, Outcome.NOT_FOUND, null)))
+                .collect(Collectors.toList());
+        return BulkCancelResponse.builder()
+                .cancelled((int) ordered.stream().filter(r -> r.getOutcome() == Outcome.CANCELLED).count())
+                .results(ordered)
+                .build();
+    }
+
+    private BulkCancelResponse cancelByFilter(BulkCancelRequest.Filter filter) {
+        log.info("Cancelling orders by filter: memberId={}, createdFrom={}, createdTo={}",
+                filter.getMemberId(), filter.getCreatedFrom(), filter.getCreatedTo());
+
+        List<BulkCancelResponse.Result> results = new ArrayList<>();
+        long afterId = 0;
+        while (results.size() < BulkCancelRequest.MAX_ORDERS) {
+            int limit = Math.min(chunkSize, BulkCancelRequest.MAX_ORDERS - results.size());
+            List<Long> ids = cancellationRepository.findConfirmedIds(
+                    filter.getMemberId(), filter.getCreatedFrom(), filter.getCreatedTo(), afterId, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+
+            // Orders changed since the page was read are not CONFIRMED anymore and simply not matched
+            List<CancelledOrder> cancelled = transactionTemplate.execute(status -> cancel(ids));
+            for (CancelledOrder order : cancelled) {
+                results.add(result(order.getId(), Outcome.CANCELLED, OrderStatus.CANCELLED));
+            }
+            if (ids.size() < limit) {
+                break;
+            }
+        }
+
+        boolean hasMore = results.size() >= BulkCancelRequest.MAX_ORDERS && !cancellationRepository.findConfirmedIds(
+                filter.getMemberId(), filter.getCreatedFrom(), filter.getCreatedTo(), afterId, 1).isEmpty();
+        return BulkCancelResponse.builder()
+                .cancelled(results.size())
+                .hasMore(hasMore)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Cancel one chunk in the current transaction and record it like single cancellations
+     */
+    private List<CancelledOrder> cancel(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CancelledOrder> cancelled = cancellationRepository.cancelConfirmed(ids, now);
+        if (cancelled.isEmpty()) {
+            return cancelled;
+        }
+
+        List<Long> cancelledIds = cancelled.stream().map(CancelledOrder::getId).toList();
+        Map<Long, Long> ordersByMember = cancelled.stream()
+                .collect(Collectors.groupingBy(CancelledOrder::getMemberId, Collectors.counting()));
+        orderAggregateRepository.recordCancellationTotals(ordersByMember,
+                cancellationRepository.sumItemsByProduct(cancelledIds));
+
+        for (CancelledOrder order : cancelled) {
+            eventPublisher.publishEvent(OrderStatusChangedEvent.builder()
+                    .orderId(order.getId())
+                    .memberId(order.getMemberId())
+                    .previousStatus(OrderStatus.CONFIRMED)
+                    .status(OrderStatus.CANCELLED)
+                    .paymentMethod(order.getPaymentMethod())
+                    .totalAmount(order.getTotalAmount())
+                    .occurredAt(now)
+                    .build());
+        }
+        return cancelled;
+    }
+
+    private static BulkCancelResponse.Result result(Long id, Outcome outcome, OrderStatus status) {
+        return BulkCancelResponse.Result.builder()
+                .id(id)
+                .outcome(outcome)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.repository.OrderEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends every order status change to order_events
+ * Runs synchronously inside the publishing transaction, so the event commits or rolls back
+ * together with the status change and a failed append fails the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventLogWriter {
+
+    private final OrderEventRepository orderEventRepository;
+
+    @EventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        orderEventRepository.append(event);
+    }
+}
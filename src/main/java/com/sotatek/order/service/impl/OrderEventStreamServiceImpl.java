@@ -0,0 +1,406 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.controller.response.OrderEventResponse;
+import com.sotatek.order.repository.OrderEventRepository;
+import com.sotatek.order.service.OrderEventStreamService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Implementation of OrderEventStreamService
+ *
+ * One scheduled tail query per poll interval reads new rows of order_events and fans them out to
+ * every subscriber, all events of a tick in a single write and flush per subscriber. Recent events
+ * are kept in a bounded buffer, so reconnecting clients resume from memory; only cursors older than
+ * the buffer are read from the database, page by page.
+ *
+ * The poll thread never writes to a client. It queues each subscriber's batch, and a small pool
+ * ({@code order.events.send-threads}) drains the queue of one subscriber at a time. A subscriber
+ * with more than {@code subscriber-queue-size} events waiting is disconnected; it reconnects with
+ * {@code Last-Event-ID} and catches up from the buffer or the table like any other client.
+ *
+ * Event IDs are allocated before commit, so a smaller ID can become visible after a larger one.
+ * The tail stops at a gap and waits up to {@code order.events.gap-timeout} for it to be filled.
+ * It then moves on but keeps the skipped IDs, at most {@code max-skipped}, and looks them up again
+ * every tick for {@code skipped-retention}, after which they count as rolled back. An event that
+ * shows up late goes into the buffer at its place and is sent to the subscribers already past it,
+ * out of order; subscribers resuming past it within the retention receive it as well.
+ */
+@Service
+@Slf4j
+public class OrderEventStreamServiceImpl implements OrderEventStreamService {
+
+    private final OrderEventRepository orderEventRepository;
+    private final Clock clock = Clock.systemUTC();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Events after {@link #bufferFloor}, up to {@link #head}, by ID; only touched by the poll thread
+     */
+    private final NavigableMap<Long, OrderEventResponse> buffer = new TreeMap<>();
+    private long bufferFloor = -1;
+    private volatile long head = -1;
+
+    private long gapAfterId = -1;
+    private Instant gapSeenAt;
+
+    /**
+     * IDs passed over by the tail while uncommitted, with the time they were skipped
+     */
+    private final Map<Long, Instant> skippedIds = new LinkedHashMap<>();
+
+    /**
+     * Skipped events that committed later, with the time they were found
+     */
+    private final NavigableMap<Long, LateEvent> lateEvents = new TreeMap<>();
+
+    @Value("${order.events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.events.buffer-size:10000}")
+    private int bufferSize;
+
+    @Value("${order.events.gap-timeout:PT5S}")
+    private Duration gapTimeout;
+
+    @Value("${order.events.skipped-retention:PT5M}")
+    private Duration skippedRetention;
+
+    @Value("${order.events.max-skipped:1000}")
+    private int maxSkipped;
+
+    @Value("${order.events.subscriber-queue-size:1000}")
+    private int subscriberQueueSize;
+
+    @Value("${order.events.send-threads:4}")
+    private int sendThreads;
+
+    private Executor sendExecutor;
+
+    @Value("${order.events.emitter-timeout:PT30M}")
+    private Duration emitterTimeout;
+
+    @Value("${order.events.heartbeat-interval:PT15S}")
+    private Duration heartbeatInterval;
+
+    @Value("${order.events.retention:P7D}")
+    private Duration retention;
+
+    public OrderEventStreamServiceImpl(OrderEventRepository orderEventRepository) {
+        this.orderEventRepository = orderEventRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sendThreads);
+        executor.setMaxPoolSize(sendThreads);
+        executor.setThreadNamePrefix("order-events-send-");
+        executor.initialize();
+        sendExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sendExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(Long lastEventId) {
+        long cursor = lastEventId != null ? lastEventId : (head >= 0 ? head : orderEventRepository.findLatestId());
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, cursor, lastEventId != null, clock.instant());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        try {
+            // Commits the response headers so clients and proxies see the stream open immediately
+            emitter.send(SseEmitter.event().comment("subscribed after " + cursor));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        subscribers.add(subscriber);
+        log.debug("Order event subscriber added: cursor={}, subscribers={}", cursor, subscribers.size());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${order.events.poll-interval:PT0.5S}")
+    public void poll() {
+        if (subscribers.isEmpty()) {
+            // Nobody listening: forget the position, the next subscriber starts from its own cursor
+            head = -1;
+            buffer.clear();
+            skippedIds.clear();
+            lateEvents.clear();
+            return;
+        }
+
+        if (head < 0) {
+            head = orderEventRepository.findLatestId();
+            bufferFloor = head;
+        }
+
+        for (OrderEventResponse event : readNewEvents()) {
+            buffer.put(event.getId(), event);
+            head = event.getId();
+        }
+        List<OrderEventResponse> late = readSkippedEvents();
+        for (OrderEventResponse event : late) {
+            if (event.getId() > bufferFloor) {
+                buffer.put(event.getId(), event);
+            }
+        }
+        while (buffer.size() > bufferSize) {
+            bufferFloor = buffer.pollFirstEntry().getKey();
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, late);
+        }
+    }
+
+    @Scheduled(cron = "${order.events.cleanup-cron:0 30 4 * * *}")
+    public void deleteExpiredEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = orderEventRepository.deleteOlderThan(cutoff);
+        log.info("Deleted {} order events older than {}", deleted, cutoff);
+    }
+
+    /**
+     * Read committed events after {@link #head}, stopping at a gap until it times out
+     */
+    List<OrderEventResponse> readNewEvents() {
+        List<OrderEventResponse> rows = orderEventRepository.findAfter(head, batchSize);
+        List<OrderEventResponse> accepted = new ArrayList<>(rows.size());
+        Instant now = clock.instant();
+        long last = head;
+
+        for (OrderEventResponse event : rows) {
+            if (event.getId() != last + 1) {
+                if (gapAfterId != last) {
+                    gapAfterId = last;
+                    gapSeenAt = now;
+                    break;
+                }
+                if (Duration.between(gapSeenAt, now).compareTo(gapTimeout) < 0) {
+                    break;
+                }
+                log.debug("Skipping order event IDs {}..{}, not committed yet", last + 1, event.getId() - 1);
+                for (long id = last + 1; id < event.getId() && skippedIds.size() < maxSkipped; id++) {
+                    skippedIds.put(id, now);
+                }
+            }
+            accepted.add(event);
+            last = event.getId();
+        }
+        return accepted;
+    }
+
+    /**
+     * Look up the skipped IDs again, forgetting the ones skipped longer than the retention
+     *
+     * @return the skipped events committed since, in ID order
+     */
+    List<OrderEventResponse> readSkippedEvents() {
+        Instant now = clock.instant();
+        lateEvents.values().removeIf(late -> Duration.between(late.foundAt, now).compareTo(skippedRetention) >= 0);
+        skippedIds.values().removeIf(skippedAt -> Duration.between(skippedAt, now).compareTo(skippedRetention) >= 0);
+        if (skippedIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<OrderEventResponse> found = orderEventRepository.findByIds(skippedIds.keySet());
+        for (OrderEventResponse event : found) {
+            skippedIds.remove(event.getId());
+            lateEvents.put(event.getId(), new LateEvent(event, now));
+        }
+        if (!found.isEmpty()) {
+            log.debug("Found {} order events committed after they were skipped", found.size());
+        }
+        return found;
+    }
+
+    private void deliver(Subscriber subscriber, List<OrderEventResponse> late) {
+        List<OrderEventResponse> pending = new ArrayList<>();
+        if (subscriber.resumed) {
+            // The client may have disconnected before late events it had passed were sent
+            subscriber.resumed = false;
+            for (LateEvent event : lateEvents.headMap(subscriber.cursor, true).values()) {
+                pending.add(event.event);
+            }
+        } else {
+            for (OrderEventResponse event : late) {
+                if (event.getId() <= subscriber.cursor) {
+                    pending.add(event);
+                }
+            }
+        }
+
+        if (subscriber.cursor >= head) {
+            // Nothing new
+        } else if (subscriber.cursor >= bufferFloor) {
+            pending.addAll(buffer.tailMap(subscriber.cursor, false).values());
+        } else if (subscriber.queuedEvents() == 0) {
+            // Too far behind for the buffer: one page from the database per sent page until caught up
+            orderEventRepository.findAfter(subscriber.cursor, batchSize).stream()
+                    .filter(event -> event.getId() <= head)
+                    .forEach(pending::add);
+        }
+
+        if (!pending.isEmpty()) {
+            Set<ResponseBodyEmitter.DataWithMediaType> batch = new LinkedHashSet<>();
+            for (OrderEventResponse event : pending) {
+                batch.addAll(SseEmitter.event()
+                        .id(String.valueOf(event.getId()))
+                        .name(event.getStatus().name())
+                        .data(event)
+                        .build());
+            }
+            if (!enqueue(subscriber, new Outgoing(batch, pending.size()))) {
+                log.info("Disconnecting slow order event subscriber: cursor={}, queued={}",
+                        subscriber.cursor, subscriber.queuedEvents());
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.cursor = Math.max(subscriber.cursor, pending.get(pending.size() - 1).getId());
+        } else if (subscriber.queuedEvents() == 0
+                && Duration.between(subscriber.lastSentAt, clock.instant()).compareTo(heartbeatInterval) >= 0) {
+            enqueue(subscriber, new Outgoing(SseEmitter.event().comment("heartbeat").build(), 0));
+        }
+    }
+
+    /**
+     * Queue a write for the subscriber and make sure a sender drains its queue
+     *
+     * @return false if the subscriber already has too many events waiting
+     */
+    private boolean enqueue(Subscriber subscriber, Outgoing outgoing) {
+        synchronized (subscriber) {
+            if (subscriber.queuedEvents > 0 && subscriber.queuedEvents + outgoing.events > subscriberQueueSize) {
+                return false;
+            }
+            subscriber.queue.addLast(outgoing);
+            subscriber.queuedEvents += outgoing.events;
+            if (subscriber.sending) {
+                return true;
+            }
+            subscriber.sending = true;
+        }
+
+        try {
+            sendExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Shutting down: leave the writes queued, the next tick tries again
+            synchronized (subscriber) {
+                subscriber.sending = false;
+            }
+        }
+        return true;
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Outgoing outgoing;
+            synchronized (subscriber) {
+                outgoing = subscriber.queue.pollFirst();
+                if (outgoing == null) {
+                    subscriber.sending = false;
+                    return;
+                }
+                subscriber.queuedEvents -= outgoing.events;
+            }
+
+            try {
+                subscriber.emitter.send(outgoing.data);
+                subscriber.lastSentAt = clock.instant();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping order event subscriber: {}", e.getMessage());
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                synchronized (subscriber) {
+                    subscriber.queue.clear();
+                    subscriber.queuedEvents = 0;
+                    subscriber.sending = false;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Client connection; {@link #queue}, {@link #queuedEvents} and {@link #sending} are guarded by the instance
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Deque<Outgoing> queue = new ArrayDeque<>();
+        private int queuedEvents;
+        private boolean sending;
+        private volatile long cursor;
+        private volatile boolean resumed;
+        private volatile Instant lastSentAt;
+
+        private Subscriber(SseEmitter emitter, long cursor, boolean resumed, Instant lastSentAt) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resumed = resumed;
+            this.lastSentAt = lastSentAt;
+        }
+
+        private synchronized int queuedEvents() {
+            return queuedEvents;
+        }
+    }
+
+    private static final class Outgoing {
+        private final Set<ResponseBodyEmitter.DataWithMediaType> data;
+        private final int events;
+
+        private Outgoing(Set<ResponseBodyEmitter.DataWithMediaType> data, int events) {
+            this.data = data;
+            this.events = events;
+        }
+    }
+
+    private static final class LateEvent {
+        private final OrderEventResponse event;
+        private final Instant foundAt;
+
+        private LateEvent(OrderEventResponse event, Instant foundAt) {
+            this.event = event;
+            this.foundAt = foundAt;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sotatek.order.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.controller.response.OrderExportRow;
+import com.sotatek.order.domain.Order;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.service.OrderExportService;
+import com.sotatek.order.util.CsvUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of OrderExportService
+ * Streams orders from a database cursor straight to the response without building pages
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Number of rows after which the persistence context is cleared and the output flushed
+     */
+    @Value("${order.export.clear-interval:500}")
+    private int clearInterval;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(Long memberId, OrderStatus status, OrderFileFormat format, OutputStream output)
+            throws IOException {
+        log.info("Exporting orders: memberId={}, status={}, format={}", memberId, status, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == OrderFileFormat.CSV) {
+            writer.write(OrderExportRow.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamForExport(memberId, status)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                writeRow(writer, format, mapToExportRow(order));
+                entityManager.detach(order);
+                count++;
+
+                // Keep the persistence context and the response buffer bounded
+                if (count % clearInterval == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("Exported orders: count={}, format={}", count, format);
+
+        return count;
+    }
+
+    private void writeRow(Writer writer, OrderFileFormat format, OrderExportRow row) throws IOException {
+        if (format == OrderFileFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+        } else {
+            writer.write(CsvUtils.escape(row.getId()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getMemberId()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getMemberName()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getStatus()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getTotalAmount()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getPaymentMethod()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getPaymentId()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getTransactionId()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getCreatedAt()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(row.getUpdatedAt()));
+        }
+        writer.write('\n');
+    }
+
+    private OrderExportRow mapToExportRow(Order order) {
+        return OrderExportRow.builder()
+                .id(order.getId())
+                .memberId(order.getMemberId())
+                .memberName(order.getMemberName())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .paymentMethod(order.getPaymentMethod())
+                .paymentId(order.getPaymentId())
+                .transactionId(order.getTransactionId())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.controller.response.OrderHistoryResponse;
+import com.sotatek.order.exception.OrderNotFoundException;
+import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.repository.OrderStatusHistoryRepository;
+import com.sotatek.order.service.OrderHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of OrderHistoryService, reads what {@link OrderStatusHistoryWriter} recorded
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderHistoryServiceImpl implements OrderHistoryService {
+
+    private final OrderStatusHistoryRepository historyRepository;
+    private final OrderRepository orderRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderHistoryResponse getHistory(Long orderId) {
+        log.debug("Fetching status history: orderId={}", orderId);
+
+        List<OrderHistoryResponse.Entry> history = historyRepository.findByOrderId(orderId);
+
+        // Only look the order up when nothing was recorded yet, the common case needs one query
+        if (history.isEmpty() && !orderRepository.existsById(orderId)) {
+            log.error("Order not found: id={}", orderId);
+            throw new OrderNotFoundException(orderId);
+        }
+
+        return OrderHistoryResponse.builder()
+                .orderId(orderId)
+                .history(history)
+                .build();
+    }
+}
@@ -0,0 +1,391 @@
+package com.sotatek.order.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.controller.request.OrderImportLine;
+import com.sotatek.order.controller.response.OrderImportResponse;
+import com.sotatek.order.domain.ImportJobStatus;
+import com.sotatek.order.domain.OrderImportJob;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.exception.ImportJobNotFoundException;
+import com.sotatek.order.exception.InvalidImportDataException;
+import com.sotatek.order.repository.OrderImportJobRepository;
+import com.sotatek.order.repository.OrderImportStagingRepository;
+import com.sotatek.order.service.OrderImportService;
+import com.sotatek.order.util.CsvUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Implementation of OrderImportService
+ * Source lines are copied in chunks into an unlogged staging table with PostgreSQL COPY,
+ * then merged into orders/order_items with set-based statements. Every chunk commits together
+ * with the job progress, so a failed import resumes after the last committed line. A resumed job
+ * whose staged rows were lost is loaded again from the first line; the merge skips orders already merged.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderImportServiceImpl implements OrderImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "orderId", "memberId", "memberName", "status", "productId", "productName", "unitPrice", "quantity");
+
+    private final OrderImportJobRepository jobRepository;
+    private final OrderImportStagingRepository stagingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.import.chunk-size:10000}")
+    private int chunkSize;
+
+    @Value("${order.import.merge-batch-size:5000}")
+    private int mergeBatchSize;
+
+    @Override
+    public OrderImportResponse importOrders(String jobId, OrderFileFormat format, InputStream input)
+            throws IOException {
+        OrderImportJob job = startOrResume(jobId);
+
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            log.info("Import job already completed: jobId={}", jobId);
+            return mapToResponse(job, null);
+        }
+
+        long startNanos = System.nanoTime();
+        long resumedFrom = job.getLinesLoaded();
+
+        try {
+            load(job, format, input);
+            merge(job);
+        } catch (RuntimeException | IOException e) {
+            log.error("Import job failed: jobId={}, linesLoaded={}: {}", jobId, job.getLinesLoaded(), e.getMessage());
+            markFailed(job, e);
+            throw e;
+        }
+
+        long rowsPerSecond = rowsPerSecond(job.getLinesLoaded() - resumedFrom, startNanos);
+        log.info("Import job completed: jobId={}, lines={}, orders={}, items={}, rowsPerSecond={}",
+                jobId, job.getLinesLoaded(), job.getOrdersMerged(), job.getItemsMerged(), rowsPerSecond);
+
+        return mapToResponse(job, rowsPerSecond);
+    }
+
+    @Override
+    public OrderImportResponse getImportJob(String jobId) {
+        OrderImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+
+        Long rowsPerSecond = null;
+        if (job.getStartedAt() != null && job.getUpdatedAt() != null) {
+            long elapsedMillis = Math.max(1, Duration.between(job.getStartedAt(), job.getUpdatedAt()).toMillis());
+            rowsPerSecond = job.getLinesLoaded() * 1000 / elapsedMillis;
+        }
+
+        return mapToResponse(job, rowsPerSecond);
+    }
+
+    private OrderImportJob startOrResume(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        OrderImportJob job = jobRepository.findById(jobId)
+                .orElseGet(() -> OrderImportJob.builder()
+                        .id(jobId)
+                        .startedAt(now)
+                        .build());
+
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            return job;
+        }
+
+        if (job.getStatus() != null) {
+            log.info("Resuming import job: jobId={}, previousStatus={}, linesLoaded={}",
+                    jobId, job.getStatus(), job.getLinesLoaded());
+        }
+
+        // The staging table is unlogged, so a crash of PostgreSQL truncates it while linesLoaded survives
+        if (job.getLinesLoaded() > 0) {
+            long staged = stagingRepository.countStaged(jobId);
+            if (staged != job.getLinesLoaded()) {
+                log.warn("Staged rows lost, reloading import job from the start: jobId={}, linesLoaded={}, staged={}",
+                        jobId, job.getLinesLoaded(), staged);
+                stagingRepository.deleteStaged(jobId);
+                job.setLinesLoaded(0);
+            }
+        }
+
+        job.setStatus(ImportJobStatus.LOADING);
+        job.setErrorMessage(null);
+        job.setUpdatedAt(now);
+
+        return jobRepository.save(job);
+    }
+
+    private void load(OrderImportJob job, OrderFileFormat format, InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Map<String, Integer> header = format == OrderFileFormat.CSV ? readCsvHeader(reader) : null;
+
+        long skip = job.getLinesLoaded();
+        long lineNo = 0;
+        long loadStartNanos = System.nanoTime();
+        StringBuilder chunk = new StringBuilder();
+        int chunkLines = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            lineNo++;
+            if (lineNo <= skip) {
+                continue; // already committed by a previous run
+            }
+
+            OrderImportLine row = format == OrderFileFormat.CSV
+                    ? parseCsvLine(header, line, lineNo)
+                    : parseNdjsonLine(line, lineNo);
+            validate(row, lineNo);
+            appendStagingRow(chunk, job.getId(), lineNo, row);
+
+            if (++chunkLines == chunkSize) {
+                commitChunk(job, chunk.toString(), lineNo);
+                chunk.setLength(0);
+                chunkLines = 0;
+
+                log.info("Import progress: jobId={}, linesLoaded={}, rowsPerSecond={}",
+                        job.getId(), lineNo, rowsPerSecond(lineNo - skip, loadStartNanos));
+            }
+        }
+
+        if (chunkLines > 0) {
+            commitChunk(job, chunk.toString(), lineNo);
+        }
+
+        log.info("Import load finished: jobId={}, linesLoaded={}, rowsPerSecond={}",
+                job.getId(), job.getLinesLoaded(), rowsPerSecond(job.getLinesLoaded() - skip, loadStartNanos));
+    }
+
+    /**
+     * COPY one chunk and record the progress in the same transaction
+     */
+    private void commitChunk(OrderImportJob job, String rows, long lastLineNo) {
+        long previousLinesLoaded = job.getLinesLoaded();
+        job.setLinesLoaded(lastLineNo);
+        job.setUpdatedAt(LocalDateTime.now());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                stagingRepository.copyIn(rows);
+                jobRepository.save(job);
+            });
+        } catch (RuntimeException e) {
+            job.setLinesLoaded(previousLinesLoaded);
+            throw e;
+        }
+    }
+
+    private void merge(OrderImportJob job) {
+        job.setStatus(ImportJobStatus.MERGING);
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+
+        long[] range = stagingRepository.findOrderIdRange(job.getId());
+        if (range != null) {
+            stagingRepository.reserveOrderIds(range[1]);
+            for (long from = range[0]; from <= range[1]; from += mergeBatchSize) {
+                long fromId = from;
+                long toId = Math.min(from + mergeBatchSize - 1, range[1]);
+                mergeBatch(job, fromId, toId);
+
+                if (toId == range[1]) {
+                    break;
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            stagingRepository.deleteStaged(job.getId());
+
+            job.setStatus(ImportJobStatus.COMPLETED);
+            job.setUpdatedAt(LocalDateTime.now());
+            job.setFinishedAt(job.getUpdatedAt());
+            jobRepository.save(job);
+        });
+    }
+
+    private void mergeBatch(OrderImportJob job, long fromId, long toId) {
+        long previousOrders = job.getOrdersMerged();
+        long previousItems = job.getItemsMerged();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] merged = stagingRepository.mergeRange(job.getId(), fromId, toId);
+                job.setOrdersMerged(previousOrders + merged[0]);
+                job.setItemsMerged(previousItems + merged[1]);
+                job.setUpdatedAt(LocalDateTime.now());
+                jobRepository.save(job);
+            });
+        } catch (RuntimeException e) {
+            job.setOrdersMerged(previousOrders);
+            job.setItemsMerged(previousItems);
+            throw e;
+        }
+
+        log.debug("Import merge progress: jobId={}, orderIds={}..{}, ordersMerged={}, itemsMerged={}",
+                job.getId(), fromId, toId, job.getOrdersMerged(), job.getItemsMerged());
+    }
+
+    private void markFailed(OrderImportJob job, Exception cause) {
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+
+        job.setStatus(ImportJobStatus.FAILED);
+        job.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+        job.setUpdatedAt(LocalDateTime.now());
+
+        try {
+            jobRepository.save(job);
+        } catch (RuntimeException e) {
+            log.error("Could not record import failure: jobId={}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.isBlank());
+
+        if (line == null) {
+            throw new InvalidImportDataException("CSV source is empty, a header line is required");
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = CsvUtils.parseLine(line);
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim(), i);
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+            if (!header.containsKey(column)) {
+                throw new InvalidImportDataException("CSV header is missing column: " + column);
+            }
+        }
+
+        return header;
+    }
+
+    private OrderImportLine parseCsvLine(Map<String, Integer> header, String line, long lineNo) {
+        try {
+            List<String> cells = CsvUtils.parseLine(line);
+
+            return OrderImportLine.builder()
+                    .orderId(cell(cells, header, "orderId", Long::valueOf))
+                    .memberId(cell(cells, header, "memberId", Long::valueOf))
+                    .memberName(cell(cells, header, "memberName", Function.identity()))
+                    .status(cell(cells, header, "status", OrderStatus::valueOf))
+                    .paymentMethod(cell(cells, header, "paymentMethod", PaymentMethod::valueOf))
+                    .paymentId(cell(cells, header, "paymentId", Long::valueOf))
+                    .transactionId(cell(cells, header, "transactionId", Function.identity()))
+                    .createdAt(cell(cells, header, "createdAt", LocalDateTime::parse))
+                    .updatedAt(cell(cells, header, "updatedAt", LocalDateTime::parse))
+                    .productId(cell(cells, header, "productId", Long::valueOf))
+                    .productName(cell(cells, header, "productName", Function.identity()))
+                    .unitPrice(cell(cells, header, "unitPrice", BigDecimal::new))
+                    .quantity(cell(cells, header, "quantity", Integer::valueOf))
+                    .build();
+        } catch (RuntimeException e) {
+            throw new InvalidImportDataException("Invalid CSV at line " + lineNo + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> T cell(List<String> cells, Map<String, Integer> header, String column,
+                              Function<String, T> parser) {
+        Integer index = header.get(column);
+        if (index == null || index >= cells.size()) {
+            return null;
+        }
+
+        String value = cells.get(index).trim();
+        return value.isEmpty() ? null : parser.apply(value);
+    }
+
+    private OrderImportLine parseNdjsonLine(String line, long lineNo) {
+        try {
+            return objectMapper.readValue(line, OrderImportLine.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportDataException("Invalid NDJSON at line " + lineNo + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private void validate(OrderImportLine row, long lineNo) {
+        if (row.getOrderId() == null || row.getMemberId() == null || row.getMemberName() == null
+                || row.getStatus() == null || row.getProductId() == null || row.getProductName() == null
+                || row.getUnitPrice() == null || row.getQuantity() == null) {
+            throw new InvalidImportDataException("Missing required field at line " + lineNo
+                    + ", required: " + String.join(",", REQUIRED_COLUMNS));
+        }
+
+        if (row.getQuantity() < 1 || row.getUnitPrice().signum() < 0) {
+            throw new InvalidImportDataException("Invalid quantity or unit price at line " + lineNo);
+        }
+    }
+
+    /**
+     * Append one row in {@link OrderImportStagingRepository#STAGING_COLUMNS} order
+     */
+    private void appendStagingRow(StringBuilder chunk, String jobId, long lineNo, OrderImportLine row) {
+        chunk.append(CsvUtils.escape(jobId)).append(',')
+                .append(lineNo).append(',')
+                .append(row.getOrderId()).append(',')
+                .append(row.getMemberId()).append(',')
+                .append(CsvUtils.escape(row.getMemberName())).append(',')
+                .append(row.getStatus()).append(',')
+                .append(CsvUtils.escape(row.getPaymentMethod())).append(',')
+                .append(CsvUtils.escape(row.getPaymentId())).append(',')
+                .append(CsvUtils.escape(row.getTransactionId())).append(',')
+                .append(CsvUtils.escape(row.getCreatedAt())).append(',')
+                .append(CsvUtils.escape(row.getUpdatedAt())).append(',')
+                .append(row.getProductId()).append(',')
+                .append(CsvUtils.escape(row.getProductName())).append(',')
+                .append(row.getUnitPrice().toPlainString()).append(',')
+                .append(row.getQuantity())
+                .append('\n');
+    }
+
+    private static long rowsPerSecond(long rows, long startNanos) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    private OrderImportResponse mapToResponse(OrderImportJob job, Long rowsPerSecond) {
+        return OrderImportResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .linesLoaded(job.getLinesLoaded())
+                .ordersMerged(job.getOrdersMerged())
+                .itemsMerged(job.getItemsMerged())
+                .rowsPerSecond(rowsPerSecond)
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
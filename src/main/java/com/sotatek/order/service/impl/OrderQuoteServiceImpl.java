@@ -0,0 +1,91 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.response.OrderItemResponse;
+import com.sotatek.order.controller.response.OrderQuoteResponse;
+import com.sotatek.order.domain.OrderItem;
+import com.sotatek.order.quote.OrderQuote;
+import com.sotatek.order.quote.OrderQuoteSigner;
+import com.sotatek.order.repository.OrderQuoteRedemptionRepository;
+import com.sotatek.order.service.OrderQuoteService;
+import com.sotatek.order.service.OrderValidator;
+import com.sotatek.order.service.external.MemberServiceClient;
+import com.sotatek.order.service.external.dto.MemberDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of OrderQuoteService
+ * Items are priced by {@link OrderServiceImpl#priceItems}, with the same product and stock checks as order creation.
+ */
+@Service
+@ConditionalOnProperty(name = "order.quote.enabled", havingValue = "true")
+@Slf4j
+@RequiredArgsConstructor
+public class OrderQuoteServiceImpl implements OrderQuoteService {
+
+    private final OrderServiceImpl orderService;
+    private final MemberServiceClient memberServiceClient;
+    private final OrderQuoteSigner signer;
+    private final OrderQuoteRedemptionRepository quoteRedemptionRepository;
+
+    @Override
+    public OrderQuoteResponse quoteOrder(CreateOrderRequest request) {
+        MemberDto member = memberServiceClient.getMember(request.getMemberId());
+        OrderValidator.requireActiveMember(request.getMemberId(), member);
+
+        List<OrderItem> items = orderService.priceItems(request.getItems());
+        BigDecimal totalAmount = items.stream()
+                .map(OrderItem::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        OrderQuote quote = OrderQuote.builder()
+                .memberId(request.getMemberId())
+                .memberName(member.getName())
+                .memberGrade(member.getGrade())
+                .items(items.stream()
+                        .map(item -> OrderQuote.Item.builder()
+                                .productId(item.getProductId())
+                                .productName(item.getProductName())
+                                .unitPrice(item.getUnitPrice())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .toList())
+                .totalAmount(totalAmount)
+                .build();
+        String token = signer.sign(quote);
+
+        log.info("Quote issued: memberId={}, totalAmount={}, expiresAt={}",
+                quote.getMemberId(), totalAmount, quote.getExpiresAt());
+
+        return OrderQuoteResponse.builder()
+                .token(token)
+                .expiresAt(quote.getExpiresAt())
+                .memberId(quote.getMemberId())
+                .items(items.stream()
+                        .map(item -> OrderItemResponse.builder()
+                                .productId(item.getProductId())
+                                .productName(item.getProductName())
+                                .unitPrice(item.getUnitPrice())
+                                .quantity(item.getQuantity())
+                                .subtotal(item.getSubtotal())
+                                .build())
+                        .toList())
+                .totalAmount(totalAmount)
+                .build();
+    }
+
+    @Scheduled(cron = "${order.quote.cleanup-cron:0 45 4 * * *}")
+    public void deleteExpiredRedemptions() {
+        Instant cutoff = Instant.now();
+        int deleted = quoteRedemptionRepository.deleteExpired(cutoff);
+        log.info("Deleted {} redeemed quotes expired before {}", deleted, cutoff);
+    }
+}
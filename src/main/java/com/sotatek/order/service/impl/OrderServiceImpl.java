@@ -1,35 +1,57 @@
 package com.sotatek.order.service.impl;
 
+import com.sotatek.order.admission.MemberRateLimiter;
 import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderFieldSelection;
 import com.sotatek.order.controller.request.OrderItemRequest;
 import com.sotatek.order.controller.request.UpdateOrderRequest;
 import com.sotatek.order.controller.response.OrderItemResponse;
+import com.sotatek.order.controller.response.OrderLookupResponse;
 import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.controller.response.OrderStatusResponse;
 import com.sotatek.order.controller.response.PageResponse;
 import com.sotatek.order.domain.Order;
 import com.sotatek.order.domain.OrderItem;
 import com.sotatek.order.domain.OrderStatus;
-import com.sotatek.order.exception.InsufficientStockException;
-import com.sotatek.order.exception.InvalidOrderStatusException;
-import com.sotatek.order.exception.MemberValidationException;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.InvalidOrderRequestException;
 import com.sotatek.order.exception.OrderNotFoundException;
+import com.sotatek.order.exception.OrderVersionConflictException;
 import com.sotatek.order.exception.PaymentFailedException;
-import com.sotatek.order.exception.ProductValidationException;
+import com.sotatek.order.quote.OrderQuote;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.OrderInsertRepository;
+import com.sotatek.order.repository.OrderItemRepository;
+import com.sotatek.order.repository.OrderPaymentFailureRepository;
+import com.sotatek.order.repository.OrderQuoteRedemptionRepository;
 import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.repository.OrderStatusView;
+import com.sotatek.order.repository.OrderTransitionRepository;
+import com.sotatek.order.repository.OrderTransitionRepository.OrderState;
 import com.sotatek.order.service.OrderService;
+import com.sotatek.order.service.OrderValidator;
 import com.sotatek.order.service.external.MemberServiceClient;
 import com.sotatek.order.service.external.PaymentServiceClient;
 import com.sotatek.order.service.external.ProductServiceClient;
 import com.sotatek.order.service.external.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,12 +64,24 @@ import java.util.stream.Collectors;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderAggregateRepository orderAggregateRepository;
+    private final OrderTransitionRepository orderTransitionRepository;
+    private final OrderInsertRepository orderInsertRepository;
+    private final OrderPaymentFailureRepository paymentFailureRepository;
+    private final OrderQuoteRedemptionRepository quoteRedemptionRepository;
+    private final MemberRateLimiter memberRateLimiter;
     private final MemberServiceClient memberServiceClient;
     private final ProductServiceClient productServiceClient;
     private final PaymentServiceClient paymentServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Value("${order.creation.payment-first:false}")
+    private boolean paymentFirst;
+
+    // A failed payment keeps the PENDING order, PendingOrderReconciler confirms or expires it later
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = PaymentFailedException.class)
     public OrderResponse createOrder(CreateOrderRequest request) {
         log.info("Creating order for member: {}", request.getMemberId());
 
@@ -55,22 +89,60 @@ public class OrderServiceImpl implements OrderService {
         log.debug("Validating member: memberId={}", request.getMemberId());
         MemberDto member = memberServiceClient.getMember(request.getMemberId());
 
-        if (member.getStatus() != MemberStatus.ACTIVE) {
-            log.error("Member is not active: memberId={}, status={}", request.getMemberId(), member.getStatus());
-            throw new MemberValidationException("Member is not active: status=" + member.getStatus());
+        return createOrder(request, member);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = PaymentFailedException.class)
+    public OrderResponse createOrder(CreateOrderRequest request, MemberDto member) {
+        OrderValidator.requireActiveMember(request.getMemberId(), member);
+
+        // Before any product lookup or payment, so flooding members cost as little as possible
+        memberRateLimiter.acquire(request.getMemberId(), member.getGrade());
+
+        Order order = newOrder(request, member.getName());
+        priceItems(request.getItems()).forEach(order::addItem);
+
+        return placeOrder(order);
+    }
+
+    // No product or stock lookup: the quote was priced and validated when issued
+    @Override
+    @Transactional(noRollbackFor = PaymentFailedException.class)
+    public OrderResponse createOrder(CreateOrderRequest request, OrderQuote quote) {
+        log.info("Creating order from quote: memberId={}, expiresAt={}", quote.getMemberId(), quote.getExpiresAt());
+
+        // Committed or rolled back together with the order, a concurrent redemption waits on the key
+        if (!quoteRedemptionRepository.redeem(quote.getId(), quote.getExpiresAt(), Instant.now())) {
+            log.warn("Quote rejected: already used, quoteId={}, memberId={}", quote.getId(), quote.getMemberId());
+            throw new InvalidOrderRequestException("Quote has already been used");
         }
 
-        // Create order entity with validated member info
-        Order order = Order.builder()
-                .memberId(request.getMemberId())
-                .memberName(member.getName())
-                .status(OrderStatus.PENDING)
-                .paymentMethod(request.getPaymentMethod())
-                .totalAmount(BigDecimal.ZERO)
-                .build();
+        memberRateLimiter.acquire(quote.getMemberId(), quote.getMemberGrade());
+
+        Order order = newOrder(request, quote.getMemberName());
+        for (OrderQuote.Item quoted : quote.getItems()) {
+            OrderItem item = OrderItem.builder()
+                    .productId(quoted.getProductId())
+                    .productName(quoted.getProductName())
+                    .unitPrice(quoted.getUnitPrice())
+                    .quantity(quoted.getQuantity())
+                    .build();
+
+            item.calculateSubtotal();
+            order.addItem(item);
+        }
+
+        return placeOrder(order);
+    }
 
-        // Step 2: Validate products and add order items
-        for (OrderItemRequest itemRequest : request.getItems()) {
+    /**
+     * Step 2 of order creation: validate each product and its stock, and price the items
+     * Also used to issue quotes, so it needs no transaction
+     */
+    List<OrderItem> priceItems(List<OrderItemRequest> itemRequests) {
+        List<OrderItem> items = new ArrayList<>(itemRequests.size());
+        for (OrderItemRequest itemRequest : itemRequests) {
             Long productId = itemRequest.getProductId();
             Integer requestedQuantity = itemRequest.getQuantity();
 
@@ -78,22 +150,11 @@ public class OrderServiceImpl implements OrderService {
 
             // Validate product exists and is available
             ProductDto product = productServiceClient.getProduct(productId);
-
-            if (product.getStatus() != ProductStatus.AVAILABLE) {
-                log.error("Product is not available: productId={}, status={}", productId, product.getStatus());
-                throw new ProductValidationException("Product is not available: productId=" + productId +
-                        ", status=" + product.getStatus());
-            }
+            OrderValidator.requireAvailable(product);
 
             // Check stock availability
             ProductStockDto stock = productServiceClient.getProductStock(productId);
-
-            if (stock.getAvailableQuantity() < requestedQuantity) {
-                log.error("Insufficient stock: productId={}, requested={}, available={}",
-                        productId, requestedQuantity, stock.getAvailableQuantity());
-                throw new InsufficientStockException("Insufficient stock for product: productId=" + productId +
-                        ", requested=" + requestedQuantity + ", available=" + stock.getAvailableQuantity());
-            }
+            OrderValidator.requireStock(productId, requestedQuantity, stock.getAvailableQuantity());
 
             // Create order item with real product data
             OrderItem item = OrderItem.builder()
@@ -104,12 +165,32 @@ public class OrderServiceImpl implements OrderService {
                     .build();
 
             item.calculateSubtotal();
-            order.addItem(item);
+            items.add(item);
         }
+        return items;
+    }
+
+    private static Order newOrder(CreateOrderRequest request, String memberName) {
+        return Order.builder()
+                .memberId(request.getMemberId())
+                .memberName(memberName)
+                .status(OrderStatus.PENDING)
+                .paymentMethod(request.getPaymentMethod())
+                .totalAmount(BigDecimal.ZERO)
+                .build();
+    }
 
+    /**
+     * Save the priced order with PENDING status, then process the payment
+     */
+    private OrderResponse placeOrder(Order order) {
         // Calculate total amount
         order.calculateTotalAmount();
 
+        if (paymentFirst) {
+            return createPaymentFirst(order);
+        }
+
         // Save order with PENDING status
         order = orderRepository.save(order);
         log.info("Order saved with PENDING status: orderId={}, totalAmount={}",
@@ -120,16 +201,22 @@ public class OrderServiceImpl implements OrderService {
             log.info("Processing payment: orderId={}, amount={}, method={}",
                     order.getId(), order.getTotalAmount(), order.getPaymentMethod());
 
-            PaymentRequestDto paymentRequest = PaymentRequestDto.builder()
-                    .orderId(order.getId())
-                    .amount(order.getTotalAmount())
-                    .paymentMethod(order.getPaymentMethod())
-                    .build();
+            PaymentDto payment = paymentServiceClient.createPayment(toPaymentRequest(order));
+            order.setPaymentId(payment.getId());
 
-            PaymentDto payment = paymentServiceClient.createPayment(paymentRequest);
+            if (payment.getStatus() == PaymentStatus.PENDING) {
+                // Not settled yet, the reconciliation job confirms the order once the payment completes
+                order = orderRepository.save(order);
+                log.info("Payment pending, order stays PENDING: orderId={}, paymentId={}",
+                        order.getId(), payment.getId());
+                return mapToOrderResponse(order);
+            }
+            if (payment.getStatus() != PaymentStatus.COMPLETED) {
+                // FAILED or REFUNDED: the payment will never settle, handled as a decline
+                throw new PaymentFailedException("Payment " + payment.getStatus() + ": paymentId=" + payment.getId());
+            }
 
             // Update order with payment details and confirm
-            order.setPaymentId(payment.getId());
             order.setTransactionId(payment.getTransactionId());
             order.setStatus(OrderStatus.CONFIRMED);
 
@@ -139,20 +226,90 @@ public class OrderServiceImpl implements OrderService {
                     order.getId(), payment.getId(), payment.getTransactionId());
 
         } catch (PaymentFailedException e) {
-            log.error("Payment failed for orderId={}: {}", order.getId(), e.getMessage());
-            // Order remains in PENDING status, payment can be retried
+            log.error("Payment declined for orderId={}: {}", order.getId(), e.getMessage());
+            // Declined by Payment Service, the order will not be paid
+            expire(order);
             throw e;
         } catch (Exception e) {
             log.error("Payment failed for orderId={}: {}", order.getId(), e.getMessage());
-            // Order remains in PENDING status, payment can be retried
+            // Outcome unknown, the member may have been charged: the order stays PENDING for review
             throw new PaymentFailedException("Payment processing failed: " + e.getMessage(), e);
         }
 
+        // Counters commit or roll back together with the order
+        orderAggregateRepository.recordOrder(order.getMemberId(), order.getItems());
+        publishStatusChange(order, null);
+
         log.info("Order created successfully: orderId={}, status={}", order.getId(), order.getStatus());
 
         return mapToOrderResponse(order);
     }
 
+    /**
+     * Expire the PENDING order of a declined payment, it is never counted in the aggregates
+     */
+    private void expire(Order order) {
+        order.setStatus(OrderStatus.EXPIRED);
+        orderRepository.save(order);
+        publishStatusChange(order, OrderStatus.PENDING);
+    }
+
+    /**
+     * Payment-first creation: pay under a pre-allocated order ID, then write the order once,
+     * CONFIRMED or, while the payment is still pending, PENDING for the reconciliation job.
+     * A failed payment is logged in order_payment_failures and leaves no order behind.
+     */
+    private OrderResponse createPaymentFirst(Order order) {
+        order.setId(orderInsertRepository.nextId());
+
+        PaymentDto payment;
+        try {
+            log.info("Processing payment first: orderId={}, amount={}, method={}",
+                    order.getId(), order.getTotalAmount(), order.getPaymentMethod());
+            payment = paymentServiceClient.createPayment(toPaymentRequest(order));
+            if (payment.getStatus() != PaymentStatus.COMPLETED && payment.getStatus() != PaymentStatus.PENDING) {
+                // FAILED or REFUNDED: the payment will never settle, handled as a decline
+                throw new PaymentFailedException("Payment " + payment.getStatus() + ": paymentId=" + payment.getId());
+            }
+        } catch (Exception e) {
+            PaymentFailedException failure = e instanceof PaymentFailedException paymentFailed
+                    ? paymentFailed
+                    : new PaymentFailedException("Payment processing failed: " + e.getMessage(), e);
+            log.error("Payment failed for orderId={}, no order written: {}", order.getId(), failure.getMessage());
+            paymentFailureRepository.record(order, failure.getMessage(), LocalDateTime.now());
+            throw failure;
+        }
+
+        order.setPaymentId(payment.getId());
+        if (payment.getStatus() == PaymentStatus.COMPLETED) {
+            order.setTransactionId(payment.getTransactionId());
+            order.setStatus(OrderStatus.CONFIRMED);
+        }
+        orderInsertRepository.insert(order, LocalDateTime.now());
+
+        if (order.getStatus() == OrderStatus.PENDING) {
+            log.info("Payment pending, order written as PENDING: orderId={}, paymentId={}",
+                    order.getId(), payment.getId());
+            return mapToOrderResponse(order);
+        }
+
+        orderAggregateRepository.recordOrder(order.getMemberId(), order.getItems());
+        publishStatusChange(order, null);
+
+        log.info("Order created successfully: orderId={}, status={}, paymentId={}",
+                order.getId(), order.getStatus(), payment.getId());
+
+        return mapToOrderResponse(order);
+    }
+
+    private static PaymentRequestDto toPaymentRequest(Order order) {
+        return PaymentRequestDto.builder()
+                .orderId(order.getId())
+                .amount(order.getTotalAmount())
+                .paymentMethod(order.getPaymentMethod())
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public OrderResponse getOrderById(Long id) {
@@ -167,37 +324,103 @@ public class OrderServiceImpl implements OrderService {
         return mapToOrderResponse(order);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getOrderById(Long id, OrderFieldSelection fields) {
+        log.debug("Fetching order by id: {}, fields={}", id, fields.getOrderFields());
+
+        // Only join-fetch the items when the caller asked for them
+        Order order = (fields.includesItems() ? orderRepository.findByIdWithItems(id) : orderRepository.findById(id))
+                .orElseThrow(() -> {
+                    log.error("Order not found: id={}", id);
+                    throw new OrderNotFoundException(id);
+                });
+
+        List<OrderItem> items = fields.includesItems() ? order.getItems() : List.of();
+
+        return mapToSparseResponse(order, items, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderLookupResponse<OrderResponse> getOrdersByIds(List<Long> ids) {
+        Set<Long> requestedIds = OrderValidator.requireLookupIds(ids);
+        log.debug("Fetching orders by ids: count={}", requestedIds.size());
+
+        Map<Long, Order> ordersById = orderRepository.findAllByIdIn(requestedIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        // Second set-based query instead of initializing each order's items collection
+        Map<Long, List<OrderItem>> itemsByOrderId = ordersById.isEmpty()
+                ? Map.of()
+                : orderItemRepository.findByOrderIdIn(ordersById.keySet()).stream()
+                        .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        return toLookupResponse(requestedIds, ordersById,
+                order -> mapToOrderResponse(order, itemsByOrderId.getOrDefault(order.getId(), List.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderLookupResponse<OrderStatusResponse> getOrderStatusesByIds(List<Long> ids) {
+        Set<Long> requestedIds = OrderValidator.requireLookupIds(ids);
+        log.debug("Fetching order statuses by ids: count={}", requestedIds.size());
+
+        Map<Long, OrderStatusView> statusesById = orderRepository.findStatusesByIdIn(requestedIds).stream()
+                .collect(Collectors.toMap(OrderStatusView::getId, Function.identity()));
+
+        return toLookupResponse(requestedIds, statusesById, view -> OrderStatusResponse.builder()
+                .id(view.getId())
+                .status(view.getStatus())
+                .updatedAt(view.getUpdatedAt())
+                .build());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageResponse<OrderResponse> listOrders(Long memberId, OrderStatus status, Pageable pageable) {
         log.debug("Listing orders: memberId={}, status={}, page={}", memberId, status, pageable.getPageNumber());
 
-        Page<Order> orderPage;
-
-        if (memberId != null && status != null) {
-            orderPage = orderRepository.findByMemberIdAndStatus(memberId, status, pageable);
-        } else if (memberId != null) {
-            orderPage = orderRepository.findByMemberId(memberId, pageable);
-        } else if (status != null) {
-            orderPage = orderRepository.findByStatus(status, pageable);
-        } else {
-            orderPage = orderRepository.findAll(pageable);
-        }
+        Page<Order> orderPage = findOrderPage(memberId, status, pageable);
 
         List<OrderResponse> content = orderPage.getContent().stream()
                 .map(this::mapToOrderResponse)
                 .collect(Collectors.toList());
 
-        PageResponse.PageInfo pageInfo = PageResponse.PageInfo.builder()
-                .number(orderPage.getNumber())
-                .size(orderPage.getSize())
-                .totalElements(orderPage.getTotalElements())
-                .totalPages(orderPage.getTotalPages())
+        return PageResponse.<OrderResponse>builder()
+                .content(content)
+                .page(mapToPageInfo(orderPage))
                 .build();
+    }
 
-        return PageResponse.<OrderResponse>builder()
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> listOrders(Long memberId, OrderStatus status, Pageable pageable,
+                                                        OrderFieldSelection fields) {
+        log.debug("Listing orders: memberId={}, status={}, page={}, fields={}",
+                memberId, status, pageable.getPageNumber(), fields.getOrderFields());
+
+        Page<Order> orderPage = findOrderPage(memberId, status, pageable);
+
+        // Load the items of the whole page with one query instead of one lazy load per order
+        Map<Long, List<OrderItem>> itemsByOrderId = Map.of();
+        if (fields.includesItems() && orderPage.hasContent()) {
+            List<Long> orderIds = orderPage.getContent().stream()
+                    .map(Order::getId)
+                    .collect(Collectors.toList());
+
+            itemsByOrderId = orderItemRepository.findByOrderIdIn(orderIds).stream()
+                    .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+        }
+
+        Map<Long, List<OrderItem>> pageItems = itemsByOrderId;
+        List<Map<String, Object>> content = orderPage.getContent().stream()
+                .map(order -> mapToSparseResponse(order, pageItems.getOrDefault(order.getId(), List.of()), fields))
+                .collect(Collectors.toList());
+
+        return PageResponse.<Map<String, Object>>builder()
                 .content(content)
-                .page(pageInfo)
+                .page(mapToPageInfo(orderPage))
                 .build();
     }
 
@@ -206,53 +429,110 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponse updateOrder(Long id, UpdateOrderRequest request) {
         log.info("Updating order: id={}", id);
 
-        Order order = orderRepository.findByIdWithItems(id)
+        OrderValidator.validateUpdateRequest(request);
+        OrderStatus target = request.getStatus();
+        Set<OrderStatus> sources = OrderStatus.sourcesOf(target);
+
+        // Status and version are checked by the UPDATE itself, the order is never loaded
+        Order order = orderTransitionRepository
+                .transition(id, sources, target, request.getVersion(), LocalDateTime.now())
+                .orElseThrow(() -> rejectTransition(id, target, request.getVersion()));
+
+        // Every status is reached from a single other one, so the guard tells the previous status
+        OrderStatus previousStatus = sources.iterator().next();
+        log.info("Updated order status: {} → {}, version={}", previousStatus, order.getStatus(), order.getVersion());
+
+        List<OrderItem> items = orderItemRepository.findByOrderId(id);
+        orderAggregateRepository.recordCancellation(order.getMemberId(), items);
+        publishStatusChange(order, previousStatus);
+
+        log.info("Order updated successfully: orderId={}", order.getId());
+
+        return mapToOrderResponse(order, items);
+    }
+
+    /**
+     * Explain why a conditional transition matched no row, from the current status and version only
+     */
+    private OrderVersionConflictException rejectTransition(Long id, OrderStatus target, Long expectedVersion) {
+        OrderState state = orderTransitionRepository.findState(id)
                 .orElseThrow(() -> {
                     log.error("Order not found: id={}", id);
-                    throw new OrderNotFoundException(id);
+                    return new OrderNotFoundException(id);
                 });
 
-        if (request.getItems() != null && !request.getItems().isEmpty()) {
-            log.error("Order update rejected: items update is not allowed");
-            throw new InvalidOrderStatusException("Only status update is allowed. Items cannot be updated.");
-        }
-
-        if (request.getPaymentMethod() != null) {
-            log.error("Order update rejected: payment method update is not allowed");
-            throw new InvalidOrderStatusException("Only status update is allowed. Payment method cannot be updated.");
-        }
+        OrderValidator.requireTransition(state.getStatus(), target);
 
-        if (request.getStatus() == null) {
-            log.error("Order update rejected: status is required");
-            throw new InvalidOrderStatusException("Status is required for order update.");
-        }
+        // The status allows it, so the row was at another version
+        log.warn("Order update rejected: version conflict, id={}, expected={}, current={}",
+                id, expectedVersion, state.getVersion());
+        return new OrderVersionConflictException(id, expectedVersion, state.getVersion());
+    }
 
-        if (request.getStatus() != OrderStatus.CANCELLED) {
-            log.error("Order update rejected: only CANCELLED status is supported, requested={}", request.getStatus());
-            throw new InvalidOrderStatusException("Only status change to CANCELLED is supported.");
-        }
+    /**
+     * Publish the new status of an order, listeners run in or after the current transaction
+     */
+    private void publishStatusChange(Order order, OrderStatus previousStatus) {
+        eventPublisher.publishEvent(OrderStatusChangedEvent.builder()
+                .orderId(order.getId())
+                .memberId(order.getMemberId())
+                .previousStatus(previousStatus)
+                .status(order.getStatus())
+                .paymentMethod(order.getPaymentMethod())
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
 
-        if (order.getStatus() != OrderStatus.CONFIRMED) {
-            log.error("Order update rejected: only CONFIRMED orders can be cancelled, status={}", order.getStatus());
-            throw new InvalidOrderStatusException("Only CONFIRMED orders can be cancelled.");
+    private <E, T> OrderLookupResponse<T> toLookupResponse(Set<Long> requestedIds, Map<Long, E> found,
+                                                           Function<E, T> mapper) {
+        List<T> orders = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+
+        for (Long id : requestedIds) {
+            E entry = found.get(id);
+            if (entry == null) {
+                missingIds.add(id);
+            } else {
+                orders.add(mapper.apply(entry));
+            }
         }
 
-        log.info("Updating order status: {} → {}", order.getStatus(), request.getStatus());
-        order.setStatus(OrderStatus.CANCELLED);
-
-        // Save updated order
-        order = orderRepository.save(order);
+        return OrderLookupResponse.<T>builder()
+                .orders(orders)
+                .missingIds(missingIds)
+                .build();
+    }
 
-        log.info("Order updated successfully: orderId={}", order.getId());
+    private Page<Order> findOrderPage(Long memberId, OrderStatus status, Pageable pageable) {
+        if (memberId != null && status != null) {
+            return orderRepository.findByMemberIdAndStatus(memberId, status, pageable);
+        } else if (memberId != null) {
+            return orderRepository.findByMemberId(memberId, pageable);
+        } else if (status != null) {
+            return orderRepository.findByStatus(status, pageable);
+        }
+        return orderRepository.findAll(pageable);
+    }
 
-        return mapToOrderResponse(order);
+    private PageResponse.PageInfo mapToPageInfo(Page<?> page) {
+        return PageResponse.PageInfo.builder()
+                .number(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
     }
 
     /**
      * Map Order entity to OrderResponse DTO
      */
     private OrderResponse mapToOrderResponse(Order order) {
-        List<OrderItemResponse> itemResponses = order.getItems().stream()
+        return mapToOrderResponse(order, order.getItems());
+    }
+
+    private OrderResponse mapToOrderResponse(Order order, List<OrderItem> items) {
+        List<OrderItemResponse> itemResponses = items.stream()
                 .map(item -> OrderItemResponse.builder()
                         .id(item.getId())
                         .productId(item.getProductId())
@@ -275,6 +555,55 @@ public class OrderServiceImpl implements OrderService {
                 .transactionId(order.getTransactionId())
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
                 .build();
     }
+
+    /**
+     * Map Order entity to a map holding only the selected fields
+     * Unselected fields are never read from the entity nor serialized
+     */
+    private Map<String, Object> mapToSparseResponse(Order order, List<OrderItem> items, OrderFieldSelection fields) {
+        Map<String, Object> response = new LinkedHashMap<>();
+
+        for (String field : fields.getOrderFields()) {
+            switch (field) {
+                case "id" -> response.put(field, order.getId());
+                case "memberId" -> response.put(field, order.getMemberId());
+                case "memberName" -> response.put(field, order.getMemberName());
+                case "status" -> response.put(field, order.getStatus());
+                case OrderFieldSelection.ITEMS -> response.put(field, items.stream()
+                        .map(item -> mapToSparseItem(item, fields))
+                        .collect(Collectors.toList()));
+                case "totalAmount" -> response.put(field, order.getTotalAmount());
+                case "paymentMethod" -> response.put(field, order.getPaymentMethod());
+                case "paymentId" -> response.put(field, order.getPaymentId());
+                case "transactionId" -> response.put(field, order.getTransactionId());
+                case "createdAt" -> response.put(field, order.getCreatedAt());
+                case "updatedAt" -> response.put(field, order.getUpdatedAt());
+                case "version" -> response.put(field, order.getVersion());
+                default -> throw new IllegalStateException("Unhandled order field: " + field);
+            }
+        }
+
+        return response;
+    }
+
+    private Map<String, Object> mapToSparseItem(OrderItem item, OrderFieldSelection fields) {
+        Map<String, Object> response = new LinkedHashMap<>();
+
+        for (String field : fields.getItemFields()) {
+            switch (field) {
+                case "id" -> response.put(field, item.getId());
+                case "productId" -> response.put(field, item.getProductId());
+                case "productName" -> response.put(field, item.getProductName());
+                case "unitPrice" -> response.put(field, item.getUnitPrice());
+                case "quantity" -> response.put(field, item.getQuantity());
+                case "subtotal" -> response.put(field, item.getSubtotal());
+                default -> throw new IllegalStateException("Unhandled item field: " + field);
+            }
+        }
+
+        return response;
+    }
 }
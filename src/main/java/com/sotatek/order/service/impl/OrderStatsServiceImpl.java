@@ -0,0 +1,51 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.controller.response.OrderStatsResponse;
+import com.sotatek.order.domain.RollupGranularity;
+import com.sotatek.order.exception.InvalidStatsQueryException;
+import com.sotatek.order.repository.OrderRollupRepository;
+import com.sotatek.order.service.OrderStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of OrderStatsService
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderStatsServiceImpl implements OrderStatsService {
+
+    private final OrderRollupRepository rollupRepository;
+
+    @Value("${order.rollups.max-buckets:10000}")
+    private long maxBuckets;
+
+    @Override
+    public OrderStatsResponse getStats(LocalDateTime from, LocalDateTime to, RollupGranularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new InvalidStatsQueryException("'from' must be before 'to'");
+        }
+
+        LocalDateTime start = from.truncatedTo(granularity.getUnit());
+        long buckets = Duration.between(start, to).toMinutes() / granularity.getMinutes();
+        if (buckets > maxBuckets) {
+            throw new InvalidStatsQueryException("Range spans " + buckets + " " + granularity +
+                    " buckets, at most " + maxBuckets + " are allowed; use a coarser granularity");
+        }
+
+        log.debug("Fetching order stats: from={}, to={}, granularity={}", start, to, granularity);
+
+        return OrderStatsResponse.builder()
+                .granularity(granularity)
+                .from(start)
+                .to(to)
+                .buckets(rollupRepository.findBuckets(granularity, start, to))
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.repository.OrderStatusHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes committed order status changes to order_status_history off the request path
+ *
+ * Committing threads only append to a bounded lock-free queue. A single writer thread drains it
+ * into multi-row inserts of up to {@code order.history.batch-size} rows, as soon as a batch is
+ * full or every flush interval otherwise. A failed insert is retried with the same rows.
+ *
+ * When the queue is full the committing thread waits for the writer to make room, up to
+ * {@code order.history.offer-timeout}; only then is the entry dropped and counted in
+ * {@code orders.history.dropped}. On shutdown the writer stops and everything queued is flushed.
+ */
+@Component
+@Slf4j
+public class OrderStatusHistoryWriter {
+
+    private static final long BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final OrderStatusHistoryRepository historyRepository;
+    private final ConcurrentLinkedQueue<OrderStatusChangedEvent> queue = new ConcurrentLinkedQueue<>();
+    // Bounds the queue, ConcurrentLinkedQueue.size() is O(n)
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final long retryDelayNanos;
+    private final Counter dropped;
+    private final Thread writer;
+
+    // Only touched by the writer thread, and by shutdown() once the writer has stopped
+    private final List<OrderStatusChangedEvent> batch;
+    private volatile boolean running = true;
+
+    public OrderStatusHistoryWriter(OrderStatusHistoryRepository historyRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${order.history.queue-capacity:10000}") int capacity,
+                                    @Value("${order.history.batch-size:500}") int batchSize,
+                                    @Value("${order.history.flush-interval:PT0.2S}") Duration flushInterval,
+                                    @Value("${order.history.offer-timeout:PT1S}") Duration offerTimeout,
+                                    @Value("${order.history.retry-delay:PT1S}") Duration retryDelay) {
+        this.historyRepository = historyRepository;
+        this.capacity = capacity;
+        this.batchSize = Math.min(batchSize, Short.MAX_VALUE / OrderStatusHistoryRepository.COLUMNS);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.retryDelayNanos = retryDelay.toNanos();
+        this.batch = new ArrayList<>(this.batchSize);
+        this.dropped = Counter.builder("orders.history.dropped")
+                .description("Status changes not recorded because the history queue stayed full")
+                .register(meterRegistry);
+        Gauge.builder("orders.history.queue_depth", queued, AtomicInteger::get)
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::run, "order-history-writer");
+        writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        enqueue(event);
+    }
+
+    /**
+     * Queue a status change, waiting up to the offer timeout while the queue is full
+     *
+     * @return false if the change was dropped
+     */
+    boolean enqueue(OrderStatusChangedEvent event) {
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (!tryOffer(event)) {
+            LockSupport.unpark(writer);
+            if (!running || System.nanoTime() - deadline >= 0) {
+                dropped.increment();
+                log.warn("Order status history queue full, dropped change: orderId={}, status={}",
+                        event.getOrderId(), event.getStatus());
+                return false;
+            }
+            LockSupport.parkNanos(this, BACKOFF_NANOS);
+        }
+
+        if (queued.get() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    private boolean tryOffer(OrderStatusChangedEvent event) {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            return false;
+        }
+        queue.offer(event);
+        return true;
+    }
+
+    private void run() {
+        while (running) {
+            drainToBatch();
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            } else if (!writeBatch()) {
+                LockSupport.parkNanos(this, retryDelayNanos);
+            } else if (queued.get() < batchSize) {
+                // Less than a full batch waiting: give it the flush interval to fill up
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private void drainToBatch() {
+        while (batch.size() < batchSize) {
+            OrderStatusChangedEvent event = queue.poll();
+            if (event == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            batch.add(event);
+        }
+    }
+
+    private boolean writeBatch() {
+        try {
+            historyRepository.insertAll(batch);
+            batch.clear();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Order status history insert failed, retrying {} changes", batch.size(), e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        if (writer.isAlive()) {
+            log.error("Order status history writer did not stop, {} queued changes not written", queued.get());
+            return;
+        }
+
+        // The writer has stopped, flush what it left behind from this thread
+        int flushed = 0;
+        drainToBatch();
+        while (!batch.isEmpty()) {
+            int size = batch.size();
+            if (!writeBatch()) {
+                log.error("Order status history flush failed on shutdown, {} changes not written",
+                        batch.size() + queued.get());
+                return;
+            }
+            flushed += size;
+            drainToBatch();
+        }
+
+        if (flushed > 0) {
+            log.info("Flushed {} order status history changes on shutdown", flushed);
+        }
+    }
+}
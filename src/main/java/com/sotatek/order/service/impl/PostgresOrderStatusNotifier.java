@@ -0,0 +1,130 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.service.OrderAwaitService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Forwards committed order status changes to the other instances through PostgreSQL NOTIFY
+ *
+ * pg_notify is called inside the publishing transaction, so PostgreSQL delivers it only on commit.
+ * A daemon thread LISTENs on a dedicated connection (outside the pool, it is held forever) and
+ * wakes the local long-poll waiters. Notifications of this instance come back as well, which is
+ * harmless since a waiter completes only once.
+ */
+@Component
+@ConditionalOnProperty(name = "order.await.notify.enabled", havingValue = "true")
+@Slf4j
+public class PostgresOrderStatusNotifier {
+
+    static final String CHANNEL = "order_status_changed";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final OrderAwaitService orderAwaitService;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresOrderStatusNotifier(JdbcTemplate jdbcTemplate,
+                                       DataSourceProperties dataSourceProperties,
+                                       OrderAwaitService orderAwaitService,
+                                       @Value("${order.await.notify.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.orderAwaitService = orderAwaitService;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class,
+                CHANNEL, encode(event.getOrderId(), event.getStatus()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "order-status-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for order status notifications on channel {}", CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Order status listener connection lost, reconnecting in {}: {}",
+                        reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        int separator = payload.indexOf(':');
+        try {
+            Long orderId = Long.valueOf(payload.substring(0, separator));
+            OrderStatus status = OrderStatus.valueOf(payload.substring(separator + 1));
+            orderAwaitService.notifyStatusChanged(orderId, status);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed order status notification: {}", payload);
+        }
+    }
+
+    static String encode(Long orderId, OrderStatus status) {
+        return orderId + ":" + status.name();
+    }
+}
@@ -0,0 +1,136 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.admission.GradePriorityExecutor;
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderFieldSelection;
+import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.OrderLookupResponse;
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.controller.response.OrderStatusResponse;
+import com.sotatek.order.controller.response.PageResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.quote.OrderQuote;
+import com.sotatek.order.service.OrderService;
+import com.sotatek.order.service.external.MemberServiceClient;
+import com.sotatek.order.service.external.dto.MemberDto;
+import com.sotatek.order.service.external.dto.MemberGrade;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * OrderService that schedules order creation by member grade
+ *
+ * The member is fetched on the request thread (no transaction, no connection held), then the
+ * order is created on a {@link GradePriorityExecutor} worker, so under saturation higher grades
+ * are served first. The worker pool also caps how many orders are created concurrently.
+ * With {@code spring.threads.virtual.enabled} the workers are virtual threads as well, so their
+ * blocking adapter and JDBC calls do not hold a platform thread.
+ * Every other operation is delegated unchanged.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "order.priority.enabled", havingValue = "true")
+@Slf4j
+public class PrioritizedOrderService implements OrderService {
+
+    private final OrderServiceImpl delegate;
+    private final MemberServiceClient memberServiceClient;
+    private final GradePriorityExecutor executor;
+
+    public PrioritizedOrderService(OrderServiceImpl delegate,
+                                   MemberServiceClient memberServiceClient,
+                                   MeterRegistry meterRegistry,
+                                   Environment environment,
+                                   @Value("${order.priority.workers:16}") int workers,
+                                   @Value("${order.priority.queue-capacity:500}") int queueCapacity,
+                                   @Value("${order.priority.max-wait:PT10S}") Duration maxWait,
+                                   @Value("${order.admission.retry-after:PT1S}") Duration retryAfter) {
+        this.delegate = delegate;
+        this.memberServiceClient = memberServiceClient;
+
+        Map<MemberGrade, Duration> headStarts = new EnumMap<>(MemberGrade.class);
+        for (MemberGrade grade : MemberGrade.values()) {
+            headStarts.put(grade, environment.getProperty(
+                    "order.priority.head-start." + grade.name().toLowerCase(), Duration.class, Duration.ZERO));
+        }
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("order-priority-").getVirtualThreadFactory()
+                : null;
+        this.executor = new GradePriorityExecutor(workers, queueCapacity, maxWait, retryAfter, headStarts,
+                meterRegistry, threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public OrderResponse createOrder(CreateOrderRequest request) {
+        MemberDto member = memberServiceClient.getMember(request.getMemberId());
+        log.debug("Scheduling order creation: memberId={}, grade={}", request.getMemberId(), member.getGrade());
+
+        return executor.execute(member.getGrade(), () -> delegate.createOrder(request, member));
+    }
+
+    @Override
+    public OrderResponse createOrder(CreateOrderRequest request, MemberDto member) {
+        return executor.execute(member.getGrade(), () -> delegate.createOrder(request, member));
+    }
+
+    @Override
+    public OrderResponse createOrder(CreateOrderRequest request, OrderQuote quote) {
+        return executor.execute(quote.getMemberGrade(), () -> delegate.createOrder(request, quote));
+    }
+
+    @Override
+    public OrderResponse getOrderById(Long id) {
+        return delegate.getOrderById(id);
+    }
+
+    @Override
+    public Map<String, Object> getOrderById(Long id, OrderFieldSelection fields) {
+        return delegate.getOrderById(id, fields);
+    }
+
+    @Override
+    public OrderLookupResponse<OrderResponse> getOrdersByIds(List<Long> ids) {
+        return delegate.getOrdersByIds(ids);
+    }
+
+    @Override
+    public OrderLookupResponse<OrderStatusResponse> getOrderStatusesByIds(List<Long> ids) {
+        return delegate.getOrderStatusesByIds(ids);
+    }
+
+    @Override
+    public PageResponse<OrderResponse> listOrders(Long memberId, OrderStatus status, Pageable pageable) {
+        return delegate.listOrders(memberId, status, pageable);
+    }
+
+    @Override
+    public PageResponse<Map<String, Object>> listOrders(Long memberId, OrderStatus status, Pageable pageable,
+                                                        OrderFieldSelection fields) {
+        return delegate.listOrders(memberId, status, pageable, fields);
+    }
+
+    @Override
+    public OrderResponse updateOrder(Long id, UpdateOrderRequest request) {
+        return delegate.updateOrder(id, request);
+    }
+}
@@ -0,0 +1,422 @@
+package com.sotatek.order.service.impl;
+
+import com.sotatek.order.admission.MemberRateLimiter;
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderItemRequest;
+import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.OrderItemResponse;
+import com.sotatek.order.controller.response.OrderLookupResponse;
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.controller.response.PageResponse;
+import com.sotatek.order.domain.OrderItem;
+import com.sotatek.order.domain.OrderItemRow;
+import com.sotatek.order.domain.OrderRow;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.OrderNotFoundException;
+import com.sotatek.order.exception.OrderVersionConflictException;
+import com.sotatek.order.exception.PaymentFailedException;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.ReactiveOrderItemRepository;
+import com.sotatek.order.repository.ReactiveOrderRepository;
+import com.sotatek.order.service.OrderValidator;
+import com.sotatek.order.service.ReactiveOrderService;
+import com.sotatek.order.service.external.ReactiveMemberServiceClient;
+import com.sotatek.order.service.external.ReactivePaymentServiceClient;
+import com.sotatek.order.service.external.ReactiveProductServiceClient;
+import com.sotatek.order.service.external.dto.MemberDto;
+import com.sotatek.order.service.external.dto.PaymentDto;
+import com.sotatek.order.service.external.dto.PaymentRequestDto;
+import com.sotatek.order.service.external.dto.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive implementation of order creation, lookup and cancellation
+ *
+ * Members, products and payments are called through WebClient, orders and items are read and
+ * written with R2DBC, so a request never holds a thread while waiting. Product and stock lookups
+ * of one order run concurrently.
+ *
+ * The aggregate counters and {@link OrderStatusChangedEvent} listeners (event log, rollups, await)
+ * are JDBC based: they run after the R2DBC commit in a short JDBC transaction on the bounded
+ * elastic scheduler. Unlike the servlet stack they are not atomic with the order itself; a failure
+ * there is logged and does not fail the request.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+    private static final int ITEM_LOOKUP_CONCURRENCY = 8;
+
+    private final ReactiveOrderRepository orderRepository;
+    private final ReactiveOrderItemRepository orderItemRepository;
+    private final OrderAggregateRepository orderAggregateRepository;
+    private final MemberRateLimiter memberRateLimiter;
+    private final ReactiveMemberServiceClient memberServiceClient;
+    private final ReactiveProductServiceClient productServiceClient;
+    private final ReactivePaymentServiceClient paymentServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final TransactionOperations transactionOperations;
+
+    @Override
+    public Mono<OrderResponse> createOrder(CreateOrderRequest request) {
+        Long memberId = request.getMemberId();
+        log.info("Creating order for member: {}", memberId);
+
+        return memberServiceClient.getMember(memberId)
+                .doOnNext(member -> {
+                    OrderValidator.requireActiveMember(memberId, member);
+                    memberRateLimiter.acquire(memberId, member.getGrade());
+                })
+                .flatMap(member -> Flux.fromIterable(request.getItems())
+                        .flatMapSequential(this::toItem, ITEM_LOOKUP_CONCURRENCY)
+                        .collectList()
+                        .flatMap(items -> saveAndPay(newOrder(request, member, items), items)))
+                // A pending payment is counted and published once the reconciliation job confirms the order
+                .flatMap(saved -> saved.order.getStatus() == OrderStatus.PENDING
+                        ? Mono.just(saved)
+                        : afterCommit(saved, null).thenReturn(saved))
+                .map(saved -> {
+                    log.info("Order created successfully: orderId={}, status={}",
+                            saved.order.getId(), saved.order.getStatus());
+                    return mapToOrderResponse(saved.order, saved.items);
+                });
+    }
+
+    @Override
+    public Mono<OrderResponse> getOrderById(Long id) {
+        log.debug("Fetching order by id: {}", id);
+
+        return findOrder(id)
+                .flatMap(order -> orderItemRepository.findByOrderId(id)
+                        .collectList()
+                        .map(items -> mapToOrderResponse(order, items)));
+    }
+
+    @Override
+    public Mono<OrderLookupResponse<OrderResponse>> getOrdersByIds(List<Long> ids) {
+        return Mono.fromCallable(() -> OrderValidator.requireLookupIds(ids))
+                .flatMap(requestedIds -> orderRepository.findAllById(requestedIds)
+                        .collectMap(OrderRow::getId)
+                        .flatMap(ordersById -> loadItems(ordersById.keySet())
+                                .map(itemsByOrderId -> toLookupResponse(requestedIds, ordersById, itemsByOrderId))));
+    }
+
+    @Override
+    public Mono<PageResponse<OrderResponse>> listOrders(Long memberId, OrderStatus status, Pageable pageable) {
+        log.debug("Listing orders: memberId={}, status={}, page={}", memberId, status, pageable.getPageNumber());
+
+        Flux<OrderRow> content;
+        Mono<Long> total;
+        if (memberId != null && status != null) {
+            content = orderRepository.findByMemberIdAndStatus(memberId, status, pageable);
+            total = orderRepository.countByMemberIdAndStatus(memberId, status);
+        } else if (memberId != null) {
+            content = orderRepository.findByMemberId(memberId, pageable);
+            total = orderRepository.countByMemberId(memberId);
+        } else if (status != null) {
+            content = orderRepository.findByStatus(status, pageable);
+            total = orderRepository.countByStatus(status);
+        } else {
+            content = orderRepository.findAllBy(pageable);
+            total = orderRepository.count();
+        }
+
+        return Mono.zip(content.collectList(), total)
+                .flatMap(page -> loadItems(page.getT1().stream().map(OrderRow::getId).collect(Collectors.toList()))
+                        .map(itemsByOrderId -> PageResponse.<OrderResponse>builder()
+                                .content(page.getT1().stream()
+                                        .map(order -> mapToOrderResponse(order,
+                                                itemsByOrderId.getOrDefault(order.getId(), List.of())))
+                                        .collect(Collectors.toList()))
+                                .page(mapToPageInfo(pageable, page.getT2()))
+                                .build()));
+    }
+
+    @Override
+    public Mono<OrderResponse> updateOrder(Long id, UpdateOrderRequest request) {
+        log.info("Updating order: id={}", id);
+
+        return Mono.defer(() -> {
+            OrderValidator.validateUpdateRequest(request);
+            OrderStatus target = request.getStatus();
+            Set<OrderStatus> sources = OrderStatus.sourcesOf(target);
+            // Every status is reached from a single other one, so the guard tells the previous status
+            OrderStatus previousStatus = sources.isEmpty() ? null : sources.iterator().next();
+
+            // Status and version are checked by the UPDATE itself, the order is never loaded
+            Mono<OrderRow> transition = sources.isEmpty()
+                    ? Mono.empty()
+                    : orderRepository.transition(id, sources.stream().map(OrderStatus::name).collect(Collectors.toList()),
+                            target.name(), request.getVersion(), LocalDateTime.now());
+
+            return transition
+                    .switchIfEmpty(Mono.defer(() -> rejectTransition(id, target, request.getVersion())))
+                    .flatMap(order -> orderItemRepository.findByOrderId(id)
+                            .collectList()
+                            .map(items -> new SavedOrder(order, items)))
+                    .flatMap(saved -> afterCommit(saved, previousStatus).thenReturn(saved));
+        }).map(saved -> {
+            log.info("Order updated successfully: orderId={}", id);
+            return mapToOrderResponse(saved.order, saved.items);
+        });
+    }
+
+    /**
+     * Explain why a conditional transition matched no row, from the current status and version
+     */
+    private Mono<OrderRow> rejectTransition(Long id, OrderStatus target, Long expectedVersion) {
+        return findOrder(id)
+                .flatMap(order -> {
+                    OrderValidator.requireTransition(order.getStatus(), target);
+
+                    // The status allows it, so the row was at another version
+                    log.warn("Order update rejected: version conflict, id={}, expected={}, current={}",
+                            id, expectedVersion, order.getVersion());
+                    return Mono.error(new OrderVersionConflictException(id, expectedVersion, order.getVersion()));
+                });
+    }
+
+    private Mono<OrderRow> findOrder(Long id) {
+        return orderRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Order not found: id={}", id);
+                    return new OrderNotFoundException(id);
+                }));
+    }
+
+    /**
+     * Validate one requested item against Product Service and price it
+     */
+    private Mono<OrderItemRow> toItem(OrderItemRequest itemRequest) {
+        Long productId = itemRequest.getProductId();
+        int quantity = itemRequest.getQuantity();
+
+        return Mono.zip(
+                        productServiceClient.getProduct(productId).doOnNext(OrderValidator::requireAvailable),
+                        productServiceClient.getProductStock(productId))
+                .map(productAndStock -> {
+                    OrderValidator.requireStock(productId, quantity, productAndStock.getT2().getAvailableQuantity());
+
+                    BigDecimal unitPrice = productAndStock.getT1().getPrice();
+                    return OrderItemRow.builder()
+                            .productId(productId)
+                            .productName(productAndStock.getT1().getName())
+                            .unitPrice(unitPrice)
+                            .quantity(quantity)
+                            .subtotal(unitPrice.multiply(BigDecimal.valueOf(quantity)))
+                            .build();
+                });
+    }
+
+    private OrderRow newOrder(CreateOrderRequest request, MemberDto member, List<OrderItemRow> items) {
+        LocalDateTime now = LocalDateTime.now();
+        return OrderRow.builder()
+                .memberId(request.getMemberId())
+                .memberName(member.getName())
+                .status(OrderStatus.PENDING)
+                .paymentMethod(request.getPaymentMethod())
+                .totalAmount(items.stream().map(OrderItemRow::getSubtotal).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Insert the PENDING order and its items in one R2DBC transaction, then pay and confirm
+     * The insert commits before the payment call, so like the servlet stack a declined payment
+     * expires the order and a failure with an unknown outcome leaves it PENDING for review.
+     */
+    private Mono<SavedOrder> saveAndPay(OrderRow order, List<OrderItemRow> items) {
+        Mono<SavedOrder> insert = orderRepository.save(order)
+                .flatMap(pending -> {
+                    log.info("Order saved with PENDING status: orderId={}, totalAmount={}",
+                            pending.getId(), pending.getTotalAmount());
+                    items.forEach(item -> item.setOrderId(pending.getId()));
+                    return orderItemRepository.saveAll(items).collectList()
+                            .map(savedItems -> new SavedOrder(pending, savedItems));
+                });
+
+        return transactionalOperator.transactional(insert)
+                .flatMap(saved -> pay(saved.order)
+                        .flatMap(payment -> {
+                            OrderRow pending = saved.order;
+                            pending.setPaymentId(payment.getId());
+                            if (payment.getStatus() == PaymentStatus.COMPLETED) {
+                                pending.setTransactionId(payment.getTransactionId());
+                                pending.setStatus(OrderStatus.CONFIRMED);
+                            } else if (payment.getStatus() != PaymentStatus.PENDING) {
+                                // FAILED or REFUNDED: the payment will never settle, handled as a decline
+                                return Mono.error(new PaymentFailedException(
+                                        "Payment " + payment.getStatus() + ": paymentId=" + payment.getId()));
+                            }
+                            pending.setUpdatedAt(LocalDateTime.now());
+                            return orderRepository.save(pending);
+                        })
+                        // Declined by Payment Service, the order will not be paid
+                        .onErrorResume(PaymentFailedException.class, e -> expire(saved).then(Mono.error(e)))
+                        // Outcome unknown, the member may have been charged: the order stays PENDING for review
+                        .onErrorMap(e -> !(e instanceof PaymentFailedException),
+                                e -> new PaymentFailedException("Payment processing failed: " + e.getMessage(), e))
+                        .map(paid -> new SavedOrder(paid, saved.items)));
+    }
+
+    /**
+     * Expire the PENDING order of a declined payment, it is never counted in the aggregates
+     */
+    private Mono<Void> expire(SavedOrder saved) {
+        OrderRow order = saved.order;
+        order.setStatus(OrderStatus.EXPIRED);
+        order.setUpdatedAt(LocalDateTime.now());
+        return orderRepository.save(order)
+                .flatMap(expired -> afterCommit(new SavedOrder(expired, saved.items), OrderStatus.PENDING));
+    }
+
+    private Mono<PaymentDto> pay(OrderRow order) {
+        log.info("Processing payment: orderId={}, amount={}, method={}",
+                order.getId(), order.getTotalAmount(), order.getPaymentMethod());
+
+        return paymentServiceClient.createPayment(PaymentRequestDto.builder()
+                        .orderId(order.getId())
+                        .amount(order.getTotalAmount())
+                        .paymentMethod(order.getPaymentMethod())
+                        .build())
+                .doOnNext(payment -> log.info("Payment processed: orderId={}, paymentId={}, status={}",
+                        order.getId(), payment.getId(), payment.getStatus()))
+                .doOnError(e -> log.error("Payment failed for orderId={}: {}", order.getId(), e.getMessage()));
+    }
+
+    /**
+     * Update aggregate counters and publish the status change in a JDBC transaction
+     */
+    private Mono<Void> afterCommit(SavedOrder saved, OrderStatus previousStatus) {
+        OrderRow order = saved.order;
+        List<OrderItem> items = saved.items.stream()
+                .map(item -> OrderItem.builder()
+                        .productId(item.getProductId())
+                        .quantity(item.getQuantity())
+                        .build())
+                .collect(Collectors.toList());
+
+        return Mono.<Void>fromRunnable(() -> transactionOperations.executeWithoutResult(status -> {
+                    if (order.getStatus() == OrderStatus.CANCELLED) {
+                        orderAggregateRepository.recordCancellation(order.getMemberId(), items);
+                    } else if (order.getStatus() == OrderStatus.CONFIRMED) {
+                        orderAggregateRepository.recordOrder(order.getMemberId(), items);
+                    }
+                    eventPublisher.publishEvent(OrderStatusChangedEvent.builder()
+                            .orderId(order.getId())
+                            .memberId(order.getMemberId())
+                            .previousStatus(previousStatus)
+                            .status(order.getStatus())
+                            .paymentMethod(order.getPaymentMethod())
+                            .totalAmount(order.getTotalAmount())
+                            .occurredAt(LocalDateTime.now())
+                            .build());
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Post-commit bookkeeping failed: orderId={}", order.getId(), e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Map<Long, List<OrderItemRow>>> loadItems(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return orderItemRepository.findByOrderIdIn(orderIds)
+                .collectList()
+                .map(items -> items.stream().collect(Collectors.groupingBy(OrderItemRow::getOrderId)));
+    }
+
+    private OrderLookupResponse<OrderResponse> toLookupResponse(Set<Long> requestedIds, Map<Long, OrderRow> ordersById,
+                                                                Map<Long, List<OrderItemRow>> itemsByOrderId) {
+        List<OrderResponse> orders = new ArrayList<>(ordersById.size());
+        List<Long> missingIds = new ArrayList<>();
+
+        for (Long id : requestedIds) {
+            OrderRow order = ordersById.get(id);
+            if (order == null) {
+                missingIds.add(id);
+            } else {
+                orders.add(mapToOrderResponse(order, itemsByOrderId.getOrDefault(id, List.of())));
+            }
+        }
+
+        return OrderLookupResponse.<OrderResponse>builder()
+                .orders(orders)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private PageResponse.PageInfo mapToPageInfo(Pageable pageable, long totalElements) {
+        return PageResponse.PageInfo.builder()
+                .number(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(totalElements)
+                .totalPages((int) ((totalElements + pageable.getPageSize() - 1) / pageable.getPageSize()))
+                .build();
+    }
+
+    private OrderResponse mapToOrderResponse(OrderRow order, List<OrderItemRow> items) {
+        List<OrderItemResponse> itemResponses = items.stream()
+                .map(item -> OrderItemResponse.builder()
+                        .id(item.getId())
+                        .productId(item.getProductId())
+                        .productName(item.getProductName())
+                        .unitPrice(item.getUnitPrice())
+                        .quantity(item.getQuantity())
+                        .subtotal(item.getSubtotal())
+                        .build())
+                .collect(Collectors.toList());
+
+        return OrderResponse.builder()
+                .id(order.getId())
+                .memberId(order.getMemberId())
+                .memberName(order.getMemberName())
+                .status(order.getStatus())
+                .items(itemResponses)
+                .totalAmount(order.getTotalAmount())
+                .paymentMethod(order.getPaymentMethod())
+                .paymentId(order.getPaymentId())
+                .transactionId(order.getTransactionId())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
+                .build();
+    }
+
+    private static final class SavedOrder {
+
+        private final OrderRow order;
+        private final List<OrderItemRow> items;
+
+        private SavedOrder(OrderRow order, List<OrderItemRow> items) {
+            this.order = order;
+            this.items = items;
+        }
+    }
+}
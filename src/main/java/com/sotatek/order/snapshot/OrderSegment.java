@@ -0,0 +1,158 @@
+package com.sotatek.order.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.sotatek.order.snapshot.OrderSegmentFormat.*;
+
+/**
+ * Read-only, memory-mapped view of one segment file (see {@link OrderSegmentFormat})
+ * Columns are exposed as typed buffer views over the mapping, so scans read the page cache
+ * directly without copying or deserializing rows. Safe for concurrent readers.
+ */
+public final class OrderSegment {
+
+    private final Path file;
+    private final int rows;
+    private final int minCreatedMinute;
+    private final int maxCreatedMinute;
+
+    final LongBuffer orderIds;
+    final IntBuffer createdMinutes;
+    final LongBuffer memberIds;
+    final ByteBuffer statuses;
+    final ByteBuffer paymentMethods;
+    final LongBuffer productIds;
+    final IntBuffer productNames;
+    final IntBuffer quantities;
+    final LongBuffer subtotalCents;
+
+    private final String[] statusDictionary;
+    private final String[] paymentMethodDictionary;
+    private final String[] productNameDictionary;
+
+    private OrderSegment(Path file, MappedByteBuffer buffer) throws IOException {
+        this.file = file;
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getLong(0) != MAGIC || buffer.getInt(8) != VERSION) {
+            throw new IOException("Not an order segment (version " + VERSION + "): " + file);
+        }
+        this.rows = buffer.getInt(12);
+        this.minCreatedMinute = buffer.getInt(16);
+        this.maxCreatedMinute = buffer.getInt(20);
+
+        long[] offsets = new long[COLUMNS + 1];
+        for (int i = 0; i <= COLUMNS; i++) {
+            offsets[i] = buffer.getLong(OFFSETS_POSITION + i * 8);
+        }
+
+        this.orderIds = column(buffer, offsets, ORDER_ID).asLongBuffer();
+        this.createdMinutes = column(buffer, offsets, CREATED_MINUTE).asIntBuffer();
+        this.memberIds = column(buffer, offsets, MEMBER_ID).asLongBuffer();
+        this.statuses = column(buffer, offsets, STATUS);
+        this.paymentMethods = column(buffer, offsets, PAYMENT_METHOD);
+        this.productIds = column(buffer, offsets, PRODUCT_ID).asLongBuffer();
+        this.productNames = column(buffer, offsets, PRODUCT_NAME).asIntBuffer();
+        this.quantities = column(buffer, offsets, QUANTITY).asIntBuffer();
+        this.subtotalCents = column(buffer, offsets, SUBTOTAL_CENTS).asLongBuffer();
+
+        ByteBuffer dictionaries = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).position((int) offsets[COLUMNS]);
+        this.statusDictionary = readDictionary(dictionaries);
+        this.paymentMethodDictionary = readDictionary(dictionaries);
+        this.productNameDictionary = readDictionary(dictionaries);
+    }
+
+    /**
+     * Map a segment file; the mapping stays valid after the file is deleted
+     */
+    public static OrderSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new OrderSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getMinCreatedMinute() {
+        return minCreatedMinute;
+    }
+
+    public int getMaxCreatedMinute() {
+        return maxCreatedMinute;
+    }
+
+    /**
+     * @return dictionary code of the status, or -1 if no row of this segment can have it
+     */
+    int statusCode(String status) {
+        for (int i = 0; i < statusDictionary.length; i++) {
+            if (statusDictionary[i].equals(status)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    String status(int row) {
+        return statusDictionary[statuses.get(row)];
+    }
+
+    /**
+     * @return payment method name, or null if the order has none
+     */
+    String paymentMethod(int row) {
+        String name = paymentMethodDictionary[paymentMethods.get(row)];
+        return name.isEmpty() ? null : name;
+    }
+
+    String productName(int row) {
+        return productNameDictionary[productNames.get(row)];
+    }
+
+    /**
+     * @return first row created at or after the minute, {@link #getRows()} if none
+     */
+    int firstRowAtOrAfter(int minute) {
+        int low = 0;
+        int high = rows;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (createdMinutes.get(mid) < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static ByteBuffer column(MappedByteBuffer buffer, long[] offsets, int column) {
+        return buffer.slice((int) offsets[column], (int) (offsets[column + 1] - offsets[column]))
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static String[] readDictionary(ByteBuffer buffer) {
+        String[] entries = new String[buffer.getInt()];
+        for (int i = 0; i < entries.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            entries[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,187 @@
+package com.sotatek.order.snapshot;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.sotatek.order.snapshot.OrderSegmentFormat.*;
+
+/**
+ * Buffers order item rows in primitive column arrays and writes them as one segment file
+ * Rows must be added in created_minute order. Reusable after {@link #reset()}.
+ */
+final class OrderSegmentBuilder {
+
+    private static final String[] STATUS_NAMES = Arrays.stream(OrderStatus.values())
+            .map(Enum::name).toArray(String[]::new);
+
+    private static final String[] PAYMENT_METHOD_NAMES = buildPaymentMethodNames();
+
+    private final int capacity;
+    private final long[] orderIds;
+    private final int[] createdMinutes;
+    private final long[] memberIds;
+    private final byte[] statuses;
+    private final byte[] paymentMethods;
+    private final long[] productIds;
+    private final int[] productNames;
+    private final int[] quantities;
+    private final long[] subtotalCents;
+
+    private final Map<String, Integer> productNameCodes = new HashMap<>();
+    private final List<String> productNameDictionary = new ArrayList<>();
+    private int rows;
+
+    OrderSegmentBuilder(int capacity) {
+        this.capacity = capacity;
+        this.orderIds = new long[capacity];
+        this.createdMinutes = new int[capacity];
+        this.memberIds = new long[capacity];
+        this.statuses = new byte[capacity];
+        this.paymentMethods = new byte[capacity];
+        this.productIds = new long[capacity];
+        this.productNames = new int[capacity];
+        this.quantities = new int[capacity];
+        this.subtotalCents = new long[capacity];
+    }
+
+    void add(long orderId, int createdMinute, long memberId, OrderStatus status, PaymentMethod paymentMethod,
+             long productId, String productName, int quantity, long subtotalCents) {
+        if (isFull()) {
+            throw new IllegalStateException("Segment is full: " + capacity + " rows");
+        }
+        if (rows > 0 && createdMinute < createdMinutes[rows - 1]) {
+            throw new IllegalArgumentException("Rows must be added in creation time order");
+        }
+
+        orderIds[rows] = orderId;
+        createdMinutes[rows] = createdMinute;
+        memberIds[rows] = memberId;
+        statuses[rows] = (byte) status.ordinal();
+        paymentMethods[rows] = (byte) (paymentMethod == null ? 0 : paymentMethod.ordinal() + 1);
+        productIds[rows] = productId;
+        productNames[rows] = productNameCodes.computeIfAbsent(productName, name -> {
+            productNameDictionary.add(name);
+            return productNameDictionary.size() - 1;
+        });
+        quantities[rows] = quantity;
+        this.subtotalCents[rows] = subtotalCents;
+        rows++;
+    }
+
+    boolean isFull() {
+        return rows == capacity;
+    }
+
+    boolean isEmpty() {
+        return rows == 0;
+    }
+
+    int size() {
+        return rows;
+    }
+
+    void reset() {
+        rows = 0;
+        productNameCodes.clear();
+        productNameDictionary.clear();
+    }
+
+    /**
+     * Write the buffered rows to a new file through a writable mapping
+     */
+    void writeTo(Path file) throws IOException {
+        long[] offsets = new long[COLUMNS + 1];
+        long position = HEADER_SIZE;
+        for (int column = 0; column < COLUMNS; column++) {
+            position = align(position);
+            offsets[column] = position;
+            position += (long) rows * WIDTHS[column];
+        }
+        offsets[COLUMNS] = align(position);
+
+        byte[][] statusBytes = encode(STATUS_NAMES);
+        byte[][] paymentMethodBytes = encode(PAYMENT_METHOD_NAMES);
+        byte[][] productNameBytes = encode(productNameDictionary.toArray(String[]::new));
+        long size = offsets[COLUMNS] + dictionarySize(statusBytes) + dictionarySize(paymentMethodBytes)
+                + dictionarySize(productNameBytes);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+
+            out.putLong(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(rows)
+                    .putInt(rows == 0 ? 0 : createdMinutes[0])
+                    .putInt(rows == 0 ? 0 : createdMinutes[rows - 1]);
+            for (long offset : offsets) {
+                out.putLong(offset);
+            }
+
+            for (int i = 0; i < rows; i++) {
+                out.putLong((int) offsets[ORDER_ID] + i * 8, orderIds[i]);
+                out.putInt((int) offsets[CREATED_MINUTE] + i * 4, createdMinutes[i]);
+                out.putLong((int) offsets[MEMBER_ID] + i * 8, memberIds[i]);
+                out.put((int) offsets[STATUS] + i, statuses[i]);
+                out.put((int) offsets[PAYMENT_METHOD] + i, paymentMethods[i]);
+                out.putLong((int) offsets[PRODUCT_ID] + i * 8, productIds[i]);
+                out.putInt((int) offsets[PRODUCT_NAME] + i * 4, productNames[i]);
+                out.putInt((int) offsets[QUANTITY] + i * 4, quantities[i]);
+                out.putLong((int) offsets[SUBTOTAL_CENTS] + i * 8, subtotalCents[i]);
+            }
+
+            out.position((int) offsets[COLUMNS]);
+            putDictionary(out, statusBytes);
+            putDictionary(out, paymentMethodBytes);
+            putDictionary(out, productNameBytes);
+            out.force();
+        }
+    }
+
+    private static String[] buildPaymentMethodNames() {
+        PaymentMethod[] methods = PaymentMethod.values();
+        String[] names = new String[methods.length + 1];
+        names[0] = "";
+        for (PaymentMethod method : methods) {
+            names[method.ordinal() + 1] = method.name();
+        }
+        return names;
+    }
+
+    private static byte[][] encode(String[] values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static long dictionarySize(byte[][] entries) {
+        long size = 4;
+        for (byte[] entry : entries) {
+            size += 4 + entry.length;
+        }
+        return size;
+    }
+
+    private static void putDictionary(MappedByteBuffer out, byte[][] entries) {
+        out.putInt(entries.length);
+        for (byte[] entry : entries) {
+            out.putInt(entry.length).put(entry);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sotatek.order.snapshot;
+
+/**
+ * On-disk layout of an order snapshot segment, one row per order item, little endian
+ *
+ * header:       magic (8) | version (4) | rows (4) | min created minute (4) | max created minute (4)
+ *               | absolute offsets of the columns and of the dictionary section (8 each)
+ * columns:      order_id long | created_minute int | member_id long | status byte | payment_method byte
+ *               | product_id long | product_name int | quantity int | subtotal_cents long
+ * dictionaries: status names, payment method names, product names
+ *               (each: count int, then per entry length int + UTF-8 bytes)
+ *
+ * Rows are sorted by created_minute (minutes since epoch of the naive order creation time).
+ * status, payment_method and product_name hold dictionary codes; payment_method 0 means none.
+ * Every column starts on an 8 byte boundary.
+ */
+final class OrderSegmentFormat {
+
+    static final long MAGIC = 0x4F52445345473031L; // "ORDSEG01"
+    static final int VERSION = 1;
+
+    static final int ORDER_ID = 0;
+    static final int CREATED_MINUTE = 1;
+    static final int MEMBER_ID = 2;
+    static final int STATUS = 3;
+    static final int PAYMENT_METHOD = 4;
+    static final int PRODUCT_ID = 5;
+    static final int PRODUCT_NAME = 6;
+    static final int QUANTITY = 7;
+    static final int SUBTOTAL_CENTS = 8;
+
+    /**
+     * Byte width of each column value, indexed by column
+     */
+    static final int[] WIDTHS = {8, 4, 8, 1, 1, 8, 4, 4, 8};
+
+    static final int COLUMNS = WIDTHS.length;
+    static final int OFFSETS_POSITION = 24;
+    static final int HEADER_SIZE = OFFSETS_POSITION + (COLUMNS + 1) * 8;
+
+    static final String FILE_SUFFIX = ".seg";
+
+    private OrderSegmentFormat() {
+    }
+
+    static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+}
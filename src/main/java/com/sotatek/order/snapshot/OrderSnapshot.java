@@ -0,0 +1,24 @@
+package com.sotatek.order.snapshot;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One complete, immutable generation of segment files
+ */
+@Value
+public class OrderSnapshot {
+    Path directory;
+    /**
+     * When the source query started; the snapshot contains orders committed before that
+     */
+    LocalDateTime createdAt;
+    List<OrderSegment> segments;
+
+    public long getRows() {
+        return segments.stream().mapToLong(OrderSegment::getRows).sum();
+    }
+}
@@ -0,0 +1,161 @@
+package com.sotatek.order.snapshot;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.util.LongKeyedSums;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Analytical scans over a mapped order snapshot
+ * Segments outside the requested time range are skipped from their header, the others are
+ * scanned with primitive loops from the first matching row, in parallel on a dedicated
+ * fork-join pool so analytics never compete with request threads for the common pool.
+ */
+@Component
+public class OrderSnapshotQuery {
+
+    private final ForkJoinPool pool;
+
+    public OrderSnapshotQuery(@Value("${order.snapshot.query-parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Per-product quantity and revenue of confirmed orders created in [from, to)
+     *
+     * @param limit number of products to return
+     * @return products by descending revenue
+     */
+    public List<ProductTotal> topProductsByRevenue(OrderSnapshot snapshot, LocalDateTime from, LocalDateTime to,
+                                                   int limit) {
+        int fromMinute = toMinute(from);
+        int toMinute = toMinute(to);
+        List<OrderSegment> segments = snapshot.getSegments();
+        if (segments.isEmpty()) {
+            return List.of();
+        }
+
+        LongKeyedSums totals = pool.invoke(new ProductScan(segments, 0, segments.size(), fromMinute, toMinute));
+
+        // Keep the best `limit` entries in a min-heap on revenue
+        PriorityQueue<long[]> top = new PriorityQueue<>(Comparator.comparingLong((long[] entry) -> entry[2]));
+        totals.forEach((productId, quantity, cents) -> {
+            if (top.size() < limit) {
+                top.add(new long[]{productId, quantity, cents});
+            } else if (cents > top.peek()[2]) {
+                top.poll();
+                top.add(new long[]{productId, quantity, cents});
+            }
+        });
+
+        List<ProductTotal> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            long[] entry = top.poll();
+            result.add(new ProductTotal(entry[0], findProductName(segments, entry[0]), entry[1], entry[2]));
+        }
+        result.sort(Comparator.comparingLong(ProductTotal::getRevenueCents).reversed());
+        return result;
+    }
+
+    static int toMinute(LocalDateTime time) {
+        return (int) Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Most recent name of the product, searched from the newest segment backwards
+     */
+    private static String findProductName(List<OrderSegment> segments, long productId) {
+        for (int s = segments.size() - 1; s >= 0; s--) {
+            OrderSegment segment = segments.get(s);
+            LongBuffer productIds = segment.productIds;
+            for (int i = segment.getRows() - 1; i >= 0; i--) {
+                if (productIds.get(i) == productId) {
+                    return segment.productName(i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Splits the segment list in halves until one segment is left, then scans it
+     */
+    private static final class ProductScan extends RecursiveTask<LongKeyedSums> {
+
+        private final List<OrderSegment> segments;
+        private final int from;
+        private final int to;
+        private final int fromMinute;
+        private final int toMinute;
+
+        private ProductScan(List<OrderSegment> segments, int from, int to, int fromMinute, int toMinute) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.fromMinute = fromMinute;
+            this.toMinute = toMinute;
+        }
+
+        @Override
+        protected LongKeyedSums compute() {
+            if (to - from == 1) {
+                return scan(segments.get(from));
+            }
+
+            int mid = (from + to) >>> 1;
+            ProductScan left = new ProductScan(segments, from, mid, fromMinute, toMinute);
+            left.fork();
+            LongKeyedSums result = new ProductScan(segments, mid, to, fromMinute, toMinute).compute();
+            result.addAll(left.join());
+            return result;
+        }
+
+        private LongKeyedSums scan(OrderSegment segment) {
+            LongKeyedSums sums = new LongKeyedSums(1024);
+            if (segment.getRows() == 0 || segment.getMaxCreatedMinute() < fromMinute
+                    || segment.getMinCreatedMinute() >= toMinute) {
+                return sums;
+            }
+
+            // PENDING and EXPIRED orders were never paid, only CONFIRMED ones count as revenue
+            int confirmed = segment.statusCode(OrderStatus.CONFIRMED.name());
+            if (confirmed < 0) {
+                return sums;
+            }
+            IntBuffer createdMinutes = segment.createdMinutes;
+            ByteBuffer statuses = segment.statuses;
+            LongBuffer productIds = segment.productIds;
+            IntBuffer quantities = segment.quantities;
+            LongBuffer subtotalCents = segment.subtotalCents;
+
+            // Rows are sorted by creation time: start at the first match, stop at the first row past the range
+            for (int i = segment.firstRowAtOrAfter(fromMinute), rows = segment.getRows(); i < rows; i++) {
+                if (createdMinutes.get(i) >= toMinute) {
+                    break;
+                }
+                if (statuses.get(i) == confirmed) {
+                    sums.add(productIds.get(i), quantities.get(i), subtotalCents.get(i));
+                }
+            }
+            return sums;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.sotatek.order.snapshot;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Holds the current order snapshot and its generations on disk
+ *
+ * Each snapshot is written to a fresh {@code gen-<millis>} directory and becomes visible only once
+ * its {@code _COMPLETE} marker exists, so readers never see a partially written generation.
+ * Publishing swaps the in-memory reference and deletes older generations; scans still running on
+ * them keep working because their mappings outlive the files.
+ */
+@Component
+@Slf4j
+public class OrderSnapshotStore {
+
+    private static final String GENERATION_PREFIX = "gen-";
+    private static final String COMPLETE_MARKER = "_COMPLETE";
+
+    private final Path directory;
+    private volatile OrderSnapshot current;
+
+    public OrderSnapshotStore(@Value("${order.snapshot.dir:${java.io.tmpdir}/order-snapshot}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    /**
+     * Map the newest complete generation left by a previous run, if any
+     */
+    @PostConstruct
+    public void loadLatest() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Optional<Path> latest = generations().stream()
+                .filter(generation -> Files.exists(generation.resolve(COMPLETE_MARKER)))
+                .max(Comparator.comparing(Path::getFileName));
+
+        if (latest.isPresent()) {
+            try {
+                current = open(latest.get());
+                log.info("Loaded order snapshot: {} ({} rows)", latest.get(), current.getRows());
+            } catch (IOException e) {
+                log.warn("Could not load order snapshot {}, waiting for the next one", latest.get(), e);
+            }
+        }
+    }
+
+    public Optional<OrderSnapshot> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Create the directory for a new generation
+     */
+    public Path newGeneration() throws IOException {
+        return Files.createDirectories(directory.resolve(GENERATION_PREFIX + System.currentTimeMillis()));
+    }
+
+    /**
+     * Mark a fully written generation complete, make it current and drop older ones
+     */
+    public OrderSnapshot publish(Path generation, LocalDateTime createdAt) throws IOException {
+        Files.writeString(generation.resolve(COMPLETE_MARKER), createdAt.toString());
+        OrderSnapshot snapshot = open(generation);
+        current = snapshot;
+
+        for (Path old : generations()) {
+            if (!old.equals(generation)) {
+                delete(old);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Remove a generation, e.g. after a failed write
+     */
+    public void delete(Path generation) {
+        try (Stream<Path> files = Files.walk(generation)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not delete snapshot generation {}", generation, e);
+        }
+    }
+
+    private OrderSnapshot open(Path generation) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(generation)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(OrderSegmentFormat.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        List<OrderSegment> segments = new ArrayList<>(files.size());
+        for (Path file : files) {
+            segments.add(OrderSegment.open(file));
+        }
+
+        LocalDateTime createdAt = LocalDateTime.parse(Files.readString(generation.resolve(COMPLETE_MARKER)).trim());
+        return new OrderSnapshot(generation, createdAt, List.copyOf(segments));
+    }
+
+    private List<Path> generations() {
+        try (Stream<Path> listing = Files.list(directory)) {
+            return listing.filter(path -> path.getFileName().toString().startsWith(GENERATION_PREFIX)).toList();
+        } catch (IOException e) {
+            log.warn("Could not list snapshot directory {}", directory, e);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.sotatek.order.snapshot;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Copies orders/order_items into a new snapshot generation
+ * The join is read with a forward-only cursor in creation time order and cut into segments
+ * of {@code order.snapshot.segment-rows} item rows.
+ *
+ * A refresh builds on the current snapshot from its high-water mark, its creation time minus
+ * {@code order.snapshot.overlap} for transactions that committed late. Only orders created since
+ * the mark are read from the join. Status changes of older orders are read from orders alone and
+ * patched into a copy of the segments holding them. Untouched segments are hard linked into the new
+ * generation. Orders inserted later with an older creation time, like bulk imports, only appear
+ * after the next full rebuild.
+ */
+@Component
+@Slf4j
+public class OrderSnapshotWriter {
+
+    /**
+     * Largest segment whose columns are still addressable with int offsets
+     */
+    private static final int MAX_SEGMENT_ROWS = 20_000_000;
+
+    private static final String SOURCE_SQL = """
+            SELECT o.id, o.created_at, o.member_id, o.status, o.payment_method,
+                   oi.product_id, oi.product_name, oi.quantity, oi.subtotal
+            FROM orders o
+            JOIN order_items oi ON oi.order_id = o.id
+            WHERE o.created_at >= ?
+            ORDER BY o.created_at, o.id, oi.id
+            """;
+
+    private static final String CHANGED_SQL = "SELECT id, status FROM orders WHERE updated_at >= ? AND created_at < ?";
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final OrderSnapshotStore store;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int segmentRows;
+    private final Duration overlap;
+
+    public OrderSnapshotWriter(OrderSnapshotStore store, DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${order.snapshot.segment-rows:500000}") int segmentRows,
+                               @Value("${order.snapshot.fetch-size:10000}") int fetchSize,
+                               @Value("${order.snapshot.overlap:PT10M}") Duration overlap) {
+        this.store = store;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // Cursor based fetching on PostgreSQL requires a transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.segmentRows = Math.min(Math.max(1, segmentRows), MAX_SEGMENT_ROWS);
+        this.overlap = overlap;
+    }
+
+    /**
+     * Write and publish a new snapshot from the current one, or from scratch if there is none
+     *
+     * @return the published snapshot
+     */
+    public OrderSnapshot refresh() throws IOException {
+        Optional<OrderSnapshot> previous = store.current();
+        return previous.isPresent() ? write(previous.get()) : rebuild();
+    }
+
+    /**
+     * Write and publish a new snapshot from the full join
+     *
+     * @return the published snapshot
+     */
+    public OrderSnapshot rebuild() throws IOException {
+        return write(null);
+    }
+
+    private OrderSnapshot write(OrderSnapshot previous) throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        Path generation = store.newGeneration();
+
+        try {
+            OrderSegmentBuilder builder = new OrderSegmentBuilder(segmentRows);
+            int[] segmentCount = {0};
+            int[] linked = {0};
+
+            // Minute aligned, segments only know the creation minute of a row
+            int markMinute = previous == null
+                    ? OrderSnapshotQuery.toMinute(BEGINNING)
+                    : OrderSnapshotQuery.toMinute(previous.getCreatedAt().minus(overlap));
+            LocalDateTime mark = LocalDateTime.ofEpochSecond(markMinute * 60L, 0, ZoneOffset.UTC);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (previous != null) {
+                    Map<Long, OrderStatus> changed = new HashMap<>();
+                    jdbcTemplate.query(CHANGED_SQL, rs -> {
+                        changed.put(rs.getLong(1), OrderStatus.valueOf(rs.getString(2)));
+                    }, Timestamp.valueOf(mark), Timestamp.valueOf(mark));
+                    for (OrderSegment segment : previous.getSegments()) {
+                        if (carryOver(segment, changed, markMinute, builder, generation, segmentCount)) {
+                            linked[0]++;
+                        }
+                    }
+                }
+
+                jdbcTemplate.query(SOURCE_SQL, rs -> {
+                    if (builder.isFull()) {
+                        writeSegment(builder, generation, segmentCount[0]++);
+                    }
+                    builder.add(
+                            rs.getLong(1),
+                            (int) (rs.getTimestamp(2).toLocalDateTime().toEpochSecond(ZoneOffset.UTC) / 60),
+                            rs.getLong(3),
+                            OrderStatus.valueOf(rs.getString(4)),
+                            rs.getString(5) == null ? null : PaymentMethod.valueOf(rs.getString(5)),
+                            rs.getLong(6),
+                            rs.getString(7),
+                            rs.getInt(8),
+                            rs.getBigDecimal(9).movePointRight(2).longValueExact());
+                }, Timestamp.valueOf(mark));
+            });
+
+            if (!builder.isEmpty()) {
+                writeSegment(builder, generation, segmentCount[0]++);
+            }
+
+            OrderSnapshot snapshot = store.publish(generation, startedAt);
+            log.info("Order snapshot written: {} rows in {} segments ({} reused), {}, {} ms",
+                    snapshot.getRows(), snapshot.getSegments().size(), linked[0],
+                    previous == null ? "full rebuild" : "since " + mark, (System.nanoTime() - started) / 1_000_000);
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            store.delete(generation);
+            throw e;
+        }
+    }
+
+    /**
+     * Carry a segment of the previous snapshot over: link its file when it is full, entirely before
+     * the mark and none of its orders changed, otherwise copy its rows created before the mark with
+     * their current status
+     *
+     * @return true if the segment file was linked
+     */
+    private boolean carryOver(OrderSegment segment, Map<Long, OrderStatus> changed, int markMinute,
+                              OrderSegmentBuilder builder, Path generation, int[] segmentCount) {
+        if (segment.getRows() == 0 || segment.getMinCreatedMinute() >= markMinute) {
+            return false;
+        }
+        if (builder.isFull()) {
+            writeSegment(builder, generation, segmentCount[0]++);
+        }
+        if (builder.isEmpty() && segment.getRows() == segmentRows && segment.getMaxCreatedMinute() < markMinute
+                && !containsAny(segment, changed)) {
+            link(segment.getFile(), segmentFile(generation, segmentCount[0]++));
+            return true;
+        }
+
+        for (int i = 0, rows = segment.getRows(); i < rows && segment.createdMinutes.get(i) < markMinute; i++) {
+            if (builder.isFull()) {
+                writeSegment(builder, generation, segmentCount[0]++);
+            }
+            long orderId = segment.orderIds.get(i);
+            OrderStatus status = changed.get(orderId);
+            String paymentMethod = segment.paymentMethod(i);
+            builder.add(
+                    orderId,
+                    segment.createdMinutes.get(i),
+                    segment.memberIds.get(i),
+                    status != null ? status : OrderStatus.valueOf(segment.status(i)),
+                    paymentMethod == null ? null : PaymentMethod.valueOf(paymentMethod),
+                    segment.productIds.get(i),
+                    segment.productName(i),
+                    segment.quantities.get(i),
+                    segment.subtotalCents.get(i));
+        }
+        return false;
+    }
+
+    private static boolean containsAny(OrderSegment segment, Map<Long, OrderStatus> changed) {
+        if (changed.isEmpty()) {
+            return false;
+        }
+        for (int i = 0, rows = segment.getRows(); i < rows; i++) {
+            if (changed.containsKey(segment.orderIds.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hard link an unchanged segment file into the new generation, copy it where links are not supported
+     */
+    private static void link(Path source, Path target) {
+        try {
+            try {
+                Files.createLink(target, source);
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                Files.copy(source, target);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSegment(OrderSegmentBuilder builder, Path generation, int index) {
+        try {
+            builder.writeTo(segmentFile(generation, index));
+            builder.reset();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path segmentFile(Path generation, int index) {
+        return generation.resolve(String.format("segment-%06d%s", index, OrderSegmentFormat.FILE_SUFFIX));
+    }
+}
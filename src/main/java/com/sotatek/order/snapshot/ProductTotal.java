@@ -0,0 +1,14 @@
+package com.sotatek.order.snapshot;
+
+import lombok.Value;
+
+/**
+ * Per-product figures aggregated from a snapshot, revenue in cents
+ */
+@Value
+public class ProductTotal {
+    long productId;
+    String productName;
+    long quantity;
+    long revenueCents;
+}
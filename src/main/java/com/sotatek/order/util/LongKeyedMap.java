@@ -0,0 +1,152 @@
+package com.sotatek.order.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a primitive long key to an object
+ * One long and one reference per slot, no boxed key or entry object. Not thread safe: a map
+ * shared between threads must not be modified once published, modify a {@link #copy()} instead.
+ */
+public final class LongKeyedMap<V> {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * @param expectedSize number of keys expected before the first resize
+     */
+    public LongKeyedMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1);
+    }
+
+    private LongKeyedMap(LongKeyedMap<V> other) {
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.size = other.size;
+    }
+
+    /**
+     * @return the value of the key, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY) {
+            return null;
+        }
+        return (V) values[slotOf(key)];
+    }
+
+    /**
+     * @param key any value except {@link Long#MIN_VALUE}
+     * @param value not null
+     */
+    public void put(long key, V value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Reserved key: " + key);
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Null value for key: " + key);
+        }
+
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                resize();
+                slot = slotOf(key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Remove the key, shifting back the entries probed past it so lookups need no tombstones
+     */
+    public void remove(long key) {
+        if (key == EMPTY) {
+            return;
+        }
+
+        int mask = keys.length - 1;
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            return;
+        }
+
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (keys[next] == EMPTY) {
+                break;
+            }
+            // Move the entry into the hole unless its home slot lies cyclically within (slot, next]
+            int home = mix(keys[next]) & mask;
+            if (slot <= next ? (home <= slot || home > next) : (home <= slot && home > next)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+        }
+        keys[slot] = EMPTY;
+        values[slot] = null;
+        size--;
+    }
+
+    /**
+     * @return an independent map with the same entries
+     */
+    public LongKeyedMap<V> copy() {
+        return new LongKeyedMap<>(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the slot holding the key, or the empty slot where it belongs
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length << 1);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+        size = 0;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
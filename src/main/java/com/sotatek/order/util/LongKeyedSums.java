@@ -0,0 +1,117 @@
+package com.sotatek.order.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a primitive long key to two running long sums
+ * Avoids boxing and per-entry objects on hot accumulation paths. Not thread safe.
+ */
+public final class LongKeyedSums {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] firsts;
+    private long[] seconds;
+    private int size;
+
+    /**
+     * @param expectedSize number of keys expected before the first resize
+     */
+    public LongKeyedSums(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1);
+    }
+
+    /**
+     * Add both values to the sums of the key, creating it if absent
+     *
+     * @param key any value except {@link Long#MIN_VALUE}
+     */
+    public void add(long key, long first, long second) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Reserved key: " + key);
+        }
+
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                resize();
+                slot = slotOf(key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        firsts[slot] += first;
+        seconds[slot] += second;
+    }
+
+    /**
+     * Add every entry of another map into this one
+     */
+    public void addAll(LongKeyedSums other) {
+        other.forEach(this::add);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                visitor.accept(keys[i], firsts[i], seconds[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void accept(long key, long first, long second);
+    }
+
+    /**
+     * @return the slot holding the key, or the empty slot where it belongs
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldFirsts = firsts;
+        long[] oldSeconds = seconds;
+        allocate(oldKeys.length << 1);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                firsts[slot] = oldFirsts[i];
+                seconds[slot] = oldSeconds[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        firsts = new long[capacity];
+        seconds = new long[capacity];
+        size = 0;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
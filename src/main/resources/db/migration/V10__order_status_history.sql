@@ -0,0 +1,12 @@
+-- Audit trail of committed order status changes, written asynchronously in multi-row batches
+-- by OrderStatusHistoryWriter and served by GET /api/orders/{id}/history.
+-- No foreign key: orders is partitioned on PostgreSQL and its primary key is (id, created_at).
+create table order_status_history (
+    id bigint generated by default as identity primary key,
+    order_id bigint not null,
+    previous_status varchar(50),
+    status varchar(50) not null,
+    changed_at timestamp not null
+);
+
+create index idx_order_status_history_order_id on order_status_history (order_id, changed_at);
@@ -0,0 +1,4 @@
+-- Optimistic locking column of orders (Order.version).
+-- Every status change increments it, including the conditional UPDATEs that bypass JPA,
+-- so a client holding an older version is refused with 409 instead of overwriting a newer state.
+alter table orders add column version bigint not null default 0;
@@ -0,0 +1,14 @@
+-- Failed payments of payment-first creation (order.creation.payment-first), which writes no PENDING order.
+-- order_id is the ID allocated for the order and sent to Payment Service, so a payment that went through
+-- despite a timeout can still be matched.
+create table order_payment_failures (
+    id bigint generated by default as identity primary key,
+    order_id bigint not null,
+    member_id bigint not null,
+    payment_method varchar(50),
+    amount numeric(10, 2) not null,
+    reason varchar(500),
+    failed_at timestamp not null
+);
+
+create index idx_order_payment_failures_order_id on order_payment_failures (order_id);
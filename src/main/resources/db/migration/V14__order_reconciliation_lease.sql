@@ -0,0 +1,4 @@
+-- Lease of the payment reconciliation job on a PENDING order (PendingOrderReconciler).
+-- The job claims a page by setting it and commits at once, so Payment Service is called without
+-- holding row locks or a connection. Other instances skip the order until the lease runs out.
+alter table orders add column reconciliation_lease_until timestamp;
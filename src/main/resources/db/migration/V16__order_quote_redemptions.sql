@@ -0,0 +1,10 @@
+-- Quote tokens already used to create an order (order.quote.enabled). The primary key makes a token
+-- single-use: the insert runs in the order's transaction, so a second order from the same quote fails
+-- it, and an order rolled back frees the quote again. Rows are only needed until the quote expires.
+create table order_quote_redemptions (
+    quote_id varchar(36) primary key,
+    expires_at timestamp not null,
+    redeemed_at timestamp not null
+);
+
+create index idx_order_quote_redemptions_expires_at on order_quote_redemptions (expires_at);
@@ -0,0 +1,11 @@
+create table order_import_jobs (
+    id varchar(100) primary key,
+    status varchar(20) not null,
+    lines_loaded bigint not null default 0,
+    orders_merged bigint not null default 0,
+    items_merged bigint not null default 0,
+    error_message varchar(1000),
+    started_at timestamp,
+    updated_at timestamp,
+    finished_at timestamp
+);
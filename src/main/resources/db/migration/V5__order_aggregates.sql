@@ -0,0 +1,37 @@
+-- Lookups by product previously scanned order_items
+create index idx_order_items_product_id on order_items (product_id);
+
+-- Per-product and per-member counters, maintained in the same transaction as order create/cancel.
+-- Writers add deltas to one of several stripe rows per key to spread contention on hot keys,
+-- readers sum the stripes, and a background job folds them back into stripe 0.
+create table product_sales (
+    product_id bigint not null,
+    stripe smallint not null,
+    order_item_count bigint not null default 0,
+    total_quantity bigint not null default 0,
+    cancelled_quantity bigint not null default 0,
+    constraint pk_product_sales primary key (product_id, stripe)
+);
+
+create table member_order_stats (
+    member_id bigint not null,
+    stripe smallint not null,
+    order_count bigint not null default 0,
+    cancelled_count bigint not null default 0,
+    constraint pk_member_order_stats primary key (member_id, stripe)
+);
+
+-- Only confirmed orders are counted, a cancelled one was confirmed first; PENDING and EXPIRED never are
+insert into product_sales (product_id, stripe, order_item_count, total_quantity, cancelled_quantity)
+select oi.product_id, 0, count(*), sum(oi.quantity),
+       sum(case when o.status = 'CANCELLED' then oi.quantity else 0 end)
+from order_items oi
+join orders o on o.id = oi.order_id
+where o.status in ('CONFIRMED', 'CANCELLED')
+group by oi.product_id;
+
+insert into member_order_stats (member_id, stripe, order_count, cancelled_count)
+select member_id, 0, count(*), sum(case when status = 'CANCELLED' then 1 else 0 end)
+from orders
+where status in ('CONFIRMED', 'CANCELLED')
+group by member_id;
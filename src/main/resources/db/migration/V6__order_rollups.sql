@@ -0,0 +1,44 @@
+-- Time-bucketed order counts and revenue per status and payment method, fed incrementally by the
+-- application (OrderRollupRecorder). Analytics read this table instead of orders.
+-- payment_method is 'NONE' for orders without one.
+create table order_rollups (
+    granularity varchar(10) not null,
+    bucket_start timestamp not null,
+    status varchar(50) not null,
+    payment_method varchar(50) not null,
+    order_count bigint not null default 0,
+    revenue numeric(19, 2) not null default 0,
+    constraint pk_order_rollups primary key (granularity, bucket_start, status, payment_method)
+);
+
+-- Backfill with the status changes the recorder counts: every confirmed order once as CONFIRMED at
+-- created_at, cancelled ones (all confirmed first) again as CANCELLED at updated_at. PENDING orders
+-- have not changed status yet and are left out.
+create view order_rollup_backfill as
+select created_at as occurred_at,
+       'CONFIRMED' as status,
+       coalesce(payment_method, 'NONE') as payment_method,
+       total_amount
+from orders
+where status in ('CONFIRMED', 'CANCELLED')
+union all
+select coalesce(updated_at, created_at), status, coalesce(payment_method, 'NONE'), total_amount
+from orders
+where status = 'CANCELLED';
+
+insert into order_rollups (granularity, bucket_start, status, payment_method, order_count, revenue)
+select 'MINUTE', date_trunc('minute', occurred_at), status, payment_method, count(*), sum(total_amount)
+from order_rollup_backfill
+group by date_trunc('minute', occurred_at), status, payment_method;
+
+insert into order_rollups (granularity, bucket_start, status, payment_method, order_count, revenue)
+select 'HOUR', date_trunc('hour', occurred_at), status, payment_method, count(*), sum(total_amount)
+from order_rollup_backfill
+group by date_trunc('hour', occurred_at), status, payment_method;
+
+insert into order_rollups (granularity, bucket_start, status, payment_method, order_count, revenue)
+select 'DAY', date_trunc('day', occurred_at), status, payment_method, count(*), sum(total_amount)
+from order_rollup_backfill
+group by date_trunc('day', occurred_at), status, payment_method;
+
+drop view order_rollup_backfill;
@@ -0,0 +1,14 @@
+-- Append-only log of order status changes, written in the same transaction as the change.
+-- Tailed by the SSE change feed (GET /api/orders/events); the id is the event cursor.
+create table order_events (
+    id bigint generated by default as identity primary key,
+    order_id bigint not null,
+    member_id bigint not null,
+    previous_status varchar(50),
+    status varchar(50) not null,
+    payment_method varchar(50),
+    total_amount numeric(10, 2) not null,
+    occurred_at timestamp not null
+);
+
+create index idx_order_events_occurred_at on order_events (occurred_at);
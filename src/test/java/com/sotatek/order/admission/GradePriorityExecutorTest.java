@@ -0,0 +1,94 @@
+package com.sotatek.order.admission;
+
+import com.sotatek.order.exception.ServiceOverloadedException;
+import com.sotatek.order.service.external.dto.MemberGrade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GradePriorityExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final GradePriorityExecutor executor = new GradePriorityExecutor(1, 10, Duration.ofSeconds(5),
+            Duration.ofSeconds(1), Map.of(MemberGrade.PLATINUM, Duration.ofSeconds(2)), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void runsHigherGradeFirstWhenSaturated() throws Exception {
+        // Arrange - occupy the only worker
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<MemberGrade> completed = new CopyOnWriteArrayList<>();
+        callers.submit(() -> executor.execute(MemberGrade.GOLD, () -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act - a bronze order queues before a platinum one
+        callers.submit(() -> executor.execute(MemberGrade.BRONZE, () -> completed.add(MemberGrade.BRONZE)));
+        waitForQueueDepth(meterRegistry, MemberGrade.BRONZE, 1);
+        callers.submit(() -> executor.execute(MemberGrade.PLATINUM, () -> completed.add(MemberGrade.PLATINUM)));
+        waitForQueueDepth(meterRegistry, MemberGrade.PLATINUM, 1);
+        release.countDown();
+
+        // Assert
+        callers.shutdown();
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(completed).containsExactly(MemberGrade.PLATINUM, MemberGrade.BRONZE);
+        assertThat(meterRegistry.get("orders.priority.wait").tag("grade", "PLATINUM").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        SimpleMeterRegistry tinyRegistry = new SimpleMeterRegistry();
+        GradePriorityExecutor tiny = new GradePriorityExecutor(1, 1, Duration.ofSeconds(5),
+                Duration.ofSeconds(1), Map.of(), tinyRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            callers.submit(() -> tiny.execute(MemberGrade.GOLD, () -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> tiny.execute(MemberGrade.GOLD, () -> true));
+            waitForQueueDepth(tinyRegistry, MemberGrade.GOLD, 1);
+
+            assertThatThrownBy(() -> tiny.execute(MemberGrade.SILVER, () -> true))
+                    .isInstanceOf(ServiceOverloadedException.class);
+        } finally {
+            release.countDown();
+            tiny.shutdown();
+        }
+    }
+
+    private void waitForQueueDepth(SimpleMeterRegistry registry, MemberGrade grade, int depth)
+            throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (registry.get("orders.priority.queue_depth").tag("grade", grade.name()).gauge().value() == depth) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Queue depth of " + grade + " never reached " + depth);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sotatek.order.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sotatek.order.exception.InvalidOrderRequestException;
+import com.sotatek.order.service.external.dto.MemberDto;
+import com.sotatek.order.service.external.dto.MemberGrade;
+import com.sotatek.order.service.external.dto.MemberStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemberClaimsVerifierTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MemberClaimsVerifier verifier = new MemberClaimsVerifier(new ObjectMapper(), meterRegistry,
+            SECRET, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void trustsSignedClaimsOfTheOrderMember() throws Exception {
+        String token = sign(SECRET, claims(1L, NOW.plusSeconds(60)));
+
+        Optional<MemberDto> member = verifier.verify(token, 1L);
+
+        assertThat(member).isPresent();
+        assertThat(member.get().getName()).isEqualTo("Member 1");
+        assertThat(member.get().getStatus()).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(member.get().getGrade()).isEqualTo(MemberGrade.GOLD);
+        assertThat(meterRegistry.get("orders.member_claims").tag("outcome", "trusted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresClaimsSignedWithAnotherKeyOrExpired() throws Exception {
+        String forged = sign("fedcba9876543210fedcba9876543210", claims(1L, NOW.plusSeconds(60)));
+        String expired = sign(SECRET, claims(1L, NOW.minusSeconds(31)));
+
+        assertThat(verifier.verify(forged, 1L)).isEmpty();
+        assertThat(verifier.verify(expired, 1L)).isEmpty();
+        assertThat(verifier.verify("not-a-jwt", 1L)).isEmpty();
+        assertThat(verifier.verify(null, 1L)).isEmpty();
+        assertThat(meterRegistry.get("orders.member_claims").tag("outcome", "rejected").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsClaimsOfAnotherMember() throws Exception {
+        String token = sign(SECRET, claims(2L, NOW.plusSeconds(60)));
+
+        assertThrows(InvalidOrderRequestException.class, () -> verifier.verify(token, 1L));
+    }
+
+    private String claims(Long memberId, Instant expiresAt) {
+        return "{\"sub\":\"" + memberId + "\",\"name\":\"Member " + memberId
+                + "\",\"status\":\"ACTIVE\",\"grade\":\"GOLD\",\"exp\":" + expiresAt.getEpochSecond() + "}";
+    }
+
+    private String sign(String secret, String claims) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return signingInput + "." + encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.sotatek.order.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueueDelayControllerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final QueueDelayController controller = new QueueDelayController(5 * MS, 100 * MS, 0);
+
+    @Test
+    void allowsFullIntervalWhileQueueDrains() {
+        controller.record(50 * MS, 10 * MS);
+        controller.record(1 * MS, 20 * MS);
+
+        assertThat(controller.queueTimeoutNanos(100 * MS)).isEqualTo(100 * MS);
+        assertThat(controller.isOverloaded(100 * MS)).isFalse();
+    }
+
+    @Test
+    void shortensWaitOnStandingQueueUntilItDrains() {
+        // Arrange - every request of the first interval waited longer than the target
+        controller.record(20 * MS, 10 * MS);
+        controller.record(8 * MS, 60 * MS);
+
+        // Act & Assert
+        assertThat(controller.queueTimeoutNanos(100 * MS)).isEqualTo(5 * MS);
+
+        controller.record(2 * MS, 150 * MS);
+        assertThat(controller.queueTimeoutNanos(200 * MS)).isEqualTo(100 * MS);
+    }
+
+    @Test
+    void idleIntervalClearsOverload() {
+        controller.record(20 * MS, 10 * MS);
+
+        assertThat(controller.isOverloaded(250 * MS)).isFalse();
+    }
+}
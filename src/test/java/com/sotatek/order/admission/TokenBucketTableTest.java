@@ -0,0 +1,44 @@
+package com.sotatek.order.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTableTest {
+
+    private final TokenBucketTable table = new TokenBucketTable(4, 64);
+
+    @Test
+    void admitsBurstThenRefillsAtRate() {
+        // 1 token per 100 ms, burst of 3
+        for (int i = 0; i < 3; i++) {
+            assertThat(table.tryAcquire(42L, 100, 3, 1_000)).isZero();
+        }
+
+        assertThat(table.tryAcquire(42L, 100, 3, 1_000)).isEqualTo(100);
+        assertThat(table.tryAcquire(42L, 100, 3, 1_050)).isEqualTo(50);
+        assertThat(table.tryAcquire(42L, 100, 3, 1_100)).isZero();
+    }
+
+    @Test
+    void keepsMembersIndependent() {
+        assertThat(table.tryAcquire(1L, 1_000, 1, 1_000)).isZero();
+        assertThat(table.tryAcquire(1L, 1_000, 1, 1_000)).isPositive();
+
+        assertThat(table.tryAcquire(2L, 1_000, 1, 1_000)).isZero();
+    }
+
+    @Test
+    void reusesSlotsOfIdleMembers() {
+        // Far more members than slots over time, each one idle before the next wave
+        TokenBucketTable small = new TokenBucketTable(1, 8);
+        for (long wave = 0; wave < 100; wave++) {
+            long now = 1 + wave * 10_000;
+            for (long member = 0; member < 8; member++) {
+                long memberId = wave * 8 + member;
+                assertThat(small.tryAcquire(memberId, 1_000, 1, now)).isZero();
+                assertThat(small.tryAcquire(memberId, 1_000, 1, now)).isPositive();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.sotatek.order.catalog;
+
+import com.sotatek.order.exception.ExternalServiceException;
+import com.sotatek.order.service.external.ProductCatalogSource;
+import com.sotatek.order.service.external.ProductServiceClient;
+import com.sotatek.order.service.external.dto.ProductCatalogPage;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTest {
+
+    @Mock
+    private ProductCatalogSource source;
+
+    @Mock
+    private ProductServiceClient remote;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void syncLoadsSnapshotThenAppliesChangesAfterCursor() {
+        // Arrange
+        ProductCatalog catalog = catalog(Duration.ofMinutes(5));
+        when(source.snapshot()).thenReturn(page("c1", List.of(product(1L, "A"), product(2L, "B")), List.of(), false));
+        when(source.changesSince("c1", 2)).thenReturn(page("c2", List.of(product(1L, "A2")), List.of(), true));
+        when(source.changesSince("c2", 2)).thenReturn(page("c3", List.of(product(3L, "C")), List.of(2L), false));
+
+        // Act
+        catalog.sync();
+        catalog.sync();
+
+        // Assert
+        assertThat(catalog.find(1L).getName()).isEqualTo("A2");
+        assertThat(catalog.find(2L)).isNull();
+        assertThat(catalog.find(3L).getName()).isEqualTo("C");
+        assertThat(meterRegistry.get("orders.catalog.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void failedDeltaKeepsPreviousReplicaAndCursor() {
+        // Arrange
+        ProductCatalog catalog = catalog(Duration.ofMinutes(5));
+        when(source.snapshot()).thenReturn(page("c1", List.of(product(1L, "A")), List.of(), false));
+        when(source.changesSince("c1", 2))
+                .thenThrow(new ExternalServiceException("Product catalog call failed"))
+                .thenReturn(page("c2", List.of(), List.of(1L), false));
+        catalog.sync();
+
+        // Act & Assert
+        assertThrows(ExternalServiceException.class, catalog::sync);
+        assertThat(catalog.find(1L).getName()).isEqualTo("A");
+
+        catalog.sync();
+        assertThat(catalog.find(1L)).isNull();
+    }
+
+    @Test
+    void clientFetchesOnlyUnknownProductsRemotely() {
+        // Arrange
+        ProductCatalog catalog = catalog(Duration.ofMinutes(5));
+        when(source.snapshot()).thenReturn(page("c1", List.of(product(1L, "A")), List.of(), false));
+        catalog.sync();
+        when(remote.getProducts(List.of(5L))).thenReturn(Map.of(5L, product(5L, "E")));
+        ReplicatedProductServiceClient client = new ReplicatedProductServiceClient(catalog, remote, meterRegistry);
+
+        // Act
+        ProductDto known = client.getProduct(1L);
+        Map<Long, ProductDto> products = client.getProducts(List.of(1L, 5L));
+
+        // Assert
+        assertThat(known.getName()).isEqualTo("A");
+        assertThat(products).containsOnlyKeys(1L, 5L);
+        verify(remote, never()).getProduct(anyLong());
+        assertThat(meterRegistry.get("orders.catalog.lookups").tag("result", "hit").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void staleReplicaIsBypassed() {
+        // Arrange - any replica is already too old
+        ProductCatalog catalog = catalog(Duration.ZERO);
+        when(source.snapshot()).thenReturn(page("c1", List.of(product(1L, "A")), List.of(), false));
+        catalog.sync();
+        when(remote.getProduct(1L)).thenReturn(product(1L, "remote"));
+
+        // Act
+        ProductDto product = new ReplicatedProductServiceClient(catalog, remote, meterRegistry).getProduct(1L);
+
+        // Assert
+        assertThat(product.getName()).isEqualTo("remote");
+    }
+
+    private ProductCatalog catalog(Duration maxStaleness) {
+        return new ProductCatalog(source, meterRegistry, 2, 10, maxStaleness);
+    }
+
+    private ProductCatalogPage page(String cursor, List<ProductDto> products, List<Long> removedIds, boolean hasMore) {
+        return ProductCatalogPage.builder()
+                .cursor(cursor)
+                .products(products)
+                .removedIds(removedIds)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private ProductDto product(Long id, String name) {
+        return ProductDto.builder()
+                .id(id)
+                .name(name)
+                .price(BigDecimal.TEN)
+                .status(ProductStatus.AVAILABLE)
+                .build();
+    }
+}
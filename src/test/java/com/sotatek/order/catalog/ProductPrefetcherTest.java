@@ -0,0 +1,120 @@
+package com.sotatek.order.catalog;
+
+import com.sotatek.order.repository.OrderItemRepository;
+import com.sotatek.order.service.external.ProductServiceClient;
+import com.sotatek.order.service.external.dto.ProductDto;
+import com.sotatek.order.service.external.dto.ProductStatus;
+import com.sotatek.order.service.external.dto.ProductStockDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPrefetcherTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private ProductServiceClient remote;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void prefetchWarmsProductsOfRecentOrdersOnce() {
+        // Arrange - tasks run on the calling thread
+        ProductPrefetcher prefetcher = prefetcher(Runnable::run);
+        when(orderItemRepository.findRecentProductIdsByMemberId(eq(1L), any(), any())).thenReturn(List.of(2001L, 2002L));
+        when(remote.getProducts(List.of(2001L, 2002L)))
+                .thenReturn(Map.of(2001L, product(2001L), 2002L, product(2002L)));
+        when(remote.getProductStocks(List.of(2001L, 2002L)))
+                .thenReturn(Map.of(2001L, stock(2001L), 2002L, stock(2002L)));
+        PrefetchingProductServiceClient client = new PrefetchingProductServiceClient(prefetcher, remote);
+
+        // Act
+        prefetcher.prefetch(1L);
+        prefetcher.prefetch(1L);
+        ProductDto product = client.getProduct(2001L);
+        ProductStockDto stock = client.getProductStock(2002L);
+
+        // Assert
+        assertThat(product.getName()).isEqualTo("Product 2001");
+        assertThat(stock.getAvailableQuantity()).isEqualTo(10);
+        verify(orderItemRepository, times(1)).findRecentProductIdsByMemberId(eq(1L), any(), any());
+        verify(remote, never()).getProduct(any());
+        verify(remote, never()).getProductStock(any());
+        assertThat(meterRegistry.get("orders.prefetch.requests").tag("outcome", "skipped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("orders.prefetch.lookups").tag("kind", "product").tag("result", "hit")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void unpredictedProductsAreFetchedFromProductService() {
+        // Arrange
+        ProductPrefetcher prefetcher = prefetcher(Runnable::run);
+        when(orderItemRepository.findRecentProductIdsByMemberId(eq(1L), any(), any())).thenReturn(List.of(2001L));
+        when(remote.getProducts(List.of(2001L))).thenReturn(Map.of(2001L, product(2001L)));
+        when(remote.getProductStocks(List.of(2001L))).thenReturn(Map.of(2001L, stock(2001L)));
+        prefetcher.prefetch(1L);
+        when(remote.getProducts(List.of(3001L))).thenReturn(Map.of(3001L, product(3001L)));
+
+        // Act
+        Map<Long, ProductDto> products = new PrefetchingProductServiceClient(prefetcher, remote)
+                .getProducts(List.of(2001L, 3001L));
+
+        // Assert
+        assertThat(products).containsOnlyKeys(2001L, 3001L);
+        assertThat(meterRegistry.get("orders.prefetch.lookups").tag("kind", "product").tag("result", "miss")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fullQueueDropsThePrefetch() {
+        // Arrange
+        ProductPrefetcher prefetcher = prefetcher(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // Act
+        prefetcher.prefetch(1L);
+
+        // Assert
+        verifyNoInteractions(orderItemRepository, remote);
+        assertThat(meterRegistry.get("orders.prefetch.requests").tag("outcome", "dropped").counter().count()).isEqualTo(1);
+    }
+
+    private ProductPrefetcher prefetcher(Executor executor) {
+        return new ProductPrefetcher(orderItemRepository, remote, null, executor, meterRegistry, 20,
+                Duration.ofDays(90), Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofSeconds(15), 100);
+    }
+
+    private ProductDto product(Long id) {
+        return ProductDto.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(BigDecimal.TEN)
+                .status(ProductStatus.AVAILABLE)
+                .build();
+    }
+
+    private ProductStockDto stock(Long id) {
+        return ProductStockDto.builder()
+                .productId(id)
+                .availableQuantity(10)
+                .build();
+    }
+}
@@ -46,6 +46,14 @@ class OrderControllerExceptionHandlingTest {
     @MockBean
     private OrderService orderService;
 
+    @Test
+    void getOrderReturnsBadRequestForUnknownField() throws Exception {
+        mockMvc.perform(get("/api/orders/1")
+                        .param("fields", "id,unknownField"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_FIELD_SELECTION"));
+    }
+
     @Test
     void createOrderReturnsNotFoundWhenMemberMissing() throws Exception {
         when(orderService.createOrder(any(CreateOrderRequest.class)))
@@ -2,9 +2,11 @@ package com.sotatek.order.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderFieldSelection;
 import com.sotatek.order.controller.request.OrderItemRequest;
 import com.sotatek.order.controller.request.UpdateOrderRequest;
 import com.sotatek.order.controller.response.OrderItemResponse;
+import com.sotatek.order.controller.response.OrderLookupResponse;
 import com.sotatek.order.controller.response.OrderResponse;
 import com.sotatek.order.controller.response.PageResponse;
 import com.sotatek.order.domain.OrderStatus;
@@ -21,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -95,6 +98,42 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.memberName").value("John Doe"));
     }
 
+    @Test
+    void getOrderByIdReturnsOnlySelectedFields() throws Exception {
+        // Arrange
+        when(orderService.getOrderById(eq(1L), any(OrderFieldSelection.class)))
+                .thenReturn(Map.of("id", 1L, "status", OrderStatus.CONFIRMED));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/1")
+                        .param("fields", "id,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.items").doesNotExist())
+                .andExpect(jsonPath("$.memberName").doesNotExist());
+    }
+
+    @Test
+    void getOrdersByIdsReturnsOrdersAndMissingIds() throws Exception {
+        // Arrange
+        OrderLookupResponse<OrderResponse> response = OrderLookupResponse.<OrderResponse>builder()
+                .orders(List.of(buildOrderResponse(2L, OrderStatus.CONFIRMED), buildOrderResponse(1L, OrderStatus.CANCELLED)))
+                .missingIds(List.of(9L))
+                .build();
+
+        when(orderService.getOrdersByIds(List.of(2L, 1L, 9L))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders")
+                        .param("ids", "2,1,9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(2))
+                .andExpect(jsonPath("$.orders[0].id").value(2))
+                .andExpect(jsonPath("$.orders[1].id").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(9));
+    }
+
     @Test
     void listOrdersReturns200OkWithPagination() throws Exception {
         // Arrange
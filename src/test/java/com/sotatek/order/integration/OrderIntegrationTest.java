@@ -3,10 +3,12 @@ package com.sotatek.order.integration;
 import com.sotatek.order.controller.request.CreateOrderRequest;
 import com.sotatek.order.controller.request.OrderItemRequest;
 import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.LargeOrderResponse;
 import com.sotatek.order.controller.response.OrderResponse;
 import com.sotatek.order.domain.Order;
 import com.sotatek.order.domain.OrderStatus;
 import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.repository.OrderItemRepository;
 import com.sotatek.order.repository.OrderRepository;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -17,11 +19,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -41,6 +46,9 @@ class OrderIntegrationTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
     @Autowired
     private RetryRegistry retryRegistry;
 
@@ -300,6 +308,74 @@ class OrderIntegrationTest {
         );
     }
 
+    @Test
+    void createOrderUpdatesProductAndMemberAggregates() {
+        // Arrange - aggregates are never reset, compare against the current values
+        long memberOrders = orderRepository.countByMemberId(1L);
+        long productQuantity = orderItemRepository.getTotalQuantityByProductId(2002L);
+
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .memberId(1L)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .items(List.of(
+                        OrderItemRequest.builder()
+                                .productId(2002L)
+                                .quantity(3)
+                                .build()
+                ))
+                .build();
+
+        // Act
+        ResponseEntity<OrderResponse> response = restTemplate.postForEntity("/api/orders", request, OrderResponse.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(orderRepository.countByMemberId(1L)).isEqualTo(memberOrders + 1);
+        assertThat(orderItemRepository.getTotalQuantityByProductId(2002L)).isEqualTo(productQuantity + 3);
+        assertThat(orderItemRepository.existsByProductId(2002L)).isTrue();
+    }
+
+    @Test
+    void createLargeOrderStreamsItemsInChunks() {
+        // Arrange - 1200 lines over 10 products, more than two chunks
+        StringBuilder body = new StringBuilder("{\"memberId\":1,\"paymentMethod\":\"CREDIT_CARD\",\"items\":[");
+        for (int i = 0; i < 1200; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"productId\":").append(3001 + i % 10).append(",\"quantity\":1}");
+        }
+        body.append("]}");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        ResponseEntity<LargeOrderResponse> response = restTemplate.postForEntity(
+                "/api/orders/large", new HttpEntity<>(body.toString(), headers), LargeOrderResponse.class);
+
+        // Assert - mock products cost 99.99
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(response.getBody().getItemCount()).isEqualTo(1200);
+        assertThat(response.getBody().getTotalAmount()).isEqualByComparingTo(new BigDecimal("119988.00"));
+        assertThat(orderItemRepository.countByOrderId(response.getBody().getId())).isEqualTo(1200);
+    }
+
+    @Test
+    void createLargeOrderRejectsItemsBeforeMember() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String body = "{\"items\":[{\"productId\":3001,\"quantity\":1}],\"memberId\":1,\"paymentMethod\":\"CREDIT_CARD\"}";
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/orders/large", new HttpEntity<>(body, headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("INVALID_ORDER_REQUEST");
+    }
+
     @Test
     void updateOrderRejectsInvalidStatusTransition() {
         // Arrange - create a PENDING order
@@ -0,0 +1,97 @@
+package com.sotatek.order.quote;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderItemRequest;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.exception.InvalidOrderRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderQuoteSignerTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderQuoteSigner signer = signer(SECRET, NOW);
+
+    @Test
+    void verifiesQuoteOfTheSameOrder() {
+        String token = signer.sign(quote(1L, 2001L, 2));
+
+        Optional<OrderQuote> quote = signer.verify(token, request(1L, 2001L, 2));
+
+        assertThat(quote).isPresent();
+        assertThat(quote.get().getId()).isNotBlank();
+        assertThat(quote.get().getExpiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(2)));
+        assertThat(quote.get().getItems().get(0).getUnitPrice()).isEqualByComparingTo("12.50");
+        assertThat(meterRegistry.get("orders.quotes").tag("outcome", "redeemed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresTamperedForeignOrExpiredQuotes() {
+        String token = signer.sign(quote(1L, 2001L, 2));
+        String tampered = "e30" + token.substring(token.indexOf('.'));
+        String foreign = signer("fedcba9876543210fedcba9876543210", NOW).sign(quote(1L, 2001L, 2));
+        OrderQuoteSigner later = signer(SECRET, NOW.plus(Duration.ofMinutes(2)));
+
+        assertThat(signer.verify(tampered, request(1L, 2001L, 2))).isEmpty();
+        assertThat(signer.verify(foreign, request(1L, 2001L, 2))).isEmpty();
+        assertThat(later.verify(token, request(1L, 2001L, 2))).isEmpty();
+        assertThat(signer.verify("not-a-quote", request(1L, 2001L, 2))).isEmpty();
+        assertThat(signer.verify(null, request(1L, 2001L, 2))).isEmpty();
+        assertThat(meterRegistry.get("orders.quotes").tag("outcome", "rejected").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void rejectsQuoteOfAnotherOrder() {
+        String token = signer.sign(quote(1L, 2001L, 2));
+
+        assertThrows(InvalidOrderRequestException.class, () -> signer.verify(token, request(2L, 2001L, 2)));
+        assertThrows(InvalidOrderRequestException.class, () -> signer.verify(token, request(1L, 2001L, 3)));
+    }
+
+    private OrderQuoteSigner signer(String secret, Instant now) {
+        return new OrderQuoteSigner(objectMapper, meterRegistry, secret, Duration.ofMinutes(2),
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private OrderQuote quote(Long memberId, Long productId, int quantity) {
+        return OrderQuote.builder()
+                .memberId(memberId)
+                .memberName("Member " + memberId)
+                .items(List.of(OrderQuote.Item.builder()
+                        .productId(productId)
+                        .productName("Product " + productId)
+                        .unitPrice(BigDecimal.valueOf(12.50))
+                        .quantity(quantity)
+                        .build()))
+                .totalAmount(BigDecimal.valueOf(12.50).multiply(BigDecimal.valueOf(quantity)))
+                .build();
+    }
+
+    private CreateOrderRequest request(Long memberId, Long productId, int quantity) {
+        return CreateOrderRequest.builder()
+                .memberId(memberId)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .items(List.of(OrderItemRequest.builder()
+                        .productId(productId)
+                        .quantity(quantity)
+                        .build()))
+                .build();
+    }
+}
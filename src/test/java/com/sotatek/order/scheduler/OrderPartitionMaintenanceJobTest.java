@@ -0,0 +1,70 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.repository.OrderPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPartitionMaintenanceJobTest {
+
+    @Mock
+    private OrderPartitionRepository partitionRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderPartitionMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new OrderPartitionMaintenanceJob(partitionRepository, transactionTemplate);
+        ReflectionTestUtils.setField(job, "monthsAhead", 2);
+        ReflectionTestUtils.setField(job, "brinAfterMonths", 3);
+        ReflectionTestUtils.setField(job, "retentionMonths", 12);
+    }
+
+    @Test
+    void maintainCreatesUpcomingPartitions() {
+        // Arrange
+        when(partitionRepository.findPartitions()).thenReturn(List.of());
+
+        // Act
+        job.maintain(YearMonth.of(2024, 11));
+
+        // Assert
+        verify(partitionRepository).createPartition(LocalDate.of(2024, 11, 1));
+        verify(partitionRepository).createPartition(LocalDate.of(2024, 12, 1));
+        verify(partitionRepository).createPartition(LocalDate.of(2025, 1, 1));
+    }
+
+    @Test
+    void maintainArchivesExpiredAndConvertsColdPartitions() {
+        // Arrange
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                "orders_p2023_10", "orders_p2024_06", "orders_p2024_07", "orders_p2024_10"));
+        when(partitionRepository.hasBrinIndex("orders_p2024_06")).thenReturn(false);
+        when(partitionRepository.hasBrinIndex("orders_p2024_07")).thenReturn(true);
+
+        // Act
+        job.maintain(YearMonth.of(2024, 11));
+
+        // Assert
+        verify(partitionRepository).archivePartition("orders_p2023_10");
+        verify(partitionRepository).convertToBrin("orders_p2024_06");
+        verify(partitionRepository, never()).convertToBrin("orders_p2024_07");
+        verify(partitionRepository, never()).convertToBrin("orders_p2024_10");
+    }
+}
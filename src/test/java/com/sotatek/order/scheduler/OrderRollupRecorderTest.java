@@ -0,0 +1,93 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.repository.OrderRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRollupRecorderTest {
+
+    @Mock
+    private OrderRollupRepository rollupRepository;
+
+    @InjectMocks
+    private OrderRollupRecorder recorder;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesMinuteHourAndDayBuckets() {
+        // Arrange - two orders in different minutes of the same hour
+        recorder.onStatusChanged(event(LocalDateTime.of(2024, 11, 5, 10, 15, 30), "10.50"));
+        recorder.onStatusChanged(event(LocalDateTime.of(2024, 11, 5, 10, 42, 0), "4.50"));
+
+        // Act
+        recorder.flush();
+
+        // Assert
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(rollupRepository).addAll(rows.capture());
+
+        assertThat(rows.getValue()).hasSize(4);
+        assertThat(rows.getValue()).anySatisfy(row -> assertThat(row).containsExactly(
+                "HOUR", Timestamp.valueOf(LocalDateTime.of(2024, 11, 5, 10, 0)), "CONFIRMED", "CREDIT_CARD",
+                2L, new BigDecimal("15.00")));
+        assertThat(rows.getValue()).anySatisfy(row -> assertThat(row).containsExactly(
+                "DAY", Timestamp.valueOf(LocalDateTime.of(2024, 11, 5, 0, 0)), "CONFIRMED", "CREDIT_CARD",
+                2L, new BigDecimal("15.00")));
+        assertThat(rows.getValue()).anySatisfy(row -> assertThat(row).containsExactly(
+                "MINUTE", Timestamp.valueOf(LocalDateTime.of(2024, 11, 5, 10, 15)), "CONFIRMED", "CREDIT_CARD",
+                1L, new BigDecimal("10.50")));
+    }
+
+    @Test
+    void failedFlushIsRetriedWithNextFlush() {
+        // Arrange
+        recorder.onStatusChanged(event(LocalDateTime.of(2024, 11, 5, 10, 15, 30), "10.50"));
+        doThrow(new IllegalStateException("database down")).doNothing().when(rollupRepository).addAll(anyList());
+
+        // Act
+        recorder.flush();
+        recorder.flush();
+        recorder.flush();
+
+        // Assert - the third flush has nothing left to write
+        verify(rollupRepository, times(2)).addAll(anyList());
+    }
+
+    @Test
+    void flushWithoutEventsDoesNothing() {
+        recorder.flush();
+
+        verify(rollupRepository, never()).addAll(anyList());
+    }
+
+    private OrderStatusChangedEvent event(LocalDateTime occurredAt, String amount) {
+        return OrderStatusChangedEvent.builder()
+                .orderId(1L)
+                .memberId(1L)
+                .status(OrderStatus.CONFIRMED)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .totalAmount(new BigDecimal(amount))
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
@@ -0,0 +1,222 @@
+package com.sotatek.order.scheduler;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.ExternalServiceException;
+import com.sotatek.order.exception.PaymentNotFoundException;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.OrderItemRepository;
+import com.sotatek.order.repository.PendingOrderRepository;
+import com.sotatek.order.repository.PendingOrderRepository.PendingOrder;
+import com.sotatek.order.service.external.PaymentServiceClient;
+import com.sotatek.order.service.external.dto.PaymentDto;
+import com.sotatek.order.service.external.dto.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingOrderReconcilerTest {
+
+    private static final LocalDateTime STALE_BEFORE = LocalDateTime.of(2024, 11, 1, 12, 0);
+
+    @Mock
+    private PendingOrderRepository pendingOrderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderAggregateRepository orderAggregateRepository;
+
+    @Mock
+    private PaymentServiceClient paymentServiceClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PendingOrderReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new PendingOrderReconciler(pendingOrderRepository, orderItemRepository, orderAggregateRepository,
+                paymentServiceClient, eventPublisher, transactionTemplate, meterRegistry, 4);
+        ReflectionTestUtils.setField(reconciler, "staleAfter", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(reconciler, "batchSize", 2);
+        ReflectionTestUtils.setField(reconciler, "maxBatches", 10);
+        ReflectionTestUtils.setField(reconciler, "lease", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(reconciler, "reviewWindow", Duration.ofDays(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciler.shutdown();
+    }
+
+    @Test
+    void reconcileBatchConfirmsPaidAndExpiresFailedOrders() {
+        // Arrange
+        PendingOrder paid = pendingOrder(1L, 101L);
+        PendingOrder failed = pendingOrder(2L, 102L);
+        PendingOrder unknown = pendingOrder(4L, 104L);
+        when(paymentServiceClient.getPayment(101L)).thenReturn(payment(101L, PaymentStatus.COMPLETED));
+        when(paymentServiceClient.getPayment(102L)).thenReturn(payment(102L, PaymentStatus.FAILED));
+        when(paymentServiceClient.getPayment(104L)).thenThrow(new PaymentNotFoundException(104L));
+        when(pendingOrderRepository.confirm(anyMap(), any())).thenReturn(List.of(paid));
+        when(pendingOrderRepository.expire(anyList(), any())).thenReturn(List.of(failed, unknown));
+        when(orderItemRepository.findByOrderIdIn(anyCollection())).thenReturn(List.of());
+        runSettlement();
+
+        // Act
+        reconciler.reconcileBatch(List.of(paid, failed, unknown));
+
+        // Assert
+        verify(pendingOrderRepository).confirm(eq(Map.of(paid, "TXN-101")), any(LocalDateTime.class));
+        verify(pendingOrderRepository).expire(eq(List.of(failed, unknown)), any(LocalDateTime.class));
+        verify(orderAggregateRepository).recordOrder(eq(1L), anyList());
+
+        ArgumentCaptor<OrderStatusChangedEvent> events = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(OrderStatusChangedEvent::getStatus)
+                .containsExactly(OrderStatus.CONFIRMED, OrderStatus.EXPIRED, OrderStatus.EXPIRED);
+        assertThat(events.getAllValues()).allMatch(event -> event.getPreviousStatus() == OrderStatus.PENDING);
+        assertThat(meterRegistry.get("orders.reconciliation.processed").tag("outcome", "expired").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void reconcileBatchLeavesPendingPaymentsAndFailedLookups() {
+        // Arrange
+        PendingOrder settling = pendingOrder(1L, 101L);
+        PendingOrder unreachable = pendingOrder(2L, 102L);
+        when(paymentServiceClient.getPayment(101L)).thenReturn(payment(101L, PaymentStatus.PENDING));
+        when(paymentServiceClient.getPayment(102L)).thenThrow(new ExternalServiceException("Payment Service unavailable"));
+
+        // Act
+        reconciler.reconcileBatch(List.of(settling, unreachable));
+
+        // Assert
+        verify(pendingOrderRepository, never()).confirm(anyMap(), any());
+        verify(pendingOrderRepository, never()).expire(anyList(), any());
+        verifyNoInteractions(eventPublisher, orderAggregateRepository, transactionTemplate);
+        assertThat(meterRegistry.get("orders.reconciliation.processed").tag("outcome", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void reconcileBatchSkipsOrdersSettledSinceTheClaim() {
+        // Arrange - the member cancelled the order while its payment was looked up
+        PendingOrder cancelled = pendingOrder(1L, 101L);
+        when(paymentServiceClient.getPayment(101L)).thenReturn(payment(101L, PaymentStatus.COMPLETED));
+        when(pendingOrderRepository.confirm(anyMap(), any())).thenReturn(List.of());
+        runSettlement();
+
+        // Act
+        reconciler.reconcileBatch(List.of(cancelled));
+
+        // Assert
+        verifyNoInteractions(eventPublisher, orderAggregateRepository, orderItemRepository);
+        assertThat(meterRegistry.get("orders.reconciliation.processed").tag("outcome", "confirmed").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void reconcilePagesUntilAShortPageAndPublishesBacklog() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenReturn(
+                List.of(pendingOrder(1L, 101L), pendingOrder(2L, 102L)),
+                List.of(pendingOrder(3L, 103L)),
+                0);
+        when(paymentServiceClient.getPayment(anyLong())).thenAnswer(invocation ->
+                payment(invocation.getArgument(0), PaymentStatus.PENDING));
+        when(pendingOrderRepository.backlog(any(LocalDateTime.class))).thenReturn(
+                new PendingOrderRepository.Backlog(7, LocalDateTime.now().minusHours(1)));
+        when(pendingOrderRepository.countUnpaid(any(LocalDateTime.class))).thenReturn(2L);
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(paymentServiceClient, times(3)).getPayment(anyLong());
+        assertThat(meterRegistry.get("orders.reconciliation.backlog").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("orders.reconciliation.lag").gauge().value()).isGreaterThanOrEqualTo(3600);
+        assertThat(meterRegistry.get("orders.reconciliation.review").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void expireUnreviewedExpiresUnpaidOrdersPastTheReviewWindow() {
+        // Arrange
+        PendingOrder unpaid = pendingOrder(1L, null);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(pendingOrderRepository.claimUnpaid(any(LocalDateTime.class), eq(2))).thenReturn(List.of(unpaid));
+        when(pendingOrderRepository.expire(eq(List.of(unpaid)), any())).thenReturn(List.of(unpaid));
+
+        // Act
+        reconciler.expireUnreviewed();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> reviewBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(pendingOrderRepository).claimUnpaid(reviewBefore.capture(), eq(2));
+        assertThat(reviewBefore.getValue()).isBefore(LocalDateTime.now().minusDays(3).plusMinutes(1));
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        verifyNoInteractions(paymentServiceClient, orderAggregateRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runSettlement() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private PendingOrder pendingOrder(Long id, Long paymentId) {
+        LocalDateTime createdAt = STALE_BEFORE.minusHours(1).plusSeconds(id);
+        return new PendingOrder(id, 1L, PaymentMethod.CREDIT_CARD, BigDecimal.TEN, paymentId, createdAt, createdAt);
+    }
+
+    private PaymentDto payment(Long paymentId, PaymentStatus status) {
+        return PaymentDto.builder()
+                .id(paymentId)
+                .status(status)
+                .transactionId("TXN-" + paymentId)
+                .build();
+    }
+}
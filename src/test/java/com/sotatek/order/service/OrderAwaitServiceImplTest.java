@@ -0,0 +1,97 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.response.OrderResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.exception.InvalidAwaitRequestException;
+import com.sotatek.order.service.impl.OrderAwaitServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderAwaitServiceImplTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderAwaitServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrderAwaitServiceImpl(orderService, 1);
+        ReflectionTestUtils.setField(service, "maxTimeout", Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void awaitCompletesImmediatelyWhenStatusAlreadyReached() {
+        when(orderService.getOrderById(1L)).thenReturn(order(1L, OrderStatus.CONFIRMED));
+
+        DeferredResult<OrderResponse> result = service.await(1L, OrderStatus.CONFIRMED, "10s");
+
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((OrderResponse) result.getResult()).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void awaitCompletesWhenTransitionIsNotified() throws Exception {
+        // Arrange
+        when(orderService.getOrderById(1L)).thenReturn(
+                order(1L, OrderStatus.PENDING), order(1L, OrderStatus.CONFIRMED));
+        DeferredResult<OrderResponse> result = service.await(1L, OrderStatus.CONFIRMED, "10s");
+        CountDownLatch completed = new CountDownLatch(1);
+        result.setResultHandler(value -> completed.countDown());
+
+        // Act - another order and an unrelated status do not wake the waiter
+        service.notifyStatusChanged(2L, OrderStatus.CONFIRMED);
+        service.notifyStatusChanged(1L, OrderStatus.PENDING);
+        assertThat(result.hasResult()).isFalse();
+
+        service.notifyStatusChanged(1L, OrderStatus.CONFIRMED);
+
+        // Assert
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(((OrderResponse) result.getResult()).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void awaitCompletesWhenOrderIsCancelledInstead() {
+        when(orderService.getOrderById(1L)).thenReturn(order(1L, OrderStatus.CANCELLED));
+
+        DeferredResult<OrderResponse> result = service.await(1L, OrderStatus.CONFIRMED, "10s");
+
+        assertThat(((OrderResponse) result.getResult()).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void awaitRejectsTimeoutAboveMaximum() {
+        assertThatThrownBy(() -> service.await(1L, OrderStatus.CONFIRMED, "5m"))
+                .isInstanceOf(InvalidAwaitRequestException.class);
+        assertThatThrownBy(() -> service.await(1L, OrderStatus.CONFIRMED, "soon"))
+                .isInstanceOf(InvalidAwaitRequestException.class);
+
+        verifyNoInteractions(orderService);
+    }
+
+    private OrderResponse order(Long id, OrderStatus status) {
+        return OrderResponse.builder().id(id).status(status).build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.request.BulkCancelRequest;
+import com.sotatek.order.controller.response.BulkCancelResponse;
+import com.sotatek.order.controller.response.BulkCancelResponse.Outcome;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.InvalidOrderRequestException;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.OrderCancellationRepository;
+import com.sotatek.order.repository.OrderCancellationRepository.CancelledOrder;
+import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.repository.OrderStatusView;
+import com.sotatek.order.service.impl.OrderCancellationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCancellationServiceImplTest {
+
+    @Mock
+    private OrderCancellationRepository cancellationRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderAggregateRepository orderAggregateRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderCancellationService cancellationService;
+
+    @BeforeEach
+    void setUp() {
+        cancellationService = new OrderCancellationServiceImpl(cancellationRepository, orderRepository,
+                orderAggregateRepository, eventPublisher, new TransactionTemplate(transactionManager), 2);
+    }
+
+    @Test
+    void cancelOrdersByIdsReportsOutcomePerIdInRequestOrder() {
+        // Arrange - chunk size 2: [3, 1] then [2, 9]
+        when(cancellationRepository.cancelConfirmed(eq(List.of(3L, 1L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(cancelled(1L, 10L), cancelled(3L, 10L)));
+        when(cancellationRepository.cancelConfirmed(eq(List.of(2L, 9L)), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(orderRepository.findStatusesByIdIn(List.of(2L, 9L))).thenReturn(List.of(statusView(2L, OrderStatus.PENDING)));
+        when(cancellationRepository.sumItemsByProduct(List.of(1L, 3L))).thenReturn(Map.of(2001L, new long[]{2, 5}));
+
+        // Act
+        BulkCancelResponse response = cancellationService.cancelOrders(BulkCancelRequest.builder()
+                .ids(List.of(3L, 1L, 2L, 9L, 3L))
+                .build());
+
+        // Assert
+        assertThat(response.getCancelled()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BulkCancelResponse.Result::getId).containsExactly(3L, 1L, 2L, 9L);
+        assertThat(response.getResults()).extracting(BulkCancelResponse.Result::getOutcome).containsExactly(
+                Outcome.CANCELLED, Outcome.CANCELLED, Outcome.NOT_CANCELLABLE, Outcome.NOT_FOUND);
+        assertThat(response.getResults().get(2).getStatus()).isEqualTo(OrderStatus.PENDING);
+
+        verify(orderAggregateRepository).recordCancellationTotals(eq(Map.of(10L, 2L)), anyMap());
+        verify(eventPublisher, times(2)).publishEvent(any(OrderStatusChangedEvent.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void cancelOrdersByFilterPagesThroughConfirmedOrders() {
+        // Arrange
+        BulkCancelRequest.Filter filter = BulkCancelRequest.Filter.builder().memberId(10L).build();
+        when(cancellationRepository.findConfirmedIds(10L, null, null, 0L, 2)).thenReturn(List.of(1L, 4L));
+        when(cancellationRepository.findConfirmedIds(10L, null, null, 4L, 2)).thenReturn(List.of(7L));
+        when(cancellationRepository.cancelConfirmed(eq(List.of(1L, 4L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(cancelled(1L, 10L), cancelled(4L, 10L)));
+        when(cancellationRepository.cancelConfirmed(eq(List.of(7L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(cancelled(7L, 10L)));
+
+        // Act
+        BulkCancelResponse response = cancellationService.cancelOrders(BulkCancelRequest.builder()
+                .filter(filter)
+                .build());
+
+        // Assert
+        assertThat(response.getCancelled()).isEqualTo(3);
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getResults()).extracting(BulkCancelResponse.Result::getId).containsExactly(1L, 4L, 7L);
+        verify(cancellationRepository, times(2)).findConfirmedIds(eq(10L), any(), any(), anyLong(), eq(2));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void cancelOrdersRejectsEmptyFilter() {
+        assertThrows(InvalidOrderRequestException.class, () -> cancellationService.cancelOrders(
+                BulkCancelRequest.builder().filter(new BulkCancelRequest.Filter()).build()));
+
+        verifyNoInteractions(cancellationRepository, transactionManager);
+    }
+
+    private CancelledOrder cancelled(Long id, Long memberId) {
+        return new CancelledOrder(id, memberId, PaymentMethod.CREDIT_CARD, BigDecimal.TEN);
+    }
+
+    private OrderStatusView statusView(Long id, OrderStatus status) {
+        return new OrderStatusView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public OrderStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return LocalDateTime.now();
+            }
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.controller.response.OrderEventResponse;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.repository.OrderEventRepository;
+import com.sotatek.order.service.impl.OrderEventStreamServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventStreamServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2024-11-05T10:00:00Z");
+
+    @Mock
+    private OrderEventRepository orderEventRepository;
+
+    @Mock
+    private Clock clock;
+
+    private OrderEventStreamServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrderEventStreamServiceImpl(orderEventRepository);
+        ReflectionTestUtils.setField(service, "clock", clock);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "gapTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(service, "skippedRetention", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(service, "maxSkipped", 1000);
+        ReflectionTestUtils.setField(service, "bufferSize", 100);
+        ReflectionTestUtils.setField(service, "subscriberQueueSize", 2);
+        ReflectionTestUtils.setField(service, "emitterTimeout", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(service, "heartbeatInterval", Duration.ofSeconds(15));
+    }
+
+    @Test
+    void readNewEventsStopsAtGapUntilTimeout() {
+        // Arrange - event 12 is not committed yet
+        ReflectionTestUtils.setField(service, "head", 10L);
+        when(orderEventRepository.findAfter(10L, 500)).thenReturn(List.of(event(11), event(13)));
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(1), NOW.plusSeconds(6));
+
+        // Act & Assert - held back while the gap is young, skipped once it timed out
+        assertThat(readNewEvents()).extracting(OrderEventResponse::getId).containsExactly(11L);
+
+        ReflectionTestUtils.setField(service, "head", 11L);
+        when(orderEventRepository.findAfter(11L, 500)).thenReturn(List.of(event(13)));
+        assertThat(readNewEvents()).isEmpty();
+        assertThat(readNewEvents()).extracting(OrderEventResponse::getId).containsExactly(13L);
+    }
+
+    @Test
+    void skippedEventCommittedLaterIsFoundAgain() {
+        // Arrange - event 12 is skipped after the gap timed out
+        ReflectionTestUtils.setField(service, "head", 11L);
+        when(orderEventRepository.findAfter(11L, 500)).thenReturn(List.of(event(13)));
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(6), NOW.plusSeconds(7));
+        readNewEvents();
+        assertThat(readNewEvents()).extracting(OrderEventResponse::getId).containsExactly(13L);
+        when(orderEventRepository.findByIds(Set.of(12L))).thenReturn(List.of(event(12)));
+
+        // Act
+        List<OrderEventResponse> late = ReflectionTestUtils.invokeMethod(service, "readSkippedEvents");
+
+        // Assert - found once, then no longer looked up
+        assertThat(late).extracting(OrderEventResponse::getId).containsExactly(12L);
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(service, "skippedIds")).isEmpty();
+    }
+
+    @Test
+    void skippedEventIsForgottenAfterRetention() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "head", 11L);
+        when(orderEventRepository.findAfter(11L, 500)).thenReturn(List.of(event(13)));
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(6), NOW.plusSeconds(6).plus(Duration.ofMinutes(5)));
+        readNewEvents();
+        readNewEvents();
+
+        // Act
+        List<OrderEventResponse> late = ReflectionTestUtils.invokeMethod(service, "readSkippedEvents");
+
+        // Assert - treated as rolled back, no lookup
+        assertThat(late).isEmpty();
+        verify(orderEventRepository, never()).findByIds(any());
+    }
+
+    @Test
+    void readNewEventsReturnsContiguousEvents() {
+        ReflectionTestUtils.setField(service, "head", 0L);
+        when(orderEventRepository.findAfter(0L, 500)).thenReturn(List.of(event(1), event(2), event(3)));
+        when(clock.instant()).thenReturn(NOW);
+
+        assertThat(readNewEvents()).extracting(OrderEventResponse::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void pollDisconnectsSubscriberTooFarBehind() {
+        // Arrange - sends never run, so queued events pile up
+        ReflectionTestUtils.setField(service, "sendExecutor", (Executor) task -> { });
+        when(clock.instant()).thenReturn(NOW);
+        when(orderEventRepository.findLatestId()).thenReturn(10L);
+        when(orderEventRepository.findAfter(10L, 500)).thenReturn(List.of(event(11), event(12)));
+        when(orderEventRepository.findAfter(12L, 500)).thenReturn(List.of(event(13)));
+        service.subscribe(10L);
+
+        // Act
+        service.poll();
+        assertThat(subscribers()).hasSize(1);
+        service.poll();
+
+        // Assert - the third event would exceed the subscriber queue
+        assertThat(subscribers()).isEmpty();
+    }
+
+    @Test
+    void pollKeepsSubscriberWhoseSendsKeepUp() {
+        // Arrange - sends run on the polling thread
+        ReflectionTestUtils.setField(service, "sendExecutor", (Executor) Runnable::run);
+        when(clock.instant()).thenReturn(NOW);
+        when(orderEventRepository.findLatestId()).thenReturn(10L);
+        when(orderEventRepository.findAfter(10L, 500)).thenReturn(List.of(event(11), event(12)));
+        when(orderEventRepository.findAfter(12L, 500)).thenReturn(List.of(event(13)));
+        service.subscribe(10L);
+
+        // Act
+        service.poll();
+        service.poll();
+
+        // Assert
+        assertThat(subscribers()).hasSize(1);
+    }
+
+    private List<?> subscribers() {
+        return (List<?>) ReflectionTestUtils.getField(service, "subscribers");
+    }
+
+    private List<OrderEventResponse> readNewEvents() {
+        return ReflectionTestUtils.invokeMethod(service, "readNewEvents");
+    }
+
+    private OrderEventResponse event(long id) {
+        return OrderEventResponse.builder().id(id).status(OrderStatus.CONFIRMED).build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.sotatek.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.domain.Order;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.service.impl.OrderExportServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new OrderExportServiceImpl(orderRepository, entityManager, objectMapper);
+        ReflectionTestUtils.setField(exportService, "clearInterval", 2);
+    }
+
+    @Test
+    void exportsCsvWithHeaderAndEscapedValues() throws Exception {
+        when(orderRepository.streamForExport(null, OrderStatus.CONFIRMED))
+                .thenReturn(Stream.of(buildOrder(1L, "Doe, John"), buildOrder(2L, "Jane \"JJ\" Roe")));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = exportService.exportOrders(null, OrderStatus.CONFIRMED, OrderFileFormat.CSV, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,memberId,memberName,status");
+        assertThat(lines[1]).startsWith("1,10,\"Doe, John\",CONFIRMED,59.98,CREDIT_CARD,100,TXN-1,");
+        assertThat(lines[2]).startsWith("2,10,\"Jane \"\"JJ\"\" Roe\",CONFIRMED");
+    }
+
+    @Test
+    void exportsNdjsonAndClearsPersistenceContextPeriodically() throws Exception {
+        when(orderRepository.streamForExport(10L, null))
+                .thenReturn(Stream.of(buildOrder(1L, "A"), buildOrder(2L, "B"), buildOrder(3L, "C")));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = exportService.exportOrders(10L, null, OrderFileFormat.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"memberName\":\"A\"");
+        verify(entityManager, times(3)).detach(any(Order.class));
+        verify(entityManager, times(1)).clear();
+    }
+
+    private Order buildOrder(Long id, String memberName) {
+        return Order.builder()
+                .id(id)
+                .memberId(10L)
+                .memberName(memberName)
+                .status(OrderStatus.CONFIRMED)
+                .totalAmount(new BigDecimal("59.98"))
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .paymentId(100L)
+                .transactionId("TXN-" + id)
+                .createdAt(LocalDateTime.of(2026, 1, 12, 14, 30))
+                .updatedAt(LocalDateTime.of(2026, 1, 12, 14, 31))
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.sotatek.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sotatek.order.controller.request.OrderFileFormat;
+import com.sotatek.order.controller.response.OrderImportResponse;
+import com.sotatek.order.domain.ImportJobStatus;
+import com.sotatek.order.domain.OrderImportJob;
+import com.sotatek.order.exception.InvalidImportDataException;
+import com.sotatek.order.repository.OrderImportJobRepository;
+import com.sotatek.order.repository.OrderImportStagingRepository;
+import com.sotatek.order.service.impl.OrderImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderImportServiceImplTest {
+
+    private static final String CSV = """
+            orderId,memberId,memberName,status,paymentMethod,productId,productName,unitPrice,quantity
+            1,10,"Doe, John",CONFIRMED,CREDIT_CARD,2001,Mouse,10.50,2
+            1,10,"Doe, John",CONFIRMED,CREDIT_CARD,2002,Keyboard,20.00,1
+
+            2,11,Jane,CANCELLED,,2001,Mouse,10.50,1
+            """;
+
+    @Mock
+    private OrderImportJobRepository jobRepository;
+
+    @Mock
+    private OrderImportStagingRepository stagingRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new OrderImportServiceImpl(jobRepository, stagingRepository, transactionTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "chunkSize", 10);
+        ReflectionTestUtils.setField(importService, "mergeBatchSize", 100);
+
+        lenient().when(jobRepository.save(any(OrderImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void resumedImportSkipsCommittedLinesAndMerges() throws Exception {
+        OrderImportJob previousRun = OrderImportJob.builder()
+                .id("legacy")
+                .status(ImportJobStatus.FAILED)
+                .linesLoaded(1)
+                .build();
+        when(jobRepository.findById("legacy")).thenReturn(Optional.of(previousRun));
+        when(stagingRepository.countStaged("legacy")).thenReturn(1L);
+        when(stagingRepository.findOrderIdRange("legacy")).thenReturn(new long[]{1, 2});
+        when(stagingRepository.mergeRange("legacy", 1, 2)).thenReturn(new long[]{2, 3});
+
+        OrderImportResponse response = importService.importOrders("legacy", OrderFileFormat.CSV, input(CSV));
+
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(stagingRepository).copyIn(rows.capture());
+        assertThat(rows.getValue().split("\n"))
+                .containsExactly(
+                        "legacy,2,1,10,\"Doe, John\",CONFIRMED,CREDIT_CARD,,,,,2002,Keyboard,20.00,1",
+                        "legacy,3,2,11,Jane,CANCELLED,,,,,,2001,Mouse,10.50,1");
+
+        assertThat(response.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(response.getLinesLoaded()).isEqualTo(3);
+        assertThat(response.getOrdersMerged()).isEqualTo(2);
+        assertThat(response.getItemsMerged()).isEqualTo(3);
+        verify(stagingRepository).reserveOrderIds(2);
+        verify(stagingRepository).deleteStaged("legacy");
+    }
+
+    @Test
+    void resumedImportWithLostStagingRowsReloadsFromFirstLine() throws Exception {
+        // Arrange - PostgreSQL crashed and truncated the unlogged staging table
+        OrderImportJob previousRun = OrderImportJob.builder()
+                .id("legacy")
+                .status(ImportJobStatus.FAILED)
+                .linesLoaded(2)
+                .build();
+        when(jobRepository.findById("legacy")).thenReturn(Optional.of(previousRun));
+        when(stagingRepository.countStaged("legacy")).thenReturn(0L);
+        when(stagingRepository.findOrderIdRange("legacy")).thenReturn(new long[]{1, 2});
+        when(stagingRepository.mergeRange("legacy", 1, 2)).thenReturn(new long[]{2, 3});
+
+        // Act
+        OrderImportResponse response = importService.importOrders("legacy", OrderFileFormat.CSV, input(CSV));
+
+        // Assert
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(stagingRepository).copyIn(rows.capture());
+        assertThat(rows.getValue().split("\n")).hasSize(3);
+        assertThat(rows.getValue()).startsWith("legacy,1,1,10,");
+        assertThat(response.getLinesLoaded()).isEqualTo(3);
+        verify(stagingRepository, times(2)).deleteStaged("legacy");
+    }
+
+    @Test
+    void invalidLineFailsJobWithLineNumber() {
+        when(jobRepository.findById("broken")).thenReturn(Optional.empty());
+        String ndjson = "{\"orderId\":1,\"memberId\":10,\"memberName\":\"A\",\"status\":\"CONFIRMED\","
+                + "\"productId\":2001,\"productName\":\"Mouse\",\"unitPrice\":10.5,\"quantity\":0}\n";
+
+        InvalidImportDataException ex = assertThrows(InvalidImportDataException.class,
+                () -> importService.importOrders("broken", OrderFileFormat.NDJSON, input(ndjson)));
+
+        assertThat(ex.getMessage()).contains("line 1");
+        verify(stagingRepository, never()).copyIn(any());
+        verify(jobRepository, atLeastOnce()).save(argThat(job -> job.getStatus() == ImportJobStatus.FAILED));
+    }
+
+    private InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,16 +1,28 @@
 package com.sotatek.order.service;
 
+import com.sotatek.order.admission.MemberRateLimiter;
 import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderFieldSelection;
 import com.sotatek.order.controller.request.OrderItemRequest;
 import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.controller.response.OrderLookupResponse;
 import com.sotatek.order.controller.response.OrderResponse;
 import com.sotatek.order.controller.response.PageResponse;
 import com.sotatek.order.domain.Order;
 import com.sotatek.order.domain.OrderItem;
 import com.sotatek.order.domain.OrderStatus;
 import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.event.OrderStatusChangedEvent;
 import com.sotatek.order.exception.*;
+import com.sotatek.order.quote.OrderQuote;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.OrderInsertRepository;
+import com.sotatek.order.repository.OrderItemRepository;
+import com.sotatek.order.repository.OrderPaymentFailureRepository;
+import com.sotatek.order.repository.OrderQuoteRedemptionRepository;
 import com.sotatek.order.repository.OrderRepository;
+import com.sotatek.order.repository.OrderTransitionRepository;
+import com.sotatek.order.repository.OrderTransitionRepository.OrderState;
 import com.sotatek.order.service.external.MemberServiceClient;
 import com.sotatek.order.service.external.PaymentServiceClient;
 import com.sotatek.order.service.external.ProductServiceClient;
@@ -19,24 +31,33 @@ import com.sotatek.order.service.impl.OrderServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.lenient;
 
@@ -46,6 +67,27 @@ class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderAggregateRepository orderAggregateRepository;
+
+    @Mock
+    private OrderTransitionRepository orderTransitionRepository;
+
+    @Mock
+    private OrderInsertRepository orderInsertRepository;
+
+    @Mock
+    private OrderPaymentFailureRepository paymentFailureRepository;
+
+    @Mock
+    private OrderQuoteRedemptionRepository quoteRedemptionRepository;
+
+    @Mock
+    private MemberRateLimiter memberRateLimiter;
+
     @Mock
     private MemberServiceClient memberServiceClient;
 
@@ -55,6 +97,9 @@ class OrderServiceImplTest {
     @Mock
     private PaymentServiceClient paymentServiceClient;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -127,20 +172,38 @@ class OrderServiceImplTest {
                 .thenThrow(new PaymentFailedException("Payment failed"));
 
         assertThrows(PaymentFailedException.class, () -> orderService.createOrder(request));
+
+        // A decline is final: the order is expired at once, never counted
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        verifyNoInteractions(orderAggregateRepository);
     }
 
     @Test
-    void updateOrderRejectsInvalidStatusTransition() {
-        Order order = Order.builder()
-                .id(1L)
-                .memberId(1L)
-                .memberName("Member 1")
-                .status(OrderStatus.PENDING)
-                .paymentMethod(PaymentMethod.CREDIT_CARD)
-                .totalAmount(BigDecimal.ZERO)
-                .build();
+    void createOrderKeepsOrderPendingWhenPaymentOutcomeIsUnknown() {
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 1);
+        when(memberServiceClient.getMember(1L)).thenReturn(activeMember(1L));
+        when(productServiceClient.getProduct(2001L)).thenReturn(availableProduct(2001L));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(sufficientStock(2001L, 10));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class)))
+                .thenThrow(new ExternalServiceException("Payment service call failed: Read timed out"));
+
+        assertThrows(PaymentFailedException.class, () -> orderService.createOrder(request));
+
+        // The member may have been charged, the order stays PENDING for review
+        verify(orderRepository, times(1)).save(argThat(order -> order.getStatus() == OrderStatus.PENDING));
+        verifyNoInteractions(orderAggregateRepository, eventPublisher);
+    }
 
-        when(orderRepository.findByIdWithItems(eq(1L))).thenReturn(Optional.of(order));
+    @Test
+    void updateOrderRejectsInvalidStatusTransition() {
+        when(orderTransitionRepository.transition(eq(1L), eq(Set.of(OrderStatus.CONFIRMED)), eq(OrderStatus.CANCELLED),
+                isNull(), any())).thenReturn(Optional.empty());
+        when(orderTransitionRepository.findState(1L)).thenReturn(Optional.of(new OrderState(OrderStatus.PENDING, 0L)));
 
         UpdateOrderRequest request = UpdateOrderRequest.builder()
                 .status(OrderStatus.CANCELLED)
@@ -149,6 +212,19 @@ class OrderServiceImplTest {
         assertThrows(InvalidOrderStatusException.class, () -> orderService.updateOrder(1L, request));
     }
 
+    @Test
+    void createOrderRejectsRateLimitedMemberBeforeProductLookup() {
+        // Arrange
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 1);
+        when(memberServiceClient.getMember(1L)).thenReturn(activeMember(1L));
+        doThrow(new RateLimitExceededException("limited", 30, Duration.ofSeconds(2)))
+                .when(memberRateLimiter).acquire(eq(1L), any());
+
+        // Act & Assert
+        assertThrows(RateLimitExceededException.class, () -> orderService.createOrder(request));
+        verifyNoInteractions(productServiceClient, paymentServiceClient);
+    }
+
     // ========== SUCCESS SCENARIOS ==========
 
     @Test
@@ -179,6 +255,174 @@ class OrderServiceImplTest {
 
         verify(orderRepository, times(2)).save(any(Order.class)); // Once for PENDING, once for CONFIRMED
         verify(paymentServiceClient).createPayment(any(PaymentRequestDto.class));
+        verify(orderAggregateRepository).recordOrder(eq(1L), anyList());
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    void createOrderKeepsOrderPendingWhilePaymentIsPending() {
+        // Arrange
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 1);
+
+        when(memberServiceClient.getMember(1L)).thenReturn(activeMember(1L));
+        when(productServiceClient.getProduct(2001L)).thenReturn(availableProduct(2001L));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(sufficientStock(2001L, 10));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class))).thenReturn(PaymentDto.builder()
+                .id(100L)
+                .orderId(1L)
+                .status(PaymentStatus.PENDING)
+                .build());
+
+        // Act
+        OrderResponse response = orderService.createOrder(request);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(response.getPaymentId()).isEqualTo(100L);
+        verifyNoInteractions(orderAggregateRepository, eventPublisher);
+    }
+
+    @Test
+    void createOrderExpiresOrderWhenPaymentComesBackFailed() {
+        // Arrange
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 1);
+
+        when(memberServiceClient.getMember(1L)).thenReturn(activeMember(1L));
+        when(productServiceClient.getProduct(2001L)).thenReturn(availableProduct(2001L));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(sufficientStock(2001L, 10));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class))).thenReturn(PaymentDto.builder()
+                .id(100L)
+                .orderId(1L)
+                .status(PaymentStatus.FAILED)
+                .build());
+
+        // Act & Assert
+        assertThrows(PaymentFailedException.class, () -> orderService.createOrder(request));
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(saved.getValue().getPaymentId()).isEqualTo(100L);
+        verifyNoInteractions(orderAggregateRepository);
+    }
+
+    @Test
+    void createOrderFromQuoteSkipsMemberAndProductLookups() {
+        // Arrange
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 2);
+        OrderQuote quote = quote();
+        when(quoteRedemptionRepository.redeem(eq("quote-1"), eq(quote.getExpiresAt()), any())).thenReturn(true);
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class))).thenReturn(successfulPayment(1L));
+
+        // Act
+        OrderResponse response = orderService.createOrder(request, quote);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(response.getItems().get(0).getProductName()).isEqualTo("Quoted Product");
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("25.00");
+        verify(memberRateLimiter).acquire(1L, MemberGrade.GOLD);
+        verifyNoInteractions(memberServiceClient, productServiceClient);
+    }
+
+    @Test
+    void createOrderFromUsedQuoteIsRejected() {
+        // Arrange
+        OrderQuote quote = quote();
+        when(quoteRedemptionRepository.redeem(eq("quote-1"), eq(quote.getExpiresAt()), any())).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(InvalidOrderRequestException.class,
+                () -> orderService.createOrder(buildCreateOrderRequest(1L, 2001L, 2), quote));
+        verifyNoInteractions(memberRateLimiter, paymentServiceClient);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    private OrderQuote quote() {
+        return OrderQuote.builder()
+                .id("quote-1")
+                .memberId(1L)
+                .memberName("Member 1")
+                .memberGrade(MemberGrade.GOLD)
+                .items(List.of(OrderQuote.Item.builder()
+                        .productId(2001L)
+                        .productName("Quoted Product")
+                        .unitPrice(BigDecimal.valueOf(12.50))
+                        .quantity(2)
+                        .build()))
+                .totalAmount(BigDecimal.valueOf(25.00))
+                .expiresAt(Instant.parse("2024-05-01T10:02:00Z"))
+                .build();
+    }
+
+    @Test
+    void createOrderPaymentFirstWritesConfirmedOrderOnce() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "paymentFirst", true);
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 2);
+
+        when(memberServiceClient.getMember(1L)).thenReturn(activeMember(1L));
+        when(productServiceClient.getProduct(2001L)).thenReturn(availableProduct(2001L));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(sufficientStock(2001L, 10));
+        when(orderInsertRepository.nextId()).thenReturn(42L);
+        when(paymentServiceClient.createPayment(argThat(payment -> payment.getOrderId() == 42L)))
+                .thenReturn(successfulPayment(42L));
+
+        // Act
+        OrderResponse response = orderService.createOrder(request);
+
+        // Assert
+        assertThat(response.getId()).isEqualTo(42L);
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(response.getTransactionId()).isEqualTo("TXN-12345");
+        verify(orderInsertRepository).insert(argThat(order -> order.getStatus() == OrderStatus.CONFIRMED), any());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderAggregateRepository).recordOrder(eq(1L), anyList());
+        verifyNoInteractions(paymentFailureRepository);
+    }
+
+    @Test
+    void createOrderPaymentFirstLogsFailedPaymentInsteadOfPendingOrder() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "paymentFirst", true);
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 1);
+
+        when(memberServiceClient.getMember(1L)).thenReturn(activeMember(1L));
+        when(productServiceClient.getProduct(2001L)).thenReturn(availableProduct(2001L));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(sufficientStock(2001L, 10));
+        when(orderInsertRepository.nextId()).thenReturn(42L);
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class)))
+                .thenThrow(new PaymentFailedException("Card declined"));
+
+        // Act & Assert
+        assertThrows(PaymentFailedException.class, () -> orderService.createOrder(request));
+        verify(paymentFailureRepository).record(argThat(order -> order.getId() == 42L), eq("Card declined"), any());
+        verify(orderInsertRepository, never()).insert(any(), any());
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(orderAggregateRepository, eventPublisher);
+    }
+
+    @Test
+    void createOrderPaymentFirstLogsRefundedPaymentInsteadOfConfirmedOrder() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "paymentFirst", true);
+        CreateOrderRequest request = buildCreateOrderRequest(1L, 2001L, 1);
+
+        when(memberServiceClient.getMember(1L)).thenReturn(activeMember(1L));
+        when(productServiceClient.getProduct(2001L)).thenReturn(availableProduct(2001L));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(sufficientStock(2001L, 10));
+        when(orderInsertRepository.nextId()).thenReturn(42L);
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class))).thenReturn(PaymentDto.builder()
+                .id(100L)
+                .orderId(42L)
+                .status(PaymentStatus.REFUNDED)
+                .build());
+
+        // Act & Assert
+        assertThrows(PaymentFailedException.class, () -> orderService.createOrder(request));
+        verify(paymentFailureRepository).record(argThat(order -> order.getId() == 42L),
+                eq("Payment REFUNDED: paymentId=100"), any());
+        verify(orderInsertRepository, never()).insert(any(), any());
+        verifyNoInteractions(orderAggregateRepository, eventPublisher);
     }
 
     @Test
@@ -205,6 +449,43 @@ class OrderServiceImplTest {
         assertThrows(OrderNotFoundException.class, () -> orderService.getOrderById(999L));
     }
 
+    @Test
+    void getOrderByIdWithFieldsSkipsItemsWhenNotSelected() {
+        // Arrange
+        Order order = buildOrderWithItems(1L, OrderStatus.CONFIRMED);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // Act
+        Map<String, Object> response = orderService.getOrderById(1L, OrderFieldSelection.parse("status,id"));
+
+        // Assert
+        assertThat(response).containsOnlyKeys("id", "status");
+        assertThat(response.keySet()).containsExactly("id", "status");
+        assertThat(response.get("status")).isEqualTo(OrderStatus.CONFIRMED);
+        verify(orderRepository, never()).findByIdWithItems(any());
+    }
+
+    @Test
+    void listOrdersWithFieldsLoadsItemsOfPageInOneQuery() {
+        // Arrange
+        Order first = buildOrderWithItems(1L, OrderStatus.CONFIRMED);
+        Order second = buildOrderWithItems(2L, OrderStatus.CONFIRMED);
+        Page<Order> page = new PageImpl<>(List.of(first, second), PageRequest.of(0, 10), 2);
+
+        when(orderRepository.findAll(any(Pageable.class))).thenReturn(page);
+        when(orderItemRepository.findByOrderIdIn(List.of(1L, 2L))).thenReturn(first.getItems());
+
+        // Act
+        PageResponse<Map<String, Object>> response = orderService.listOrders(
+                null, null, PageRequest.of(0, 10), OrderFieldSelection.parse("id,items.productId"));
+
+        // Assert
+        assertThat(response.getContent()).hasSize(2);
+        assertThat(response.getContent().get(0).get("items")).isEqualTo(List.of(Map.of("productId", 2001L)));
+        assertThat(response.getContent().get(1).get("items")).isEqualTo(List.of());
+        verify(orderItemRepository).findByOrderIdIn(List.of(1L, 2L));
+    }
+
     @Test
     void listOrdersWithPagination() {
         // Arrange
@@ -262,9 +543,6 @@ class OrderServiceImplTest {
     @Test
     void updateOrderRejectsItemUpdate() {
         // Arrange
-        Order order = buildOrderWithItems(1L, OrderStatus.CONFIRMED);
-        when(orderRepository.findByIdWithItems(1L)).thenReturn(Optional.of(order));
-
         UpdateOrderRequest request = UpdateOrderRequest.builder()
                 .items(List.of(OrderItemRequest.builder()
                         .productId(2001L)
@@ -274,28 +552,31 @@ class OrderServiceImplTest {
 
         // Act & Assert
         assertThrows(InvalidOrderStatusException.class, () -> orderService.updateOrder(1L, request));
+        verifyNoInteractions(orderTransitionRepository);
     }
 
     @Test
     void updateOrderRejectsPaymentMethodUpdate() {
-        Order order = buildOrderWithItems(1L, OrderStatus.CONFIRMED);
-        when(orderRepository.findByIdWithItems(1L)).thenReturn(Optional.of(order));
-
         UpdateOrderRequest request = UpdateOrderRequest.builder()
                 .paymentMethod(PaymentMethod.DEBIT_CARD)
                 .build();
 
         assertThrows(InvalidOrderStatusException.class, () -> orderService.updateOrder(1L, request));
+        verifyNoInteractions(orderTransitionRepository);
     }
 
     @Test
     void updateOrderCancelsConfirmedOrder() {
-        // Arrange
-        Order order = buildOrderWithItems(1L, OrderStatus.CONFIRMED);
-        when(orderRepository.findByIdWithItems(1L)).thenReturn(Optional.of(order));
+        // Arrange - the UPDATE returns the cancelled row, without items
+        Order order = buildOrderWithItems(1L, OrderStatus.CANCELLED);
+        order.setVersion(3L);
+        when(orderTransitionRepository.transition(eq(1L), eq(Set.of(OrderStatus.CONFIRMED)), eq(OrderStatus.CANCELLED),
+                eq(2L), any())).thenReturn(Optional.of(order));
+        when(orderItemRepository.findByOrderId(1L)).thenReturn(order.getItems());
 
         UpdateOrderRequest request = UpdateOrderRequest.builder()
                 .status(OrderStatus.CANCELLED)
+                .version(2L)
                 .build();
 
         // Act
@@ -303,7 +584,56 @@ class OrderServiceImplTest {
 
         // Assert
         assertThat(response.getStatus()).isEqualTo(OrderStatus.CANCELLED);
-        verify(orderRepository).save(any(Order.class));
+        assertThat(response.getVersion()).isEqualTo(3L);
+        assertThat(response.getItems()).hasSize(1);
+        verify(orderRepository, never()).findByIdWithItems(any());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderAggregateRepository).recordCancellation(eq(1L), anyList());
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    void updateOrderRejectsStaleVersion() {
+        // Arrange - still CONFIRMED, but changed since the client read version 2
+        when(orderTransitionRepository.transition(eq(1L), any(), eq(OrderStatus.CANCELLED), eq(2L), any()))
+                .thenReturn(Optional.empty());
+        when(orderTransitionRepository.findState(1L)).thenReturn(Optional.of(new OrderState(OrderStatus.CONFIRMED, 4L)));
+
+        UpdateOrderRequest request = UpdateOrderRequest.builder()
+                .status(OrderStatus.CANCELLED)
+                .version(2L)
+                .build();
+
+        // Act & Assert
+        assertThrows(OrderVersionConflictException.class, () -> orderService.updateOrder(1L, request));
+        verifyNoInteractions(orderAggregateRepository, eventPublisher);
+    }
+
+    @Test
+    void getOrdersByIdsPreservesRequestedOrderAndReportsMissingIds() {
+        // Arrange
+        Order first = buildOrderWithItems(1L, OrderStatus.CONFIRMED);
+        Order second = buildOrderWithItems(2L, OrderStatus.CANCELLED);
+        when(orderRepository.findAllByIdIn(any())).thenReturn(List.of(first, second));
+        when(orderItemRepository.findByOrderIdIn(any())).thenReturn(first.getItems());
+
+        // Act
+        OrderLookupResponse<OrderResponse> response = orderService.getOrdersByIds(List.of(2L, 9L, 1L, 2L));
+
+        // Assert - duplicates once, items of every order from a single query
+        assertThat(response.getOrders()).extracting(OrderResponse::getId).containsExactly(2L, 1L);
+        assertThat(response.getOrders().get(0).getItems()).isEmpty();
+        assertThat(response.getOrders().get(1).getItems()).hasSize(1);
+        assertThat(response.getMissingIds()).containsExactly(9L);
+        verify(orderItemRepository, times(1)).findByOrderIdIn(any());
+        verify(orderRepository, never()).findByIdWithItems(any());
+    }
+
+    @Test
+    void getOrdersByIdsRejectsEmptyList() {
+        assertThrows(InvalidLookupRequestException.class, () -> orderService.getOrdersByIds(List.of()));
+
+        verifyNoInteractions(orderRepository);
     }
 
     private CreateOrderRequest buildCreateOrderRequest(Long memberId, Long productId, int quantity) {
@@ -0,0 +1,113 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.repository.OrderStatusHistoryRepository;
+import com.sotatek.order.service.impl.OrderStatusHistoryWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusHistoryWriterTest {
+
+    @Mock
+    private OrderStatusHistoryRepository historyRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shutdownFlushesQueuedChangesInBatches() throws InterruptedException {
+        // Arrange - writer thread not started, everything is left for shutdown
+        OrderStatusHistoryWriter writer = writer(10, 2, Duration.ofMillis(10));
+        List<Integer> batchSizes = recordBatchSizes();
+        writer.onStatusChanged(event(1L));
+        writer.onStatusChanged(event(2L));
+        writer.onStatusChanged(event(3L));
+
+        // Act
+        writer.shutdown();
+
+        // Assert
+        assertThat(batchSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    void fullQueueDropsChangeAfterOfferTimeout() throws InterruptedException {
+        // Arrange
+        OrderStatusHistoryWriter writer = writer(1, 10, Duration.ofMillis(10));
+        writer.onStatusChanged(event(1L));
+
+        // Act
+        writer.onStatusChanged(event(2L));
+
+        // Assert
+        assertThat(meterRegistry.get("orders.history.dropped").counter().count()).isEqualTo(1);
+        List<Integer> batchSizes = recordBatchSizes();
+        writer.shutdown();
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void writerRetriesFailedInsertWithTheSameRows() throws InterruptedException {
+        // Arrange
+        OrderStatusHistoryWriter writer = writer(10, 10, Duration.ofMillis(10));
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<List<?>>getArgument(0).size());
+            throw new DataAccessResourceFailureException("connection refused");
+        }).doAnswer(invocation -> {
+            batchSizes.add(invocation.<List<?>>getArgument(0).size());
+            return null;
+        }).when(historyRepository).insertAll(anyList());
+
+        writer.onStatusChanged(event(1L));
+        writer.onStatusChanged(event(2L));
+
+        // Act
+        writer.start();
+
+        // Assert
+        verify(historyRepository, timeout(5000).times(2)).insertAll(anyList());
+        writer.shutdown();
+        assertThat(batchSizes).containsExactly(2, 2);
+    }
+
+    private OrderStatusHistoryWriter writer(int capacity, int batchSize, Duration offerTimeout) {
+        return new OrderStatusHistoryWriter(historyRepository, meterRegistry, capacity, batchSize,
+                Duration.ofMillis(50), offerTimeout, Duration.ofMillis(10));
+    }
+
+    /**
+     * The writer reuses its batch list, so sizes are captured at call time
+     */
+    private List<Integer> recordBatchSizes() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> batchSizes.add(invocation.<List<?>>getArgument(0).size()))
+                .when(historyRepository).insertAll(anyList());
+        return batchSizes;
+    }
+
+    private OrderStatusChangedEvent event(Long orderId) {
+        return OrderStatusChangedEvent.builder()
+                .orderId(orderId)
+                .memberId(1L)
+                .status(OrderStatus.CONFIRMED)
+                .totalAmount(BigDecimal.TEN)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,362 @@
+package com.sotatek.order.service;
+
+import com.sotatek.order.admission.MemberRateLimiter;
+import com.sotatek.order.controller.request.CreateOrderRequest;
+import com.sotatek.order.controller.request.OrderItemRequest;
+import com.sotatek.order.controller.request.UpdateOrderRequest;
+import com.sotatek.order.domain.OrderItemRow;
+import com.sotatek.order.domain.OrderRow;
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import com.sotatek.order.event.OrderStatusChangedEvent;
+import com.sotatek.order.exception.InvalidOrderStatusException;
+import com.sotatek.order.exception.MemberValidationException;
+import com.sotatek.order.exception.OrderVersionConflictException;
+import com.sotatek.order.exception.PaymentFailedException;
+import com.sotatek.order.repository.OrderAggregateRepository;
+import com.sotatek.order.repository.ReactiveOrderItemRepository;
+import com.sotatek.order.repository.ReactiveOrderRepository;
+import com.sotatek.order.service.external.ReactiveMemberServiceClient;
+import com.sotatek.order.service.external.ReactivePaymentServiceClient;
+import com.sotatek.order.service.external.ReactiveProductServiceClient;
+import com.sotatek.order.service.external.dto.*;
+import com.sotatek.order.service.impl.ReactiveOrderServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderServiceImplTest {
+
+    @Mock
+    private ReactiveOrderRepository orderRepository;
+
+    @Mock
+    private ReactiveOrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderAggregateRepository orderAggregateRepository;
+
+    @Mock
+    private MemberRateLimiter memberRateLimiter;
+
+    @Mock
+    private ReactiveMemberServiceClient memberServiceClient;
+
+    @Mock
+    private ReactiveProductServiceClient productServiceClient;
+
+    @Mock
+    private ReactivePaymentServiceClient paymentServiceClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private ReactiveOrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new ReactiveOrderServiceImpl(orderRepository, orderItemRepository, orderAggregateRepository,
+                memberRateLimiter, memberServiceClient, productServiceClient, paymentServiceClient, eventPublisher,
+                transactionalOperator, TransactionOperations.withoutTransaction());
+
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(orderRepository.save(any(OrderRow.class))).thenAnswer(invocation -> {
+            OrderRow order = invocation.getArgument(0);
+            if (order.getId() == null) {
+                order.setId(1L);
+            }
+            return Mono.just(order);
+        });
+    }
+
+    @Test
+    void createOrderConfirmsPaidOrderAndPublishesStatusChange() {
+        when(memberServiceClient.getMember(1L)).thenReturn(Mono.just(activeMember(1L)));
+        when(productServiceClient.getProduct(2001L)).thenReturn(Mono.just(availableProduct(2001L)));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(Mono.just(stock(2001L, 10)));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<List<OrderItemRow>>getArgument(0)));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class))).thenReturn(Mono.just(PaymentDto.builder()
+                .id(100L)
+                .orderId(1L)
+                .status(PaymentStatus.COMPLETED)
+                .transactionId("TXN-12345")
+                .build()));
+
+        StepVerifier.create(orderService.createOrder(createOrderRequest(1L, 2001L, 2)))
+                .assertNext(response -> {
+                    assertThat(response.getId()).isEqualTo(1L);
+                    assertThat(response.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+                    assertThat(response.getTotalAmount()).isEqualByComparingTo("20.00");
+                    assertThat(response.getTransactionId()).isEqualTo("TXN-12345");
+                    assertThat(response.getItems()).hasSize(1);
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        verify(orderAggregateRepository).recordOrder(eq(1L), anyList());
+    }
+
+    @Test
+    void createOrderKeepsOrderPendingWhilePaymentIsPending() {
+        when(memberServiceClient.getMember(1L)).thenReturn(Mono.just(activeMember(1L)));
+        when(productServiceClient.getProduct(2001L)).thenReturn(Mono.just(availableProduct(2001L)));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(Mono.just(stock(2001L, 10)));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<List<OrderItemRow>>getArgument(0)));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class))).thenReturn(Mono.just(PaymentDto.builder()
+                .id(100L)
+                .orderId(1L)
+                .status(PaymentStatus.PENDING)
+                .build()));
+
+        StepVerifier.create(orderService.createOrder(createOrderRequest(1L, 2001L, 1)))
+                .assertNext(response -> {
+                    assertThat(response.getStatus()).isEqualTo(OrderStatus.PENDING);
+                    assertThat(response.getPaymentId()).isEqualTo(100L);
+                    assertThat(response.getTransactionId()).isNull();
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(eventPublisher, orderAggregateRepository);
+    }
+
+    @Test
+    void createOrderRejectsInactiveMember() {
+        when(memberServiceClient.getMember(1L)).thenReturn(Mono.just(MemberDto.builder()
+                .id(1L)
+                .name("Inactive Member")
+                .status(MemberStatus.INACTIVE)
+                .build()));
+
+        StepVerifier.create(orderService.createOrder(createOrderRequest(1L, 2001L, 1)))
+                .expectError(MemberValidationException.class)
+                .verify();
+
+        verifyNoInteractions(productServiceClient, paymentServiceClient, orderRepository);
+    }
+
+    @Test
+    void createOrderWrapsUnexpectedPaymentErrors() {
+        when(memberServiceClient.getMember(1L)).thenReturn(Mono.just(activeMember(1L)));
+        when(productServiceClient.getProduct(2001L)).thenReturn(Mono.just(availableProduct(2001L)));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(Mono.just(stock(2001L, 10)));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<List<OrderItemRow>>getArgument(0)));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class)))
+                .thenReturn(Mono.error(new IllegalStateException("connection reset")));
+
+        StepVerifier.create(orderService.createOrder(createOrderRequest(1L, 2001L, 1)))
+                .expectError(PaymentFailedException.class)
+                .verify();
+
+        // Outcome unknown, the order stays PENDING for review
+        verify(orderRepository, times(1)).save(any(OrderRow.class));
+        verifyNoInteractions(eventPublisher, orderAggregateRepository);
+    }
+
+    @Test
+    void createOrderCommitsPendingOrderBeforeFailedPayment() {
+        AtomicInteger commits = new AtomicInteger();
+        doAnswer(invocation -> invocation.<Mono<?>>getArgument(0).doOnSuccess(result -> commits.incrementAndGet()))
+                .when(transactionalOperator).transactional(any(Mono.class));
+        when(memberServiceClient.getMember(1L)).thenReturn(Mono.just(activeMember(1L)));
+        when(productServiceClient.getProduct(2001L)).thenReturn(Mono.just(availableProduct(2001L)));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(Mono.just(stock(2001L, 10)));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<List<OrderItemRow>>getArgument(0)));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class)))
+                .thenReturn(Mono.error(new PaymentFailedException("card declined")));
+
+        StepVerifier.create(orderService.createOrder(createOrderRequest(1L, 2001L, 1)))
+                .expectError(PaymentFailedException.class)
+                .verify();
+
+        // The PENDING insert committed on its own, the decline then expired the order
+        assertThat(commits).hasValue(1);
+        ArgumentCaptor<OrderRow> saved = ArgumentCaptor.forClass(OrderRow.class);
+        verify(orderRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getPreviousStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(event.getValue().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        verifyNoInteractions(orderAggregateRepository);
+    }
+
+    @Test
+    void createOrderExpiresOrderWhenPaymentComesBackFailed() {
+        when(memberServiceClient.getMember(1L)).thenReturn(Mono.just(activeMember(1L)));
+        when(productServiceClient.getProduct(2001L)).thenReturn(Mono.just(availableProduct(2001L)));
+        when(productServiceClient.getProductStock(2001L)).thenReturn(Mono.just(stock(2001L, 10)));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<List<OrderItemRow>>getArgument(0)));
+        when(paymentServiceClient.createPayment(any(PaymentRequestDto.class))).thenReturn(Mono.just(PaymentDto.builder()
+                .id(100L)
+                .orderId(1L)
+                .status(PaymentStatus.FAILED)
+                .build()));
+
+        StepVerifier.create(orderService.createOrder(createOrderRequest(1L, 2001L, 1)))
+                .expectError(PaymentFailedException.class)
+                .verify();
+
+        ArgumentCaptor<OrderRow> saved = ArgumentCaptor.forClass(OrderRow.class);
+        verify(orderRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(saved.getValue().getPaymentId()).isEqualTo(100L);
+        verifyNoInteractions(orderAggregateRepository);
+    }
+
+    @Test
+    void updateOrderCancelsThroughConditionalUpdate() {
+        when(orderRepository.transition(eq(1L), eq(List.of("CONFIRMED")), eq("CANCELLED"), eq(3L), any()))
+                .thenReturn(Mono.just(OrderRow.builder()
+                        .id(1L)
+                        .memberId(1L)
+                        .status(OrderStatus.CANCELLED)
+                        .paymentMethod(PaymentMethod.CREDIT_CARD)
+                        .totalAmount(BigDecimal.TEN)
+                        .version(4L)
+                        .build()));
+        when(orderItemRepository.findByOrderId(1L)).thenReturn(Flux.just(
+                OrderItemRow.builder().id(10L).orderId(1L).productId(2001L).quantity(1).build()));
+
+        StepVerifier.create(orderService.updateOrder(1L, UpdateOrderRequest.builder()
+                        .status(OrderStatus.CANCELLED)
+                        .version(3L)
+                        .build()))
+                .assertNext(response -> {
+                    assertThat(response.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+                    assertThat(response.getVersion()).isEqualTo(4L);
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getPreviousStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        verify(orderAggregateRepository).recordCancellation(eq(1L), anyList());
+        verify(orderRepository, never()).findById(anyLong());
+        verify(orderRepository, never()).save(any(OrderRow.class));
+    }
+
+    @Test
+    void updateOrderReportsVersionConflictWhenNoRowMatched() {
+        when(orderRepository.transition(eq(1L), anyCollection(), eq("CANCELLED"), eq(3L), any()))
+                .thenReturn(Mono.empty());
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(OrderRow.builder()
+                .id(1L)
+                .status(OrderStatus.CONFIRMED)
+                .version(5L)
+                .build()));
+
+        StepVerifier.create(orderService.updateOrder(1L, UpdateOrderRequest.builder()
+                        .status(OrderStatus.CANCELLED)
+                        .version(3L)
+                        .build()))
+                .expectError(OrderVersionConflictException.class)
+                .verify();
+
+        verifyNoInteractions(eventPublisher, orderAggregateRepository);
+    }
+
+    @Test
+    void updateOrderRejectsPendingOrder() {
+        when(orderRepository.transition(eq(1L), anyCollection(), eq("CANCELLED"), isNull(), any()))
+                .thenReturn(Mono.empty());
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(OrderRow.builder()
+                .id(1L)
+                .memberId(1L)
+                .status(OrderStatus.PENDING)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .totalAmount(BigDecimal.TEN)
+                .build()));
+
+        StepVerifier.create(orderService.updateOrder(1L, UpdateOrderRequest.builder()
+                        .status(OrderStatus.CANCELLED)
+                        .build()))
+                .expectError(InvalidOrderStatusException.class)
+                .verify();
+    }
+
+    @Test
+    void getOrdersByIdsKeepsRequestedOrderAndReportsMissingIds() {
+        when(orderRepository.findAllById(anyCollection())).thenReturn(Flux.just(
+                OrderRow.builder().id(1L).status(OrderStatus.CONFIRMED).build(),
+                OrderRow.builder().id(2L).status(OrderStatus.CANCELLED).build()));
+        when(orderItemRepository.findByOrderIdIn(anyCollection())).thenReturn(Flux.just(
+                OrderItemRow.builder().id(10L).orderId(2L).productId(2001L).quantity(1).build()));
+
+        StepVerifier.create(orderService.getOrdersByIds(List.of(2L, 9L, 1L)))
+                .assertNext(response -> {
+                    assertThat(response.getOrders()).extracting("id").containsExactly(2L, 1L);
+                    assertThat(response.getOrders().get(0).getItems()).hasSize(1);
+                    assertThat(response.getMissingIds()).containsExactly(9L);
+                })
+                .verifyComplete();
+    }
+
+    private CreateOrderRequest createOrderRequest(Long memberId, Long productId, int quantity) {
+        return CreateOrderRequest.builder()
+                .memberId(memberId)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .items(List.of(OrderItemRequest.builder()
+                        .productId(productId)
+                        .quantity(quantity)
+                        .build()))
+                .build();
+    }
+
+    private MemberDto activeMember(Long memberId) {
+        return MemberDto.builder()
+                .id(memberId)
+                .name("Member " + memberId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+
+    private ProductDto availableProduct(Long productId) {
+        return ProductDto.builder()
+                .id(productId)
+                .name("Product " + productId)
+                .price(BigDecimal.valueOf(10.00))
+                .status(ProductStatus.AVAILABLE)
+                .build();
+    }
+
+    private ProductStockDto stock(Long productId, int available) {
+        return ProductStockDto.builder()
+                .productId(productId)
+                .availableQuantity(available)
+                .reservedQuantity(0)
+                .quantity(available)
+                .build();
+    }
+}
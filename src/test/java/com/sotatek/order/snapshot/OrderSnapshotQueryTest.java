@@ -0,0 +1,107 @@
+package com.sotatek.order.snapshot;
+
+import com.sotatek.order.domain.OrderStatus;
+import com.sotatek.order.domain.PaymentMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderSnapshotQueryTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 11, 5, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private OrderSnapshotStore store;
+    private OrderSnapshotQuery query;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new OrderSnapshotStore(directory.toString());
+        query = new OrderSnapshotQuery(2);
+
+        // Two segments of two rows: 9:00 and 10:00 in the first, 11:00 and 12:00 in the second
+        Path generation = store.newGeneration();
+        OrderSegmentBuilder builder = new OrderSegmentBuilder(2);
+        builder.add(1L, minute(9), 1L, OrderStatus.CONFIRMED, PaymentMethod.CREDIT_CARD, 2001L, "Mouse", 2, 5998);
+        builder.add(2L, minute(10), 1L, OrderStatus.CONFIRMED, null, 2002L, "Keyboard", 1, 8999);
+        builder.writeTo(generation.resolve("segment-000000.seg"));
+        builder.reset();
+        builder.add(3L, minute(11), 2L, OrderStatus.CANCELLED, PaymentMethod.DEBIT_CARD, 2002L, "Keyboard", 5, 44995);
+        builder.add(4L, minute(12), 2L, OrderStatus.CONFIRMED, PaymentMethod.DEBIT_CARD, 2001L, "Wireless Mouse", 1, 2999);
+        builder.writeTo(generation.resolve("segment-000001.seg"));
+        store.publish(generation, DAY.plusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        query.shutdown();
+    }
+
+    @Test
+    void snapshotRoundTripsThroughSegmentFiles() {
+        OrderSnapshot snapshot = store.current().orElseThrow();
+
+        assertThat(snapshot.getRows()).isEqualTo(4);
+        OrderSegment second = snapshot.getSegments().get(1);
+        assertThat(second.status(0)).isEqualTo("CANCELLED");
+        assertThat(second.paymentMethod(1)).isEqualTo("DEBIT_CARD");
+        assertThat(second.productName(1)).isEqualTo("Wireless Mouse");
+        assertThat(snapshot.getSegments().get(0).paymentMethod(1)).isNull();
+    }
+
+    @Test
+    void topProductsSkipsCancelledOrdersAndRowsOutsideRange() {
+        List<ProductTotal> top = query.topProductsByRevenue(
+                store.current().orElseThrow(), DAY.plusHours(9), DAY.plusHours(13), 10);
+
+        assertThat(top).containsExactly(
+                new ProductTotal(2002L, "Keyboard", 1, 8999),
+                new ProductTotal(2001L, "Wireless Mouse", 3, 8997));
+
+        List<ProductTotal> narrow = query.topProductsByRevenue(
+                store.current().orElseThrow(), DAY.plusHours(10), DAY.plusHours(12), 10);
+
+        assertThat(narrow).containsExactly(new ProductTotal(2002L, "Keyboard", 1, 8999));
+    }
+
+    @Test
+    void topProductsCountsOnlyConfirmedOrders() throws Exception {
+        OrderSnapshotStore store = new OrderSnapshotStore(directory.resolve("unpaid").toString());
+        Path generation = store.newGeneration();
+        OrderSegmentBuilder builder = new OrderSegmentBuilder(3);
+        builder.add(5L, minute(9), 1L, OrderStatus.PENDING, PaymentMethod.CREDIT_CARD, 2001L, "Mouse", 4, 11996);
+        builder.add(6L, minute(10), 1L, OrderStatus.EXPIRED, PaymentMethod.CREDIT_CARD, 2002L, "Keyboard", 1, 8999);
+        builder.add(7L, minute(11), 2L, OrderStatus.CONFIRMED, PaymentMethod.DEBIT_CARD, 2001L, "Mouse", 1, 2999);
+        builder.writeTo(generation.resolve("segment-000000.seg"));
+        store.publish(generation, DAY.plusDays(1));
+
+        List<ProductTotal> top = query.topProductsByRevenue(
+                store.current().orElseThrow(), DAY.plusHours(9), DAY.plusHours(13), 10);
+
+        assertThat(top).containsExactly(new ProductTotal(2001L, "Mouse", 1, 2999));
+    }
+
+    @Test
+    void storeReloadsPublishedSnapshotFromDisk() {
+        OrderSnapshotStore reloaded = new OrderSnapshotStore(directory.toString());
+        reloaded.loadLatest();
+
+        assertThat(reloaded.current()).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.getRows()).isEqualTo(4);
+            assertThat(snapshot.getCreatedAt()).isEqualTo(DAY.plusDays(1));
+        });
+    }
+
+    private static int minute(int hour) {
+        return OrderSnapshotQuery.toMinute(DAY.plusHours(hour));
+    }
+}